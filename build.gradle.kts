@@ -5,6 +5,7 @@ plugins {
     id("com.diffplug.spotless") version "6.25.0"        // code style
     id("com.github.spotbugs") version "6.0.12"       // static analysis
     jacoco                                          // coverage
+    id("me.champeau.jmh") version "0.7.2"           // microbenchmarks (src/jmh)
 }
 
 group = "com.hectorherranz"
@@ -25,8 +26,13 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-actuator")   // runtime health
+    implementation("com.github.ben-manes.caffeine:caffeine")  // school detail cache
+    implementation("org.hibernate.orm:hibernate-jcache")  // second-level cache (JCache regions)
+    implementation("com.github.ben-manes.caffeine:jcache")  // in-process JCache provider
+    implementation("org.hibernate.orm:hibernate-micrometer")  // Hibernate statistics as metrics
     implementation("org.liquibase:liquibase-core")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.7.0")  // Swagger UI
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")  // /actuator/prometheus
     runtimeOnly("org.postgresql:postgresql")
     runtimeOnly("com.h2database:h2")  // For development/testing
     testImplementation("org.springframework.boot:spring-boot-starter-test")
@@ -39,6 +45,54 @@ tasks.named<Test>("test") {
     useJUnitPlatform()
 }
 
+/* ---------- Load tests (./gradlew loadTest; not part of check) ---------- */
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+configurations[loadTest.implementationConfigurationName]
+    .extendsFrom(configurations.testImplementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName]
+    .extendsFrom(configurations.testRuntimeOnly.get())
+dependencies {
+    "loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")  // latency histograms
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Runs the load tests in src/loadTest."
+    group = "verification"
+    testClassesDirs = loadTest.output.classesDirs
+    classpath = loadTest.runtimeClasspath
+    useJUnitPlatform()
+    maxHeapSize = "2g"
+    shouldRunAfter(tasks.test)
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }  // a load run measures the machine, not just the inputs
+    // Forwards -Dload.* overrides (clients, duration, latency, baselines) to the test JVM
+    systemProperties(
+        System.getProperties()
+            .filterKeys { it.toString().startsWith("load.") }
+            .mapKeys { it.key.toString() })
+}
+
+/* ---------- JMH (./gradlew jmh; not part of check) ---------- */
+jmh {
+    jmhVersion.set("1.37")
+    // Allocation rate (gc.alloc.rate.norm) next to throughput; compare results.json across commits
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    // Narrow a run with -Pjmh.includes=SchoolBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+    // IdInsertBenchmark against another database, e.g. -Pjmh.jdbcUrl=jdbc:postgresql://...
+    providers.gradleProperty("jmh.jdbcUrl").orNull?.let {
+        benchmarkParameters.put("jdbcUrl", objects.listProperty<String>().value(listOf(it)))
+    }
+}
+dependencies {
+    "jmhRuntimeOnly"("com.h2database:h2")
+    "jmhRuntimeOnly"("org.postgresql:postgresql")
+}
+
 /* ---------- Spotless ---------- */
 spotless {
     java {
@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# Measures search latency percentiles with and without the TASK-003 trigram indexes.
+#
+# Seeds a dedicated database (never the application one), then runs each pgbench script twice:
+# once with only the TASK-001 B-tree indexes and once after creating the trigram indexes.
+# Latencies come from pgbench per-transaction logs, so p50/p95/p99 are exact for the run.
+#
+# Usage: docker compose up -d db && docker/benchmark/search-latency.sh
+# Connection uses the standard PG* variables; defaults match docker-compose.yml.
+set -euo pipefail
+
+export PGHOST="${PGHOST:-localhost}" PGPORT="${PGPORT:-5432}"
+export PGUSER="${PGUSER:-postgres}" PGPASSWORD="${PGPASSWORD:-postgres}"
+BENCH_DB="${BENCH_DB:-schooldb_bench}"
+SCHOOLS="${SCHOOLS:-1000}"
+STUDENTS="${STUDENTS:-1000000}"
+CLIENTS="${CLIENTS:-8}"
+DURATION="${DURATION:-60}"
+HERE="$(cd "$(dirname "$0")" && pwd)"
+WORK="$(mktemp -d)"
+trap 'rm -rf "$WORK"' EXIT
+
+psql -q -d postgres -c "DROP DATABASE IF EXISTS $BENCH_DB" -c "CREATE DATABASE $BENCH_DB"
+echo "Seeding $SCHOOLS schools / $STUDENTS students into $BENCH_DB ..."
+psql -q -v ON_ERROR_STOP=1 -d "$BENCH_DB" \
+  -v schools="$SCHOOLS" -v students="$STUDENTS" -f "$HERE/seed.sql"
+
+run() {
+  local phase="$1" script="$2" name
+  name="$(basename "$script" .sql)"
+  rm -f "$WORK"/pgbench_log.*
+  (cd "$WORK" && pgbench -n -l -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" \
+    -D schools="$SCHOOLS" -f "$script" "$BENCH_DB" > /dev/null)
+  # Third column of the pgbench log is the transaction latency in microseconds
+  cat "$WORK"/pgbench_log.* | awk '{print $3}' | sort -n | awk -v phase="$phase" -v name="$name" '
+    { v[NR] = $1 }
+    END {
+      printf "%-7s %-24s n=%-8d p50=%8.2fms p95=%8.2fms p99=%8.2fms max=%8.2fms\n",
+        phase, name, NR, v[int(NR * 0.50)] / 1000, v[int(NR * 0.95)] / 1000,
+        v[int(NR * 0.99)] / 1000, v[NR] / 1000
+    }'
+}
+
+SCRIPTS=("$HERE/search-schools.sql" "$HERE/search-students.sql" "$HERE/search-students-global.sql")
+
+for s in "${SCRIPTS[@]}"; do run before "$s"; done
+
+echo "Creating trigram indexes (TASK-003) ..."
+psql -q -v ON_ERROR_STOP=1 -d "$BENCH_DB" \
+  -c "CREATE EXTENSION IF NOT EXISTS pg_trgm" \
+  -c "CREATE INDEX idx_schools_name_trgm ON schools USING gin (lower(name) gin_trgm_ops)" \
+  -c "CREATE INDEX idx_students_name_trgm ON students USING gin (lower(name) gin_trgm_ops)" \
+  -c "ANALYZE schools" -c "ANALYZE students"
+
+for s in "${SCRIPTS[@]}"; do run after "$s"; done
+
+echo "Plans after indexing (first script variant of each):"
+psql -d "$BENCH_DB" -c "EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM students st
+  WHERE lower(st.name) LIKE '%a-1f3%' ESCAPE '\\' ORDER BY st.name, st.id LIMIT 20"
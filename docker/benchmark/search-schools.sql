@@ -0,0 +1,6 @@
+-- Same statement shape as SpringDataSchoolRepository.searchByNamePattern (first page of 20)
+\set t random(1, 8)
+SELECT * FROM schools s
+ WHERE lower(s.name) LIKE '%' || (ARRAY['orth', 'cademy', 'ntral', 'ver h', 'llege 4', 'ake', 'stit', '77'])[:t] || '%' ESCAPE '\'
+ ORDER BY s.name, s.id
+ LIMIT 20;
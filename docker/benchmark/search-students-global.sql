@@ -0,0 +1,6 @@
+-- Worst case for the B-tree indexes: a selective term with no school filter to narrow the scan
+\set t random(1, 4)
+SELECT * FROM students st
+ WHERE lower(st.name) LIKE '%' || (ARRAY['a-1f3', 'n-c0f', 'z-9ab', 'o-77e'])[:t] || '%' ESCAPE '\'
+ ORDER BY st.name, st.id
+ LIMIT 20;
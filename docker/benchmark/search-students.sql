@@ -0,0 +1,8 @@
+-- Same statement shape as SpringDataStudentRepository.searchByNamePattern (first page of 20)
+\set school random(1, :schools)
+\set t random(1, 8)
+SELECT * FROM students st
+ WHERE st.school_id = md5('school-' || :school)::uuid
+   AND lower(st.name) LIKE '%' || (ARRAY['anna', 'sen', 'rcia', 'ovak', 'a-1', 'ugo m', 'brenn', 'ff'])[:t] || '%' ESCAPE '\'
+ ORDER BY st.name, st.id
+ LIMIT 20;
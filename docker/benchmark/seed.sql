@@ -0,0 +1,50 @@
+-- Search benchmark data set: mirrors the TASK-001/TASK-002 schema in a throwaway database.
+-- School ids are md5('school-' || n)::uuid so pgbench scripts can address a school by number.
+-- Variables: :schools, :students (set by search-latency.sh).
+
+DROP TABLE IF EXISTS students;
+DROP TABLE IF EXISTS schools;
+
+CREATE TABLE schools (
+    id         uuid PRIMARY KEY,
+    name       varchar(255) NOT NULL,
+    capacity   integer      NOT NULL,
+    created_at timestamp    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at timestamp    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version    bigint       NOT NULL DEFAULT 0
+);
+
+CREATE TABLE students (
+    id         uuid PRIMARY KEY,
+    name       varchar(255) NOT NULL,
+    school_id  uuid         NOT NULL REFERENCES schools (id),
+    created_at timestamp    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at timestamp    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version    bigint       NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_students_school_id ON students (school_id);
+CREATE INDEX idx_schools_name ON schools (name);
+CREATE INDEX idx_students_school_id_name ON students (school_id, name);
+
+INSERT INTO schools (id, name, capacity)
+SELECT md5('school-' || n)::uuid,
+       (ARRAY['North', 'South', 'East', 'West', 'Central', 'Lake', 'River', 'Hill'])[1 + n % 8]
+           || ' ' || (ARRAY['Academy', 'High', 'Primary', 'College', 'Institute'])[1 + n % 5]
+           || ' ' || n,
+       (:students / :schools) * 2
+FROM generate_series(1, :schools) AS n;
+
+INSERT INTO students (id, name, school_id)
+SELECT gen_random_uuid(),
+       (ARRAY['Anna', 'Bruno', 'Carla', 'Diego', 'Elena', 'Farid', 'Greta', 'Hugo', 'Irene',
+              'Jonas', 'Karin', 'Luca', 'Marta', 'Nils', 'Olga', 'Pablo'])[1 + (random() * 15)::int]
+           || ' ' || (ARRAY['Anderson', 'Brennan', 'Castillo', 'Dubois', 'Eriksen', 'Fischer',
+                            'Garcia', 'Hansen', 'Ivanova', 'Jensen', 'Kowalski', 'Lindqvist',
+                            'Moreno', 'Novak', 'Olsen', 'Petrov'])[1 + (random() * 15)::int]
+           || '-' || substr(md5(n::text), 1, 6),
+       md5('school-' || (1 + n % :schools))::uuid
+FROM generate_series(1, :students) AS n;
+
+VACUUM ANALYZE schools;
+VACUUM ANALYZE students;
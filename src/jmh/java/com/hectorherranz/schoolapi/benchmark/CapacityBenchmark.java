@@ -0,0 +1,45 @@
+package com.hectorherranz.schoolapi.benchmark;
+
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The {@link Capacity} value object, checked against a roster of the given size. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapacityBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  int rosterSize;
+
+  private int requested = 2000;
+  private final Capacity capacity = Rosters.CAPACITY;
+
+  @Benchmark
+  public Capacity create() {
+    return new Capacity(requested);
+  }
+
+  @Benchmark
+  public boolean canEnroll() {
+    return capacity.canEnroll(rosterSize);
+  }
+
+  @Benchmark
+  public int availableSpots() {
+    return capacity.availableSpots(rosterSize);
+  }
+}
@@ -0,0 +1,71 @@
+package com.hectorherranz.schoolapi.benchmark;
+
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolDetail;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolSummary;
+import com.hectorherranz.schoolapi.adapters.in.rest.mapper.SchoolDtoMapper;
+import com.hectorherranz.schoolapi.adapters.in.rest.mapper.StudentDtoMapper;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** The REST DTO mappers, from the aggregate and from the read model. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMapperBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  int rosterSize;
+
+  private final SchoolDtoMapper schoolDtoMapper = new SchoolDtoMapper();
+  private final StudentDtoMapper studentDtoMapper = new StudentDtoMapper();
+  private School school;
+  private SchoolDetailView view;
+  private List<Student> students;
+
+  @Setup
+  public void setUp() {
+    school = Rosters.school(rosterSize);
+    view = SchoolDetailView.of(school);
+    students = school.students();
+  }
+
+  @Benchmark
+  public SchoolDetail schoolDetailFromAggregate() {
+    return schoolDtoMapper.toDetail(school);
+  }
+
+  @Benchmark
+  public SchoolSummary schoolSummaryFromAggregate() {
+    return schoolDtoMapper.toSummary(school);
+  }
+
+  @Benchmark
+  public SchoolDetail schoolDetailFromView() {
+    return schoolDtoMapper.toDetail(view);
+  }
+
+  @Benchmark
+  public void studentResponses(Blackhole blackhole) {
+    for (Student student : students) {
+      blackhole.consume(studentDtoMapper.toResponse(student));
+    }
+  }
+}
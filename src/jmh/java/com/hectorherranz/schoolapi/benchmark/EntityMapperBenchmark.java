@@ -0,0 +1,72 @@
+package com.hectorherranz.schoolapi.benchmark;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.StudentEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.mapper.SchoolEntityMapper;
+import com.hectorherranz.schoolapi.adapters.out.jpa.mapper.StudentEntityMapper;
+import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** {@link SchoolEntityMapper} and {@link StudentEntityMapper} in both directions. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  int rosterSize;
+
+  private School school;
+  private SchoolEntity schoolEntity;
+  private List<Student> students;
+  private List<StudentEntity> studentEntities;
+
+  @Setup
+  public void setUp() {
+    school = Rosters.school(rosterSize);
+    schoolEntity = Rosters.schoolEntity(rosterSize);
+    students = school.students();
+    studentEntities = schoolEntity.getStudents();
+  }
+
+  @Benchmark
+  public School schoolToDomain() {
+    return SchoolEntityMapper.toDomain(schoolEntity);
+  }
+
+  @Benchmark
+  public SchoolEntity schoolToEntity() {
+    return SchoolEntityMapper.toEntity(school);
+  }
+
+  @Benchmark
+  public void studentsToDomain(Blackhole blackhole) {
+    for (StudentEntity student : studentEntities) {
+      blackhole.consume(StudentEntityMapper.toDomain(student));
+    }
+  }
+
+  @Benchmark
+  public void studentsToEntity(Blackhole blackhole) {
+    for (Student student : students) {
+      blackhole.consume(StudentEntityMapper.toEntity(student, schoolEntity));
+    }
+  }
+}
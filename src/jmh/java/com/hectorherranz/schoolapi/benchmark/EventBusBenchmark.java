@@ -0,0 +1,116 @@
+package com.hectorherranz.schoolapi.benchmark;
+
+import com.hectorherranz.schoolapi.adapters.out.event.DomainEventConsumer;
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher;
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher.OnFull;
+import com.hectorherranz.schoolapi.adapters.out.event.WaitStrategy;
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost on the publishing thread of handing one event to in-process consumers: enqueueing on the
+ * {@link RingBufferEventPublisher}, against calling the consumers inline as a synchronous {@code
+ * ApplicationEventPublisher} does. The consumers do a little work per event so that a slow drain
+ * shows up as drops, reported as the {@code dropped} secondary result of {@link #ringBuffer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+  private static final int CONSUMERS = 3;
+
+  @Param({"sleeping", "yielding", "blocking"})
+  String waitStrategy;
+
+  private final List<DomainEvent> event =
+      List.of(new StudentEnrolledEvent(UUID.randomUUID(), UUID.randomUUID()));
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private List<DomainEventConsumer> consumers;
+  private RingBufferEventPublisher bus;
+
+  @Setup(Level.Trial)
+  public void start() {
+    consumers = List.of(new Work("cache"), new Work("search"), new Work("stats"));
+    bus =
+        new RingBufferEventPublisher(
+            8192, WaitStrategy.named(waitStrategy), OnFull.DROP, consumers, meterRegistry);
+    bus.start();
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() throws InterruptedException {
+    bus.close();
+  }
+
+  /** Publishes the bus dropped in the iteration; JMH reports it next to the score. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Drops {
+    public long dropped;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      dropped = 0;
+    }
+  }
+
+  @Benchmark
+  public void ringBuffer(Drops drops) {
+    // A dropped publish claims no sequence; one benchmark thread, so nobody else moves it
+    long before = bus.publishedSequence();
+    bus.publish(event);
+    if (bus.publishedSequence() == before) {
+      drops.dropped++;
+    }
+  }
+
+  @Benchmark
+  public void synchronous() {
+    for (int i = 0; i < CONSUMERS; i++) {
+      consumers.get(i).onEvent(event.get(0), true);
+    }
+  }
+
+  /** Stands in for a cache eviction or an index update. */
+  private static final class Work implements DomainEventConsumer {
+
+    private final String name;
+
+    Work(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, boolean endOfBatch) {
+      Blackhole.consumeCPU(50);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.hectorherranz.schoolapi.benchmark;
+
+import com.hectorherranz.schoolapi.adapters.out.support.RandomUuidGenerator;
+import com.hectorherranz.schoolapi.adapters.out.support.UuidV7Generator;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk enrollment inserts with random (v4) against time-ordered (v7) ids. Each invocation enrolls
+ * {@value #BATCH} students into a new school in one batched transaction, into a copy of the {@code
+ * students} table and its {@code school_id} indexes that already holds {@value #PREFILLED} rows and
+ * keeps growing, so random keys keep landing on cold pages. Scores are rows per millisecond.
+ *
+ * <p>Runs against in-memory H2 by default. For numbers that include page splits and WAL volume,
+ * point it at PostgreSQL (the table is {@code bench_students}, dropped afterwards) with {@code
+ * -Pjmh.jdbcUrl=jdbc:postgresql://localhost:5432/schooldb?user=postgres&password=postgres}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class IdInsertBenchmark {
+
+  static final int BATCH = 200;
+  static final int PREFILLED = 200_000;
+
+  @Param({"4", "7"})
+  int uuidVersion;
+
+  @Param({"jdbc:h2:mem:ids;DB_CLOSE_DELAY=-1"})
+  String jdbcUrl;
+
+  private IdGeneratorPort ids;
+  private Connection connection;
+  private PreparedStatement insert;
+
+  @Setup
+  public void setUp() throws SQLException {
+    ids = uuidVersion == 4 ? new RandomUuidGenerator() : new UuidV7Generator();
+    connection = DriverManager.getConnection(jdbcUrl);
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("DROP TABLE IF EXISTS bench_students");
+      ddl.execute(
+          "CREATE TABLE bench_students (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL,"
+              + " school_id UUID NOT NULL)");
+      ddl.execute("CREATE INDEX bench_students_school_id ON bench_students (school_id)");
+      ddl.execute("CREATE INDEX bench_students_school_id_name ON bench_students (school_id, name)");
+    }
+    connection.setAutoCommit(false);
+    insert =
+        connection.prepareStatement(
+            "INSERT INTO bench_students (id, name, school_id) VALUES (?, ?, ?)");
+    for (int i = 0; i < PREFILLED / BATCH; i++) {
+      enrollSchool();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    insert.close();
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("DROP TABLE bench_students");
+    }
+    connection.commit();
+    connection.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int enrollSchool() throws SQLException {
+    UUID schoolId = ids.newId();
+    for (int i = 0; i < BATCH; i++) {
+      insert.setObject(1, ids.newId());
+      insert.setString(2, "Student " + i);
+      insert.setObject(3, schoolId);
+      insert.addBatch();
+    }
+    int rows = insert.executeBatch().length;
+    connection.commit();
+    return rows;
+  }
+}
@@ -0,0 +1,43 @@
+package com.hectorherranz.schoolapi.benchmark;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.StudentEntity;
+import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/** Fixtures shared by the benchmarks: a full-capacity school and a roster of a given size. */
+final class Rosters {
+
+  static final Capacity CAPACITY = new Capacity(2000);
+
+  private Rosters() {}
+
+  static List<Student> students(UUID schoolId, int size) {
+    List<Student> students = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      students.add(new Student(UUID.randomUUID(), "Student " + i, schoolId));
+    }
+    return students;
+  }
+
+  static School school(int size) {
+    UUID schoolId = UUID.randomUUID();
+    return School.rehydrate(schoolId, "Benchmark School", CAPACITY, students(schoolId, size));
+  }
+
+  static SchoolEntity schoolEntity(int size) {
+    SchoolEntity school = new SchoolEntity("Benchmark School", CAPACITY);
+    school.setId(UUID.randomUUID());
+    List<StudentEntity> students = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      students.add(new StudentEntity(UUID.randomUUID(), "Student " + i, school));
+    }
+    school.setStudents(students);
+    school.setEnrolledCount(size);
+    return school;
+  }
+}
@@ -0,0 +1,79 @@
+package com.hectorherranz.schoolapi.benchmark;
+
+import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import com.hectorherranz.schoolapi.domain.model.draft.StudentDraft;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The {@link School} aggregate: rehydration, enrollment and the roster accessors. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchoolBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  int rosterSize;
+
+  private UUID schoolId;
+  private List<Student> roster;
+  private School school;
+  private School oneSeatLeft;
+  private final StudentDraft draft = new StudentDraft("New Student");
+  private final UUID studentId = UUID.randomUUID();
+
+  @Setup
+  public void setUp() {
+    schoolId = UUID.randomUUID();
+    roster = Rosters.students(schoolId, rosterSize);
+    school = School.rehydrate(schoolId, "Benchmark School", Rosters.CAPACITY, roster);
+    // Full after one enrollment at the largest size, as capacity tops out at 2000
+    oneSeatLeft =
+        School.rehydrate(
+            schoolId, "Benchmark School", Rosters.CAPACITY, roster.subList(1, rosterSize));
+  }
+
+  @Benchmark
+  public School rehydrate() {
+    return School.rehydrate(schoolId, "Benchmark School", Rosters.CAPACITY, roster);
+  }
+
+  /** Enrolls and then removes the student, so the roster size stays put across invocations. */
+  @Benchmark
+  public Student enrollStudent() {
+    Student enrolled = oneSeatLeft.enrollStudent(studentId, draft);
+    oneSeatLeft.removeStudent(enrolled.id());
+    return enrolled;
+  }
+
+  @Benchmark
+  public List<Student> students() {
+    return school.students();
+  }
+
+  @Benchmark
+  public Map<UUID, Student> studentsById() {
+    return school.studentsById();
+  }
+
+  @Benchmark
+  public int enrolledCount() {
+    return school.enrolledCount();
+  }
+}
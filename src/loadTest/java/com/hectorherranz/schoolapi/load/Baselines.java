@@ -0,0 +1,105 @@
+package com.hectorherranz.schoolapi.load;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Stored results per workload, in {@code <load.baseline-dir>/<workload>.properties}: throughput and
+ * p99 latency of each endpoint. A run regresses when an endpoint's throughput falls more than
+ * {@code load.throughput-tolerance} (default 0.2) below its baseline, its p99 rises more than
+ * {@code load.latency-tolerance} (default 0.5) above it, or more than 1% of its requests fail.
+ *
+ * <p>Baselines only compare like with like: record them with {@code -Dload.update-baselines=true}
+ * on the machine and profile that runs the comparison, and commit them. A workload without a
+ * baseline records one and passes.
+ */
+final class Baselines {
+
+  private static final Path DIR =
+      Path.of(System.getProperty("load.baseline-dir", "src/loadTest/resources/baselines"));
+  private static final boolean UPDATE = Boolean.getBoolean("load.update-baselines");
+  private static final double THROUGHPUT_TOLERANCE =
+      Double.parseDouble(System.getProperty("load.throughput-tolerance", "0.2"));
+  private static final double LATENCY_TOLERANCE =
+      Double.parseDouble(System.getProperty("load.latency-tolerance", "0.5"));
+  private static final double MAX_ERROR_RATE = 0.01;
+
+  private Baselines() {}
+
+  /** Compares a run with the workload's baseline, recording the run if there is none. */
+  static List<String> regressions(String workload, Map<String, EndpointStats.Snapshot> results)
+      throws IOException {
+    List<String> regressions = new ArrayList<>();
+    results.forEach(
+        (endpoint, result) -> {
+          long total = result.ok() + result.failed();
+          if (total > 0 && result.failed() > MAX_ERROR_RATE * total) {
+            regressions.add(
+                "%s: %d of %d requests failed".formatted(endpoint, result.failed(), total));
+          }
+        });
+
+    Path file = DIR.resolve(workload + ".properties");
+    if (UPDATE || !Files.exists(file)) {
+      write(file, workload, results);
+      System.out.printf("Recorded baseline %s%n", file);
+      return regressions;
+    }
+
+    Properties baseline = new Properties();
+    try (Reader reader = Files.newBufferedReader(file)) {
+      baseline.load(reader);
+    }
+    results.forEach(
+        (endpoint, result) -> {
+          String throughput = baseline.getProperty(endpoint + ".throughput");
+          double minThroughput =
+              throughput == null ? 0 : Double.parseDouble(throughput) * (1 - THROUGHPUT_TOLERANCE);
+          if (result.throughput() < minThroughput) {
+            regressions.add(
+                "%s: %.0f req/s, baseline %s".formatted(endpoint, result.throughput(), throughput));
+          }
+          String p99 = baseline.getProperty(endpoint + ".p99-ms");
+          double maxP99 =
+              p99 == null ? Double.MAX_VALUE : Double.parseDouble(p99) * (1 + LATENCY_TOLERANCE);
+          if (result.percentileMillis(99) > maxP99) {
+            regressions.add(
+                "%s: p99 %.1f ms, baseline %s ms"
+                    .formatted(endpoint, result.percentileMillis(99), p99));
+          }
+        });
+    return regressions;
+  }
+
+  private static void write(
+      Path file, String workload, Map<String, EndpointStats.Snapshot> results) throws IOException {
+    Properties baseline = new Properties();
+    results.forEach(
+        (endpoint, result) -> {
+          baseline.setProperty(endpoint + ".throughput", "%.0f".formatted(result.throughput()));
+          baseline.setProperty(
+              endpoint + ".p99-ms", "%.1f".formatted(result.percentileMillis(99)));
+        });
+
+    // Properties.store escapes the keys but also writes a timestamp; keep only the entries
+    StringWriter entries = new StringWriter();
+    baseline.store(entries, null);
+    Files.createDirectories(file.getParent());
+    try (Writer writer = Files.newBufferedWriter(file)) {
+      writer.write("# Baseline for the " + workload + " workload (see Baselines)\n");
+      for (String line : entries.toString().lines().sorted().toList()) {
+        if (!line.startsWith("#")) {
+          writer.write(line + "\n");
+        }
+      }
+    }
+  }
+}
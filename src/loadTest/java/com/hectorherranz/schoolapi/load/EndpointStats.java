@@ -0,0 +1,58 @@
+package com.hectorherranz.schoolapi.load;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies and failures of one endpoint during a load run. Successful requests go into an HDR
+ * histogram in microseconds (3 significant digits, up to two minutes), recorded lock-free from any
+ * number of client threads.
+ */
+final class EndpointStats {
+
+  private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+  private final Recorder recorder = new Recorder(MAX_MICROS, 3);
+  private final LongAdder failed = new LongAdder();
+
+  void record(boolean ok, long nanos) {
+    if (ok) {
+      recorder.recordValue(Math.min(MAX_MICROS, Math.max(1, nanos / 1_000)));
+    } else {
+      failed.increment();
+    }
+  }
+
+  /** Everything recorded so far, over a measurement window of {@code elapsed}. */
+  Snapshot snapshot(Duration elapsed) {
+    return new Snapshot(recorder.getIntervalHistogram(), failed.sum(), elapsed);
+  }
+
+  record Snapshot(Histogram histogram, long failed, Duration elapsed) {
+
+    long ok() {
+      return histogram.getTotalCount();
+    }
+
+    double throughput() {
+      return ok() / (elapsed.toNanos() / 1e9);
+    }
+
+    double percentileMillis(double percentile) {
+      return histogram.getValueAtPercentile(percentile) / 1e3;
+    }
+
+    double maxMillis() {
+      return histogram.getMaxValue() / 1e3;
+    }
+
+    /** The full percentile distribution in milliseconds, as plotted by HdrHistogram's tools. */
+    void writeDistribution(PrintStream out) {
+      histogram.outputPercentileDistribution(out, 1e3);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.hectorherranz.schoolapi.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link Workload} against a running server in the given {@link LoadShape}, on virtual
+ * threads, and returns the statistics of each endpoint. Requests completing during the warm-up
+ * are sent but not recorded.
+ */
+final class LoadGenerator {
+
+  private final HttpClient http;
+
+  LoadGenerator(HttpClient http) {
+    this.http = http;
+  }
+
+  Map<String, EndpointStats.Snapshot> run(Workload workload, LoadShape shape)
+      throws InterruptedException {
+    Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    workload.operations().forEach(op -> stats.put(op.endpoint(), new EndpointStats()));
+
+    long start = System.nanoTime();
+    long measureFrom = start + shape.warmup().toNanos();
+    long deadline = measureFrom + shape.duration().toNanos();
+
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      if (shape.openLoop()) {
+        schedule(workload, shape, stats, clients, start, measureFrom, deadline);
+      } else {
+        for (int c = 0; c < shape.clients(); c++) {
+          clients.submit(
+              () -> {
+                Random random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                  Workload.Operation op = workload.pick(random);
+                  send(op, op.request().apply(random), System.nanoTime(), measureFrom, stats);
+                }
+              });
+        }
+      }
+    }
+
+    Map<String, EndpointStats.Snapshot> snapshots = new LinkedHashMap<>();
+    for (Workload.Operation op : workload.operations()) {
+      snapshots.put(op.endpoint(), stats.get(op.endpoint()).snapshot(shape.duration()));
+    }
+    return snapshots;
+  }
+
+  /** Issues requests at their due times; each is timed from its due time, not its send time. */
+  private void schedule(
+      Workload workload,
+      LoadShape shape,
+      Map<String, EndpointStats> stats,
+      ExecutorService clients,
+      long start,
+      long measureFrom,
+      long deadline)
+      throws InterruptedException {
+    Semaphore inFlight = new Semaphore(shape.clients());
+    Random random = new Random();
+    long due = start;
+    while (due < deadline) {
+      long wait = due - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      inFlight.acquire();
+      Workload.Operation op = workload.pick(random);
+      HttpRequest request = op.request().apply(random);
+      long intended = due;
+      clients.submit(
+          () -> {
+            try {
+              send(op, request, intended, measureFrom, stats);
+            } finally {
+              inFlight.release();
+            }
+          });
+      double perSecond = shape.rate().apply(Duration.ofNanos(due - start));
+      due += (long) (1e9 / Math.max(perSecond, 1e-3));
+    }
+  }
+
+  private void send(
+      Workload.Operation op,
+      HttpRequest request,
+      long intended,
+      long measureFrom,
+      Map<String, EndpointStats> stats) {
+    boolean ok;
+    try {
+      int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      ok = op.expected().contains(status);
+    } catch (Exception e) {
+      ok = false;
+    }
+    if (intended >= measureFrom) {
+      stats.get(op.endpoint()).record(ok, System.nanoTime() - intended);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.hectorherranz.schoolapi.load;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * How requests are issued during a run.
+ *
+ * <p>A closed loop runs a fixed number of clients that each send their next request when the last
+ * one returns, so throughput is an output and a slow server is sent less work. An open loop issues
+ * requests on a schedule whatever the server does, at {@code rate} per second as a function of the
+ * time into the run, and measures each from when it was due: queueing behind a stall shows up in
+ * the latencies instead of being omitted. {@code clients} then caps requests in flight.
+ */
+record LoadShape(
+    boolean openLoop,
+    int clients,
+    Function<Duration, Double> rate,
+    Duration warmup,
+    Duration duration) {
+
+  static LoadShape closed(int clients, Duration warmup, Duration duration) {
+    return new LoadShape(false, clients, elapsed -> 0.0, warmup, duration);
+  }
+
+  static LoadShape open(double perSecond, int maxInFlight, Duration warmup, Duration duration) {
+    return new LoadShape(true, maxInFlight, elapsed -> perSecond, warmup, duration);
+  }
+
+  /** Open loop at {@code base} per second, rising to {@code burst} for the start of each period. */
+  static LoadShape bursts(
+      double base,
+      double burst,
+      Duration period,
+      Duration burstLength,
+      int maxInFlight,
+      Duration warmup,
+      Duration duration) {
+    return new LoadShape(
+        true,
+        maxInFlight,
+        elapsed -> elapsed.toNanos() % period.toNanos() < burstLength.toNanos() ? burst : base,
+        warmup,
+        duration);
+  }
+
+  @Override
+  public String toString() {
+    if (!openLoop) {
+      return "closed loop, %d clients".formatted(clients);
+    }
+    double initialRate = rate.apply(Duration.ZERO);
+    return "open loop, %.0f/s at start, %d max in flight".formatted(initialRate, clients);
+  }
+}
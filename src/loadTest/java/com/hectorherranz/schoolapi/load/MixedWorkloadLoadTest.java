@@ -0,0 +1,244 @@
+package com.hectorherranz.schoolapi.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.SchoolApiApplication;
+import com.hectorherranz.schoolapi.application.command.BulkEnrollStudentsCommand;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.in.BulkEnrollStudentsUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Mixed workloads against the application booted on a random port: search-heavy browsing, bursts
+ * of enrollments, and detail polling across many schools. Each reports throughput and HDR latency
+ * percentiles per endpoint, writes the full distributions to {@code build/load-results}, and fails
+ * on a regression against its baseline (see {@link Baselines}).
+ *
+ * <p>Runs on the {@code dev} profile (in-memory H2) by default. For a local Postgres, pass {@code
+ * -Dload.profile=prod -Dload.datasource-url=jdbc:postgresql://localhost:5432/schooldb}. Tune with
+ * {@code -Dload.schools}, {@code -Dload.mixed.clients}, {@code -Dload.mixed.rate}, {@code
+ * -Dload.duration} and {@code -Dload.warmup}.
+ */
+class MixedWorkloadLoadTest {
+
+  private static final String PROFILE = System.getProperty("load.profile", "dev");
+  private static final int SCHOOLS = Integer.getInteger("load.schools", 200);
+  private static final int STUDENTS_PER_SCHOOL = 20;
+  private static final int CLIENTS = Integer.getInteger("load.mixed.clients", 64);
+  private static final double RATE =
+      Double.parseDouble(System.getProperty("load.mixed.rate", "500"));
+  private static final Duration DURATION = duration("load.duration", "PT30S");
+  private static final Duration WARMUP = duration("load.warmup", "PT10S");
+  private static final Path RESULTS =
+      Path.of(System.getProperty("load.results-dir", "build/load-results"));
+  private static final List<String> WORDS = List.of("maple", "cedar", "oak", "birch", "pine");
+
+  private static ConfigurableApplicationContext app;
+  private static HttpClient http;
+  private static LoadGenerator generator;
+  private static String base;
+  private static List<UUID> schoolIds;
+
+  @BeforeAll
+  static void startApplication() {
+    List<String> args =
+        new ArrayList<>(
+            List.of(
+                "--server.port=0",
+                "--spring.profiles.active=" + PROFILE,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.hectorherranz.schoolapi=WARN"));
+    String datasourceUrl = System.getProperty("load.datasource-url");
+    if (datasourceUrl != null) {
+      args.add("--spring.datasource.url=" + datasourceUrl);
+    }
+    app = new SpringApplicationBuilder(SchoolApiApplication.class).run(args.toArray(String[]::new));
+    base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+    schoolIds = seedSchools();
+    http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    generator = new LoadGenerator(http);
+  }
+
+  @AfterAll
+  static void stopApplication() {
+    if (http != null) {
+      http.close();
+    }
+    if (app != null) {
+      app.close();
+    }
+  }
+
+  @Test
+  void searchHeavy() throws Exception {
+    // Given
+    Workload workload =
+        new Workload(
+            "search-heavy",
+            List.of(
+                new Workload.Operation(
+                    "GET /api/schools?query", 60, r -> get("/api/schools?query=" + word(r))),
+                new Workload.Operation(
+                    "GET /api/schools?cursor",
+                    15,
+                    r -> get("/api/schools?cursor=&query=" + word(r))),
+                new Workload.Operation(
+                    "GET /api/schools/{id}/students?query",
+                    25,
+                    r -> get("/api/schools/" + school(r) + "/students?query=student")),
+                new Workload.Operation("GET /api/schools/{id}", 10, r -> schoolDetail(r))));
+
+    // When & Then
+    runAndCompare(workload, LoadShape.closed(CLIENTS, WARMUP, DURATION));
+  }
+
+  @Test
+  void enrollmentBursts() throws Exception {
+    // Given - enrollments only fail with 409 once a school is full, which a long run may reach
+    Workload workload =
+        new Workload(
+            "enrollment-bursts",
+            List.of(
+                new Workload.Operation(
+                    "POST /api/schools/{id}/students",
+                    9,
+                    r ->
+                        HttpRequest.newBuilder(uri("/api/schools/" + school(r) + "/students"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Burst\"}"))
+                            .build(),
+                    Set.of(201, 409)),
+                new Workload.Operation("GET /api/schools/{id}", 1, r -> schoolDetail(r))));
+
+    // A tenth of the rate, with a burst of twice the rate for two seconds in every ten
+    LoadShape bursts =
+        LoadShape.bursts(
+            RATE / 10,
+            RATE * 2,
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(2),
+            CLIENTS * 4,
+            WARMUP,
+            DURATION);
+    // When & Then
+    runAndCompare(workload, bursts);
+  }
+
+  @Test
+  void detailPolling() throws Exception {
+    // Given
+    Workload workload =
+        new Workload(
+            "detail-polling",
+            List.of(
+                new Workload.Operation("GET /api/schools/{id}", 19, r -> schoolDetail(r)),
+                new Workload.Operation(
+                    "GET /api/schools/{id}/students",
+                    1,
+                    r -> get("/api/schools/" + school(r) + "/students"))));
+
+    // When & Then
+    runAndCompare(workload, LoadShape.open(RATE, CLIENTS * 4, WARMUP, DURATION));
+  }
+
+  /* ---------- Helpers ---------- */
+
+  private void runAndCompare(Workload workload, LoadShape shape) throws Exception {
+    Map<String, EndpointStats.Snapshot> results = generator.run(workload, shape);
+    report(workload, shape, results);
+    List<String> regressions = Baselines.regressions(workload.name(), results);
+    assertTrue(regressions.isEmpty(), () -> String.join("\n", regressions));
+  }
+
+  private static void report(
+      Workload workload, LoadShape shape, Map<String, EndpointStats.Snapshot> results)
+      throws IOException {
+    System.out.printf(
+        "%n%s on %s, %s, %s (after %s warm-up)%n",
+        workload.name(), PROFILE, shape, DURATION, WARMUP);
+    System.out.printf(
+        "%-40s %9s %8s %8s %8s %8s %8s%n",
+        "endpoint", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "failed");
+    Files.createDirectories(RESULTS);
+    for (var entry : results.entrySet()) {
+      EndpointStats.Snapshot result = entry.getValue();
+      System.out.printf(
+          "%-40s %9.0f %8.1f %8.1f %8.1f %8.1f %8d%n",
+          entry.getKey(),
+          result.throughput(),
+          result.percentileMillis(50),
+          result.percentileMillis(99),
+          result.percentileMillis(99.9),
+          result.maxMillis(),
+          result.failed());
+      String endpoint = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_");
+      String file = workload.name() + "_" + endpoint + ".hgrm";
+      try (PrintStream out = new PrintStream(Files.newOutputStream(RESULTS.resolve(file)))) {
+        result.writeDistribution(out);
+      }
+    }
+  }
+
+  private static List<UUID> seedSchools() {
+    CreateSchoolUseCase createSchool = app.getBean(CreateSchoolUseCase.class);
+    BulkEnrollStudentsUseCase enroll = app.getBean(BulkEnrollStudentsUseCase.class);
+    String run = UUID.randomUUID().toString().substring(0, 8);
+    List<String> names =
+        IntStream.range(0, STUDENTS_PER_SCHOOL).mapToObj(i -> "Student " + i).toList();
+    List<UUID> ids = new ArrayList<>(SCHOOLS);
+    for (int i = 0; i < SCHOOLS; i++) {
+      String name = "%s Academy %d %s".formatted(WORDS.get(i % WORDS.size()), i, run);
+      UUID id = createSchool.handle(new CreateSchoolCommand(name, 2000)).id();
+      enroll.handle(new BulkEnrollStudentsCommand(id, names));
+      ids.add(id);
+    }
+    return List.copyOf(ids);
+  }
+
+  private static HttpRequest schoolDetail(Random random) {
+    return get("/api/schools/" + school(random));
+  }
+
+  private static UUID school(Random random) {
+    return schoolIds.get(random.nextInt(schoolIds.size()));
+  }
+
+  private static String word(Random random) {
+    return URLEncoder.encode(WORDS.get(random.nextInt(WORDS.size())), StandardCharsets.UTF_8);
+  }
+
+  private static HttpRequest get(String path) {
+    return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).GET().build();
+  }
+
+  private static URI uri(String path) {
+    return URI.create(base + path);
+  }
+
+  private static Duration duration(String property, String fallback) {
+    return Duration.parse(System.getProperty(property, fallback));
+  }
+}
@@ -0,0 +1,55 @@
+package com.hectorherranz.schoolapi.load;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Makes the in-memory database behave like a slow Postgres: every connection is held {@code
+ * load.db-latency} longer before it is handed out, as if each transaction spent that long in
+ * queries. Registered as an extra source by the load tests, never component-scanned.
+ */
+class SlowDatabase {
+
+  @Bean
+  static BeanPostProcessor slowDataSource(@Value("${load.db-latency}") Duration latency) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SlowDataSource)) {
+          return new SlowDataSource(dataSource, latency);
+        }
+        return bean;
+      }
+    };
+  }
+
+  static final class SlowDataSource extends DelegatingDataSource {
+
+    private final Duration latency;
+
+    SlowDataSource(DataSource target, Duration latency) {
+      super(target);
+      this.latency = latency;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      Connection connection = super.getConnection();
+      try {
+        Thread.sleep(latency);
+        return connection;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        connection.close();
+        throw new SQLTransientException("Interrupted while simulating database latency", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.hectorherranz.schoolapi.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.SchoolApiApplication;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares platform and virtual request threads at 5k concurrent clients against a slow database.
+ *
+ * <p>Each mode boots the application on a random port over H2, with every connection held {@code
+ * load.db-latency} longer (see {@link SlowDatabase}) and the same 10-connection pool. Nine in ten
+ * requests read a school, which takes one transaction; the rest hit the liveness probe, which needs
+ * no connection. With platform threads the probe queues behind requests parked on the pool; with
+ * virtual threads only database work waits, on the semaphore. School reads are bound by the pool
+ * in both modes, so the difference shows in the probe rate and latency.
+ *
+ * <p>Tune with {@code -Dload.clients}, {@code -Dload.duration}, {@code -Dload.warmup} and {@code
+ * -Dload.db-latency} (ISO-8601 durations).
+ */
+class VirtualThreadThroughputLoadTest {
+
+  private static final int CLIENTS = Integer.getInteger("load.clients", 5_000);
+  private static final Duration DURATION = duration("load.duration", "PT30S");
+  private static final Duration WARMUP = duration("load.warmup", "PT5S");
+  private static final Duration DB_LATENCY = duration("load.db-latency", "PT0.02S");
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+  @Test
+  void compareThroughputAtFiveThousandConcurrentClients() throws Exception {
+    // Given / When
+    Result platform = run(false);
+    Result virtual = run(true);
+
+    // Then
+    System.out.printf(
+        "%n%d clients, %s (after %s warm-up), database latency %d ms per transaction%n",
+        CLIENTS, DURATION, WARMUP, DB_LATENCY.toMillis());
+    System.out.println(Result.HEADER);
+    System.out.println(platform);
+    System.out.println(virtual);
+
+    assertTrue(platform.schoolReads().ok() > 0 && virtual.schoolReads().ok() > 0);
+    assertEquals(0, virtual.schoolReads().failed() + virtual.probes().failed());
+  }
+
+  private Result run(boolean virtualThreads) throws Exception {
+    String mode = virtualThreads ? "virtual" : "platform";
+    try (ConfigurableApplicationContext app =
+        new SpringApplicationBuilder(SchoolApiApplication.class, SlowDatabase.class)
+            .run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--schoolapi.virtual-threads.max-db-concurrency=10",
+                "--schoolapi.virtual-threads.db-acquire-timeout=" + REQUEST_TIMEOUT,
+                "--management.endpoint.health.probes.enabled=true",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.hectorherranz.schoolapi=WARN",
+                "--load.db-latency=" + DB_LATENCY)) {
+
+      UUID schoolId =
+          app.getBean(CreateSchoolUseCase.class)
+              .handle(new CreateSchoolCommand("Load School", 100))
+              .id();
+      String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+      URI school = URI.create(base + "/api/schools/" + schoolId);
+      URI liveness = URI.create(base + "/actuator/health/liveness");
+
+      EndpointStats schoolReads = new EndpointStats();
+      EndpointStats probes = new EndpointStats();
+      long measureFrom = System.nanoTime() + WARMUP.toNanos();
+      long deadline = measureFrom + DURATION.toNanos();
+
+      // Closed in reverse order: every client finishes before the HTTP client shuts down
+      try (HttpClient http = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+          ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int c = 0; c < CLIENTS; c++) {
+          int client = c;
+          clients.submit(
+              () -> {
+                for (long n = client; System.nanoTime() < deadline; n++) {
+                  boolean probe = n % 10 == 0;
+                  send(http, probe ? liveness : school, probe ? probes : schoolReads, measureFrom);
+                }
+              });
+        }
+      }
+      Duration measured = Duration.ofNanos(Math.max(1, System.nanoTime() - measureFrom));
+      return new Result(mode, schoolReads.snapshot(measured), probes.snapshot(measured));
+    }
+  }
+
+  private static void send(HttpClient http, URI uri, EndpointStats stats, long measureFrom) {
+    long began = System.nanoTime();
+    boolean ok;
+    try {
+      HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+      ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    } catch (Exception e) {
+      ok = false;
+    }
+    if (began >= measureFrom) {
+      stats.record(ok, System.nanoTime() - began);
+    }
+  }
+
+  private static Duration duration(String property, String fallback) {
+    return Duration.parse(System.getProperty(property, fallback));
+  }
+
+  private record Result(
+      String mode, EndpointStats.Snapshot schoolReads, EndpointStats.Snapshot probes) {
+
+    static final String HEADER =
+        String.format(
+            "%-9s %10s %10s %20s %20s %8s",
+            "threads", "req/s", "probe/s", "school p50/p99 ms", "probe p50/p99 ms", "failed");
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%-9s %10.0f %10.0f %20s %20s %8d",
+          mode,
+          schoolReads.throughput() + probes.throughput(),
+          probes.throughput(),
+          millis(schoolReads),
+          millis(probes),
+          schoolReads.failed() + probes.failed());
+    }
+
+    private static String millis(EndpointStats.Snapshot stats) {
+      return String.format("%.1f / %.1f", stats.percentileMillis(50), stats.percentileMillis(99));
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.hectorherranz.schoolapi.load;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A named request mix: each request is drawn from the operations in proportion to their weights.
+ *
+ * @param name used for reports and the baseline file
+ */
+record Workload(String name, List<Operation> operations) {
+
+  /**
+   * One kind of request.
+   *
+   * @param endpoint the label statistics are kept under, e.g. {@code GET /api/schools/{id}}
+   * @param request builds a request, given the client's random source
+   * @param expected statuses that count as success (e.g. 409 once a school is full)
+   */
+  record Operation(
+      String endpoint, int weight, Function<Random, HttpRequest> request, Set<Integer> expected) {
+
+    Operation(String endpoint, int weight, Function<Random, HttpRequest> request) {
+      this(endpoint, weight, request, Set.of(200));
+    }
+  }
+
+  Operation pick(Random random) {
+    int total = operations.stream().mapToInt(Operation::weight).sum();
+    int roll = random.nextInt(total);
+    for (Operation operation : operations) {
+      roll -= operation.weight();
+      if (roll < 0) {
+        return operation;
+      }
+    }
+    throw new IllegalStateException("Weights changed while picking");
+  }
+}
@@ -7,7 +7,10 @@ import com.hectorherranz.schoolapi.adapters.in.rest.mapper.SchoolDtoMapper;
 import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
 import com.hectorherranz.schoolapi.application.port.in.*;
 import com.hectorherranz.schoolapi.application.query.GetSchoolByIdQuery;
+import com.hectorherranz.schoolapi.application.query.SearchAvailableSchoolsQuery;
+import com.hectorherranz.schoolapi.application.query.SearchSchoolsByCursorQuery;
 import com.hectorherranz.schoolapi.application.query.SearchSchoolsQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
 import com.hectorherranz.schoolapi.application.response.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,6 +36,8 @@ public class SchoolController {
   private final UpdateSchoolUseCase updateSchoolUseCase;
   private final DeleteSchoolUseCase deleteSchoolUseCase;
   private final SearchSchoolsUseCase searchSchoolsUseCase;
+  private final SearchSchoolsByCursorUseCase searchSchoolsByCursorUseCase;
+  private final SearchAvailableSchoolsUseCase searchAvailableSchoolsUseCase;
   private final SchoolDtoMapper schoolDtoMapper;
 
   public SchoolController(
@@ -41,12 +46,16 @@ public class SchoolController {
       UpdateSchoolUseCase updateSchoolUseCase,
       DeleteSchoolUseCase deleteSchoolUseCase,
       SearchSchoolsUseCase searchSchoolsUseCase,
+      SearchSchoolsByCursorUseCase searchSchoolsByCursorUseCase,
+      SearchAvailableSchoolsUseCase searchAvailableSchoolsUseCase,
       SchoolDtoMapper schoolDtoMapper) {
     this.createSchoolUseCase = createSchoolUseCase;
     this.getSchoolByIdUseCase = getSchoolByIdUseCase;
     this.updateSchoolUseCase = updateSchoolUseCase;
     this.deleteSchoolUseCase = deleteSchoolUseCase;
     this.searchSchoolsUseCase = searchSchoolsUseCase;
+    this.searchSchoolsByCursorUseCase = searchSchoolsByCursorUseCase;
+    this.searchAvailableSchoolsUseCase = searchAvailableSchoolsUseCase;
     this.schoolDtoMapper = schoolDtoMapper;
   }
 
@@ -65,10 +74,7 @@ public class SchoolController {
       })
   public ResponseEntity<SchoolDetail> createSchool(@Valid @RequestBody SchoolRequest request) {
     var command = schoolDtoMapper.toCreateCommand(request);
-    UUID schoolId = createSchoolUseCase.handle(command);
-
-    var query = new GetSchoolByIdQuery(schoolId);
-    var school = getSchoolByIdUseCase.handle(query);
+    var school = createSchoolUseCase.handle(command);
     var response = schoolDtoMapper.toDetail(school);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -87,10 +93,7 @@ public class SchoolController {
   public ResponseEntity<SchoolDetail> updateSchool(
       @PathVariable UUID id, @Valid @RequestBody SchoolRequest request) {
     var command = schoolDtoMapper.toUpdateCommand(id, request);
-    updateSchoolUseCase.handle(command);
-
-    var query = new GetSchoolByIdQuery(id);
-    var school = getSchoolByIdUseCase.handle(query);
+    var school = updateSchoolUseCase.handle(command);
     var response = schoolDtoMapper.toDetail(school);
 
     return ResponseEntity.ok(response);
@@ -128,4 +131,48 @@ public class SchoolController {
 
     return ResponseEntity.ok(response);
   }
+
+  @GetMapping(params = "cursor")
+  @Operation(
+      summary = "List and search schools by cursor",
+      description =
+          "Keyset pagination over (name, id). Pass an empty cursor for the first page, then the"
+              + " returned nextCursor. size must be between 1 and 100. No total count is"
+              + " computed.")
+  public ResponseEntity<CursorPage<SchoolSummary>> searchSchoolsByCursor(
+      @RequestParam(required = false, defaultValue = "") String query,
+      @RequestParam(required = false, defaultValue = "") String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+
+    var searchQuery = new SearchSchoolsByCursorQuery(query, cursor, size);
+    var result = searchSchoolsByCursorUseCase.handle(searchQuery);
+
+    var summaries = result.content().stream().map(schoolDtoMapper::toSummary).toList();
+
+    return ResponseEntity.ok(
+        new CursorPage<>(summaries, result.size(), result.nextCursor(), result.hasNext()));
+  }
+
+  @GetMapping("/available")
+  @Operation(
+      summary = "Search schools with free spots",
+      description =
+          "Schools whose name contains the query and that have at least minSpots free spots, most"
+              + " free spots first. Keyset pagination over (available spots, id): pass an empty"
+              + " cursor for the first page, then the returned nextCursor. size must be between 1"
+              + " and 100. No total count is computed.")
+  public ResponseEntity<CursorPage<SchoolSummary>> searchAvailableSchools(
+      @RequestParam(required = false, defaultValue = "") String query,
+      @RequestParam(defaultValue = "1") int minSpots,
+      @RequestParam(required = false, defaultValue = "") String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+
+    var searchQuery = new SearchAvailableSchoolsQuery(query, minSpots, cursor, size);
+    var result = searchAvailableSchoolsUseCase.handle(searchQuery);
+
+    var summaries = result.content().stream().map(schoolDtoMapper::toSummary).toList();
+
+    return ResponseEntity.ok(
+        new CursorPage<>(summaries, result.size(), result.nextCursor(), result.hasNext()));
+  }
 }
@@ -0,0 +1,11 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+// Item names are validated per item by the use case; only the envelope is validated here
+public record BulkEnrollRequest(
+    @NotEmpty(message = "At least one student is required")
+        @Size(max = 2000, message = "At most 2000 students per batch")
+        List<StudentRequest> students) {}
@@ -0,0 +1,11 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkEnrollResponse(
+    UUID schoolId, int requested, int enrolled, int rejected, List<Item> results) {
+
+  /** {@code status} is ENROLLED, INVALID or CAPACITY_EXCEEDED. */
+  public record Item(int index, String status, UUID studentId, String error) {}
+}
@@ -0,0 +1,11 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * One NDJSON import/export line. {@code type} is {@code school} (name, capacity and an optional
+ * id) or {@code student} (schoolId and name; an id is exported but ignored on import).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportLine(String type, UUID id, UUID schoolId, String name, Integer capacity) {}
@@ -0,0 +1,15 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.dto;
+
+import java.util.List;
+
+/** Totals for one import; {@code errors} holds the first rejections only. */
+public record ImportReport(
+    long lines,
+    long schoolsCreated,
+    long studentsCreated,
+    long rejected,
+    List<LineError> errors,
+    boolean errorsTruncated) {
+
+  public record LineError(long line, String reason) {}
+}
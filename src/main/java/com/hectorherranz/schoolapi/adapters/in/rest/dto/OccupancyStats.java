@@ -0,0 +1,20 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Fleet-wide occupancy: schools per fill-rate band (the last band is full schools), and schools
+ * at least 90% full.
+ */
+public record OccupancyStats(
+    long schools,
+    long enrolledStudents,
+    long capacity,
+    double fillRate,
+    List<FillRateBand> fillRates,
+    long nearFullSchools,
+    Instant asOf) {
+
+  public record FillRateBand(int fromPercent, int toPercent, long schools) {}
+}
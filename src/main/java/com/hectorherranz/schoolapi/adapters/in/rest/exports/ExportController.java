@@ -0,0 +1,105 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.exports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.application.port.in.ExportRosterUseCase;
+import com.hectorherranz.schoolapi.application.port.in.GetSchoolByIdUseCase;
+import com.hectorherranz.schoolapi.application.query.GetSchoolByIdQuery;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Roster exports. Rows go from a forward-only database cursor to the response as they are read,
+ * so neither side holds the whole roster; see {@link ExportRosterUseCase}.
+ */
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Exports", description = "Bulk data export")
+public class ExportController {
+
+  private final ExportRosterUseCase exportRosterUseCase;
+  private final GetSchoolByIdUseCase getSchoolByIdUseCase;
+  private final ObjectMapper objectMapper;
+
+  public ExportController(
+      ExportRosterUseCase exportRosterUseCase,
+      GetSchoolByIdUseCase getSchoolByIdUseCase,
+      ObjectMapper objectMapper) {
+    this.exportRosterUseCase = exportRosterUseCase;
+    this.getSchoolByIdUseCase = getSchoolByIdUseCase;
+    this.objectMapper = objectMapper;
+  }
+
+  @GetMapping("/schools/{schoolId}/students/export")
+  @Operation(
+      summary = "Export a school's students",
+      description = "Streams every student of the school in name order as NDJSON or CSV")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Roster streamed"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format"),
+        @ApiResponse(responseCode = "404", description = "School not found")
+      })
+  public ResponseEntity<StreamingResponseBody> exportSchool(
+      @PathVariable UUID schoolId, @RequestParam(defaultValue = "ndjson") String format) {
+    ExportFormat exportFormat = ExportFormat.fromParameter(format);
+    // Fail with 404 now; once streaming starts the status is already sent
+    getSchoolByIdUseCase.handle(new GetSchoolByIdQuery(schoolId));
+
+    return stream(
+        "school-" + schoolId + "-students",
+        exportFormat,
+        writer -> exportRosterUseCase.exportSchool(schoolId, writer::student));
+  }
+
+  @GetMapping("/students/export")
+  @Operation(
+      summary = "Export all schools and students",
+      description =
+          "Streams every school followed by every student. The NDJSON form can be sent back to"
+              + " POST /api/imports.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Tenant streamed"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format")
+      })
+  public ResponseEntity<StreamingResponseBody> exportAll(
+      @RequestParam(defaultValue = "ndjson") String format) {
+    ExportFormat exportFormat = ExportFormat.fromParameter(format);
+
+    return stream(
+        "students",
+        exportFormat,
+        writer -> exportRosterUseCase.exportAll(writer::school, writer::student));
+  }
+
+  // The export runs later on the async request thread, inside the use case's transaction
+  private ResponseEntity<StreamingResponseBody> stream(
+      String fileName, ExportFormat format, Consumer<RosterWriter> export) {
+    StreamingResponseBody body =
+        out -> {
+          RosterWriter writer = RosterWriter.open(format, out, objectMapper);
+          try {
+            export.accept(writer);
+          } catch (UncheckedIOException e) {
+            throw e.getCause(); // usually the client disconnecting
+          }
+          writer.flush();
+        };
+    ContentDisposition disposition =
+        ContentDisposition.attachment().filename(fileName + "." + format.extension()).build();
+    return ResponseEntity.ok()
+        .contentType(format.mediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+        .body(body);
+  }
+}
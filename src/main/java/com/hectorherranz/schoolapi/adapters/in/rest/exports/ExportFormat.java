@@ -0,0 +1,34 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.exports;
+
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+  NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+  CSV(new MediaType("text", "csv"), "csv");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  ExportFormat(MediaType mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public MediaType mediaType() {
+    return mediaType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public static ExportFormat fromParameter(String value) {
+    for (ExportFormat format : values()) {
+      if (format.extension.equals(value.toLowerCase(Locale.ROOT))) {
+        return format;
+      }
+    }
+    throw new UnsupportedExportFormatException(value);
+  }
+}
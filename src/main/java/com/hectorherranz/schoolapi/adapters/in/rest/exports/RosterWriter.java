@@ -0,0 +1,114 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.exports;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.ImportLine;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows straight to the response stream, one at a time. Both formats carry the
+ * fields of {@link ImportLine}, so an NDJSON export can be fed back to {@code POST /api/imports}.
+ * Write failures (usually the client going away) surface as {@link UncheckedIOException} so the
+ * writer can be used as a plain {@code Consumer}.
+ */
+abstract class RosterWriter {
+
+  static RosterWriter open(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+      throws IOException {
+    return switch (format) {
+      case NDJSON -> new Ndjson(out, objectMapper);
+      case CSV -> new Csv(out);
+    };
+  }
+
+  final void school(SchoolSummaryView school) {
+    write(new ImportLine("school", school.id(), null, school.name(), school.capacity()));
+  }
+
+  final void student(Student student) {
+    write(new ImportLine("student", student.id(), student.schoolId(), student.name(), null));
+  }
+
+  private void write(ImportLine line) {
+    try {
+      writeLine(line);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  abstract void writeLine(ImportLine line) throws IOException;
+
+  abstract void flush() throws IOException;
+
+  private static final class Ndjson extends RosterWriter {
+    private final JsonGenerator generator;
+
+    Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+      // Lines are separated by '\n' below, not by Jackson's default root value separator
+      this.generator =
+          objectMapper
+              .createGenerator(out)
+              .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+              .setRootValueSeparator(null);
+    }
+
+    @Override
+    void writeLine(ImportLine line) throws IOException {
+      generator.writeObject(line);
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    void flush() throws IOException {
+      generator.flush();
+    }
+  }
+
+  private static final class Csv extends RosterWriter {
+    private final Writer writer;
+
+    Csv(OutputStream out) throws IOException {
+      this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+      writer.write("type,id,school_id,name,capacity\n");
+    }
+
+    @Override
+    void writeLine(ImportLine line) throws IOException {
+      writer.write(line.type());
+      writer.write(',');
+      writer.write(line.id().toString());
+      writer.write(',');
+      writer.write(line.schoolId() == null ? "" : line.schoolId().toString());
+      writer.write(',');
+      writer.write(quote(line.name()));
+      writer.write(',');
+      writer.write(line.capacity() == null ? "" : line.capacity().toString());
+      writer.write('\n');
+    }
+
+    @Override
+    void flush() throws IOException {
+      writer.flush();
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks; double inner quotes
+    static String quote(String value) {
+      if (value.indexOf(',') < 0
+          && value.indexOf('"') < 0
+          && value.indexOf('\n') < 0
+          && value.indexOf('\r') < 0) {
+        return value;
+      }
+      return '"' + value.replace("\"", "\"\"") + '"';
+    }
+  }
+}
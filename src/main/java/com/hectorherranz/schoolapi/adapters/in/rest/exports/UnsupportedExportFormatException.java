@@ -0,0 +1,8 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.exports;
+
+/** Thrown when an export is requested in a format other than ndjson or csv. */
+public class UnsupportedExportFormatException extends RuntimeException {
+  public UnsupportedExportFormatException(String format) {
+    super("Unsupported export format: " + format + " (expected ndjson or csv)");
+  }
+}
@@ -0,0 +1,46 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.imports;
+
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.ImportReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/imports")
+@Tag(name = "Imports", description = "Bulk data loading")
+public class ImportController {
+
+  private final NdjsonImporter ndjsonImporter;
+
+  public ImportController(NdjsonImporter ndjsonImporter) {
+    this.ndjsonImporter = ndjsonImporter;
+  }
+
+  @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary = "Import schools and students from NDJSON",
+      description =
+          "Streams the request body one line at a time. Each line is a school"
+              + " ({\"type\":\"school\",\"name\":...,\"capacity\":...}, optional \"id\") or a"
+              + " student ({\"type\":\"student\",\"schoolId\":...,\"name\":...}). Rows are"
+              + " committed in fixed-size chunks; rejected lines are reported by line number.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished; see the totals and rejected lines",
+            content = @Content(schema = @Schema(implementation = ImportReport.class))),
+        @ApiResponse(responseCode = "415", description = "Body is not application/x-ndjson")
+      })
+  public ResponseEntity<ImportReport> importNdjson(InputStream body) throws IOException {
+    return ResponseEntity.ok(ndjsonImporter.importFrom(body));
+  }
+}
@@ -0,0 +1,228 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.ImportLine;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.ImportReport;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolRequest;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.StudentRequest;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand.SchoolRow;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand.StudentRow;
+import com.hectorherranz.schoolapi.application.port.in.ImportChunkUseCase;
+import com.hectorherranz.schoolapi.application.response.ImportChunkResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads an NDJSON import line by line and hands validated rows to {@link ImportChunkUseCase} in
+ * fixed-size chunks, each committed on its own. Only the current line, the current chunk and the
+ * first {@code maxReportedErrors} rejections are held in memory, so a file of any size runs in
+ * constant memory. Progress is logged after every chunk.
+ */
+@Component
+public class NdjsonImporter {
+
+  private static final Logger log = LoggerFactory.getLogger(NdjsonImporter.class);
+
+  // Longer lines are rejected without being buffered
+  static final int MAX_LINE_LENGTH = 64 * 1024;
+
+  private final ImportChunkUseCase importChunkUseCase;
+  private final ObjectReader lineReader;
+  private final Validator validator;
+  private final int chunkSize;
+  private final int maxReportedErrors;
+
+  public NdjsonImporter(
+      ImportChunkUseCase importChunkUseCase,
+      ObjectMapper objectMapper,
+      Validator validator,
+      @Value("${schoolapi.import.chunk-size:500}") int chunkSize,
+      @Value("${schoolapi.import.max-reported-errors:100}") int maxReportedErrors) {
+    this.importChunkUseCase = importChunkUseCase;
+    this.lineReader = objectMapper.readerFor(ImportLine.class);
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  public ImportReport importFrom(InputStream body) throws IOException {
+    Progress progress = new Progress(maxReportedErrors);
+    List<SchoolRow> schools = new ArrayList<>(chunkSize);
+    List<StudentRow> students = new ArrayList<>(chunkSize);
+
+    Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    StringBuilder buffer = new StringBuilder();
+    long lineNumber = 0;
+    int length;
+    while ((length = readLine(reader, buffer)) >= 0) {
+      lineNumber++;
+      if (length > MAX_LINE_LENGTH) {
+        progress.reject(lineNumber, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+        continue;
+      }
+      String line = buffer.toString().strip();
+      if (line.isEmpty()) {
+        continue;
+      }
+
+      String reason = parse(lineNumber, line, schools, students);
+      if (reason != null) {
+        progress.reject(lineNumber, reason);
+      }
+      if (schools.size() + students.size() >= chunkSize) {
+        apply(schools, students, progress);
+      }
+    }
+    apply(schools, students, progress);
+
+    progress.lines = lineNumber;
+    log.info(
+        "Import finished: {} lines, {} schools, {} students, {} rejected",
+        progress.lines,
+        progress.schools,
+        progress.students,
+        progress.rejected);
+    return progress.report();
+  }
+
+  /* ---------- Internals ---------- */
+
+  // Adds a valid row to the current chunk, or returns why the line was rejected
+  private String parse(
+      long lineNumber, String line, List<SchoolRow> schools, List<StudentRow> students) {
+    ImportLine row;
+    try {
+      row = lineReader.readValue(line);
+    } catch (JsonProcessingException e) {
+      return "Malformed JSON";
+    }
+    if (row == null || row.type() == null) {
+      return "Line type is required";
+    }
+
+    switch (row.type()) {
+      case "school" -> {
+        if (row.capacity() == null) {
+          return "School capacity is required";
+        }
+        String violations = violations(new SchoolRequest(row.name(), row.capacity()));
+        if (violations != null) {
+          return violations;
+        }
+        schools.add(new SchoolRow(lineNumber, row.id(), row.name(), row.capacity()));
+      }
+      case "student" -> {
+        if (row.schoolId() == null) {
+          return "Student schoolId is required";
+        }
+        String violations = violations(new StudentRequest(row.name()));
+        if (violations != null) {
+          return violations;
+        }
+        students.add(new StudentRow(lineNumber, row.schoolId(), row.name()));
+      }
+      default -> {
+        return "Unknown line type: " + row.type();
+      }
+    }
+    return null;
+  }
+
+  private String violations(Object request) {
+    Set<ConstraintViolation<Object>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  private void apply(List<SchoolRow> schools, List<StudentRow> students, Progress progress) {
+    if (schools.isEmpty() && students.isEmpty()) {
+      return;
+    }
+    try {
+      ImportChunkResult result =
+          importChunkUseCase.handle(
+              new ImportChunkCommand(List.copyOf(schools), List.copyOf(students)));
+      progress.schools += result.schoolsCreated();
+      progress.students += result.studentsCreated();
+      result.rejections().forEach(rejected -> progress.reject(rejected.line(), rejected.reason()));
+    } catch (RuntimeException e) {
+      // The chunk rolled back as a whole; later chunks still run
+      log.warn("Import chunk failed; {} rows not saved", schools.size() + students.size(), e);
+      schools.forEach(row -> progress.reject(row.line(), "Chunk failed; row not saved"));
+      students.forEach(row -> progress.reject(row.line(), "Chunk failed; row not saved"));
+    }
+    schools.clear();
+    students.clear();
+    log.info(
+        "Import progress: {} schools, {} students, {} rejected",
+        progress.schools,
+        progress.students,
+        progress.rejected);
+  }
+
+  /**
+   * Reads up to the next {@code '\n'} into {@code buffer}, keeping at most {@code
+   * MAX_LINE_LENGTH} chars. Returns the full line length (which may exceed what was kept), or -1
+   * at end of input.
+   */
+  private static int readLine(Reader reader, StringBuilder buffer) throws IOException {
+    buffer.setLength(0);
+    int length = 0;
+    int c;
+    while ((c = reader.read()) != -1 && c != '\n') {
+      if (length++ < MAX_LINE_LENGTH) {
+        buffer.append((char) c);
+      }
+    }
+    return c == -1 && length == 0 ? -1 : length;
+  }
+
+  private static final class Progress {
+    private final int maxErrors;
+    private final List<ImportReport.LineError> errors = new ArrayList<>();
+    private long lines;
+    private long schools;
+    private long students;
+    private long rejected;
+
+    Progress(int maxErrors) {
+      this.maxErrors = maxErrors;
+    }
+
+    void reject(long line, String reason) {
+      rejected++;
+      if (errors.size() < maxErrors) {
+        errors.add(new ImportReport.LineError(line, reason));
+      }
+    }
+
+    ImportReport report() {
+      errors.sort(Comparator.comparingLong(ImportReport.LineError::line));
+      return new ImportReport(
+          lines, schools, students, rejected, List.copyOf(errors), rejected > errors.size());
+    }
+  }
+}
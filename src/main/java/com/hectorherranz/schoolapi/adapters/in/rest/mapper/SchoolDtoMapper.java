@@ -1,10 +1,14 @@
 package com.hectorherranz.schoolapi.adapters.in.rest.mapper;
 
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.OccupancyStats;
 import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolDetail;
 import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolRequest;
 import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolSummary;
 import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 import com.hectorherranz.schoolapi.domain.model.School;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -26,8 +30,37 @@ public class SchoolDtoMapper {
         school.id(), school.name(), school.capacity().value(), school.enrolledCount());
   }
 
+  public SchoolDetail toDetail(SchoolDetailView view) {
+    return new SchoolDetail(view.id(), view.name(), view.capacity(), view.enrolledCount());
+  }
+
   public SchoolSummary toSummary(School school) {
     return new SchoolSummary(
-        school.id(), school.name(), school.capacity().value(), school.enrolledCount());
+        school.id(),
+        school.name(),
+        school.capacity().value(),
+        school.enrolledCount(),
+        school.capacity().availableSpots(school.enrolledCount()));
+  }
+
+  public SchoolSummary toSummary(SchoolSummaryView view) {
+    return new SchoolSummary(
+        view.id(), view.name(), view.capacity(), view.enrolledCount(), view.availableSpots());
+  }
+
+  public OccupancyStats toOccupancyStats(OccupancyStatsView view) {
+    return new OccupancyStats(
+        view.schools(),
+        view.enrolled(),
+        view.capacity(),
+        view.fillRate(),
+        view.fillRates().stream()
+            .map(
+                bucket ->
+                    new OccupancyStats.FillRateBand(
+                        bucket.fromPercent(), bucket.toPercent(), bucket.schools()))
+            .toList(),
+        view.nearFull(),
+        view.asOf());
   }
 }
@@ -1,12 +1,17 @@
 package com.hectorherranz.schoolapi.adapters.in.rest.mapper;
 
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.BulkEnrollRequest;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.BulkEnrollResponse;
 import com.hectorherranz.schoolapi.adapters.in.rest.dto.StudentRequest;
 import com.hectorherranz.schoolapi.adapters.in.rest.dto.StudentResponse;
+import com.hectorherranz.schoolapi.application.command.BulkEnrollStudentsCommand;
 import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
 import com.hectorherranz.schoolapi.application.command.DeleteStudentCommand;
 import com.hectorherranz.schoolapi.application.command.UpdateStudentCommand;
 import com.hectorherranz.schoolapi.application.query.GetStudentByIdQuery;
 import com.hectorherranz.schoolapi.application.query.SearchStudentsQuery;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Status;
 import com.hectorherranz.schoolapi.domain.model.Student;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
@@ -39,4 +44,25 @@ public class StudentDtoMapper {
   public StudentResponse toResponse(Student student) {
     return new StudentResponse(student.id(), student.name(), student.schoolId());
   }
+
+  public BulkEnrollStudentsCommand toBulkEnrollCommand(BulkEnrollRequest request, UUID schoolId) {
+    var names =
+        request.students().stream()
+            .map(student -> student == null ? null : student.name())
+            .toList();
+    return new BulkEnrollStudentsCommand(schoolId, names);
+  }
+
+  public BulkEnrollResponse toBulkEnrollResponse(BulkEnrollmentResult result) {
+    var items =
+        result.items().stream()
+            .map(
+                item ->
+                    new BulkEnrollResponse.Item(
+                        item.index(), item.status().name(), item.studentId(), item.reason()))
+            .toList();
+    int enrolled = (int) result.count(Status.ENROLLED);
+    return new BulkEnrollResponse(
+        result.schoolId(), items.size(), enrolled, items.size() - enrolled, items);
+  }
 }
@@ -0,0 +1,54 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.school;
+
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.BulkEnrollRequest;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.BulkEnrollResponse;
+import com.hectorherranz.schoolapi.adapters.in.rest.mapper.StudentDtoMapper;
+import com.hectorherranz.schoolapi.application.port.in.BulkEnrollStudentsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Mapped apart from SchoolStudentController: "/students:batch" cannot sit under "/students"
+@RestController
+@RequestMapping("/api/schools/{schoolId}")
+@Tag(name = "School Students", description = "Student management operations within a school")
+public class SchoolStudentBatchController {
+
+  private final BulkEnrollStudentsUseCase bulkEnrollStudentsUseCase;
+  private final StudentDtoMapper studentDtoMapper;
+
+  public SchoolStudentBatchController(
+      BulkEnrollStudentsUseCase bulkEnrollStudentsUseCase, StudentDtoMapper studentDtoMapper) {
+    this.bulkEnrollStudentsUseCase = bulkEnrollStudentsUseCase;
+    this.studentDtoMapper = studentDtoMapper;
+  }
+
+  @PostMapping("/students:batch")
+  @Operation(
+      summary = "Enroll many students in the school",
+      description =
+          "Enrolls up to 2000 students in one transaction. Seats are reserved once for the whole"
+              + " batch; items that are invalid or do not fit are reported individually.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed; see the per-item results",
+            content = @Content(schema = @Schema(implementation = BulkEnrollResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+        @ApiResponse(responseCode = "404", description = "School not found")
+      })
+  public ResponseEntity<BulkEnrollResponse> enrollStudents(
+      @PathVariable UUID schoolId, @Valid @RequestBody BulkEnrollRequest request) {
+    var command = studentDtoMapper.toBulkEnrollCommand(request, schoolId);
+    var result = bulkEnrollStudentsUseCase.handle(command);
+    return ResponseEntity.ok(studentDtoMapper.toBulkEnrollResponse(result));
+  }
+}
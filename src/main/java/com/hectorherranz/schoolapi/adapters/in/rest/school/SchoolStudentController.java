@@ -4,6 +4,8 @@ import com.hectorherranz.schoolapi.adapters.in.rest.dto.StudentRequest;
 import com.hectorherranz.schoolapi.adapters.in.rest.dto.StudentResponse;
 import com.hectorherranz.schoolapi.adapters.in.rest.mapper.StudentDtoMapper;
 import com.hectorherranz.schoolapi.application.port.in.*;
+import com.hectorherranz.schoolapi.application.query.SearchStudentsByCursorQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
 import com.hectorherranz.schoolapi.application.response.PagedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,6 +31,7 @@ public class SchoolStudentController {
   private final UpdateStudentUseCase updateStudentUseCase; // Hybrid approach (optimized by default)
   private final DeleteStudentUseCase deleteStudentUseCase;
   private final SearchStudentsUseCase searchStudentsUseCase;
+  private final SearchStudentsByCursorUseCase searchStudentsByCursorUseCase;
   private final StudentDtoMapper studentDtoMapper;
 
   public SchoolStudentController(
@@ -37,12 +40,14 @@ public class SchoolStudentController {
       UpdateStudentUseCase updateStudentUseCase, // Hybrid approach (optimized by default)
       DeleteStudentUseCase deleteStudentUseCase,
       SearchStudentsUseCase searchStudentsUseCase,
+      SearchStudentsByCursorUseCase searchStudentsByCursorUseCase,
       StudentDtoMapper studentDtoMapper) {
     this.createStudentUseCase = createStudentUseCase;
     this.getStudentByIdUseCase = getStudentByIdUseCase;
     this.updateStudentUseCase = updateStudentUseCase; // Uses hybrid approach
     this.deleteStudentUseCase = deleteStudentUseCase;
     this.searchStudentsUseCase = searchStudentsUseCase;
+    this.searchStudentsByCursorUseCase = searchStudentsByCursorUseCase;
     this.studentDtoMapper = studentDtoMapper;
   }
 
@@ -63,10 +68,7 @@ public class SchoolStudentController {
   public ResponseEntity<StudentResponse> enrollStudent(
       @PathVariable UUID schoolId, @Valid @RequestBody StudentRequest request) {
     var command = studentDtoMapper.toCreateCommand(request, schoolId);
-    UUID studentId = createStudentUseCase.handle(command);
-
-    var query = studentDtoMapper.toGetStudentQuery(studentId, schoolId);
-    var student = getStudentByIdUseCase.handle(query);
+    var student = createStudentUseCase.handle(command);
     var response = studentDtoMapper.toResponse(student);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -94,10 +96,7 @@ public class SchoolStudentController {
       @PathVariable UUID studentId,
       @Valid @RequestBody StudentRequest request) {
     var command = studentDtoMapper.toUpdateCommand(request, schoolId, studentId);
-    updateStudentUseCase.handle(command); // Uses hybrid approach
-
-    var query = studentDtoMapper.toGetStudentQuery(studentId, schoolId);
-    var student = getStudentByIdUseCase.handle(query);
+    var student = updateStudentUseCase.handle(command); // Uses hybrid approach
     var response = studentDtoMapper.toResponse(student);
 
     return ResponseEntity.ok(response);
@@ -141,4 +140,26 @@ public class SchoolStudentController {
 
     return ResponseEntity.ok(pagedResponse);
   }
+
+  @GetMapping(params = "cursor")
+  @Operation(
+      summary = "List and search students by cursor",
+      description =
+          "Keyset pagination over (name, id). Pass an empty cursor for the first page, then the"
+              + " returned nextCursor. size must be between 1 and 100. No total count is"
+              + " computed.")
+  public ResponseEntity<CursorPage<StudentResponse>> listStudentsByCursor(
+      @PathVariable UUID schoolId,
+      @RequestParam(required = false, defaultValue = "") String query,
+      @RequestParam(required = false, defaultValue = "") String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+
+    var searchQuery = new SearchStudentsByCursorQuery(schoolId, query, cursor, size);
+    var result = searchStudentsByCursorUseCase.handle(searchQuery);
+
+    var responses = result.content().stream().map(studentDtoMapper::toResponse).toList();
+
+    return ResponseEntity.ok(
+        new CursorPage<>(responses, result.size(), result.nextCursor(), result.hasNext()));
+  }
 }
@@ -0,0 +1,50 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.stats;
+
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.OccupancyStats;
+import com.hectorherranz.schoolapi.adapters.in.rest.mapper.SchoolDtoMapper;
+import com.hectorherranz.schoolapi.application.port.in.GetOccupancyStatsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Fleet-wide statistics, served from precomputed aggregates; see {@link
+ * GetOccupancyStatsUseCase}.
+ */
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Statistics", description = "Fleet-wide statistics")
+public class StatsController {
+
+  private final GetOccupancyStatsUseCase getOccupancyStatsUseCase;
+  private final SchoolDtoMapper schoolDtoMapper;
+
+  public StatsController(
+      GetOccupancyStatsUseCase getOccupancyStatsUseCase, SchoolDtoMapper schoolDtoMapper) {
+    this.getOccupancyStatsUseCase = getOccupancyStatsUseCase;
+    this.schoolDtoMapper = schoolDtoMapper;
+  }
+
+  @GetMapping("/occupancy")
+  @Operation(
+      summary = "Occupancy statistics",
+      description =
+          "Total schools, enrollment and capacity, schools per fill-rate band and schools at"
+              + " least 90% full. Kept in memory and updated shortly after each change, so the"
+              + " cost does not depend on the number of schools.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Current statistics",
+            content = @Content(schema = @Schema(implementation = OccupancyStats.class)))
+      })
+  public ResponseEntity<OccupancyStats> occupancy() {
+    return ResponseEntity.ok(schoolDtoMapper.toOccupancyStats(getOccupancyStatsUseCase.handle()));
+  }
+}
@@ -0,0 +1,127 @@
+package com.hectorherranz.schoolapi.adapters.out.cache;
+
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.AvailabilityCursor;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.model.School;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Answers {@link #findDetailById} through the school detail cache. Every other operation goes
+ * straight to the delegate; invalidation is up to the write handlers.
+ */
+public class CachingSchoolRepository implements SchoolRepositoryPort {
+
+  private final SchoolRepositoryPort delegate;
+  private final SchoolDetailCachePort cache;
+
+  public CachingSchoolRepository(SchoolRepositoryPort delegate, SchoolDetailCachePort cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public Optional<SchoolDetailView> findDetailById(UUID id) {
+    return cache.get(id, delegate::findDetailById);
+  }
+
+  @Override
+  public Optional<School> findById(UUID id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public boolean existsByNameIgnoreCase(String name) {
+    return delegate.existsByNameIgnoreCase(name);
+  }
+
+  @Override
+  public Page<School> searchByName(String name, Pageable pageable) {
+    return delegate.searchByName(name, pageable);
+  }
+
+  @Override
+  public Page<SchoolSummaryView> searchSummariesByName(String name, Pageable pageable) {
+    return delegate.searchSummariesByName(name, pageable);
+  }
+
+  @Override
+  public List<SchoolSummaryView> searchSummariesByNameAfter(
+      String name, KeysetCursor after, int limit) {
+    return delegate.searchSummariesByNameAfter(name, after, limit);
+  }
+
+  @Override
+  public List<SchoolSummaryView> searchAvailableAfter(
+      String name, int minSpots, AvailabilityCursor after, int limit) {
+    return delegate.searchAvailableAfter(name, minSpots, after, limit);
+  }
+
+  @Override
+  public void forEachSummary(Consumer<SchoolSummaryView> action) {
+    delegate.forEachSummary(action);
+  }
+
+  @Override
+  public School save(School school) {
+    return delegate.save(school);
+  }
+
+  @Override
+  public Optional<Long> findVersionById(UUID id) {
+    return delegate.findVersionById(id);
+  }
+
+  @Override
+  public void deleteById(UUID id, long expectedVersion) {
+    delegate.deleteById(id, expectedVersion);
+  }
+
+  @Override
+  public Optional<School> findByIdForStudentUpdate(UUID id) {
+    return delegate.findByIdForStudentUpdate(id);
+  }
+
+  @Override
+  public int countStudentsBySchoolId(UUID schoolId) {
+    return delegate.countStudentsBySchoolId(schoolId);
+  }
+
+  @Override
+  public boolean existsById(UUID id) {
+    return delegate.existsById(id);
+  }
+
+  @Override
+  public boolean tryReserveSeat(UUID schoolId) {
+    return delegate.tryReserveSeat(schoolId);
+  }
+
+  @Override
+  public void releaseSeat(UUID schoolId) {
+    delegate.releaseSeat(schoolId);
+  }
+
+  @Override
+  public int reserveSeats(UUID schoolId, int requested) {
+    return delegate.reserveSeats(schoolId, requested);
+  }
+
+  @Override
+  public Optional<School> findByIdBasic(UUID id) {
+    return delegate.findByIdBasic(id);
+  }
+
+  @Override
+  public Optional<School> findByIdBasicForUpdate(UUID id) {
+    return delegate.findByIdBasicForUpdate(id);
+  }
+}
@@ -0,0 +1,52 @@
+package com.hectorherranz.schoolapi.adapters.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hectorherranz.schoolapi.adapters.out.support.AfterCommit;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Size-bounded (W-TinyLFU) cache of school details with a write TTL.
+ *
+ * <p>Loads go through {@link Cache#get}, which runs at most one load per key and makes an
+ * invalidation of that key wait for it. Evictions run after commit, so a load that read the old
+ * row before the commit finishes first and is then removed; loads that start after the commit
+ * read the new row. The TTL bounds staleness from writes made by other instances.
+ */
+public class CaffeineSchoolDetailCache implements SchoolDetailCachePort {
+
+  static final String CACHE_NAME = "schoolDetail";
+
+  private final Cache<UUID, SchoolDetailView> cache;
+
+  public CaffeineSchoolDetailCache(long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+    if (meterRegistry != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+  }
+
+  @Override
+  public Optional<SchoolDetailView> get(
+      UUID schoolId, Function<UUID, Optional<SchoolDetailView>> loader) {
+    return Optional.ofNullable(cache.get(schoolId, id -> loader.apply(id).orElse(null)));
+  }
+
+  @Override
+  public void evict(UUID schoolId) {
+    AfterCommit.run(() -> cache.invalidate(schoolId));
+  }
+
+  long estimatedSize() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+}
@@ -0,0 +1,20 @@
+package com.hectorherranz.schoolapi.adapters.out.cache;
+
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/** Used when the detail cache is disabled: every read goes to the loader, evictions are ignored. */
+public class NoOpSchoolDetailCache implements SchoolDetailCachePort {
+
+  @Override
+  public Optional<SchoolDetailView> get(
+      UUID schoolId, Function<UUID, Optional<SchoolDetailView>> loader) {
+    return loader.apply(schoolId);
+  }
+
+  @Override
+  public void evict(UUID schoolId) {}
+}
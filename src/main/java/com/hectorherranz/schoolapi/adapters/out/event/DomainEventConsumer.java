@@ -0,0 +1,26 @@
+package com.hectorherranz.schoolapi.adapters.out.event;
+
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+
+/**
+ * An in-process reader of the {@link RingBufferEventPublisher} (e.g. cache invalidation, search
+ * index maintenance, statistics). Every consumer sees every committed event in publish order, on
+ * its own thread; {@code endOfBatch} marks the last event currently available, where batched
+ * work (a bulk eviction, a flush) should be applied.
+ */
+public interface DomainEventConsumer {
+
+  /** Names the consumer's thread and tags its metrics. */
+  String name();
+
+  void onEvent(DomainEvent event, boolean endOfBatch);
+
+  /**
+   * Same as {@link #onEvent(DomainEvent, boolean)}, with the event's position on the bus, which
+   * increases by one per event. Consumers that compare against a {@link
+   * RingBufferEventPublisher#publishedSequence() published sequence} override this one.
+   */
+  default void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+    onEvent(event, endOfBatch);
+  }
+}
@@ -0,0 +1,34 @@
+package com.hectorherranz.schoolapi.adapters.out.event;
+
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Counts committed domain events by type as {@code schoolapi.events.consumed}. */
+public class DomainEventMetricsConsumer implements DomainEventConsumer {
+
+  static final String CONSUMED = "schoolapi.events.consumed";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+  public DomainEventMetricsConsumer(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public String name() {
+    return "metrics";
+  }
+
+  @Override
+  public void onEvent(DomainEvent event, boolean endOfBatch) {
+    counters
+        .computeIfAbsent(
+            event.getClass(),
+            type -> meterRegistry.counter(CONSUMED, "type", type.getSimpleName()))
+        .increment();
+  }
+}
@@ -0,0 +1,273 @@
+package com.hectorherranz.schoolapi.adapters.out.event;
+
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process event bus over a preallocated ring buffer, in the style of the LMAX Disruptor.
+ *
+ * <p>Publishers claim slots by advancing one sequence with a compare-and-set, store the events
+ * and mark the slots published; no lock is taken and nothing is allocated per event. Every {@link
+ * DomainEventConsumer} reads the whole stream on its own thread, as far as the highest contiguous
+ * published slot, and advances its own sequence once per batch. Publishers never pass the slowest
+ * consumer: a full buffer either drops the events ({@link OnFull#DROP}) or makes the publisher
+ * wait for space ({@link OnFull#BLOCK}).
+ *
+ * <p>Metrics: {@code schoolapi.events.bus.published}, {@code .dropped} and {@code .backpressure}
+ * (publishes that had to wait), {@code .consumer.errors}, and the gauges {@code .remaining} (free
+ * slots) and {@code .lag} (events a consumer is behind), both per consumer where it applies.
+ */
+public class RingBufferEventPublisher implements DomainEventPublisher, AutoCloseable {
+
+  public enum OnFull {
+    DROP,
+    BLOCK
+  }
+
+  static final String PUBLISHED = "schoolapi.events.bus.published";
+  static final String DROPPED = "schoolapi.events.bus.dropped";
+  static final String BACKPRESSURE = "schoolapi.events.bus.backpressure";
+  static final String CONSUMER_ERRORS = "schoolapi.events.bus.consumer.errors";
+  static final String REMAINING = "schoolapi.events.bus.remaining";
+  static final String LAG = "schoolapi.events.bus.lag";
+
+  private static final Logger log = LoggerFactory.getLogger(RingBufferEventPublisher.class);
+  private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+  private final DomainEvent[] entries;
+  // Per slot, the lap (sequence / capacity) of the last event published into it
+  private final AtomicIntegerArray publishedLaps;
+  private final int capacity;
+  private final int mask;
+  private final int lapShift;
+  // Highest claimed sequence; slots up to it may still be being written
+  private final AtomicLong cursor = new AtomicLong(-1);
+  // Last known slowest consumer sequence, refreshed only when the buffer looks full
+  private volatile long gatingCache = -1;
+
+  private final List<ConsumerLoop> consumers = new ArrayList<>();
+  private final WaitStrategy waitStrategy;
+  private final OnFull onFull;
+  private volatile boolean running;
+
+  private final Counter published;
+  private final Counter dropped;
+  private final Counter backpressure;
+
+  public RingBufferEventPublisher(
+      int capacity,
+      WaitStrategy waitStrategy,
+      OnFull onFull,
+      List<DomainEventConsumer> consumers,
+      MeterRegistry meterRegistry) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Ring buffer capacity must be a power of two");
+    }
+    this.entries = new DomainEvent[capacity];
+    this.publishedLaps = new AtomicIntegerArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      publishedLaps.set(i, -1);
+    }
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+    this.lapShift = Integer.numberOfTrailingZeros(capacity);
+    this.waitStrategy = waitStrategy;
+    this.onFull = onFull;
+
+    this.published = Counter.builder(PUBLISHED).baseUnit("events").register(meterRegistry);
+    this.dropped =
+        Counter.builder(DROPPED)
+            .description("Events dropped because the ring buffer was full")
+            .baseUnit("events")
+            .register(meterRegistry);
+    this.backpressure =
+        Counter.builder(BACKPRESSURE)
+            .description("Publishes that waited for the slowest consumer")
+            .register(meterRegistry);
+    Gauge.builder(REMAINING, this, RingBufferEventPublisher::remainingCapacity)
+        .description("Free ring buffer slots")
+        .register(meterRegistry);
+    for (DomainEventConsumer consumer : consumers) {
+      ConsumerLoop loop = new ConsumerLoop(consumer, meterRegistry);
+      this.consumers.add(loop);
+      Gauge.builder(LAG, loop, l -> cursor.get() - l.sequence.get())
+          .description("Events published but not yet consumed")
+          .tag("consumer", consumer.name())
+          .register(meterRegistry);
+    }
+  }
+
+  /** Starts one platform thread per consumer. */
+  public void start() {
+    running = true;
+    for (ConsumerLoop loop : consumers) {
+      loop.thread =
+          Thread.ofPlatform()
+              .name("event-bus-" + loop.consumer.name())
+              .daemon(true)
+              .start(loop);
+    }
+  }
+
+  /** Stops accepting waits, lets consumers drain what was published and joins them. */
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    for (ConsumerLoop loop : consumers) {
+      if (loop.thread != null) {
+        loop.thread.join(TimeUnit.SECONDS.toMillis(5));
+      }
+    }
+  }
+
+  /**
+   * Enqueues the events in order, all or none. Returns once they are visible to consumers, or
+   * right away if they were dropped.
+   */
+  @Override
+  public void publish(List<? extends DomainEvent> events) {
+    int count = events.size();
+    if (count == 0) {
+      return;
+    }
+    if (count > capacity) {
+      // Cannot fit at once; publish in ring-sized chunks, each all or none
+      publish(events.subList(0, capacity));
+      publish(events.subList(capacity, count));
+      return;
+    }
+    long last = claim(count);
+    if (last < 0) {
+      dropped.increment(count);
+      return;
+    }
+    long first = last - count + 1;
+    for (int i = 0; i < count; i++) {
+      entries[(int) ((first + i) & mask)] = events.get(i);
+    }
+    for (long sequence = first; sequence <= last; sequence++) {
+      publishedLaps.lazySet((int) (sequence & mask), (int) (sequence >>> lapShift));
+    }
+    waitStrategy.signalAllWhenBlocking();
+    published.increment(count);
+  }
+
+  /** Claims {@code count} slots and returns the last one, or -1 if the events are dropped. */
+  private long claim(int count) {
+    boolean waited = false;
+    while (true) {
+      long current = cursor.get();
+      long next = current + count;
+      long wrapPoint = next - capacity;
+      if (wrapPoint > gatingCache) {
+        long slowest = slowestConsumer();
+        gatingCache = slowest;
+        if (wrapPoint > slowest) {
+          if (onFull == OnFull.DROP || !running) {
+            return -1;
+          }
+          if (!waited) {
+            backpressure.increment();
+            waited = true;
+          }
+          LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+          continue;
+        }
+      }
+      if (cursor.compareAndSet(current, next)) {
+        return next;
+      }
+    }
+  }
+
+  private long slowestConsumer() {
+    long slowest = Long.MAX_VALUE;
+    for (ConsumerLoop loop : consumers) {
+      slowest = Math.min(slowest, loop.sequence.get());
+    }
+    return slowest;
+  }
+
+  private boolean isPublished(long sequence) {
+    return publishedLaps.get((int) (sequence & mask)) == (int) (sequence >>> lapShift);
+  }
+
+  /** Highest sequence in {@code [from, to]} up to which every slot has been published. */
+  private long highestPublished(long from, long to) {
+    for (long sequence = from; sequence <= to; sequence++) {
+      if (!isPublished(sequence)) {
+        return sequence - 1;
+      }
+    }
+    return to;
+  }
+
+  /**
+   * Highest sequence claimed so far. Events are published after their transaction commits, so
+   * every event at or below the returned value belongs to a transaction that had committed when it
+   * was read.
+   */
+  public long publishedSequence() {
+    return cursor.get();
+  }
+
+  long remainingCapacity() {
+    long slowest = slowestConsumer();
+    long used = slowest == Long.MAX_VALUE ? 0 : cursor.get() - slowest;
+    return capacity - used;
+  }
+
+  private final class ConsumerLoop implements Runnable {
+
+    private final DomainEventConsumer consumer;
+    // Highest sequence this consumer has finished with
+    private final AtomicLong sequence = new AtomicLong(-1);
+    private final Counter errors;
+    private Thread thread;
+
+    ConsumerLoop(DomainEventConsumer consumer, MeterRegistry meterRegistry) {
+      this.consumer = consumer;
+      this.errors = meterRegistry.counter(CONSUMER_ERRORS, "consumer", consumer.name());
+    }
+
+    @Override
+    public void run() {
+      long next = sequence.get() + 1;
+      while (true) {
+        long available = waitStrategy.waitFor(next, cursor, () -> running);
+        if (available < next) {
+          if (!running) {
+            return;
+          }
+          continue;
+        }
+        long highest = highestPublished(next, available);
+        if (highest < next) {
+          Thread.onSpinWait(); // claimed, still being written
+          continue;
+        }
+        for (long s = next; s <= highest; s++) {
+          try {
+            consumer.onEvent(entries[(int) (s & mask)], s, s == highest);
+          } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Event consumer {} failed; skipping the event", consumer.name(), e);
+          }
+        }
+        sequence.lazySet(highest);
+        next = highest + 1;
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.hectorherranz.schoolapi.adapters.out.event;
+
+import com.hectorherranz.schoolapi.adapters.out.support.AfterCommit;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import java.util.List;
+
+/**
+ * The publisher handlers use: events go to the outbox within the caller's transaction and onto
+ * the in-process bus once it commits, so in-process consumers never see a rolled back change.
+ */
+public class TransactionalEventPublisher implements DomainEventPublisher {
+
+  private final DomainEventPublisher outbox;
+  private final DomainEventPublisher bus;
+
+  public TransactionalEventPublisher(DomainEventPublisher outbox, DomainEventPublisher bus) {
+    this.outbox = outbox;
+    this.bus = bus;
+  }
+
+  @Override
+  public void publish(List<? extends DomainEvent> events) {
+    outbox.publish(events);
+    List<DomainEvent> committed = List.copyOf(events);
+    AfterCommit.run(() -> bus.publish(committed));
+  }
+}
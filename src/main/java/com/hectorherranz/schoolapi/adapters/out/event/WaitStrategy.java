@@ -0,0 +1,162 @@
+package com.hectorherranz.schoolapi.adapters.out.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How an idle {@link RingBufferEventPublisher} consumer waits for the next event, trading latency
+ * for CPU (selected with {@code schoolapi.events.bus.wait-strategy}):
+ *
+ * <ul>
+ *   <li>{@code busy-spin}: lowest latency, burns a core per consumer;
+ *   <li>{@code yielding}: spins briefly, then yields the core to other threads;
+ *   <li>{@code sleeping}: spins, yields, then parks 100 microseconds at a time (default);
+ *   <li>{@code blocking}: parks on a condition that publishers signal; idle consumers cost nothing,
+ *       but publishing pays for a lock whenever a consumer is asleep.
+ * </ul>
+ */
+public interface WaitStrategy {
+
+  /**
+   * Waits until {@code cursor} reaches {@code sequence} and returns the cursor, or returns {@code
+   * sequence - 1} once {@code running} turns false with nothing left to wait for.
+   */
+  long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running);
+
+  /** Called by publishers after making events visible. */
+  default void signalAllWhenBlocking() {}
+
+  static WaitStrategy named(String name) {
+    return switch (name) {
+      case "busy-spin" -> new BusySpin();
+      case "yielding" -> new Yielding();
+      case "sleeping" -> new Sleeping();
+      case "blocking" -> new Blocking();
+      default ->
+          throw new IllegalArgumentException(
+              "Unknown wait strategy '" + name + "' (busy-spin, yielding, sleeping, blocking)");
+    };
+  }
+
+  final class BusySpin implements WaitStrategy {
+
+    @Override
+    public long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) {
+      long available;
+      while ((available = cursor.get()) < sequence) {
+        if (!running.getAsBoolean()) {
+          return sequence - 1;
+        }
+        Thread.onSpinWait();
+      }
+      return available;
+    }
+  }
+
+  final class Yielding implements WaitStrategy {
+
+    private static final int SPINS = 100;
+
+    @Override
+    public long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) {
+      long available;
+      int spins = SPINS;
+      while ((available = cursor.get()) < sequence) {
+        if (!running.getAsBoolean()) {
+          return sequence - 1;
+        }
+        if (spins > 0) {
+          spins--;
+          Thread.onSpinWait();
+        } else {
+          Thread.yield();
+        }
+      }
+      return available;
+    }
+  }
+
+  final class Sleeping implements WaitStrategy {
+
+    private static final int SPINS = 100;
+    private static final int YIELDS = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @Override
+    public long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) {
+      long available;
+      int tries = SPINS + YIELDS;
+      while ((available = cursor.get()) < sequence) {
+        if (!running.getAsBoolean()) {
+          return sequence - 1;
+        }
+        if (tries > YIELDS) {
+          tries--;
+          Thread.onSpinWait();
+        } else if (tries > 0) {
+          tries--;
+          Thread.yield();
+        } else {
+          LockSupport.parkNanos(PARK_NANOS);
+        }
+      }
+      return available;
+    }
+  }
+
+  final class Blocking implements WaitStrategy {
+
+    // Bounds a shutdown check when no publisher comes along to signal
+    private static final long AWAIT_MILLIS = 10;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final AtomicBoolean signalNeeded = new AtomicBoolean();
+
+    @Override
+    public long waitFor(long sequence, AtomicLong cursor, BooleanSupplier running) {
+      long available = cursor.get();
+      if (available >= sequence) {
+        return available;
+      }
+      lock.lock();
+      try {
+        while (true) {
+          // Raised before the cursor is read: a publisher advancing it after the read sees the
+          // flag and signals, which needs the lock, so it lands once this thread awaits
+          signalNeeded.set(true);
+          available = cursor.get();
+          if (available >= sequence) {
+            return available;
+          }
+          if (!running.getAsBoolean()) {
+            return sequence - 1;
+          }
+          published.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return sequence - 1;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void signalAllWhenBlocking() {
+      if (signalNeeded.getAndSet(false)) {
+        lock.lock();
+        try {
+          published.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A domain event waiting to be relayed, written in the transaction that raised it and deleted
+ * once every sink has taken it. The relay takes rows in {@code occurred_at, id} order, as ids
+ * are only time-ordered while UUIDv7 is configured.
+ */
+@Entity
+@Table(
+    name = "outbox_events",
+    indexes = @Index(name = "idx_outbox_events_occurred_at", columnList = "occurred_at, id"))
+public class OutboxEventEntity {
+
+  @Id
+  @Column(columnDefinition = "uuid")
+  private UUID id;
+
+  @Column(name = "event_type", nullable = false, length = 100)
+  private String eventType;
+
+  @Column(name = "payload", nullable = false, length = 4000)
+  private String payload;
+
+  @Column(name = "occurred_at", nullable = false, updatable = false)
+  private Instant occurredAt;
+
+  // Default constructor for JPA
+  protected OutboxEventEntity() {}
+
+  public OutboxEventEntity(UUID id, String eventType, String payload, Instant occurredAt) {
+    this.id = id;
+    this.eventType = eventType;
+    this.payload = payload;
+    this.occurredAt = occurredAt;
+  }
+
+  // Getters
+  public UUID getId() {
+    return id;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public Instant getOccurredAt() {
+    return occurredAt;
+  }
+}
@@ -2,6 +2,7 @@ package com.hectorherranz.schoolapi.adapters.out.jpa.entity;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.converter.CapacityConverter;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import com.hectorherranz.schoolapi.domain.model.valueobject.NameLimits;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -9,6 +10,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.springframework.data.annotation.CreatedDate;
@@ -16,21 +20,40 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "schools")
+@Table(
+    name = "schools",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uq_schools_lower_name", columnNames = "lower_name"))
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SchoolEntity.CACHE_REGION)
 public class SchoolEntity {
 
+  // Second-level cache region, configured in application.conf
+  public static final String CACHE_REGION = "school";
+
   @Id
   @Column(name = "id", columnDefinition = "uuid")
   private UUID id;
 
-  @Column(name = "name", nullable = false, length = 100)
+  @Column(name = "name", nullable = false, length = NameLimits.MAX_LENGTH)
   private String name;
 
+  // Case-insensitive name key, lowered by the database on write so it matches LOWER(:name) in
+  // the lookups. Its unique constraint rejects duplicate names on every database (TASK-005)
+  @Column(name = "lower_name", nullable = false, length = NameLimits.MAX_LENGTH)
+  @ColumnTransformer(write = "lower(?)")
+  private String lowerName;
+
   @Column(name = "capacity", nullable = false)
   @Convert(converter = CapacityConverter.class)
   private Capacity capacity;
 
+  // Seat counter maintained by conditional UPDATEs only; never written from this entity. Those
+  // UPDATEs declare the schools query space, so Hibernate invalidates this cache region
+  // (SpringDataSchoolRepository.SEAT_COUNTER_SPACE)
+  @Column(name = "enrolled_count", nullable = false, updatable = false)
+  private int enrolledCount;
+
   @OneToMany(
       mappedBy = "school",
       cascade = CascadeType.ALL,
@@ -58,6 +81,7 @@ public class SchoolEntity {
   // Constructor for creating new schools
   public SchoolEntity(String name, Capacity capacity) {
     this.name = name;
+    this.lowerName = name;
     this.capacity = capacity;
   }
 
@@ -74,6 +98,10 @@ public class SchoolEntity {
     return capacity;
   }
 
+  public int getEnrolledCount() {
+    return enrolledCount;
+  }
+
   public Map<UUID, StudentEntity> getStudentsById() {
     return new HashMap<>(studentsById);
   }
@@ -101,12 +129,18 @@ public class SchoolEntity {
 
   public void setName(String name) {
     this.name = name;
+    this.lowerName = name;
   }
 
   public void setCapacity(Capacity capacity) {
     this.capacity = capacity;
   }
 
+  /** Only takes effect on insert; afterwards the column is owned by the seat updates. */
+  public void setEnrolledCount(int enrolledCount) {
+    this.enrolledCount = enrolledCount;
+  }
+
   public void setStudentsById(Map<UUID, StudentEntity> studentsById) {
     this.studentsById = studentsById;
   }
@@ -1,5 +1,6 @@
 package com.hectorherranz.schoolapi.adapters.out.jpa.entity;
 
+import com.hectorherranz.schoolapi.domain.model.valueobject.NameLimits;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -16,7 +17,7 @@ public class StudentEntity {
   @Column(columnDefinition = "uuid")
   private UUID id;
 
-  @Column(name = "name", nullable = false, length = 100)
+  @Column(name = "name", nullable = false, length = NameLimits.MAX_LENGTH)
   private String name;
 
   @ManyToOne(optional = false, fetch = FetchType.LAZY)
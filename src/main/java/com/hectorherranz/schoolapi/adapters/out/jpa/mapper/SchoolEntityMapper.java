@@ -2,6 +2,11 @@ package com.hectorherranz.schoolapi.adapters.out.jpa.mapper;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.StudentEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.AvailableSchoolRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.SchoolDetailRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.SchoolSummaryRow;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.Student;
 import java.util.ArrayList;
@@ -40,7 +45,34 @@ public final class SchoolEntityMapper {
 
     studentEntities.keySet().forEach(stu -> stu.setSchool(entity));
     entity.setStudents(new ArrayList<>(studentEntities.keySet()));
+    entity.setEnrolledCount(s.students().size()); // seeds the seat counter on insert
 
     return entity;
   }
+
+  /* ENTITY → READ MODEL (after a write, from the same persistence context) */
+  public static SchoolDetailView toDetailView(SchoolEntity e) {
+    if (e == null) throw new NullPointerException("SchoolEntity cannot be null");
+    return new SchoolDetailView(
+        e.getId(), e.getName(), e.getCapacity().value(), e.getEnrolledCount());
+  }
+
+  /* PROJECTION → READ MODEL */
+  public static SchoolDetailView toDetailView(SchoolDetailRow row) {
+    if (row == null) throw new NullPointerException("SchoolDetailRow cannot be null");
+    return new SchoolDetailView(
+        row.getId(), row.getName(), row.getCapacity().value(), row.getEnrolledCount());
+  }
+
+  public static SchoolSummaryView toSummaryView(SchoolSummaryRow row) {
+    if (row == null) throw new NullPointerException("SchoolSummaryRow cannot be null");
+    return new SchoolSummaryView(
+        row.getId(), row.getName(), row.getCapacity().value(), row.getEnrolledCount());
+  }
+
+  public static SchoolSummaryView toSummaryView(AvailableSchoolRow row) {
+    if (row == null) throw new NullPointerException("AvailableSchoolRow cannot be null");
+    return new SchoolSummaryView(
+        row.getId(), row.getName(), row.getCapacity(), row.getEnrolledCount());
+  }
 }
@@ -0,0 +1,17 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.projection;
+
+import java.util.UUID;
+
+/**
+ * Spring Data projection for the native availability search; native rows carry the raw capacity
+ * column, not the converted value object.
+ */
+public interface AvailableSchoolRow {
+  UUID getId();
+
+  String getName();
+
+  int getCapacity();
+
+  int getEnrolledCount();
+}
@@ -0,0 +1,12 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.projection;
+
+/** Spring Data projection for the grouped occupancy statistics query. */
+public interface FillBucketRow {
+  int getBucket();
+
+  long getSchools();
+
+  long getEnrolled();
+
+  long getCapacity();
+}
@@ -0,0 +1,15 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.projection;
+
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.UUID;
+
+/** Spring Data projection for the aggregate school detail query. */
+public interface SchoolDetailRow {
+  UUID getId();
+
+  String getName();
+
+  Capacity getCapacity();
+
+  int getEnrolledCount();
+}
@@ -0,0 +1,13 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.projection;
+
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.UUID;
+
+/** Spring Data projection for loading the occupancy statistics. */
+public interface SchoolOccupancyRow {
+  UUID getId();
+
+  Capacity getCapacity();
+
+  int getEnrolledCount();
+}
@@ -0,0 +1,10 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.projection;
+
+import java.util.UUID;
+
+/** Spring Data projection carrying just what the in-process name index needs per student. */
+public interface StudentNameRow {
+  UUID getId();
+
+  String getName();
+}
@@ -0,0 +1,16 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
+
+import java.util.Locale;
+
+/** Builds lower-cased {@code LIKE} patterns for queries declared with {@code ESCAPE '\'}. */
+final class LikePatterns {
+
+  private LikePatterns() {}
+
+  /** Substring match: the user input is escaped so {@code %} and {@code _} match literally. */
+  static String containing(String q) {
+    String value = q == null ? "" : q.toLowerCase(Locale.ROOT);
+    String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    return "%" + escaped + "%";
+  }
+}
@@ -2,12 +2,25 @@ package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
 import com.hectorherranz.schoolapi.adapters.out.jpa.mapper.SchoolEntityMapper;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.SchoolSummaryRow;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.AvailabilityCursor;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.School;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
 public class SchoolJpaRepository implements SchoolRepositoryPort {
@@ -25,6 +38,11 @@ public class SchoolJpaRepository implements SchoolRepositoryPort {
     return repo.findById(id).map(SchoolEntityMapper::toDomain);
   }
 
+  @Override
+  public Optional<SchoolDetailView> findDetailById(UUID id) {
+    return repo.findDetailById(id).map(SchoolEntityMapper::toDetailView);
+  }
+
   @Override
   public boolean existsByNameIgnoreCase(String name) {
     return repo.existsByNameIgnoreCase(name);
@@ -32,7 +50,45 @@ public class SchoolJpaRepository implements SchoolRepositoryPort {
 
   @Override
   public Page<School> searchByName(String q, Pageable pageable) {
-    return repo.findByNameContainingIgnoreCase(q, pageable).map(SchoolEntityMapper::toDomain);
+    return repo.searchByNamePattern(LikePatterns.containing(q), pageable)
+        .map(SchoolEntityMapper::toDomain);
+  }
+
+  @Override
+  public Page<SchoolSummaryView> searchSummariesByName(String q, Pageable pageable) {
+    return repo.searchSummaries(LikePatterns.containing(q), pageable)
+        .map(SchoolEntityMapper::toSummaryView);
+  }
+
+  @Override
+  public List<SchoolSummaryView> searchSummariesByNameAfter(
+      String q, KeysetCursor after, int limit) {
+    String pattern = LikePatterns.containing(q);
+    Pageable window = PageRequest.of(0, limit);
+    var rows =
+        after == null
+            ? repo.searchSummariesFirst(pattern, window)
+            : repo.searchSummariesAfter(pattern, after.name(), after.id(), window);
+    return rows.stream().map(SchoolEntityMapper::toSummaryView).toList();
+  }
+
+  @Override
+  public List<SchoolSummaryView> searchAvailableAfter(
+      String q, int minSpots, AvailabilityCursor after, int limit) {
+    String pattern = LikePatterns.containing(q);
+    var rows =
+        after == null
+            ? repo.searchAvailableFirst(pattern, minSpots, limit)
+            : repo.searchAvailableAfter(
+                pattern, minSpots, after.availableSpots(), after.id(), limit);
+    return rows.stream().map(SchoolEntityMapper::toSummaryView).toList();
+  }
+
+  @Override
+  public void forEachSummary(Consumer<SchoolSummaryView> action) {
+    try (Stream<SchoolSummaryRow> rows = repo.streamSummaries()) {
+      rows.map(SchoolEntityMapper::toSummaryView).forEach(action);
+    }
   }
 
   /* ---------- Writes ---------- */
@@ -40,14 +96,40 @@ public class SchoolJpaRepository implements SchoolRepositoryPort {
   @Transactional
   @Override
   public School save(School school) {
-    SchoolEntity saved = repo.save(SchoolEntityMapper.toEntity(school));
+    // Flushed here so a name taken concurrently surfaces as a domain error, not at commit
+    SchoolEntity saved;
+    try {
+      saved = repo.saveAndFlush(SchoolEntityMapper.toEntity(school));
+    } catch (DataIntegrityViolationException e) {
+      if (SchoolNameConstraint.isViolatedBy(e)) {
+        throw new DuplicateNameException();
+      }
+      throw e;
+    }
     return SchoolEntityMapper.toDomain(saved);
   }
 
   @Transactional
   @Override
-  public void deleteById(UUID id) {
-    repo.deleteById(id);
+  public void deleteById(UUID id, long expectedVersion) {
+    // Bulk DELETEs bypass the cascade, so a 2000-student school costs two statements, not 2001
+    repo.deleteStudentsBySchoolId(id);
+    int deleted;
+    try {
+      deleted = repo.deleteByIdAndVersion(id, expectedVersion);
+    } catch (DataIntegrityViolationException e) {
+      // An enrollment committed a student between the two DELETEs, so the school row still has
+      // a roster (students foreign key): the school changed under us, the same conflict as below
+      throw new ObjectOptimisticLockingFailureException(SchoolEntity.class, id, e);
+    }
+    if (deleted == 0) {
+      throw new ObjectOptimisticLockingFailureException(SchoolEntity.class, id);
+    }
+  }
+
+  @Override
+  public Optional<Long> findVersionById(UUID id) {
+    return repo.findVersionById(id);
   }
 
   @Override
@@ -60,6 +142,38 @@ public class SchoolJpaRepository implements SchoolRepositoryPort {
     return repo.countStudentsBySchoolId(schoolId);
   }
 
+  @Override
+  public boolean existsById(UUID id) {
+    return repo.existsById(id);
+  }
+
+  @Transactional
+  @Override
+  public boolean tryReserveSeat(UUID schoolId) {
+    return repo.reserveSeat(schoolId) == 1;
+  }
+
+  @Transactional
+  @Override
+  public void releaseSeat(UUID schoolId) {
+    repo.releaseSeat(schoolId);
+  }
+
+  @Transactional
+  @Override
+  public int reserveSeats(UUID schoolId, int requested) {
+    // The row lock makes read-then-add safe; bulk callers pay it once per batch
+    SchoolEntity school =
+        repo.findByIdBasicForUpdate(schoolId)
+            .orElseThrow(() -> new NotFoundException("School", schoolId.toString()));
+    int available = school.getCapacity().value() - school.getEnrolledCount();
+    int granted = Math.max(0, Math.min(requested, available));
+    if (granted > 0) {
+      repo.addSeats(schoolId, granted);
+    }
+    return granted;
+  }
+
   @Override
   public Optional<School> findByIdBasic(UUID id) {
     return repo.findByIdBasic(id).map(SchoolEntityMapper::toDomain);
@@ -0,0 +1,29 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
+
+import java.util.Locale;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/** Recognizes violations of the case-insensitive unique school name constraint (TASK-005). */
+public final class SchoolNameConstraint {
+
+  public static final String INDEX_NAME = "uq_schools_lower_name";
+
+  private SchoolNameConstraint() {}
+
+  public static boolean isViolatedBy(DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      String violated =
+          cause instanceof ConstraintViolationException constraint
+              ? constraint.getConstraintName()
+              : cause.getMessage();
+      if (violated != null && violated.toLowerCase(Locale.ROOT).contains(INDEX_NAME)) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+}
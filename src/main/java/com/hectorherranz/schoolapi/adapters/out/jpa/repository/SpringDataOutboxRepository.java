@@ -0,0 +1,27 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataOutboxRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+  // Lock timeout -2 is Hibernate's SKIP LOCKED: concurrent relays (other instances) each take
+  // the oldest rows nobody else holds instead of queueing behind one another. Ordered by
+  // occurred_at, not id, since ids are random under schoolapi.ids.uuid-version=4; the id only
+  // breaks ties, and idx_outbox_events_occurred_at (TASK-006) serves the whole key
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+  @Query("SELECT e FROM OutboxEventEntity e ORDER BY e.occurredAt, e.id")
+  List<OutboxEventEntity> lockOldest(Limit limit);
+}
@@ -1,23 +1,144 @@
 package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.AvailableSchoolRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.FillBucketRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.SchoolDetailRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.SchoolOccupancyRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.SchoolSummaryRow;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SpringDataSchoolRepository extends JpaRepository<SchoolEntity, UUID> {
 
-  boolean existsByNameIgnoreCase(String name);
+  /**
+   * Query space declared by the native seat-counter UPDATEs: the real schools table, so Hibernate
+   * invalidates the school region and the name lookups cached against it, both when the statement
+   * runs and again once the transaction completes. Without a space it would clear every region,
+   * students included.
+   */
+  String SEAT_COUNTER_SPACE = "schools";
 
-  Page<SchoolEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
+  // Served from the query cache until the schools table changes through Hibernate. Compares
+  // lower_name, the column uq_schools_lower_name keeps unique (TASK-005)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query(
+      "SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM SchoolEntity s"
+          + " WHERE s.lowerName = LOWER(:name)")
+  boolean existsByNameIgnoreCase(@Param("name") String name);
+
+  // Name filter warm-up: keyset pages in lower_name order, an index range scan per page
+  @Query(
+      "SELECT s.lowerName FROM SchoolEntity s WHERE s.lowerName > :after"
+          + " ORDER BY s.lowerName")
+  List<String> findLowerNamesAfter(@Param("after") String after, Pageable limit);
+
+  // Native so the predicate is exactly lower(name) LIKE, the expression idx_schools_name_trgm
+  // indexes on PostgreSQL (TASK-003)
+  @Query(
+      value =
+          "SELECT * FROM schools s WHERE lower(s.name) LIKE :pattern ESCAPE '\\'"
+              + " ORDER BY s.name, s.id",
+      countQuery = "SELECT COUNT(*) FROM schools s WHERE lower(s.name) LIKE :pattern ESCAPE '\\'",
+      nativeQuery = true)
+  Page<SchoolEntity> searchByNamePattern(@Param("pattern") String pattern, Pageable pageable);
+
+  // Search read model: one statement per page (plus the count query), counts come from the
+  // enrolled_count column. Hibernate renders LOWER(s.name) LIKE verbatim, so these also hit
+  // idx_schools_name_trgm.
+  @Query(
+      value =
+          "SELECT s.id AS id, s.name AS name, s.capacity AS capacity,"
+              + " s.enrolledCount AS enrolledCount"
+              + " FROM SchoolEntity s"
+              + " WHERE LOWER(s.name) LIKE :pattern ESCAPE '\\'"
+              + " ORDER BY s.name, s.id",
+      countQuery =
+          "SELECT COUNT(s) FROM SchoolEntity s WHERE LOWER(s.name) LIKE :pattern ESCAPE '\\'")
+  Page<SchoolSummaryRow> searchSummaries(@Param("pattern") String pattern, Pageable pageable);
+
+  // Keyset variants of the search: seek on (name, id) and never count
+  @Query(
+      "SELECT s.id AS id, s.name AS name, s.capacity AS capacity, s.enrolledCount AS enrolledCount"
+          + " FROM SchoolEntity s"
+          + " WHERE LOWER(s.name) LIKE :pattern ESCAPE '\\'"
+          + " ORDER BY s.name, s.id")
+  List<SchoolSummaryRow> searchSummariesFirst(@Param("pattern") String pattern, Pageable limit);
+
+  @Query(
+      "SELECT s.id AS id, s.name AS name, s.capacity AS capacity, s.enrolledCount AS enrolledCount"
+          + " FROM SchoolEntity s"
+          + " WHERE LOWER(s.name) LIKE :pattern ESCAPE '\\'"
+          + " AND (s.name > :afterName OR (s.name = :afterName AND s.id > :afterId))"
+          + " ORDER BY s.name, s.id")
+  List<SchoolSummaryRow> searchSummariesAfter(
+      @Param("pattern") String pattern,
+      @Param("afterName") String afterName,
+      @Param("afterId") UUID afterId,
+      Pageable limit);
+
+  // Availability search: seek on (capacity - enrolled_count DESC, id) and never count. Native so
+  // the order is exactly the expression idx_schools_available_spots indexes on PostgreSQL
+  // (TASK-007); the enrolled_count < capacity conjunct matches its partial predicate whatever
+  // minSpots is bound to.
+  @Query(
+      value =
+          "SELECT s.id AS id, s.name AS name, s.capacity AS capacity,"
+              + " s.enrolled_count AS enrolledCount"
+              + " FROM schools s"
+              + " WHERE s.enrolled_count < s.capacity"
+              + " AND s.capacity - s.enrolled_count >= :minSpots"
+              + " AND lower(s.name) LIKE :pattern ESCAPE '\\'"
+              + " ORDER BY s.capacity - s.enrolled_count DESC, s.id"
+              + " LIMIT :limit",
+      nativeQuery = true)
+  List<AvailableSchoolRow> searchAvailableFirst(
+      @Param("pattern") String pattern, @Param("minSpots") int minSpots, @Param("limit") int limit);
+
+  @Query(
+      value =
+          "SELECT s.id AS id, s.name AS name, s.capacity AS capacity,"
+              + " s.enrolled_count AS enrolledCount"
+              + " FROM schools s"
+              + " WHERE s.enrolled_count < s.capacity"
+              + " AND s.capacity - s.enrolled_count >= :minSpots"
+              + " AND lower(s.name) LIKE :pattern ESCAPE '\\'"
+              + " AND (s.capacity - s.enrolled_count < :afterSpots"
+              + " OR (s.capacity - s.enrolled_count = :afterSpots AND s.id > :afterId))"
+              + " ORDER BY s.capacity - s.enrolled_count DESC, s.id"
+              + " LIMIT :limit",
+      nativeQuery = true)
+  List<AvailableSchoolRow> searchAvailableAfter(
+      @Param("pattern") String pattern,
+      @Param("minSpots") int minSpots,
+      @Param("afterSpots") int afterSpots,
+      @Param("afterId") UUID afterId,
+      @Param("limit") int limit);
+
+  // Tenant export: projections only, so nothing enters the persistence context
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_FETCH_SIZE,
+          value = SpringDataStudentRepository.EXPORT_FETCH_SIZE))
+  @Query(
+      "SELECT s.id AS id, s.name AS name, s.capacity AS capacity, s.enrolledCount AS enrolledCount"
+          + " FROM SchoolEntity s ORDER BY s.name, s.id")
+  Stream<SchoolSummaryRow> streamSummaries();
 
   @Query("SELECT s FROM SchoolEntity s LEFT JOIN FETCH s.studentsById WHERE s.id = :id")
   Optional<SchoolEntity> findByIdWithStudentsOnly(@Param("id") UUID id);
@@ -25,9 +146,88 @@ public interface SpringDataSchoolRepository extends JpaRepository<SchoolEntity,
   @Query("SELECT COUNT(s) FROM StudentEntity s WHERE s.school.id = :schoolId")
   int countStudentsBySchoolId(@Param("schoolId") UUID schoolId);
 
+  // Set-based school delete: a version probe, then one DELETE per table. Hibernate invalidates
+  // the cached regions of both entities after bulk statements like these.
+  @Query("SELECT s.version FROM SchoolEntity s WHERE s.id = :id")
+  Optional<Long> findVersionById(@Param("id") UUID id);
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM StudentEntity st WHERE st.school.id = :schoolId")
+  int deleteStudentsBySchoolId(@Param("schoolId") UUID schoolId);
+
+  @Modifying(clearAutomatically = true) // drops the now-deleted rows from the persistence context
+  @Query("DELETE FROM SchoolEntity s WHERE s.id = :id AND s.version = :version")
+  int deleteByIdAndVersion(@Param("id") UUID id, @Param("version") long version);
+
+  // Detail read model: a primary-key lookup, the count is the maintained enrolled_count column
+  @Query(
+      "SELECT s.id AS id, s.name AS name, s.capacity AS capacity, s.enrolledCount AS enrolledCount"
+          + " FROM SchoolEntity s WHERE s.id = :id")
+  Optional<SchoolDetailRow> findDetailById(@Param("id") UUID id);
+
   @Query("SELECT s FROM SchoolEntity s WHERE s.id = :id")
   Optional<SchoolEntity> findByIdBasic(@Param("id") UUID id);
 
+  // Seat reservation: one conditional UPDATE, so concurrent enrollments cannot overshoot capacity
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEAT_COUNTER_SPACE))
+  @Query(
+      value =
+          "UPDATE schools SET enrolled_count = enrolled_count + 1"
+              + " WHERE id = :id AND enrolled_count < capacity",
+      nativeQuery = true)
+  int reserveSeat(@Param("id") UUID id);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEAT_COUNTER_SPACE))
+  @Query(
+      value = "UPDATE schools SET enrolled_count = enrolled_count + :seats WHERE id = :id",
+      nativeQuery = true)
+  int addSeats(@Param("id") UUID id, @Param("seats") int seats);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEAT_COUNTER_SPACE))
+  @Query(
+      value =
+          "UPDATE schools SET enrolled_count = enrolled_count - 1"
+              + " WHERE id = :id AND enrolled_count > 0",
+      nativeQuery = true)
+  int releaseSeat(@Param("id") UUID id);
+
+  // Drift verification: schools whose counter disagrees with their roster
+  @Query(
+      value =
+          "SELECT s.id FROM schools s"
+              + " WHERE s.enrolled_count <>"
+              + " (SELECT COUNT(*) FROM students st WHERE st.school_id = s.id)",
+      nativeQuery = true)
+  List<UUID> findSchoolIdsWithEnrolledCountDrift();
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SEAT_COUNTER_SPACE))
+  @Query(value = "UPDATE schools SET enrolled_count = :count WHERE id = :id", nativeQuery = true)
+  int overwriteEnrolledCount(@Param("id") UUID id, @Param("count") int count);
+
+  // Occupancy statistics check: schools per fill-rate decile (10 = full), one grouped scan of
+  // schools that never reads students
+  @Query(
+      value =
+          "SELECT LEAST(s.enrolled_count * 10 / s.capacity, 10) AS bucket, COUNT(*) AS schools,"
+              + " SUM(s.enrolled_count) AS enrolled, SUM(s.capacity) AS capacity"
+              + " FROM schools s GROUP BY LEAST(s.enrolled_count * 10 / s.capacity, 10)",
+      nativeQuery = true)
+  List<FillBucketRow> countSchoolsByFillBucket();
+
+  // Occupancy statistics load: three columns per school, streamed
+  @QueryHints(
+      @QueryHint(
+          name = HibernateHints.HINT_FETCH_SIZE,
+          value = SpringDataStudentRepository.EXPORT_FETCH_SIZE))
+  @Query(
+      "SELECT s.id AS id, s.capacity AS capacity, s.enrolledCount AS enrolledCount"
+          + " FROM SchoolEntity s")
+  Stream<SchoolOccupancyRow> streamOccupancy();
+
   // New method for selective loading (basic school data only)
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query("SELECT s FROM SchoolEntity s WHERE s.id = :id")
@@ -1,26 +1,92 @@
 package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.StudentEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.StudentNameRow;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SpringDataStudentRepository extends JpaRepository<StudentEntity, UUID> {
 
-  Page<StudentEntity> findBySchoolIdAndNameContainingIgnoreCase(
-      UUID schoolId, String name, Pageable pageable);
+  String EXPORT_FETCH_SIZE = "1000";
+
+  // Native so the predicate is exactly lower(name) LIKE, the expression idx_students_name_trgm
+  // indexes on PostgreSQL (TASK-003); the derived ContainingIgnoreCase form is not guaranteed to be
+  @Query(
+      value =
+          "SELECT * FROM students st"
+              + " WHERE st.school_id = :schoolId AND lower(st.name) LIKE :pattern ESCAPE '\\'"
+              + " ORDER BY st.name, st.id",
+      countQuery =
+          "SELECT COUNT(*) FROM students st"
+              + " WHERE st.school_id = :schoolId AND lower(st.name) LIKE :pattern ESCAPE '\\'",
+      nativeQuery = true)
+  Page<StudentEntity> searchByNamePattern(
+      @Param("schoolId") UUID schoolId, @Param("pattern") String pattern, Pageable pageable);
+
+  // Keyset search within a school: seek on (name, id), served by idx_students_school_id_name
+  @Query(
+      "SELECT st FROM StudentEntity st"
+          + " WHERE st.school.id = :schoolId AND LOWER(st.name) LIKE :pattern ESCAPE '\\'"
+          + " ORDER BY st.name, st.id")
+  List<StudentEntity> searchFirst(
+      @Param("schoolId") UUID schoolId, @Param("pattern") String pattern, Pageable limit);
+
+  @Query(
+      "SELECT st FROM StudentEntity st"
+          + " WHERE st.school.id = :schoolId AND LOWER(st.name) LIKE :pattern ESCAPE '\\'"
+          + " AND (st.name > :afterName OR (st.name = :afterName AND st.id > :afterId))"
+          + " ORDER BY st.name, st.id")
+  List<StudentEntity> searchAfter(
+      @Param("schoolId") UUID schoolId,
+      @Param("pattern") String pattern,
+      @Param("afterName") String afterName,
+      @Param("afterId") UUID afterId,
+      Pageable limit);
+
+  // Roster load for the in-process name index: ids and names only, no entity hydration
+  @Query("SELECT st.id AS id, st.name AS name FROM StudentEntity st WHERE st.school.id = :schoolId")
+  List<StudentNameRow> findNamesBySchoolId(@Param("schoolId") UUID schoolId);
+
+  // Exports: forward-only cursors fetched EXPORT_FETCH_SIZE rows at a time, read-only so Hibernate
+  // keeps no snapshots. Callers must consume them inside a transaction and close them.
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT st FROM StudentEntity st WHERE st.school.id = :schoolId ORDER BY st.name, st.id")
+  Stream<StudentEntity> streamBySchoolId(@Param("schoolId") UUID schoolId);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT st FROM StudentEntity st")
+  Stream<StudentEntity> streamAll();
 
   // Optimized methods for school validation
   Optional<StudentEntity> findByIdAndSchoolId(UUID studentId, UUID schoolId);
 
   boolean existsByIdAndSchoolId(UUID studentId, UUID schoolId);
 
+  // Conditional delete: the row count tells concurrent deletes of one student apart, only one of
+  // them sees 1
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM StudentEntity st WHERE st.id = :studentId AND st.school.id = :schoolId")
+  int deleteByIdAndSchoolId(@Param("studentId") UUID studentId, @Param("schoolId") UUID schoolId);
+
   // New method for selective loading
   @Query("SELECT st FROM StudentEntity st WHERE st.id = :studentId AND st.school.id = :schoolId")
   Optional<StudentEntity> findStudentByIdAndSchoolId(
@@ -3,20 +3,28 @@ package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.StudentEntity;
 import com.hectorherranz.schoolapi.adapters.out.jpa.mapper.StudentEntityMapper;
 import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.Student;
+import jakarta.persistence.EntityManager;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
 public class StudentJpaRepository implements StudentRepositoryPort {
 
   private final SpringDataStudentRepository repo;
+  private final EntityManager entityManager;
 
-  public StudentJpaRepository(SpringDataStudentRepository repo) {
+  public StudentJpaRepository(SpringDataStudentRepository repo, EntityManager entityManager) {
     this.repo = repo;
+    this.entityManager = entityManager;
   }
 
   /* ---------- Reads ---------- */
@@ -28,10 +36,42 @@ public class StudentJpaRepository implements StudentRepositoryPort {
 
   @Override
   public Page<Student> search(UUID schoolId, String q, Pageable pageable) {
-    return repo.findBySchoolIdAndNameContainingIgnoreCase(schoolId, q, pageable)
+    return repo.searchByNamePattern(schoolId, LikePatterns.containing(q), pageable)
         .map(StudentEntityMapper::toDomain);
   }
 
+  @Override
+  public List<Student> searchAfter(UUID schoolId, String q, KeysetCursor after, int limit) {
+    String pattern = LikePatterns.containing(q);
+    Pageable window = PageRequest.of(0, limit);
+    var rows =
+        after == null
+            ? repo.searchFirst(schoolId, pattern, window)
+            : repo.searchAfter(schoolId, pattern, after.name(), after.id(), window);
+    return rows.stream().map(StudentEntityMapper::toDomain).toList();
+  }
+
+  @Override
+  public void forEachInSchool(UUID schoolId, Consumer<Student> action) {
+    try (Stream<StudentEntity> rows = repo.streamBySchoolId(schoolId)) {
+      rows.forEach(entity -> emitAndDetach(entity, action));
+    }
+  }
+
+  @Override
+  public void forEachStudent(Consumer<Student> action) {
+    try (Stream<StudentEntity> rows = repo.streamAll()) {
+      rows.forEach(entity -> emitAndDetach(entity, action));
+    }
+  }
+
+  // Detaching as we go keeps the persistence context, and so the heap, flat over long cursors
+  private void emitAndDetach(StudentEntity entity, Consumer<Student> action) {
+    Student student = StudentEntityMapper.toDomain(entity);
+    entityManager.detach(entity);
+    action.accept(student);
+  }
+
   /* ---------- Writes ---------- */
 
   @Transactional
@@ -48,8 +88,8 @@ public class StudentJpaRepository implements StudentRepositoryPort {
 
   @Transactional
   @Override
-  public void deleteById(UUID id) {
-    repo.deleteById(id);
+  public int deleteByIdAndSchoolId(UUID studentId, UUID schoolId) {
+    return repo.deleteByIdAndSchoolId(studentId, schoolId);
   }
 
   @Override
@@ -0,0 +1,80 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.service;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Verification job for the denormalized {@code schools.enrolled_count} column.
+ *
+ * <p>Finds schools whose counter disagrees with their roster and rewrites it from a fresh count.
+ * Each repair locks the school row first, so the count it writes cannot race an enrollment or
+ * removal that is committing at the same time.
+ */
+@Service
+public class EnrolledCountReconciler {
+
+  private static final Logger log = LoggerFactory.getLogger(EnrolledCountReconciler.class);
+
+  private final SpringDataSchoolRepository schoolRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final SchoolDetailCachePort schoolDetailCache;
+
+  public EnrolledCountReconciler(
+      SpringDataSchoolRepository schoolRepository,
+      TransactionTemplate transactionTemplate,
+      SchoolDetailCachePort schoolDetailCache) {
+    this.schoolRepository = schoolRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.schoolDetailCache = schoolDetailCache;
+  }
+
+  @Scheduled(
+      initialDelayString = "${schoolapi.enrolled-count.verify-interval:PT1H}",
+      fixedDelayString = "${schoolapi.enrolled-count.verify-interval:PT1H}")
+  public void verifyOnSchedule() {
+    int repaired = reconcile();
+    if (repaired > 0) {
+      log.warn("Repaired enrolled_count drift on {} school(s)", repaired);
+    }
+  }
+
+  /** Detects drifted schools and repairs each in its own transaction; returns how many changed. */
+  public int reconcile() {
+    List<UUID> drifted = schoolRepository.findSchoolIdsWithEnrolledCountDrift();
+    int repaired = 0;
+    for (UUID schoolId : drifted) {
+      if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repair(schoolId)))) {
+        repaired++;
+      }
+    }
+    return repaired;
+  }
+
+  private boolean repair(UUID schoolId) {
+    // Lock first: in-flight seat updates finish before the count below is taken
+    SchoolEntity school = schoolRepository.findByIdBasicForUpdate(schoolId).orElse(null);
+    if (school == null) {
+      return false; // deleted since detection
+    }
+    int actual = schoolRepository.countStudentsBySchoolId(schoolId);
+    if (school.getEnrolledCount() == actual) {
+      return false; // already consistent again (changed since detection)
+    }
+    log.warn(
+        "School {} enrolled_count was {} but has {} students",
+        schoolId,
+        school.getEnrolledCount(),
+        actual);
+    schoolRepository.overwriteEnrolledCount(schoolId, actual);
+    schoolDetailCache.evict(schoolId);
+    return true;
+  }
+}
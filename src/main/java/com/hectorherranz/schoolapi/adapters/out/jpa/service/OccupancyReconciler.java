@@ -0,0 +1,97 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.service;
+
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher;
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.SchoolOccupancyRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.adapters.out.stats.OccupancyAggregate;
+import com.hectorherranz.schoolapi.adapters.out.stats.OccupancyAggregate.BucketRow;
+import com.hectorherranz.schoolapi.adapters.out.stats.OccupancyAggregate.SchoolRow;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Loads the {@link OccupancyAggregate} at startup and keeps it honest afterwards.
+ *
+ * <p>Each run issues one grouped query over {@code schools} and compares its totals with the
+ * aggregate. Events for commits the query already sees may still be queued on the bus, so one
+ * disagreement proves nothing; only when two runs in a row disagree is the aggregate reloaded, by
+ * streaming three columns per school. The reload is tagged with the bus sequence read before it
+ * starts, so queued events it already includes are not applied again. The counts come from the
+ * maintained {@code enrolled_count} column, which {@link EnrolledCountReconciler} verifies against
+ * the rosters.
+ */
+@Service
+public class OccupancyReconciler {
+
+  private static final Logger log = LoggerFactory.getLogger(OccupancyReconciler.class);
+
+  private final SpringDataSchoolRepository schoolRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final OccupancyAggregate aggregate;
+  private final RingBufferEventPublisher eventBus;
+
+  // Whether the previous check disagreed; the scheduler runs one check at a time
+  private boolean driftSuspected;
+
+  public OccupancyReconciler(
+      SpringDataSchoolRepository schoolRepository,
+      TransactionTemplate transactionTemplate,
+      OccupancyAggregate aggregate,
+      RingBufferEventPublisher eventBus) {
+    this.schoolRepository = schoolRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.aggregate = aggregate;
+    this.eventBus = eventBus;
+  }
+
+  @Scheduled(fixedDelayString = "${schoolapi.stats.occupancy.reconcile-interval:PT5M}")
+  public void reconcileOnSchedule() {
+    reconcile();
+  }
+
+  /**
+   * Loads the aggregate, or checks it and reloads it on drift seen twice in a row; returns whether
+   * it was loaded.
+   */
+  public synchronized boolean reconcile() {
+    if (aggregate.isLoaded()) {
+      List<BucketRow> buckets =
+          schoolRepository.countSchoolsByFillBucket().stream()
+              .map(
+                  row ->
+                      new BucketRow(
+                          row.getBucket(), row.getSchools(), row.getEnrolled(), row.getCapacity()))
+              .toList();
+      if (aggregate.agreesWith(buckets)) {
+        driftSuspected = false;
+        return false;
+      }
+      if (!driftSuspected) {
+        // Possibly events still queued on the bus; confirm on the next run
+        driftSuspected = true;
+        return false;
+      }
+      log.warn("Occupancy statistics drifted from the schools table; reloading them");
+    }
+    // Read before the load: events up to here were committed before it and are already in it
+    long loadedThrough = eventBus.publishedSequence();
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          try (Stream<SchoolOccupancyRow> rows = schoolRepository.streamOccupancy()) {
+            aggregate.reload(
+                rows.map(
+                    row ->
+                        new SchoolRow(
+                            row.getId(), row.getCapacity().value(), row.getEnrolledCount())),
+                loadedThrough);
+          }
+        });
+    driftSuspected = false;
+    return true;
+  }
+}
@@ -1,12 +1,17 @@
 package com.hectorherranz.schoolapi.adapters.out.jpa.service;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.mapper.SchoolEntityMapper;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SchoolNameConstraint;
 import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,16 +29,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class SchoolInfrastructureService {
 
   private final SpringDataSchoolRepository schoolRepository;
+  private final SchoolNameFilterPort schoolNameFilter;
 
-  public SchoolInfrastructureService(SpringDataSchoolRepository schoolRepository) {
+  public SchoolInfrastructureService(
+      SpringDataSchoolRepository schoolRepository, SchoolNameFilterPort schoolNameFilter) {
     this.schoolRepository = schoolRepository;
+    this.schoolNameFilter = schoolNameFilter;
   }
 
   /**
    * Optimized update operation that leverages Hibernate session. Works directly with entities to
-   * maximize performance.
+   * maximize performance. Returns the updated school from the locked row, so callers need not
+   * read it back.
    */
-  public void updateSchoolOptimized(
+  public SchoolDetailView updateSchoolOptimized(
       UUID schoolId, Optional<String> newName, Optional<Integer> newCapacity) {
     // Load entity directly with pessimistic lock (stays in Hibernate session)
     SchoolEntity school =
@@ -44,8 +53,10 @@ public class SchoolInfrastructureService {
     // Update name if provided
     newName.ifPresent(
         name -> {
-          // Check for duplicate name (excluding current school)
+          // Check for duplicate name (excluding current school); the filter skips the lookup
+          // for names that are certainly free
           if (!name.equalsIgnoreCase(school.getName())
+              && schoolNameFilter.mightExist(name)
               && schoolRepository.existsByNameIgnoreCase(name)) {
             throw new DuplicateNameException();
           }
@@ -55,8 +66,8 @@ public class SchoolInfrastructureService {
     // Update capacity if provided
     newCapacity.ifPresent(
         capacity -> {
-          // Use count query to get actual enrollment instead of relying on loaded students
-          int currentEnrollment = schoolRepository.countStudentsBySchoolId(schoolId);
+          // The row is locked, so the seat counter cannot move until this transaction ends
+          int currentEnrollment = school.getEnrolledCount();
           Capacity newCapacityValue = new Capacity(capacity);
 
           // Validate capacity against actual enrollment
@@ -69,7 +80,23 @@ public class SchoolInfrastructureService {
           school.setCapacity(newCapacityValue);
         });
 
-    // Hibernate automatically detects changes and persists them
-    // No need to explicitly save - transaction commit will handle it
+    // Hibernate automatically detects changes and persists them; a rename is flushed here so a
+    // name taken concurrently surfaces as a domain error instead of failing the commit
+    if (newName.isPresent()) {
+      flushName();
+    }
+    return SchoolEntityMapper.toDetailView(school);
+  }
+
+  // Translates a violation of the unique name index into the domain error
+  private void flushName() {
+    try {
+      schoolRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      if (SchoolNameConstraint.isViolatedBy(e)) {
+        throw new DuplicateNameException();
+      }
+      throw e;
+    }
   }
 }
@@ -7,7 +7,11 @@ import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolR
 import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataStudentRepository;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.Student;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,19 +30,27 @@ public class StudentInfrastructureService {
 
   private final SpringDataStudentRepository studentRepository;
   private final SpringDataSchoolRepository schoolRepository;
+  private final EntityManager entityManager;
+  private final int batchSize;
 
   public StudentInfrastructureService(
-      SpringDataStudentRepository studentRepository, SpringDataSchoolRepository schoolRepository) {
+      SpringDataStudentRepository studentRepository,
+      SpringDataSchoolRepository schoolRepository,
+      EntityManager entityManager,
+      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
     this.studentRepository = studentRepository;
     this.schoolRepository = schoolRepository;
+    this.entityManager = entityManager;
+    this.batchSize = batchSize;
   }
 
   /**
    * Optimized update operation that leverages Hibernate session. Works directly with entities to
-   * maximize performance.
+   * maximize performance. The school row is neither read nor locked: the lookup is already scoped
+   * to the school and the student's version guards concurrent renames.
    */
   public void updateStudentOptimized(UUID studentId, UUID schoolId, String newName) {
-    // Load entities directly (stays in Hibernate session)
+    // Load entity directly (stays in Hibernate session)
     StudentEntity student =
         studentRepository
             .findStudentByIdAndSchoolId(studentId, schoolId)
@@ -48,12 +60,7 @@ public class StudentInfrastructureService {
                         "Student",
                         String.format("Student %s not found in school %s", studentId, schoolId)));
 
-    SchoolEntity school =
-        schoolRepository
-            .findByIdBasicForUpdate(schoolId)
-            .orElseThrow(() -> new NotFoundException("School", schoolId.toString()));
-
-    // Validate student belongs to school
+    // Validate student belongs to school (the id comes from the lazy reference, no SELECT)
     if (!student.getSchool().getId().equals(schoolId)) {
       throw new NotFoundException("Student", "Student does not belong to this school");
     }
@@ -81,22 +88,44 @@ public class StudentInfrastructureService {
       throw new NotFoundException("Student", "Student does not belong to this school");
     }
 
-    // Remove from school's collection (Hibernate handles cascade)
-    student.getSchool().getStudentsById().remove(student.getId());
-
-    // Delete student
+    // Delete student and give its seat back; the school and its roster stay unloaded
     studentRepository.delete(student);
+    schoolRepository.releaseSeat(schoolId);
   }
 
+  /**
+   * Inserts the student under an existing school. Callers establish that the school exists (seat
+   * reservation does), so the school is referenced by id without loading it.
+   */
   public Student createStudent(Student student) {
-    // Get the school entity to establish the relationship
-    SchoolEntity schoolEntity =
-        schoolRepository
-            .findById(student.schoolId())
-            .orElseThrow(() -> new NotFoundException("School", student.schoolId().toString()));
+    SchoolEntity schoolEntity = schoolRepository.getReferenceById(student.schoolId());
 
     StudentEntity entity = StudentEntityMapper.toEntity(student, schoolEntity);
     StudentEntity saved = studentRepository.save(entity);
     return StudentEntityMapper.toDomain(saved);
   }
+
+  /**
+   * Bulk insert for an existing school. Entities are persisted without merge lookups and flushed
+   * every {@code batchSize} rows, so Hibernate sends them as JDBC batches; clearing after each
+   * flush keeps the persistence context from growing with the batch.
+   */
+  public List<Student> createStudents(UUID schoolId, List<Student> students) {
+    List<Student> saved = new ArrayList<>(students.size());
+    SchoolEntity schoolEntity = schoolRepository.getReferenceById(schoolId);
+    for (int i = 0; i < students.size(); i++) {
+      StudentEntity entity = StudentEntityMapper.toEntity(students.get(i), schoolEntity);
+      entityManager.persist(entity);
+      saved.add(StudentEntityMapper.toDomain(entity));
+
+      if ((i + 1) % batchSize == 0) {
+        entityManager.flush();
+        entityManager.clear();
+        schoolEntity = schoolRepository.getReferenceById(schoolId);
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return saved;
+  }
 }
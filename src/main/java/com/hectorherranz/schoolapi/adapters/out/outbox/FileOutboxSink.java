@@ -0,0 +1,64 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each message to a local file as one JSON line ({@code id}, {@code type}, {@code
+ * occurredAt}, {@code payload}), for tests and local runs. Redelivered batches are appended again.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+  private final Path file;
+  private final ObjectMapper objectMapper;
+
+  public FileOutboxSink(Path file, ObjectMapper objectMapper) {
+    this.file = file;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String name() {
+    return "file";
+  }
+
+  @Override
+  public synchronized void deliver(List<OutboxMessage> messages) {
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      try (BufferedWriter writer =
+          Files.newBufferedWriter(
+              file,
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND)) {
+        for (OutboxMessage message : messages) {
+          writer.write(objectMapper.writeValueAsString(line(message)));
+          writer.newLine();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not append outbox events to " + file, e);
+    }
+  }
+
+  private ObjectNode line(OutboxMessage message) throws IOException {
+    ObjectNode line = objectMapper.createObjectNode();
+    line.put("id", message.id().toString());
+    line.put("type", message.type());
+    line.put("occurredAt", message.occurredAt().toString());
+    line.set("payload", objectMapper.readTree(message.payload()));
+    return line;
+  }
+}
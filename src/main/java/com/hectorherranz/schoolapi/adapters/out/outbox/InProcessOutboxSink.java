@@ -0,0 +1,28 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Publishes each message as a Spring application event, for {@code @EventListener
+ * on(OutboxMessage)} methods in this process. Listeners run on the relay thread, after the
+ * originating transaction committed; one that throws has the batch redelivered.
+ */
+public class InProcessOutboxSink implements OutboxSink {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public InProcessOutboxSink(ApplicationEventPublisher applicationEventPublisher) {
+    this.applicationEventPublisher = applicationEventPublisher;
+  }
+
+  @Override
+  public String name() {
+    return "in-process";
+  }
+
+  @Override
+  public void deliver(List<OutboxMessage> messages) {
+    messages.forEach(applicationEventPublisher::publishEvent);
+  }
+}
@@ -0,0 +1,52 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.OutboxEventEntity;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes events to {@code outbox_events} in the caller's transaction, so they commit or roll back
+ * with the change that raised them; {@link OutboxRelay} delivers them afterwards. Costs one
+ * batched insert at flush and no I/O to downstream systems on the request path.
+ */
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxEventPublisher implements DomainEventPublisher {
+
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final IdGeneratorPort idGenerator;
+
+  public OutboxEventPublisher(
+      EntityManager entityManager, ObjectMapper objectMapper, IdGeneratorPort idGenerator) {
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.idGenerator = idGenerator;
+  }
+
+  @Override
+  public void publish(List<? extends DomainEvent> events) {
+    Instant now = Instant.now();
+    for (DomainEvent event : events) {
+      // persist, not merge: the id is new, so no lookup precedes the insert
+      entityManager.persist(
+          new OutboxEventEntity(
+              idGenerator.newId(), event.getClass().getSimpleName(), toJson(event), now));
+    }
+  }
+
+  private String toJson(DomainEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot serialize " + event, e);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.OutboxEventEntity;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A relayed domain event as sinks see it: {@code type} is the event's simple class name (e.g.
+ * {@code StudentEnrolledEvent}) and {@code payload} its JSON. {@code id} is stable across
+ * redeliveries, so consumers can deduplicate on it.
+ */
+public record OutboxMessage(UUID id, String type, String payload, Instant occurredAt) {
+
+  static OutboxMessage of(OutboxEventEntity entity) {
+    return new OutboxMessage(
+        entity.getId(), entity.getEventType(), entity.getPayload(), entity.getOccurredAt());
+  }
+}
@@ -0,0 +1,158 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.OutboxEventEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Background relay from {@code outbox_events} to the configured {@link OutboxSink sinks}.
+ *
+ * <p>Each batch runs in its own transaction: lock the oldest rows with {@code SKIP LOCKED}, hand
+ * them to every sink, delete them. Instances relaying at the same time therefore split the backlog
+ * instead of delivering it twice. A failing sink rolls the batch back, so it stays at the head of
+ * the outbox and is retried on the next poll.
+ *
+ * <p>Metrics:
+ *
+ * <ul>
+ *   <li>{@code schoolapi.outbox.dispatched}: events delivered to every sink (throughput);
+ *   <li>{@code schoolapi.outbox.lag}: time from raising an event to delivering it;
+ *   <li>{@code schoolapi.outbox.oldest.age}: age of the oldest event still waiting as of the last
+ *       poll, zero once drained;
+ *   <li>{@code schoolapi.outbox.failures}: failed batches by sink and exception.
+ * </ul>
+ */
+public class OutboxRelay {
+
+  static final String DISPATCHED = "schoolapi.outbox.dispatched";
+  static final String LAG = "schoolapi.outbox.lag";
+  static final String OLDEST_AGE = "schoolapi.outbox.oldest.age";
+  static final String FAILURES = "schoolapi.outbox.failures";
+
+  // Bounds one poll under sustained load, so other jobs on the scheduler thread still get a turn
+  private static final int MAX_BATCHES_PER_POLL = 50;
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final SpringDataOutboxRepository outboxRepository;
+  private final TransactionOperations transactions;
+  private final List<OutboxSink> sinks;
+  private final int batchSize;
+  private final boolean enabled;
+  private final Clock clock;
+  private final MeterRegistry meterRegistry;
+  private final Counter dispatched;
+  private final Timer lag;
+
+  // Occurred-at of the oldest event left waiting by the last poll; null once drained
+  private volatile Instant oldestPending;
+
+  public OutboxRelay(
+      SpringDataOutboxRepository outboxRepository,
+      TransactionOperations transactions,
+      List<OutboxSink> sinks,
+      int batchSize,
+      boolean enabled,
+      Clock clock,
+      MeterRegistry meterRegistry) {
+    this.outboxRepository = outboxRepository;
+    this.transactions = transactions;
+    this.sinks = List.copyOf(sinks);
+    this.batchSize = batchSize;
+    this.enabled = enabled;
+    this.clock = clock;
+    this.meterRegistry = meterRegistry;
+    this.dispatched =
+        Counter.builder(DISPATCHED)
+            .description("Outbox events delivered to every sink")
+            .baseUnit("events")
+            .register(meterRegistry);
+    this.lag =
+        Timer.builder(LAG)
+            .description("Time from raising an outbox event to delivering it")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    Gauge.builder(OLDEST_AGE, this, relay -> relay.oldestPendingAge().toMillis() / 1000.0)
+        .description("Age of the oldest undelivered outbox event at the last poll")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(
+      initialDelayString = "${schoolapi.outbox.relay.poll-interval:PT1S}",
+      fixedDelayString = "${schoolapi.outbox.relay.poll-interval:PT1S}")
+  public void relayOnSchedule() {
+    if (enabled) {
+      relay();
+    }
+  }
+
+  /**
+   * Delivers batches until the outbox is drained, a batch fails or the per-poll cap is reached;
+   * returns how many events were delivered.
+   */
+  public int relay() {
+    int relayed = 0;
+    for (int batches = 0; batches < MAX_BATCHES_PER_POLL; batches++) {
+      Integer delivered;
+      try {
+        delivered = transactions.execute(status -> relayBatch());
+      } catch (RuntimeException e) {
+        log.warn("Outbox batch failed; it will be retried on the next poll", e);
+        break;
+      }
+      relayed += delivered;
+      if (delivered < batchSize) {
+        break;
+      }
+    }
+    return relayed;
+  }
+
+  private int relayBatch() {
+    List<OutboxEventEntity> rows = outboxRepository.lockOldest(Limit.of(batchSize));
+    if (rows.isEmpty()) {
+      oldestPending = null;
+      return 0;
+    }
+    oldestPending = rows.get(0).getOccurredAt();
+
+    List<OutboxMessage> messages = rows.stream().map(OutboxMessage::of).toList();
+    for (OutboxSink sink : sinks) {
+      try {
+        sink.deliver(messages);
+      } catch (RuntimeException e) {
+        meterRegistry
+            .counter(FAILURES, "sink", sink.name(), "exception", e.getClass().getSimpleName())
+            .increment();
+        throw e;
+      }
+    }
+    outboxRepository.deleteAllInBatch(rows);
+
+    Instant now = clock.instant();
+    messages.forEach(message -> lag.record(Duration.between(message.occurredAt(), now)));
+    dispatched.increment(messages.size());
+    if (rows.size() < batchSize) {
+      oldestPending = null;
+    }
+    return messages.size();
+  }
+
+  Duration oldestPendingAge() {
+    Instant oldest = oldestPending;
+    return oldest == null ? Duration.ZERO : Duration.between(oldest, clock.instant());
+  }
+}
@@ -0,0 +1,17 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import java.util.List;
+
+/**
+ * A destination for relayed events, selected with {@code schoolapi.outbox.sinks}. Delivery is at
+ * least once: a sink that throws fails the whole batch, which every sink then gets again on the
+ * next poll.
+ */
+public interface OutboxSink {
+
+  /** Tag value for this sink's metrics. */
+  String name();
+
+  /** Delivers a batch in raise order. */
+  void deliver(List<OutboxMessage> messages);
+}
@@ -0,0 +1,211 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.adapters.out.support.AfterCommit;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Bloom filter over lower-cased school names, held in memory.
+ *
+ * <p>{@link #warm} loads every existing name in the background, in keyset pages; until the first
+ * load finishes every name might exist. Committed additions are set in place. Renamed or deleted
+ * names keep their bits, which only costs false positives; once more names were added than the
+ * filter was sized for, it is rebuilt from the database at twice the size.
+ */
+public class BloomSchoolNameFilter implements SchoolNameFilterPort, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(BloomSchoolNameFilter.class);
+
+  static final int PAGE_SIZE = 10_000;
+
+  private final SpringDataSchoolRepository schoolRepository;
+  private final Executor loader;
+  private final ExecutorService ownedLoader;
+  private final long expectedNames;
+  private final double falsePositiveRate;
+
+  // null until the first load finishes
+  private volatile Bits current;
+  // Also receives committed additions while a load runs, so the swap does not lose them
+  private volatile Bits building;
+  private final AtomicBoolean loading = new AtomicBoolean();
+
+  public BloomSchoolNameFilter(
+      SpringDataSchoolRepository schoolRepository, long expectedNames, double falsePositiveRate) {
+    this(schoolRepository, newLoader(), expectedNames, falsePositiveRate);
+  }
+
+  BloomSchoolNameFilter(
+      SpringDataSchoolRepository schoolRepository,
+      Executor loader,
+      long expectedNames,
+      double falsePositiveRate) {
+    this.schoolRepository = schoolRepository;
+    this.loader = loader;
+    this.ownedLoader = loader instanceof ExecutorService service ? service : null;
+    this.expectedNames = expectedNames;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  /** Starts loading the existing names in the background. */
+  public void warm() {
+    reload(expectedNames);
+  }
+
+  @Override
+  public boolean mightExist(String name) {
+    Bits bits = current;
+    return bits == null || bits.mightContain(key(name));
+  }
+
+  @Override
+  public void nameAdded(String name) {
+    String key = key(name);
+    AfterCommit.run(() -> add(key));
+  }
+
+  @Override
+  public void close() {
+    if (ownedLoader != null) {
+      ownedLoader.shutdownNow();
+    }
+  }
+
+  /* ---------- Internals ---------- */
+
+  private void add(String key) {
+    Bits next = building;
+    if (next != null) {
+      next.put(key);
+    }
+    Bits bits = current;
+    if (bits != null && bits.put(key) > bits.capacity) {
+      reload(bits.capacity * 2); // saturated: the false positive rate climbs from here on
+    }
+  }
+
+  private void reload(long capacity) {
+    if (!loading.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      loader.execute(() -> loadNow(capacity));
+    } catch (RejectedExecutionException e) {
+      loading.set(false);
+    }
+  }
+
+  private void loadNow(long capacity) {
+    try {
+      Bits bits = new Bits(capacity, falsePositiveRate);
+      building = bits;
+      String after = "";
+      List<String> page;
+      do {
+        page = schoolRepository.findLowerNamesAfter(after, PageRequest.of(0, PAGE_SIZE));
+        for (String name : page) {
+          bits.put(key(name));
+        }
+        if (!page.isEmpty()) {
+          after = page.get(page.size() - 1);
+        }
+      } while (page.size() == PAGE_SIZE);
+
+      current = bits;
+      log.info("School name filter loaded {} names (sized for {})", bits.count(), capacity);
+    } catch (RuntimeException e) {
+      log.warn("Could not load school names; duplicate checks use the database", e);
+    } finally {
+      building = null;
+      loading.set(false);
+    }
+  }
+
+  private static String key(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  private static ExecutorService newLoader() {
+    return Executors.newSingleThreadExecutor(
+        runnable -> {
+          Thread thread = new Thread(runnable, "school-name-filter-loader");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /** Fixed-size bit set with {@code hashes} probes per key from two 64-bit hashes. */
+  static final class Bits {
+
+    private final AtomicLongArray words;
+    private final long size;
+    private final int hashes;
+    private final long capacity;
+    private final AtomicLong insertions = new AtomicLong();
+
+    Bits(long capacity, double falsePositiveRate) {
+      double ln2 = Math.log(2);
+      long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+      this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) >>> 6));
+      this.size = words.length() * 64L;
+      this.hashes = Math.max(1, (int) Math.round((double) size / capacity * ln2));
+      this.capacity = capacity;
+    }
+
+    /** Sets the key's bits and returns how many keys were put so far. */
+    long put(String key) {
+      long h1 = hash(key);
+      long h2 = mix(h1) | 1;
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(h1 + i * h2, size);
+        words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+      }
+      return insertions.incrementAndGet();
+    }
+
+    boolean mightContain(String key) {
+      long h1 = hash(key);
+      long h2 = mix(h1) | 1;
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(h1 + i * h2, size);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    long count() {
+      return insertions.get();
+    }
+
+    // FNV-1a over the UTF-16 chars, finished with a mixer so nearby names spread out
+    private static long hash(String key) {
+      long h = 0xcbf29ce484222325L;
+      for (int i = 0; i < key.length(); i++) {
+        h ^= key.charAt(i);
+        h *= 0x100000001b3L;
+      }
+      return mix(h);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+      z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+      z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+      return z ^ (z >>> 31);
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.StudentNameRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataStudentRepository;
+import com.hectorherranz.schoolapi.adapters.out.support.AfterCommit;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Per-school trigram index over student names, held in memory.
+ *
+ * <p>A school is loaded in the background the first time it is searched; until then searches fall
+ * back to the database. Loaded rosters are kept current from the write handlers (after commit) and
+ * reloaded once older than {@code refreshAfter}, which bounds staleness from writes made by other
+ * instances. Loads that overlap a committed write to the same school are discarded and retried.
+ * Schools without students (or ids that match no school) are never installed, so they cannot use
+ * up the {@code maxSchools} slots; searching them stays a cheap database query.
+ */
+public class InMemoryStudentNameIndex implements StudentNameIndexPort, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(InMemoryStudentNameIndex.class);
+
+  private static final int WRITE_STRIPES = 64;
+
+  private final SpringDataStudentRepository studentRepository;
+  private final Executor loader;
+  private final ExecutorService ownedLoader;
+  private final int maxSchools;
+  private final long refreshAfterNanos;
+
+  private final Map<UUID, SchoolRoster> rosters = new ConcurrentHashMap<>();
+  private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+  // Committed writes per stripe of schools; a load is only installed if its stripe did not move
+  private final AtomicLongArray writes = new AtomicLongArray(WRITE_STRIPES);
+  private final Object writeLock = new Object();
+
+  public InMemoryStudentNameIndex(
+      SpringDataStudentRepository studentRepository, int maxSchools, Duration refreshAfter) {
+    this(studentRepository, newLoader(), maxSchools, refreshAfter);
+  }
+
+  InMemoryStudentNameIndex(
+      SpringDataStudentRepository studentRepository,
+      Executor loader,
+      int maxSchools,
+      Duration refreshAfter) {
+    this.studentRepository = studentRepository;
+    this.loader = loader;
+    this.ownedLoader = loader instanceof ExecutorService service ? service : null;
+    this.maxSchools = maxSchools;
+    this.refreshAfterNanos = refreshAfter.toNanos();
+  }
+
+  /* ---------- Reads ---------- */
+
+  @Override
+  public Optional<Page<Student>> search(UUID schoolId, String q, Pageable pageable) {
+    SchoolRoster roster = rosters.get(schoolId);
+    if (roster == null) {
+      load(schoolId);
+      return Optional.empty();
+    }
+    if (System.nanoTime() - roster.loadedAtNanos() > refreshAfterNanos) {
+      load(schoolId); // keep serving the current roster while the reload runs
+    }
+
+    int[] rows = roster.match(q == null ? "" : q.toLowerCase(Locale.ROOT));
+    return Optional.of(page(roster, rows, pageable));
+  }
+
+  /* ---------- Writes (applied after commit) ---------- */
+
+  @Override
+  public void studentSaved(Student student) {
+    AfterCommit.run(
+        () -> apply(student.schoolId(), roster -> roster.with(student.id(), student.name())));
+  }
+
+  @Override
+  public void studentRemoved(UUID schoolId, UUID studentId) {
+    AfterCommit.run(() -> apply(schoolId, roster -> roster.without(studentId)));
+  }
+
+  @Override
+  public void schoolRemoved(UUID schoolId) {
+    AfterCommit.run(() -> apply(schoolId, roster -> null));
+  }
+
+  @Override
+  public void close() {
+    if (ownedLoader != null) {
+      ownedLoader.shutdownNow();
+    }
+  }
+
+  int indexedSchools() {
+    return rosters.size();
+  }
+
+  /* ---------- Internals ---------- */
+
+  private void apply(UUID schoolId, UnaryOperator<SchoolRoster> change) {
+    synchronized (writeLock) {
+      writes.incrementAndGet(stripe(schoolId));
+      rosters.computeIfPresent(schoolId, (id, roster) -> change.apply(roster));
+    }
+  }
+
+  private void load(UUID schoolId) {
+    if (!rosters.containsKey(schoolId) && rosters.size() >= maxSchools) {
+      return; // full: this school keeps using the database
+    }
+    if (!loading.add(schoolId)) {
+      return;
+    }
+    try {
+      loader.execute(() -> loadNow(schoolId));
+    } catch (RejectedExecutionException e) {
+      loading.remove(schoolId);
+    }
+  }
+
+  private void loadNow(UUID schoolId) {
+    try {
+      long writesBefore = writes.get(stripe(schoolId));
+      List<StudentNameRow> rows = studentRepository.findNamesBySchoolId(schoolId);
+      if (rows.isEmpty()) {
+        return; // empty or unknown school: nothing to index, and it would hold a slot
+      }
+      Map<UUID, String> namesById = new HashMap<>(rows.size() * 2);
+      for (StudentNameRow row : rows) {
+        namesById.put(row.getId(), row.getName());
+      }
+      SchoolRoster roster = SchoolRoster.of(schoolId, namesById, System.nanoTime());
+
+      synchronized (writeLock) {
+        if (writes.get(stripe(schoolId)) == writesBefore) {
+          rosters.put(schoolId, roster);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("Could not load student names for school {}; using the database", schoolId, e);
+    } finally {
+      loading.remove(schoolId);
+    }
+  }
+
+  private static Page<Student> page(SchoolRoster roster, int[] rows, Pageable pageable) {
+    int from = 0;
+    int to = rows.length;
+    if (pageable.isPaged()) {
+      from = (int) Math.min(pageable.getOffset(), rows.length);
+      to = Math.min(from + pageable.getPageSize(), rows.length);
+    }
+    List<Student> content = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      content.add(roster.student(rows[i]));
+    }
+    return new PageImpl<>(content, pageable, rows.length);
+  }
+
+  private static int stripe(UUID schoolId) {
+    return schoolId.hashCode() & (WRITE_STRIPES - 1);
+  }
+
+  private static ExecutorService newLoader() {
+    return Executors.newSingleThreadExecutor(
+        runnable -> {
+          Thread thread = new Thread(runnable, "student-name-index-loader");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+}
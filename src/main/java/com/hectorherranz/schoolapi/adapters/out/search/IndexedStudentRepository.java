@@ -0,0 +1,79 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Answers {@link #search} from the in-process name index when the school is loaded, and from the
+ * wrapped repository otherwise. Every other operation goes straight to the delegate.
+ */
+public class IndexedStudentRepository implements StudentRepositoryPort {
+
+  private final StudentRepositoryPort delegate;
+  private final StudentNameIndexPort index;
+
+  public IndexedStudentRepository(StudentRepositoryPort delegate, StudentNameIndexPort index) {
+    this.delegate = delegate;
+    this.index = index;
+  }
+
+  @Override
+  public Page<Student> search(UUID schoolId, String q, Pageable pageable) {
+    return index
+        .search(schoolId, q, pageable)
+        .orElseGet(() -> delegate.search(schoolId, q, pageable));
+  }
+
+  @Override
+  public Optional<Student> findById(UUID id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public List<Student> searchAfter(UUID schoolId, String q, KeysetCursor after, int limit) {
+    return delegate.searchAfter(schoolId, q, after, limit);
+  }
+
+  @Override
+  public void forEachInSchool(UUID schoolId, Consumer<Student> action) {
+    delegate.forEachInSchool(schoolId, action);
+  }
+
+  @Override
+  public void forEachStudent(Consumer<Student> action) {
+    delegate.forEachStudent(action);
+  }
+
+  @Override
+  public Student save(Student student) {
+    return delegate.save(student);
+  }
+
+  @Override
+  public int deleteByIdAndSchoolId(UUID studentId, UUID schoolId) {
+    return delegate.deleteByIdAndSchoolId(studentId, schoolId);
+  }
+
+  @Override
+  public Optional<Student> findByIdAndSchoolId(UUID studentId, UUID schoolId) {
+    return delegate.findByIdAndSchoolId(studentId, schoolId);
+  }
+
+  @Override
+  public boolean existsByIdAndSchoolId(UUID studentId, UUID schoolId) {
+    return delegate.existsByIdAndSchoolId(studentId, schoolId);
+  }
+
+  @Override
+  public Optional<Student> findStudentByIdAndSchoolId(UUID studentId, UUID schoolId) {
+    return delegate.findStudentByIdAndSchoolId(studentId, schoolId);
+  }
+}
@@ -0,0 +1,15 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+
+/** Used when the name filter is disabled: every name is checked against the database. */
+public class NoOpSchoolNameFilter implements SchoolNameFilterPort {
+
+  @Override
+  public boolean mightExist(String name) {
+    return true;
+  }
+
+  @Override
+  public void nameAdded(String name) {}
+}
@@ -0,0 +1,26 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/** Used when the in-process index is disabled: never answers, ignores writes. */
+public class NoOpStudentNameIndex implements StudentNameIndexPort {
+
+  @Override
+  public Optional<Page<Student>> search(UUID schoolId, String q, Pageable pageable) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void studentSaved(Student student) {}
+
+  @Override
+  public void studentRemoved(UUID schoolId, UUID studentId) {}
+
+  @Override
+  public void schoolRemoved(UUID schoolId) {}
+}
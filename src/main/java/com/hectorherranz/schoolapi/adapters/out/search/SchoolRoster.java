@@ -0,0 +1,222 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable trigram index over one school's roster.
+ *
+ * <p>Rows are sorted by (name, id), the order the database search uses, so posting lists (row
+ * numbers in ascending order) are already in result order. Trigrams of the lower-cased names are
+ * packed three UTF-16 chars to a {@code long}; {@code grams} is sorted and {@code postings[k]}
+ * lists the rows containing {@code grams[k]}. Changes produce a new instance.
+ */
+final class SchoolRoster {
+
+  private static final int[] NO_ROWS = new int[0];
+
+  // Matches the database's (name, id) order; uuid columns compare like their hex strings
+  private static final Comparator<Map.Entry<UUID, String>> ROW_ORDER =
+      Map.Entry.<UUID, String>comparingByValue()
+          .thenComparing(entry -> entry.getKey().toString());
+
+  private final UUID schoolId;
+  private final UUID[] ids;
+  private final String[] names;
+  private final String[] lowerNames;
+  private final long[] grams;
+  private final int[][] postings;
+  private final long loadedAtNanos;
+
+  private SchoolRoster(
+      UUID schoolId,
+      UUID[] ids,
+      String[] names,
+      String[] lowerNames,
+      long[] grams,
+      int[][] postings,
+      long loadedAtNanos) {
+    this.schoolId = schoolId;
+    this.ids = ids;
+    this.names = names;
+    this.lowerNames = lowerNames;
+    this.grams = grams;
+    this.postings = postings;
+    this.loadedAtNanos = loadedAtNanos;
+  }
+
+  static SchoolRoster of(UUID schoolId, Map<UUID, String> namesById, long loadedAtNanos) {
+    List<Map.Entry<UUID, String>> rows = new ArrayList<>(namesById.entrySet());
+    rows.sort(ROW_ORDER);
+
+    int size = rows.size();
+    UUID[] ids = new UUID[size];
+    String[] names = new String[size];
+    String[] lowerNames = new String[size];
+    long[][] rowGrams = new long[size][];
+    int totalGrams = 0;
+    for (int row = 0; row < size; row++) {
+      ids[row] = rows.get(row).getKey();
+      names[row] = rows.get(row).getValue();
+      lowerNames[row] = names[row].toLowerCase(Locale.ROOT);
+      rowGrams[row] = distinctGrams(lowerNames[row]);
+      totalGrams += rowGrams[row].length;
+    }
+
+    // Vocabulary: every trigram seen in any row, sorted and de-duplicated
+    long[] all = new long[totalGrams];
+    int offset = 0;
+    for (long[] g : rowGrams) {
+      System.arraycopy(g, 0, all, offset, g.length);
+      offset += g.length;
+    }
+    long[] grams = unique(all);
+
+    // Two passes: size each posting list, then fill it in ascending row order
+    int[] counts = new int[grams.length];
+    for (long[] g : rowGrams) {
+      for (long gram : g) {
+        counts[Arrays.binarySearch(grams, gram)]++;
+      }
+    }
+    int[][] postings = new int[grams.length][];
+    for (int k = 0; k < grams.length; k++) {
+      postings[k] = new int[counts[k]];
+    }
+    int[] fill = new int[grams.length];
+    for (int row = 0; row < size; row++) {
+      for (long gram : rowGrams[row]) {
+        int k = Arrays.binarySearch(grams, gram);
+        postings[k][fill[k]++] = row;
+      }
+    }
+    return new SchoolRoster(schoolId, ids, names, lowerNames, grams, postings, loadedAtNanos);
+  }
+
+  long loadedAtNanos() {
+    return loadedAtNanos;
+  }
+
+  SchoolRoster with(UUID studentId, String name) {
+    Map<UUID, String> namesById = namesById();
+    namesById.put(studentId, name);
+    return of(schoolId, namesById, loadedAtNanos);
+  }
+
+  SchoolRoster without(UUID studentId) {
+    Map<UUID, String> namesById = namesById();
+    if (namesById.remove(studentId) == null) {
+      return this;
+    }
+    return of(schoolId, namesById, loadedAtNanos);
+  }
+
+  /** Rows whose lower-cased name contains {@code lowerQuery}, in (name, id) order. */
+  int[] match(String lowerQuery) {
+    if (lowerQuery.length() < 3) {
+      // Too short to have a trigram; a linear scan over at most a few thousand names is cheap
+      return scan(lowerQuery);
+    }
+
+    long[] queryGrams = distinctGrams(lowerQuery);
+    int[][] lists = new int[queryGrams.length][];
+    for (int i = 0; i < queryGrams.length; i++) {
+      int k = Arrays.binarySearch(grams, queryGrams[i]);
+      if (k < 0) {
+        return NO_ROWS;
+      }
+      lists[i] = postings[k];
+    }
+    Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+    int[] candidates = lists[0];
+    for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+      candidates = intersect(candidates, lists[i]);
+    }
+
+    // Shared trigrams do not guarantee a contiguous match, so confirm each candidate
+    int[] rows = new int[candidates.length];
+    int found = 0;
+    for (int row : candidates) {
+      if (lowerNames[row].contains(lowerQuery)) {
+        rows[found++] = row;
+      }
+    }
+    return found == rows.length ? rows : Arrays.copyOf(rows, found);
+  }
+
+  Student student(int row) {
+    return new Student(ids[row], names[row], schoolId);
+  }
+
+  private int[] scan(String lowerQuery) {
+    int[] rows = new int[lowerNames.length];
+    int found = 0;
+    for (int row = 0; row < lowerNames.length; row++) {
+      if (lowerNames[row].contains(lowerQuery)) {
+        rows[found++] = row;
+      }
+    }
+    return Arrays.copyOf(rows, found);
+  }
+
+  private Map<UUID, String> namesById() {
+    Map<UUID, String> namesById = new HashMap<>(ids.length * 2);
+    for (int row = 0; row < ids.length; row++) {
+      namesById.put(ids[row], names[row]);
+    }
+    return namesById;
+  }
+
+  private static long[] distinctGrams(String lower) {
+    if (lower.length() < 3) {
+      return new long[0];
+    }
+    long[] out = new long[lower.length() - 2];
+    for (int i = 0; i < out.length; i++) {
+      out[i] =
+          ((long) lower.charAt(i) << 32) | ((long) lower.charAt(i + 1) << 16) | lower.charAt(i + 2);
+    }
+    return unique(out);
+  }
+
+  private static long[] unique(long[] values) {
+    if (values.length == 0) {
+      return values;
+    }
+    Arrays.sort(values);
+    int size = 1;
+    for (int i = 1; i < values.length; i++) {
+      if (values[i] != values[size - 1]) {
+        values[size++] = values[i];
+      }
+    }
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+
+  private static int[] intersect(int[] a, int[] b) {
+    int[] out = new int[Math.min(a.length, b.length)];
+    int i = 0;
+    int j = 0;
+    int size = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] < b[j]) {
+        i++;
+      } else if (a[i] > b[j]) {
+        j++;
+      } else {
+        out[size++] = a[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(out, size);
+  }
+}
@@ -0,0 +1,222 @@
+package com.hectorherranz.schoolapi.adapters.out.stats;
+
+import com.hectorherranz.schoolapi.adapters.out.event.DomainEventConsumer;
+import com.hectorherranz.schoolapi.application.port.out.OccupancyStatsPort;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView.FillRateBucket;
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import com.hectorherranz.schoolapi.domain.event.SchoolCreatedEvent;
+import com.hectorherranz.schoolapi.domain.event.SchoolDeletedEvent;
+import com.hectorherranz.schoolapi.domain.event.SchoolUpdatedEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentRemovedEvent;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Occupancy statistics kept in memory and moved incrementally by the domain events of the event
+ * bus: each school's capacity and enrollment, the fleet totals and the schools per fill-rate
+ * decile. A snapshot is published at the end of every batch, so {@link #current} is a volatile
+ * read.
+ *
+ * <p>A {@link #reload} carries the bus sequence read just before the load started; events at or
+ * below it were committed before the load and are already in it, so they are skipped when they
+ * arrive. The aggregate can still drift from the database: events dropped by a full bus are lost,
+ * an event published just after that sequence was read may belong to a commit the load saw, and
+ * events for a school it has not loaded are ignored. The reconciler compares it with one grouped
+ * query over {@code schools} ({@link #agreesWith}) and reloads it when they keep differing.
+ */
+public class OccupancyAggregate implements OccupancyStatsPort, DomainEventConsumer {
+
+  /** Fill-rate deciles 0-9% to 90-99%, then full schools. */
+  public static final int BUCKETS = 11;
+
+  private static final int NEAR_FULL_BUCKET = 9;
+
+  /** One school as loaded from the database. */
+  public record SchoolRow(UUID schoolId, int capacity, int enrolled) {}
+
+  /** One row of the grouped reconciliation query; {@code bucket} as in {@link #bucket}. */
+  public record BucketRow(int bucket, long schools, long enrolled, long capacity) {}
+
+  private static final class Occupancy {
+    private int capacity;
+    private int enrolled;
+
+    private Occupancy(int capacity, int enrolled) {
+      this.capacity = capacity;
+      this.enrolled = enrolled;
+    }
+  }
+
+  private final Clock clock;
+
+  // Guarded by this; written by the event bus thread and by reloads
+  private Map<UUID, Occupancy> schools = new HashMap<>();
+  private long[] bucketSchools = new long[BUCKETS];
+  private long enrolled;
+  private long capacity;
+  private boolean loaded;
+  // Bus sequence the last reload already reflects
+  private long loadedThrough = -1;
+
+  private volatile OccupancyStatsView snapshot;
+
+  public OccupancyAggregate(Clock clock) {
+    this.clock = clock;
+    this.snapshot = view();
+  }
+
+  /** The fill-rate bucket of a school: its decile, or {@code BUCKETS - 1} once full. */
+  public static int bucket(int enrolled, int capacity) {
+    return (int) Math.min(BUCKETS - 1, (long) enrolled * 10 / capacity);
+  }
+
+  @Override
+  public OccupancyStatsView current() {
+    return snapshot;
+  }
+
+  @Override
+  public String name() {
+    return "occupancy-stats";
+  }
+
+  @Override
+  public synchronized void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+    if (sequence > loadedThrough) {
+      apply(event);
+    }
+    if (endOfBatch) {
+      snapshot = view();
+    }
+  }
+
+  @Override
+  public synchronized void onEvent(DomainEvent event, boolean endOfBatch) {
+    apply(event);
+    if (endOfBatch) {
+      snapshot = view();
+    }
+  }
+
+  private void apply(DomainEvent event) {
+    switch (event) {
+      case SchoolCreatedEvent created -> {
+        Occupancy school = new Occupancy(created.capacity(), 0);
+        if (schools.putIfAbsent(created.schoolId(), school) == null) {
+          count(school, 1);
+        }
+      }
+      case SchoolUpdatedEvent updated -> {
+        Occupancy school = schools.get(updated.schoolId());
+        if (school != null) {
+          count(school, -1);
+          school.capacity = updated.capacity();
+          count(school, 1);
+        }
+      }
+      case SchoolDeletedEvent deleted -> {
+        Occupancy school = schools.remove(deleted.schoolId());
+        if (school != null) {
+          count(school, -1);
+        }
+      }
+      case StudentEnrolledEvent enrolledEvent -> enroll(enrolledEvent.schoolId(), 1);
+      case StudentRemovedEvent removed -> enroll(removed.schoolId(), -1);
+      default -> {}
+    }
+  }
+
+  /** Whether the totals match a fresh run of the grouped query. */
+  public synchronized boolean agreesWith(List<BucketRow> rows) {
+    long[] expectedBuckets = new long[BUCKETS];
+    long expectedEnrolled = 0;
+    long expectedCapacity = 0;
+    for (BucketRow row : rows) {
+      expectedBuckets[row.bucket()] += row.schools();
+      expectedEnrolled += row.enrolled();
+      expectedCapacity += row.capacity();
+    }
+    return Arrays.equals(expectedBuckets, bucketSchools)
+        && expectedEnrolled == enrolled
+        && expectedCapacity == capacity;
+  }
+
+  /** Replaces the whole state with {@code rows}, read in one pass. */
+  public void reload(Stream<SchoolRow> rows) {
+    reload(rows, -1);
+  }
+
+  /**
+   * Replaces the whole state with {@code rows} and skips the bus events up to {@code
+   * loadedThrough}, which the rows already include.
+   */
+  public void reload(Stream<SchoolRow> rows, long loadedThrough) {
+    Map<UUID, Occupancy> loadedSchools = new HashMap<>();
+    long[] loadedBuckets = new long[BUCKETS];
+    long loadedEnrolled = 0;
+    long loadedCapacity = 0;
+    for (SchoolRow row : (Iterable<SchoolRow>) rows::iterator) {
+      loadedSchools.put(row.schoolId(), new Occupancy(row.capacity(), row.enrolled()));
+      loadedBuckets[bucket(row.enrolled(), row.capacity())]++;
+      loadedEnrolled += row.enrolled();
+      loadedCapacity += row.capacity();
+    }
+    synchronized (this) {
+      schools = loadedSchools;
+      bucketSchools = loadedBuckets;
+      enrolled = loadedEnrolled;
+      capacity = loadedCapacity;
+      loaded = true;
+      this.loadedThrough = loadedThrough;
+      snapshot = view();
+    }
+  }
+
+  public synchronized boolean isLoaded() {
+    return loaded;
+  }
+
+  private void enroll(UUID schoolId, int delta) {
+    Occupancy school = schools.get(schoolId);
+    if (school == null || school.enrolled + delta < 0) {
+      return;
+    }
+    count(school, -1);
+    school.enrolled += delta;
+    count(school, 1);
+  }
+
+  private void count(Occupancy school, int sign) {
+    bucketSchools[bucket(school.enrolled, school.capacity)] += sign;
+    enrolled += (long) sign * school.enrolled;
+    capacity += (long) sign * school.capacity;
+  }
+
+  private OccupancyStatsView view() {
+    List<FillRateBucket> fillRates = new ArrayList<>(BUCKETS);
+    for (int i = 0; i < BUCKETS - 1; i++) {
+      fillRates.add(new FillRateBucket(i * 10, i * 10 + 9, bucketSchools[i]));
+    }
+    fillRates.add(new FillRateBucket(100, 100, bucketSchools[BUCKETS - 1]));
+    long nearFull = 0;
+    for (int i = NEAR_FULL_BUCKET; i < BUCKETS; i++) {
+      nearFull += bucketSchools[i];
+    }
+    return new OccupancyStatsView(
+        schools.size(),
+        enrolled,
+        capacity,
+        capacity == 0 ? 0 : (double) enrolled / capacity,
+        List.copyOf(fillRates),
+        nearFull,
+        clock.instant());
+  }
+}
@@ -0,0 +1,28 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers in-memory side effects until the surrounding transaction has committed. */
+public final class AfterCommit {
+
+  private AfterCommit() {}
+
+  /**
+   * Runs {@code action} after the current transaction commits, or right away when no transaction
+   * synchronization is active. Rolled back transactions never run it.
+   */
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,126 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Caps how many connections are checked out at once, independently of how many threads ask.
+ *
+ * <p>On virtual threads request concurrency is no longer bounded by a thread pool, so thousands of
+ * callers can reach the connection pool together. Callers beyond {@code maxConcurrent} park on a
+ * fair semaphore instead, which is cheap for virtual threads and serves them in arrival order, and
+ * give up after {@code acquireTimeout} with a {@link SQLTransientConnectionException}, as the pool
+ * would. The permit is returned when the connection is closed.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final Duration acquireTimeout;
+
+  public ConcurrencyLimitedDataSource(
+      DataSource target, int maxConcurrent, Duration acquireTimeout) {
+    super(target);
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(super.getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /** Callers parked waiting for a permit. */
+  public int waiting() {
+    return permits.getQueueLength();
+  }
+
+  /** Permits not currently held by an open connection. */
+  public int available() {
+    return permits.availablePermits();
+  }
+
+  /* ---------- Internals ---------- */
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException(
+            "No database permit within %d ms (%d callers waiting)"
+                .formatted(acquireTimeout.toMillis(), permits.getQueueLength()));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted waiting for a database permit", e);
+    }
+  }
+
+  private Connection releasingOnClose(Connection target) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection)
+        Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "getTargetConnection" -> {
+                  return target;
+                }
+                case "equals" -> {
+                  return proxy == args[0];
+                }
+                case "hashCode" -> {
+                  return System.identityHashCode(proxy);
+                }
+                case "close" -> {
+                  try {
+                    return invoke(target, method, args);
+                  } finally {
+                    if (released.compareAndSet(false, true)) {
+                      permits.release();
+                    }
+                  }
+                }
+                default -> {
+                  return invoke(target, method, args);
+                }
+              }
+            });
+  }
+
+  private static Object invoke(Connection target, Method method, Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
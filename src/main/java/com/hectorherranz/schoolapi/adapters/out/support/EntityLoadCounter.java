@@ -0,0 +1,26 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Counts the entities Hibernate loads on the calling thread, whether from rows or the
+ * second-level cache, as {@link SqlStatementCounter} counts statements. Registered as the session
+ * factory interceptor; callers read {@link #current()} before and after a unit of work.
+ */
+public class EntityLoadCounter implements Interceptor {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  /** Entities loaded on this thread so far. */
+  public static long current() {
+    return COUNT.get()[0];
+  }
+
+  @Override
+  public boolean onLoad(
+      Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+    COUNT.get()[0]++;
+    return false;
+  }
+}
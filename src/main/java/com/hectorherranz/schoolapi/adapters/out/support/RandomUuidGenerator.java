@@ -0,0 +1,13 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import java.util.UUID;
+
+/** Random (version 4) ids, as minted before UUIDv7; kept for comparison and as a fallback. */
+public class RandomUuidGenerator implements IdGeneratorPort {
+
+  @Override
+  public UUID newId() {
+    return UUID.randomUUID();
+  }
+}
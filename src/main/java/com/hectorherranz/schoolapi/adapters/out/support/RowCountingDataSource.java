@@ -0,0 +1,112 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the result set rows read on the calling thread, as {@link SqlStatementCounter} counts
+ * statements. Connections, statements and result sets are wrapped in proxies that count each
+ * {@code next()} returning {@code true}; callers read {@link #current()} before and after a unit
+ * of work and subtract. Meant for diagnostics, not for production traffic.
+ */
+public class RowCountingDataSource extends DelegatingDataSource {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  public RowCountingDataSource(DataSource target) {
+    super(target);
+  }
+
+  /** Rows read on this thread so far. */
+  public static long current() {
+    return COUNT.get()[0];
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return counting(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return counting(super.getConnection(username, password));
+  }
+
+  /* ---------- Internals ---------- */
+
+  private static Connection counting(Connection target) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "getTargetConnection" -> target;
+                  case "equals" -> proxy == args[0];
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  default -> wrapResult(invoke(target, method, args));
+                });
+  }
+
+  private static Object wrapResult(Object result) {
+    if (result instanceof CallableStatement statement) {
+      return proxy(statement, CallableStatement.class);
+    }
+    if (result instanceof PreparedStatement statement) {
+      return proxy(statement, PreparedStatement.class);
+    }
+    if (result instanceof Statement statement) {
+      return proxy(statement, Statement.class);
+    }
+    if (result instanceof ResultSet resultSet) {
+      return proxy(resultSet, ResultSet.class);
+    }
+    return result;
+  }
+
+  private static <T> Object proxy(T target, Class<T> type) {
+    boolean resultSet = type == ResultSet.class;
+    return Proxy.newProxyInstance(
+        type.getClassLoader(),
+        new Class<?>[] {type},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "equals" -> {
+              return proxy == args[0];
+            }
+            case "hashCode" -> {
+              return System.identityHashCode(proxy);
+            }
+            case "next" -> {
+              Object hasRow = invoke(target, method, args);
+              if (resultSet && Boolean.TRUE.equals(hasRow)) {
+                COUNT.get()[0]++;
+              }
+              return hasRow;
+            }
+            default -> {
+              Object result = invoke(target, method, args);
+              return resultSet ? result : wrapResult(result);
+            }
+          }
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
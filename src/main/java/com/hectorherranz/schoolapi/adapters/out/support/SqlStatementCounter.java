@@ -0,0 +1,25 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the calling thread. Registered as the session
+ * factory's statement inspector ({@code hibernate.session_factory.statement_inspector}); callers
+ * read {@link #current()} before and after a unit of work and subtract. A JDBC batch counts once
+ * per prepared statement, not once per row.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  /** Statements prepared on this thread so far. */
+  public static long current() {
+    return COUNT.get()[0];
+  }
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return sql;
+  }
+}
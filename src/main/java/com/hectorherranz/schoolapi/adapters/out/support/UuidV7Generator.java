@@ -0,0 +1,61 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUIDv7 ids (RFC 9562): a 48-bit Unix millisecond timestamp, a 12-bit counter in {@code rand_a}
+ * and 62 random bits. Ids are strictly increasing across all threads of the process:
+ *
+ * <ul>
+ *   <li>the timestamp and counter share one {@link AtomicLong}, advanced with a compare-and-set, so
+ *       no lock is taken and no two callers get the same pair;
+ *   <li>more than 4096 ids in one millisecond carry into the timestamp, which then runs slightly
+ *       ahead of the clock until the clock catches up;
+ *   <li>a clock stepping backwards is ignored the same way.
+ * </ul>
+ *
+ * <p>The random bits come from {@link ThreadLocalRandom}, so the only allocation per id is the
+ * {@link UUID} itself. They are not meant to make ids unguessable.
+ */
+public class UuidV7Generator implements IdGeneratorPort {
+
+  private static final int COUNTER_BITS = 12;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+  private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+
+  private final LongSupplier clock;
+  // Last issued (timestamp << COUNTER_BITS | counter)
+  private final AtomicLong last = new AtomicLong();
+
+  public UuidV7Generator() {
+    this(System::currentTimeMillis);
+  }
+
+  /** For tests: {@code clock} supplies Unix time in milliseconds. */
+  UuidV7Generator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID newId() {
+    long floor = clock.getAsLong() << COUNTER_BITS;
+    long previous;
+    long next;
+    do {
+      previous = last.get();
+      next = Math.max(previous + 1, floor);
+    } while (!last.compareAndSet(previous, next));
+
+    long timestamp = next >>> COUNTER_BITS;
+    long counter = next & ((1L << COUNTER_BITS) - 1);
+    long mostSignificant = timestamp << 16 | VERSION_7 | counter;
+    long leastSignificant =
+        ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+    return new UUID(mostSignificant, leastSignificant);
+  }
+}
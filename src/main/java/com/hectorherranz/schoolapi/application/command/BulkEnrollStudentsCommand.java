@@ -0,0 +1,9 @@
+package com.hectorherranz.schoolapi.application.command;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+
+/** Enrolls many students into one school; names are validated per item, not all-or-nothing. */
+public record BulkEnrollStudentsCommand(@NotNull UUID schoolId, @NotEmpty List<String> names) {}
@@ -0,0 +1,17 @@
+package com.hectorherranz.schoolapi.application.command;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One chunk of a streamed import. Rows have already passed request validation; {@code line} is
+ * the 1-based source line used when reporting rejections. Schools are applied before students,
+ * so a student may reference a school from the same chunk.
+ */
+public record ImportChunkCommand(List<SchoolRow> schools, List<StudentRow> students) {
+
+  /** {@code id} is optional; a fresh one is generated when absent. */
+  public record SchoolRow(long line, UUID id, String name, int capacity) {}
+
+  public record StudentRow(long line, UUID schoolId, String name) {}
+}
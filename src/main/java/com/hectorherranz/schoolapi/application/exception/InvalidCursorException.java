@@ -0,0 +1,8 @@
+package com.hectorherranz.schoolapi.application.exception;
+
+/** Thrown when a client sends a pagination cursor that was not issued by this API. */
+public class InvalidCursorException extends RuntimeException {
+  public InvalidCursorException(String cursor) {
+    super("Invalid pagination cursor: " + cursor);
+  }
+}
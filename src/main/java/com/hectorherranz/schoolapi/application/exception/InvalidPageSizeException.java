@@ -0,0 +1,8 @@
+package com.hectorherranz.schoolapi.application.exception;
+
+/** Thrown when a client asks for a page size outside the range a listing allows. */
+public class InvalidPageSizeException extends RuntimeException {
+  public InvalidPageSizeException(int size, int max) {
+    super("Page size must be between 1 and " + max + ": " + size);
+  }
+}
@@ -0,0 +1,109 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
+import com.hectorherranz.schoolapi.application.command.BulkEnrollStudentsCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.in.BulkEnrollStudentsUseCase;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Item;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Status;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import com.hectorherranz.schoolapi.domain.model.valueobject.NameLimits;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Enrolls a batch of students into one school in a single transaction: one capacity check for
+ * the whole batch, then batched inserts. Items are answered individually, so invalid names and
+ * names beyond the remaining capacity are reported without failing the rest.
+ */
+@Component
+@Transactional
+public class BulkEnrollStudentsHandler implements BulkEnrollStudentsUseCase {
+
+  private final SchoolRepositoryPort schoolRepository;
+  private final StudentInfrastructureService studentInfrastructureService;
+  private final StudentNameIndexPort studentNameIndex;
+  private final SchoolDetailCachePort schoolDetailCache;
+  private final IdGeneratorPort idGenerator;
+  private final DomainEventPublisher eventPublisher;
+
+  public BulkEnrollStudentsHandler(
+      SchoolRepositoryPort schoolRepository,
+      StudentInfrastructureService studentInfrastructureService,
+      StudentNameIndexPort studentNameIndex,
+      SchoolDetailCachePort schoolDetailCache,
+      IdGeneratorPort idGenerator,
+      DomainEventPublisher eventPublisher) {
+    this.schoolRepository = schoolRepository;
+    this.studentInfrastructureService = studentInfrastructureService;
+    this.studentNameIndex = studentNameIndex;
+    this.schoolDetailCache = schoolDetailCache;
+    this.idGenerator = idGenerator;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public BulkEnrollmentResult handle(BulkEnrollStudentsCommand command) {
+    UUID schoolId = command.schoolId();
+    List<String> names = command.names();
+    Item[] items = new Item[names.size()];
+
+    // 1. Validate each name on its own so one bad row does not sink the batch
+    List<Integer> candidateIndexes = new ArrayList<>(names.size());
+    List<Student> candidates = new ArrayList<>(names.size());
+    for (int i = 0; i < names.size(); i++) {
+      String name = names.get(i);
+      if (name == null || name.isBlank()) {
+        items[i] = new Item(i, Status.INVALID, null, "Student name is required");
+      } else if (name.trim().length() > NameLimits.MAX_LENGTH) {
+        items[i] =
+            new Item(
+                i,
+                Status.INVALID,
+                null,
+                "Student name must be at most " + NameLimits.MAX_LENGTH + " characters");
+      } else {
+        candidateIndexes.add(i);
+        candidates.add(new Student(idGenerator.newId(), name, schoolId));
+      }
+    }
+
+    // 2. One capacity check for the whole batch; seats go to valid names in request order
+    int granted = schoolRepository.reserveSeats(schoolId, candidates.size());
+
+    // 3. Insert the granted students with JDBC batching
+    List<Student> enrolled =
+        studentInfrastructureService.createStudents(schoolId, candidates.subList(0, granted));
+    if (granted > 0) {
+      schoolDetailCache.evict(schoolId);
+      eventPublisher.publish(
+          enrolled.stream()
+              .map(student -> new StudentEnrolledEvent(student.id(), schoolId))
+              .toList());
+    }
+
+    for (int k = 0; k < candidates.size(); k++) {
+      int index = candidateIndexes.get(k);
+      if (k < granted) {
+        Student student = enrolled.get(k);
+        items[index] = new Item(index, Status.ENROLLED, student.id(), null);
+        studentNameIndex.studentSaved(student);
+      } else {
+        items[index] =
+            new Item(index, Status.CAPACITY_EXCEEDED, null, "School is at maximum capacity");
+      }
+    }
+
+    return new BulkEnrollmentResult(schoolId, Arrays.asList(items));
+  }
+}
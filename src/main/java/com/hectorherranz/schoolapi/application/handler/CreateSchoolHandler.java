@@ -1,12 +1,17 @@
 package com.hectorherranz.schoolapi.application.handler;
 
 import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
 import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.event.SchoolCreatedEvent;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
-import java.util.UUID;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,15 +20,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateSchoolHandler implements CreateSchoolUseCase {
 
   private final SchoolRepositoryPort schoolRepository;
-
-  public CreateSchoolHandler(SchoolRepositoryPort schoolRepository) {
+  private final SchoolNameFilterPort schoolNameFilter;
+  private final IdGeneratorPort idGenerator;
+  private final DomainEventPublisher eventPublisher;
+
+  public CreateSchoolHandler(
+      SchoolRepositoryPort schoolRepository,
+      SchoolNameFilterPort schoolNameFilter,
+      IdGeneratorPort idGenerator,
+      DomainEventPublisher eventPublisher) {
     this.schoolRepository = schoolRepository;
+    this.schoolNameFilter = schoolNameFilter;
+    this.idGenerator = idGenerator;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
-  public UUID handle(CreateSchoolCommand command) {
-    // Check for duplicate name
-    if (schoolRepository.existsByNameIgnoreCase(command.name())) {
+  public SchoolDetailView handle(CreateSchoolCommand command) {
+    // Check for duplicate name; the filter skips the lookup for names that are certainly free
+    if (schoolNameFilter.mightExist(command.name())
+        && schoolRepository.existsByNameIgnoreCase(command.name())) {
       throw new DuplicateNameException();
     }
 
@@ -31,10 +47,15 @@ public class CreateSchoolHandler implements CreateSchoolUseCase {
     Capacity capacity = new Capacity(command.capacity());
 
     // Create the school aggregate
-    School school = new School(UUID.randomUUID(), command.name(), capacity);
+    School school = new School(idGenerator.newId(), command.name(), capacity);
 
-    // Save and return the ID
+    // Save and return the new school (the unique name index rejects names taken meanwhile)
     School savedSchool = schoolRepository.save(school);
-    return savedSchool.id();
+    schoolNameFilter.nameAdded(savedSchool.name());
+    eventPublisher.publish(
+        List.of(
+            new SchoolCreatedEvent(
+                savedSchool.id(), savedSchool.name(), savedSchool.capacity().value())));
+    return SchoolDetailView.of(savedSchool);
   }
 }
@@ -2,13 +2,17 @@ package com.hectorherranz.schoolapi.application.handler;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
 import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
 import com.hectorherranz.schoolapi.application.port.in.CreateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
 import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
-import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.Student;
-import java.util.UUID;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,32 +22,50 @@ public class CreateStudentHandler implements CreateStudentUseCase {
 
   private final SchoolRepositoryPort schoolRepository;
   private final StudentInfrastructureService studentInfrastructureService;
+  private final StudentNameIndexPort studentNameIndex;
+  private final SchoolDetailCachePort schoolDetailCache;
+  private final IdGeneratorPort idGenerator;
+  private final DomainEventPublisher eventPublisher;
 
   public CreateStudentHandler(
       SchoolRepositoryPort schoolRepository,
-      StudentInfrastructureService studentInfrastructureService) {
+      StudentInfrastructureService studentInfrastructureService,
+      StudentNameIndexPort studentNameIndex,
+      SchoolDetailCachePort schoolDetailCache,
+      IdGeneratorPort idGenerator,
+      DomainEventPublisher eventPublisher) {
     this.schoolRepository = schoolRepository;
     this.studentInfrastructureService = studentInfrastructureService;
+    this.studentNameIndex = studentNameIndex;
+    this.schoolDetailCache = schoolDetailCache;
+    this.idGenerator = idGenerator;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
-  public UUID handle(CreateStudentCommand command) {
-    // 1. Validate school exists and get basic data
-    School school =
-        schoolRepository
-            .findByIdBasic(command.schoolId())
-            .orElseThrow(() -> new NotFoundException("School", command.schoolId().toString()));
-
-    // 2. Check capacity with optimized query
-    int currentEnrollment = schoolRepository.countStudentsBySchoolId(command.schoolId());
-    if (!school.capacity().canEnroll(currentEnrollment)) {
+  public Student handle(CreateStudentCommand command) {
+    // 1. Reserve a seat: one conditional UPDATE, so concurrent enrollments cannot overshoot
+    // capacity and no lock is taken before the write (the seat rolls back with the transaction)
+    if (!schoolRepository.tryReserveSeat(command.schoolId())) {
+      // 2. Nothing reserved: tell a missing school apart from a full one
+      if (!schoolRepository.existsById(command.schoolId())) {
+        throw new NotFoundException("School", command.schoolId().toString());
+      }
       throw new CapacityExceededException(command.schoolId());
     }
 
     // 3. Create student using infrastructure service
-    Student student = new Student(UUID.randomUUID(), command.name(), command.schoolId());
+    Student student = new Student(idGenerator.newId(), command.name(), command.schoolId());
     Student savedStudent = studentInfrastructureService.createStudent(student);
 
-    return savedStudent.id();
+    // 4. Record the enrollment in the outbox; it commits or rolls back with the student
+    eventPublisher.publish(
+        List.of(new StudentEnrolledEvent(savedStudent.id(), savedStudent.schoolId())));
+
+    // 5. Keep the in-process name index and the detail cache current (applied after commit)
+    studentNameIndex.studentSaved(savedStudent);
+    schoolDetailCache.evict(command.schoolId());
+
+    return savedStudent;
   }
 }
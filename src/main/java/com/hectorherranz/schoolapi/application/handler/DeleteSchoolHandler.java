@@ -1,9 +1,14 @@
 package com.hectorherranz.schoolapi.application.handler;
 
 import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
 import com.hectorherranz.schoolapi.application.port.in.DeleteSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.domain.event.SchoolDeletedEvent;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,19 +17,33 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteSchoolHandler implements DeleteSchoolUseCase {
 
   private final SchoolRepositoryPort schoolRepository;
+  private final StudentNameIndexPort studentNameIndex;
+  private final SchoolDetailCachePort schoolDetailCache;
+  private final DomainEventPublisher eventPublisher;
 
-  public DeleteSchoolHandler(SchoolRepositoryPort schoolRepository) {
+  public DeleteSchoolHandler(
+      SchoolRepositoryPort schoolRepository,
+      StudentNameIndexPort studentNameIndex,
+      SchoolDetailCachePort schoolDetailCache,
+      DomainEventPublisher eventPublisher) {
     this.schoolRepository = schoolRepository;
+    this.studentNameIndex = studentNameIndex;
+    this.schoolDetailCache = schoolDetailCache;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public void handle(DeleteSchoolCommand command) {
-    // Check if school exists before deleting
-    if (!schoolRepository.findById(command.schoolId()).isPresent()) {
-      throw new NotFoundException("School", command.schoolId().toString());
-    }
+    // Probe existence through the version alone; the roster is never loaded
+    long version =
+        schoolRepository
+            .findVersionById(command.schoolId())
+            .orElseThrow(() -> new NotFoundException("School", command.schoolId().toString()));
 
-    // Delete the school
-    schoolRepository.deleteById(command.schoolId());
+    // Delete the roster and the school set-based, refused if the school changed since the probe
+    schoolRepository.deleteById(command.schoolId(), version);
+    studentNameIndex.schoolRemoved(command.schoolId());
+    schoolDetailCache.evict(command.schoolId());
+    eventPublisher.publish(List.of(new SchoolDeletedEvent(command.schoolId())));
   }
 }
@@ -1,9 +1,15 @@
 package com.hectorherranz.schoolapi.application.handler;
 
 import com.hectorherranz.schoolapi.application.command.DeleteStudentCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
 import com.hectorherranz.schoolapi.application.port.in.DeleteStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
 import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.domain.event.StudentRemovedEvent;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,22 +18,39 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteStudentHandler implements DeleteStudentUseCase {
 
   private final StudentRepositoryPort studentRepository;
+  private final SchoolRepositoryPort schoolRepository;
+  private final StudentNameIndexPort studentNameIndex;
+  private final SchoolDetailCachePort schoolDetailCache;
+  private final DomainEventPublisher eventPublisher;
 
-  public DeleteStudentHandler(StudentRepositoryPort studentRepository) {
+  public DeleteStudentHandler(
+      StudentRepositoryPort studentRepository,
+      SchoolRepositoryPort schoolRepository,
+      StudentNameIndexPort studentNameIndex,
+      SchoolDetailCachePort schoolDetailCache,
+      DomainEventPublisher eventPublisher) {
     this.studentRepository = studentRepository;
+    this.schoolRepository = schoolRepository;
+    this.studentNameIndex = studentNameIndex;
+    this.schoolDetailCache = schoolDetailCache;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public void handle(DeleteStudentCommand command) {
-    // Validate student exists and belongs to school using optimized query
-    if (!studentRepository.existsByIdAndSchoolId(command.studentId(), command.schoolId())) {
+    // One conditional DELETE: of two concurrent deletes of the same student only one removes the
+    // row, so the seat is released and the event published once
+    if (studentRepository.deleteByIdAndSchoolId(command.studentId(), command.schoolId()) == 0) {
       throw new NotFoundException(
           "Student",
           String.format(
               "Student %s not found in school %s", command.studentId(), command.schoolId()));
     }
 
-    // Delete student directly (validation already done)
-    studentRepository.deleteById(command.studentId());
+    schoolRepository.releaseSeat(command.schoolId());
+    studentNameIndex.studentRemoved(command.schoolId(), command.studentId());
+    schoolDetailCache.evict(command.schoolId());
+    eventPublisher.publish(
+        List.of(new StudentRemovedEvent(command.studentId(), command.schoolId())));
   }
 }
@@ -0,0 +1,44 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import com.hectorherranz.schoolapi.application.port.in.ExportRosterUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams rosters to a caller-supplied sink. The read-only transaction keeps the database cursor
+ * open while rows are consumed, so the sink should write straight through rather than collect.
+ */
+@Component
+@Transactional(readOnly = true)
+public class ExportRosterHandler implements ExportRosterUseCase {
+
+  private final SchoolRepositoryPort schoolRepository;
+  private final StudentRepositoryPort studentRepository;
+
+  public ExportRosterHandler(
+      SchoolRepositoryPort schoolRepository, StudentRepositoryPort studentRepository) {
+    this.schoolRepository = schoolRepository;
+    this.studentRepository = studentRepository;
+  }
+
+  @Override
+  public void exportSchool(UUID schoolId, Consumer<Student> students) {
+    if (!schoolRepository.existsById(schoolId)) {
+      throw new NotFoundException("School", schoolId.toString());
+    }
+    studentRepository.forEachInSchool(schoolId, students);
+  }
+
+  @Override
+  public void exportAll(Consumer<SchoolSummaryView> schools, Consumer<Student> students) {
+    schoolRepository.forEachSummary(schools);
+    studentRepository.forEachStudent(students);
+  }
+}
@@ -0,0 +1,21 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import com.hectorherranz.schoolapi.application.port.in.GetOccupancyStatsUseCase;
+import com.hectorherranz.schoolapi.application.port.out.OccupancyStatsPort;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetOccupancyStatsHandler implements GetOccupancyStatsUseCase {
+
+  private final OccupancyStatsPort occupancyStats;
+
+  public GetOccupancyStatsHandler(OccupancyStatsPort occupancyStats) {
+    this.occupancyStats = occupancyStats;
+  }
+
+  @Override
+  public OccupancyStatsView handle() {
+    return occupancyStats.current();
+  }
+}
@@ -3,8 +3,8 @@ package com.hectorherranz.schoolapi.application.handler;
 import com.hectorherranz.schoolapi.application.port.in.GetSchoolByIdUseCase;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
 import com.hectorherranz.schoolapi.application.query.GetSchoolByIdQuery;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
-import com.hectorherranz.schoolapi.domain.model.School;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,9 +19,9 @@ public class GetSchoolByIdHandler implements GetSchoolByIdUseCase {
   }
 
   @Override
-  public School handle(GetSchoolByIdQuery query) {
+  public SchoolDetailView handle(GetSchoolByIdQuery query) {
     return schoolRepository
-        .findById(query.schoolId())
+        .findDetailById(query.schoolId())
         .orElseThrow(() -> new NotFoundException("School", query.schoolId().toString()));
   }
 }
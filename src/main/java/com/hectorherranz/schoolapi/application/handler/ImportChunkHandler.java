@@ -0,0 +1,151 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand.SchoolRow;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand.StudentRow;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.in.ImportChunkUseCase;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.application.response.ImportChunkResult;
+import com.hectorherranz.schoolapi.application.response.ImportChunkResult.Rejection;
+import com.hectorherranz.schoolapi.domain.event.SchoolCreatedEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import com.hectorherranz.schoolapi.domain.model.valueobject.NameLimits;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies one chunk of a streamed import in its own transaction. Rows that break a business rule
+ * (duplicate name, unknown school, no seats left) are rejected individually; the rest commit
+ * together. Students are inserted per school with one seat reservation per school and chunk.
+ */
+@Component
+@Transactional
+public class ImportChunkHandler implements ImportChunkUseCase {
+
+  private final SchoolRepositoryPort schoolRepository;
+  private final StudentInfrastructureService studentInfrastructureService;
+  private final StudentNameIndexPort studentNameIndex;
+  private final SchoolDetailCachePort schoolDetailCache;
+  private final SchoolNameFilterPort schoolNameFilter;
+  private final IdGeneratorPort idGenerator;
+  private final DomainEventPublisher eventPublisher;
+
+  public ImportChunkHandler(
+      SchoolRepositoryPort schoolRepository,
+      StudentInfrastructureService studentInfrastructureService,
+      StudentNameIndexPort studentNameIndex,
+      SchoolDetailCachePort schoolDetailCache,
+      SchoolNameFilterPort schoolNameFilter,
+      IdGeneratorPort idGenerator,
+      DomainEventPublisher eventPublisher) {
+    this.schoolRepository = schoolRepository;
+    this.studentInfrastructureService = studentInfrastructureService;
+    this.studentNameIndex = studentNameIndex;
+    this.schoolDetailCache = schoolDetailCache;
+    this.schoolNameFilter = schoolNameFilter;
+    this.idGenerator = idGenerator;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public ImportChunkResult handle(ImportChunkCommand command) {
+    List<Rejection> rejections = new ArrayList<>();
+
+    // 1. Schools first, so students in this chunk can reference them. The name filter only
+    // learns this chunk's names on commit, so duplicates within the chunk are tracked here
+    List<SchoolCreatedEvent> schoolsCreated = new ArrayList<>();
+    Set<String> chunkNames = new HashSet<>();
+    for (SchoolRow row : command.schools()) {
+      String reason = rejectSchool(row, chunkNames);
+      if (reason != null) {
+        rejections.add(new Rejection(row.line(), reason));
+        continue;
+      }
+      UUID id = row.id() != null ? row.id() : idGenerator.newId();
+      schoolRepository.save(new School(id, row.name(), new Capacity(row.capacity())));
+      schoolNameFilter.nameAdded(row.name());
+      schoolsCreated.add(new SchoolCreatedEvent(id, row.name(), row.capacity()));
+    }
+    if (!schoolsCreated.isEmpty()) {
+      eventPublisher.publish(schoolsCreated);
+    }
+
+    // 2. Group students by school, keeping file order within each school
+    Map<UUID, List<StudentRow>> bySchool = new LinkedHashMap<>();
+    for (StudentRow row : command.students()) {
+      if (row.name().trim().length() > NameLimits.MAX_LENGTH) {
+        rejections.add(
+            new Rejection(
+                row.line(),
+                "Student name must be at most " + NameLimits.MAX_LENGTH + " characters"));
+      } else {
+        bySchool.computeIfAbsent(row.schoolId(), id -> new ArrayList<>()).add(row);
+      }
+    }
+
+    // 3. One seat reservation and one batched insert per school
+    int studentsCreated = 0;
+    for (Map.Entry<UUID, List<StudentRow>> entry : bySchool.entrySet()) {
+      UUID schoolId = entry.getKey();
+      List<StudentRow> rows = entry.getValue();
+      if (!schoolRepository.existsById(schoolId)) {
+        rows.forEach(row -> rejections.add(new Rejection(row.line(), "School not found")));
+        continue;
+      }
+
+      int granted = schoolRepository.reserveSeats(schoolId, rows.size());
+      List<Student> students = new ArrayList<>(granted);
+      for (StudentRow row : rows.subList(0, granted)) {
+        students.add(new Student(idGenerator.newId(), row.name(), schoolId));
+      }
+      List<Student> enrolled = studentInfrastructureService.createStudents(schoolId, students);
+      enrolled.forEach(studentNameIndex::studentSaved);
+      studentsCreated += granted;
+      if (granted > 0) {
+        schoolDetailCache.evict(schoolId);
+        eventPublisher.publish(
+            enrolled.stream()
+                .map(student -> new StudentEnrolledEvent(student.id(), schoolId))
+                .toList());
+      }
+
+      for (StudentRow row : rows.subList(granted, rows.size())) {
+        rejections.add(new Rejection(row.line(), "School is at maximum capacity"));
+      }
+    }
+
+    return new ImportChunkResult(schoolsCreated.size(), studentsCreated, rejections);
+  }
+
+  private String rejectSchool(SchoolRow row, Set<String> chunkNames) {
+    if (row.name().trim().length() > NameLimits.MAX_LENGTH) {
+      return "School name must be at most " + NameLimits.MAX_LENGTH + " characters";
+    }
+    if (row.id() != null && schoolRepository.existsById(row.id())) {
+      return "School already exists";
+    }
+    if (!chunkNames.add(row.name().toLowerCase(Locale.ROOT))
+        || (schoolNameFilter.mightExist(row.name())
+            && schoolRepository.existsByNameIgnoreCase(row.name()))) {
+      return "School name already exists";
+    }
+    return null;
+  }
+}
@@ -0,0 +1,47 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import com.hectorherranz.schoolapi.application.port.in.SearchAvailableSchoolsUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.AvailabilityCursor;
+import com.hectorherranz.schoolapi.application.query.SearchAvailableSchoolsQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Schools with at least {@code minSpots} free seats, most free seats first. Full schools are never
+ * listed, so a {@code minSpots} below one is read as one.
+ *
+ * <p>The sort key moves as students enroll, so a school whose count changes between two page
+ * requests may be listed twice or skipped; each page on its own is consistent.
+ */
+@Component
+@Transactional(readOnly = true)
+public class SearchAvailableSchoolsHandler implements SearchAvailableSchoolsUseCase {
+
+  private final SchoolRepositoryPort schoolRepository;
+
+  public SearchAvailableSchoolsHandler(SchoolRepositoryPort schoolRepository) {
+    this.schoolRepository = schoolRepository;
+  }
+
+  @Override
+  public CursorPage<SchoolSummaryView> handle(SearchAvailableSchoolsQuery query) {
+    AvailabilityCursor after = AvailabilityCursor.decode(query.cursor());
+    int minSpots = Math.max(1, query.minSpots());
+
+    // Fetch one extra row to learn whether another page exists without counting
+    List<SchoolSummaryView> rows =
+        schoolRepository.searchAvailableAfter(query.query(), minSpots, after, query.size() + 1);
+
+    if (rows.size() <= query.size()) {
+      return new CursorPage<>(rows, query.size(), null, false);
+    }
+    List<SchoolSummaryView> content = rows.subList(0, query.size());
+    SchoolSummaryView last = content.get(content.size() - 1);
+    String next = new AvailabilityCursor(last.availableSpots(), last.id()).encode();
+    return new CursorPage<>(List.copyOf(content), query.size(), next, true);
+  }
+}
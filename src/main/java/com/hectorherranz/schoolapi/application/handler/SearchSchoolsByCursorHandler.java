@@ -0,0 +1,39 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import com.hectorherranz.schoolapi.application.port.in.SearchSchoolsByCursorUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.query.SearchSchoolsByCursorQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(readOnly = true)
+public class SearchSchoolsByCursorHandler implements SearchSchoolsByCursorUseCase {
+
+  private final SchoolRepositoryPort schoolRepository;
+
+  public SearchSchoolsByCursorHandler(SchoolRepositoryPort schoolRepository) {
+    this.schoolRepository = schoolRepository;
+  }
+
+  @Override
+  public CursorPage<SchoolSummaryView> handle(SearchSchoolsByCursorQuery query) {
+    KeysetCursor after = KeysetCursor.decode(query.cursor());
+
+    // Fetch one extra row to learn whether another page exists without counting
+    List<SchoolSummaryView> rows =
+        schoolRepository.searchSummariesByNameAfter(query.query(), after, query.size() + 1);
+
+    if (rows.size() <= query.size()) {
+      return new CursorPage<>(rows, query.size(), null, false);
+    }
+    List<SchoolSummaryView> content = rows.subList(0, query.size());
+    SchoolSummaryView last = content.get(content.size() - 1);
+    String next = new KeysetCursor(last.name(), last.id()).encode();
+    return new CursorPage<>(List.copyOf(content), query.size(), next, true);
+  }
+}
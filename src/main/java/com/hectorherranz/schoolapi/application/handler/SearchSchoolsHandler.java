@@ -4,7 +4,7 @@ import com.hectorherranz.schoolapi.application.port.in.SearchSchoolsUseCase;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
 import com.hectorherranz.schoolapi.application.query.SearchSchoolsQuery;
 import com.hectorherranz.schoolapi.application.response.PagedResponse;
-import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,8 +19,8 @@ public class SearchSchoolsHandler implements SearchSchoolsUseCase {
   }
 
   @Override
-  public PagedResponse<School> handle(SearchSchoolsQuery query) {
-    var page = schoolRepository.searchByName(query.query(), query.pageable());
+  public PagedResponse<SchoolSummaryView> handle(SearchSchoolsQuery query) {
+    var page = schoolRepository.searchSummariesByName(query.query(), query.pageable());
     return PagedResponse.from(page);
   }
 }
@@ -0,0 +1,39 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import com.hectorherranz.schoolapi.application.port.in.SearchStudentsByCursorUseCase;
+import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.query.SearchStudentsByCursorQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(readOnly = true)
+public class SearchStudentsByCursorHandler implements SearchStudentsByCursorUseCase {
+
+  private final StudentRepositoryPort studentRepository;
+
+  public SearchStudentsByCursorHandler(StudentRepositoryPort studentRepository) {
+    this.studentRepository = studentRepository;
+  }
+
+  @Override
+  public CursorPage<Student> handle(SearchStudentsByCursorQuery query) {
+    KeysetCursor after = KeysetCursor.decode(query.cursor());
+
+    // Fetch one extra row to learn whether another page exists without counting
+    List<Student> rows =
+        studentRepository.searchAfter(query.schoolId(), query.query(), after, query.size() + 1);
+
+    if (rows.size() <= query.size()) {
+      return new CursorPage<>(rows, query.size(), null, false);
+    }
+    List<Student> content = rows.subList(0, query.size());
+    Student last = content.get(content.size() - 1);
+    String next = new KeysetCursor(last.name(), last.id()).encode();
+    return new CursorPage<>(List.copyOf(content), query.size(), next, true);
+  }
+}
@@ -1,12 +1,18 @@
 package com.hectorherranz.schoolapi.application.handler;
 
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
 import com.hectorherranz.schoolapi.application.port.in.UpdateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.event.SchoolUpdatedEvent;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,13 +21,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateSchoolHandler implements UpdateSchoolUseCase {
 
   private final SchoolRepositoryPort schoolRepository;
+  private final SchoolDetailCachePort schoolDetailCache;
+  private final SchoolNameFilterPort schoolNameFilter;
+  private final DomainEventPublisher eventPublisher;
 
-  public UpdateSchoolHandler(SchoolRepositoryPort schoolRepository) {
+  public UpdateSchoolHandler(
+      SchoolRepositoryPort schoolRepository,
+      SchoolDetailCachePort schoolDetailCache,
+      SchoolNameFilterPort schoolNameFilter,
+      DomainEventPublisher eventPublisher) {
     this.schoolRepository = schoolRepository;
+    this.schoolDetailCache = schoolDetailCache;
+    this.schoolNameFilter = schoolNameFilter;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
-  public void handle(UpdateSchoolCommand command) {
+  public SchoolDetailView handle(UpdateSchoolCommand command) {
     // Find the school
     School school =
         schoolRepository
@@ -35,6 +51,7 @@ public class UpdateSchoolHandler implements UpdateSchoolUseCase {
             newName -> {
               // Check for duplicate name (excluding current school)
               if (!newName.equalsIgnoreCase(school.name())
+                  && schoolNameFilter.mightExist(newName)
                   && schoolRepository.existsByNameIgnoreCase(newName)) {
                 throw new DuplicateNameException();
               }
@@ -52,5 +69,11 @@ public class UpdateSchoolHandler implements UpdateSchoolUseCase {
 
     // Save the updated school
     schoolRepository.save(school);
+    schoolDetailCache.evict(school.id());
+    command.name().ifPresent(schoolNameFilter::nameAdded);
+    eventPublisher.publish(
+        List.of(
+            new SchoolUpdatedEvent(school.id(), school.name(), school.capacity().value())));
+    return SchoolDetailView.of(school);
   }
 }
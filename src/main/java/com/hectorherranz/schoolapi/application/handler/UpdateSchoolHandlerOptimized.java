@@ -2,7 +2,13 @@ package com.hectorherranz.schoolapi.application.handler;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.service.SchoolInfrastructureService;
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
 import com.hectorherranz.schoolapi.application.port.in.UpdateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.event.SchoolUpdatedEvent;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,16 +21,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateSchoolHandlerOptimized implements UpdateSchoolUseCase {
 
   private final SchoolInfrastructureService infrastructureService;
+  private final SchoolDetailCachePort schoolDetailCache;
+  private final SchoolNameFilterPort schoolNameFilter;
+  private final DomainEventPublisher eventPublisher;
 
-  public UpdateSchoolHandlerOptimized(SchoolInfrastructureService infrastructureService) {
+  public UpdateSchoolHandlerOptimized(
+      SchoolInfrastructureService infrastructureService,
+      SchoolDetailCachePort schoolDetailCache,
+      SchoolNameFilterPort schoolNameFilter,
+      DomainEventPublisher eventPublisher) {
     this.infrastructureService = infrastructureService;
+    this.schoolDetailCache = schoolDetailCache;
+    this.schoolNameFilter = schoolNameFilter;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
-  public void handle(UpdateSchoolCommand command) {
+  public SchoolDetailView handle(UpdateSchoolCommand command) {
     // Delegate to infrastructure service that works directly with entities
     // This maximizes Hibernate optimizations while keeping business logic clean
-    infrastructureService.updateSchoolOptimized(
-        command.schoolId(), command.name(), command.capacity());
+    SchoolDetailView updated =
+        infrastructureService.updateSchoolOptimized(
+            command.schoolId(), command.name(), command.capacity());
+    schoolDetailCache.evict(command.schoolId());
+    command.name().ifPresent(schoolNameFilter::nameAdded);
+    eventPublisher.publish(
+        List.of(new SchoolUpdatedEvent(updated.id(), updated.name(), updated.capacity())));
+    return updated;
   }
 }
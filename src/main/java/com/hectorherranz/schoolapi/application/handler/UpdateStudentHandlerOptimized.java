@@ -3,6 +3,8 @@ package com.hectorherranz.schoolapi.application.handler;
 import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
 import com.hectorherranz.schoolapi.application.command.UpdateStudentCommand;
 import com.hectorherranz.schoolapi.application.port.in.UpdateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.domain.model.Student;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,16 +17,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateStudentHandlerOptimized implements UpdateStudentUseCase {
 
   private final StudentInfrastructureService infrastructureService;
+  private final StudentNameIndexPort studentNameIndex;
 
-  public UpdateStudentHandlerOptimized(StudentInfrastructureService infrastructureService) {
+  public UpdateStudentHandlerOptimized(
+      StudentInfrastructureService infrastructureService, StudentNameIndexPort studentNameIndex) {
     this.infrastructureService = infrastructureService;
+    this.studentNameIndex = studentNameIndex;
   }
 
   @Override
-  public void handle(UpdateStudentCommand command) {
+  public Student handle(UpdateStudentCommand command) {
     // Delegate to infrastructure service that works directly with entities
     // This maximizes Hibernate optimizations while keeping business logic clean
     infrastructureService.updateStudentOptimized(
         command.studentId(), command.schoolId(), command.name());
+    Student updated = new Student(command.studentId(), command.name(), command.schoolId());
+    studentNameIndex.studentSaved(updated);
+    return updated;
   }
 }
@@ -4,5 +4,5 @@ import com.hectorherranz.schoolapi.domain.event.DomainEvent;
 import java.util.List;
 
 public interface DomainEventPublisher {
-  void publish(List<DomainEvent> events);
+  void publish(List<? extends DomainEvent> events);
 }
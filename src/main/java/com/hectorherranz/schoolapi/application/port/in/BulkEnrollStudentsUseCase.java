@@ -0,0 +1,8 @@
+package com.hectorherranz.schoolapi.application.port.in;
+
+import com.hectorherranz.schoolapi.application.command.BulkEnrollStudentsCommand;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult;
+
+public interface BulkEnrollStudentsUseCase {
+  BulkEnrollmentResult handle(BulkEnrollStudentsCommand command);
+}
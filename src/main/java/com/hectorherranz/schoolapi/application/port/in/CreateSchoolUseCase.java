@@ -1,8 +1,8 @@
 package com.hectorherranz.schoolapi.application.port.in;
 
 import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
-import java.util.UUID;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
 
 public interface CreateSchoolUseCase {
-  UUID handle(CreateSchoolCommand command);
+  SchoolDetailView handle(CreateSchoolCommand command);
 }
@@ -1,8 +1,8 @@
 package com.hectorherranz.schoolapi.application.port.in;
 
 import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
-import java.util.UUID;
+import com.hectorherranz.schoolapi.domain.model.Student;
 
 public interface CreateStudentUseCase {
-  UUID handle(CreateStudentCommand command);
+  Student handle(CreateStudentCommand command);
 }
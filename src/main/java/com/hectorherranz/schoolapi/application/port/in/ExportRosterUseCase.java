@@ -0,0 +1,14 @@
+package com.hectorherranz.schoolapi.application.port.in;
+
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface ExportRosterUseCase {
+  // One school's students in (name, id) order
+  void exportSchool(UUID schoolId, Consumer<Student> students);
+
+  // Every school, then every student, so the output can be re-imported in one pass
+  void exportAll(Consumer<SchoolSummaryView> schools, Consumer<Student> students);
+}
@@ -0,0 +1,7 @@
+package com.hectorherranz.schoolapi.application.port.in;
+
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+
+public interface GetOccupancyStatsUseCase {
+  OccupancyStatsView handle();
+}
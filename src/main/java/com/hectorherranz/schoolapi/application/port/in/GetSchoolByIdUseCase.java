@@ -1,8 +1,8 @@
 package com.hectorherranz.schoolapi.application.port.in;
 
 import com.hectorherranz.schoolapi.application.query.GetSchoolByIdQuery;
-import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
 
 public interface GetSchoolByIdUseCase {
-  School handle(GetSchoolByIdQuery query);
+  SchoolDetailView handle(GetSchoolByIdQuery query);
 }
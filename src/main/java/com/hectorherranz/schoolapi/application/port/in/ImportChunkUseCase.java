@@ -0,0 +1,8 @@
+package com.hectorherranz.schoolapi.application.port.in;
+
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand;
+import com.hectorherranz.schoolapi.application.response.ImportChunkResult;
+
+public interface ImportChunkUseCase {
+  ImportChunkResult handle(ImportChunkCommand command);
+}
@@ -0,0 +1,9 @@
+package com.hectorherranz.schoolapi.application.port.in;
+
+import com.hectorherranz.schoolapi.application.query.SearchAvailableSchoolsQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+
+public interface SearchAvailableSchoolsUseCase {
+  CursorPage<SchoolSummaryView> handle(SearchAvailableSchoolsQuery query);
+}
@@ -0,0 +1,9 @@
+package com.hectorherranz.schoolapi.application.port.in;
+
+import com.hectorherranz.schoolapi.application.query.SearchSchoolsByCursorQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+
+public interface SearchSchoolsByCursorUseCase {
+  CursorPage<SchoolSummaryView> handle(SearchSchoolsByCursorQuery query);
+}
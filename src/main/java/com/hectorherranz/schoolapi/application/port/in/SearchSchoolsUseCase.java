@@ -2,8 +2,8 @@ package com.hectorherranz.schoolapi.application.port.in;
 
 import com.hectorherranz.schoolapi.application.query.SearchSchoolsQuery;
 import com.hectorherranz.schoolapi.application.response.PagedResponse;
-import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 
 public interface SearchSchoolsUseCase {
-  PagedResponse<School> handle(SearchSchoolsQuery query);
+  PagedResponse<SchoolSummaryView> handle(SearchSchoolsQuery query);
 }
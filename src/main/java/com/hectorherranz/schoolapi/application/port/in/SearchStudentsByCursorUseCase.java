@@ -0,0 +1,9 @@
+package com.hectorherranz.schoolapi.application.port.in;
+
+import com.hectorherranz.schoolapi.application.query.SearchStudentsByCursorQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.domain.model.Student;
+
+public interface SearchStudentsByCursorUseCase {
+  CursorPage<Student> handle(SearchStudentsByCursorQuery query);
+}
@@ -1,7 +1,8 @@
 package com.hectorherranz.schoolapi.application.port.in;
 
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
 
 public interface UpdateSchoolUseCase {
-  void handle(UpdateSchoolCommand command);
+  SchoolDetailView handle(UpdateSchoolCommand command);
 }
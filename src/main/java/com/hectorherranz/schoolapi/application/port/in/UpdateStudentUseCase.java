@@ -1,7 +1,8 @@
 package com.hectorherranz.schoolapi.application.port.in;
 
 import com.hectorherranz.schoolapi.application.command.UpdateStudentCommand;
+import com.hectorherranz.schoolapi.domain.model.Student;
 
 public interface UpdateStudentUseCase {
-  void handle(UpdateStudentCommand command);
+  Student handle(UpdateStudentCommand command);
 }
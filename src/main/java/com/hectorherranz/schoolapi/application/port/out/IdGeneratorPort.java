@@ -0,0 +1,14 @@
+package com.hectorherranz.schoolapi.application.port.out;
+
+import java.util.UUID;
+
+/**
+ * Mints primary keys for new schools and students. The default generator returns time-ordered
+ * UUIDv7 values, so consecutive inserts land next to each other in the primary key and {@code
+ * school_id} indexes instead of on random pages. Must be safe to call from any thread.
+ */
+@FunctionalInterface
+public interface IdGeneratorPort {
+
+  UUID newId();
+}
@@ -0,0 +1,13 @@
+package com.hectorherranz.schoolapi.application.port.out;
+
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+
+/**
+ * Precomputed occupancy statistics. {@link #current} returns the latest snapshot without touching
+ * the database, whatever the number of schools; it follows committed writes shortly after they
+ * commit and is periodically reconciled with the schools table.
+ */
+public interface OccupancyStatsPort {
+
+  OccupancyStatsView current();
+}
@@ -0,0 +1,22 @@
+package com.hectorherranz.schoolapi.application.port.out;
+
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Optional in-process cache of the school detail read model.
+ *
+ * <p>Write handlers that change a school's name, capacity or enrollment call {@link #evict};
+ * implementations drop the entry only once the surrounding transaction commits, so a reader can
+ * never cache a value the rolled-back or still-open transaction would have replaced.
+ */
+public interface SchoolDetailCachePort {
+
+  // Cached detail, or the loader's result; empty results (unknown schools) are not cached
+  Optional<SchoolDetailView> get(
+      UUID schoolId, Function<UUID, Optional<SchoolDetailView>> loader);
+
+  void evict(UUID schoolId);
+}
@@ -0,0 +1,17 @@
+package com.hectorherranz.schoolapi.application.port.out;
+
+/**
+ * Optional in-memory pre-check for duplicate school names, compared case-insensitively.
+ *
+ * <p>{@link #mightExist} returning {@code false} means the name is not taken as far as this
+ * instance knows, so callers skip the database lookup. It may answer {@code true} for names that
+ * are free. Names taken by concurrent or other-instance writes can be missed; the unique
+ * constraint on the lowered name rejects those on insert. Additions are applied once the
+ * surrounding transaction commits.
+ */
+public interface SchoolNameFilterPort {
+
+  boolean mightExist(String name);
+
+  void nameAdded(String name);
+}
@@ -1,21 +1,47 @@
 package com.hectorherranz.schoolapi.application.port.out;
 
+import com.hectorherranz.schoolapi.application.query.AvailabilityCursor;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 import com.hectorherranz.schoolapi.domain.model.School;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface SchoolRepositoryPort {
   Optional<School> findById(UUID id);
 
+  // Count-only read model for the detail endpoints (never hydrates the roster)
+  Optional<SchoolDetailView> findDetailById(UUID id);
+
   boolean existsByNameIgnoreCase(String name);
 
   Page<School> searchByName(String name, Pageable pageable);
 
+  // Search read model with enrolled counts computed in the same grouped query
+  Page<SchoolSummaryView> searchSummariesByName(String name, Pageable pageable);
+
+  // Keyset search ordered by (name, id); a null cursor starts from the beginning
+  List<SchoolSummaryView> searchSummariesByNameAfter(String name, KeysetCursor after, int limit);
+
+  // Keyset search over schools with at least minSpots free seats, ordered by (free seats DESC, id)
+  List<SchoolSummaryView> searchAvailableAfter(
+      String name, int minSpots, AvailabilityCursor after, int limit);
+
+  // Export cursor over every school in (name, id) order; call inside a transaction
+  void forEachSummary(Consumer<SchoolSummaryView> action);
+
   School save(School school);
 
-  void deleteById(UUID id);
+  // Version probe for deletes: one scalar read, the roster is never loaded
+  Optional<Long> findVersionById(UUID id);
+
+  // Set-based delete: the roster in one statement, then the school if still at expectedVersion
+  void deleteById(UUID id, long expectedVersion);
 
   // Load school with minimal data for student operations
   Optional<School> findByIdForStudentUpdate(UUID id);
@@ -23,6 +49,17 @@ public interface SchoolRepositoryPort {
   // Optimized methods for capacity validation
   int countStudentsBySchoolId(UUID schoolId);
 
+  boolean existsById(UUID id);
+
+  // Atomically takes one seat if the school exists and is below capacity
+  boolean tryReserveSeat(UUID schoolId);
+
+  // Gives back a seat taken by tryReserveSeat (student removed)
+  void releaseSeat(UUID schoolId);
+
+  // Takes up to `requested` seats in one locked step and returns how many were granted
+  int reserveSeats(UUID schoolId, int requested);
+
   // Load school basic data (without students) for validation
   Optional<School> findByIdBasic(UUID id);
 
@@ -0,0 +1,25 @@
+package com.hectorherranz.schoolapi.application.port.out;
+
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Optional in-process index over student names, scoped per school.
+ *
+ * <p>Write handlers report changes here; implementations apply them only once the surrounding
+ * transaction commits. {@link #search} answers from memory when the school is loaded and returns
+ * empty otherwise, in which case callers fall back to the database.
+ */
+public interface StudentNameIndexPort {
+
+  Optional<Page<Student>> search(UUID schoolId, String q, Pageable pageable);
+
+  void studentSaved(Student student);
+
+  void studentRemoved(UUID schoolId, UUID studentId);
+
+  void schoolRemoved(UUID schoolId);
+}
@@ -1,8 +1,11 @@
 package com.hectorherranz.schoolapi.application.port.out;
 
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
 import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -11,9 +14,18 @@ public interface StudentRepositoryPort {
 
   Page<Student> search(UUID schoolId, String q, Pageable pageable);
 
+  // Keyset search ordered by (name, id); a null cursor starts from the beginning
+  List<Student> searchAfter(UUID schoolId, String q, KeysetCursor after, int limit);
+
+  // Export cursors: each row is handed to `action` and then dropped; call inside a transaction
+  void forEachInSchool(UUID schoolId, Consumer<Student> action); // (name, id) order
+
+  void forEachStudent(Consumer<Student> action); // whole tenant, unordered
+
   Student save(Student student); // usually cascaded via School, but handy for updates
 
-  void deleteById(UUID id);
+  // Returns the number of rows removed: 0 when the student is not (or no longer) in the school
+  int deleteByIdAndSchoolId(UUID studentId, UUID schoolId);
 
   // Optimized methods for school validation
   Optional<Student> findByIdAndSchoolId(UUID studentId, UUID schoolId);
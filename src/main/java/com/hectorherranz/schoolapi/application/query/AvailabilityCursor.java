@@ -0,0 +1,25 @@
+package com.hectorherranz.schoolapi.application.query;
+
+import java.util.UUID;
+
+/**
+ * Position in a listing ordered by {@code (available spots DESC, id)}. Opaque to clients, like
+ * {@link KeysetCursor}.
+ */
+public record AvailabilityCursor(int availableSpots, UUID id) {
+
+  public AvailabilityCursor {
+    if (id == null) throw new NullPointerException("Cursor id cannot be null");
+  }
+
+  /** Layout: {@code <uuid>:<spots>}, base64url without padding. */
+  public String encode() {
+    return CursorCodec.encode(id, Integer.toString(availableSpots));
+  }
+
+  /** Returns {@code null} for a blank cursor, meaning "first page". */
+  public static AvailabilityCursor decode(String cursor) {
+    return CursorCodec.decode(
+        cursor, (id, spots) -> new AvailabilityCursor(Integer.parseInt(spots), id));
+  }
+}
@@ -0,0 +1,44 @@
+package com.hectorherranz.schoolapi.application.query;
+
+import com.hectorherranz.schoolapi.application.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Opaque token layout shared by the keyset cursors: {@code <uuid>:<key>}, base64url without
+ * padding. Each cursor decides how its sort key is written to and read back from {@code key}.
+ */
+final class CursorCodec {
+
+  private static final int UUID_LENGTH = 36;
+
+  private CursorCodec() {}
+
+  static String encode(UUID id, String key) {
+    String raw = id + ":" + key;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns {@code null} for a blank cursor, meaning "first page". Malformed tokens, including
+   * keys the factory rejects with an {@link IllegalArgumentException}, become {@link
+   * InvalidCursorException}.
+   */
+  static <T> T decode(String cursor, BiFunction<UUID, String, T> factory) {
+    if (cursor == null || cursor.isBlank()) return null;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (raw.length() <= UUID_LENGTH || raw.charAt(UUID_LENGTH) != ':') {
+        throw new InvalidCursorException(cursor);
+      }
+      UUID id = UUID.fromString(raw.substring(0, UUID_LENGTH));
+      return factory.apply(id, raw.substring(UUID_LENGTH + 1));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+}
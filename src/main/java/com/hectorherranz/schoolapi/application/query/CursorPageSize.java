@@ -0,0 +1,16 @@
+package com.hectorherranz.schoolapi.application.query;
+
+import com.hectorherranz.schoolapi.application.exception.InvalidPageSizeException;
+
+/** Bounds for keyset page sizes: handlers fetch {@code size + 1} rows and cite the last one. */
+public final class CursorPageSize {
+
+  public static final int MAX = 100;
+
+  private CursorPageSize() {}
+
+  public static int require(int size) {
+    if (size < 1 || size > MAX) throw new InvalidPageSizeException(size, MAX);
+    return size;
+  }
+}
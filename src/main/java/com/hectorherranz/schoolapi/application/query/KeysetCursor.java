@@ -0,0 +1,25 @@
+package com.hectorherranz.schoolapi.application.query;
+
+import java.util.UUID;
+
+/**
+ * Position in a listing ordered by {@code (name, id)}. Clients only ever see the opaque {@link
+ * #encode() encoded} form, so the key layout can change without breaking the API.
+ */
+public record KeysetCursor(String name, UUID id) {
+
+  public KeysetCursor {
+    if (name == null) throw new NullPointerException("Cursor name cannot be null");
+    if (id == null) throw new NullPointerException("Cursor id cannot be null");
+  }
+
+  /** Layout: {@code <uuid>:<name>}, base64url without padding. */
+  public String encode() {
+    return CursorCodec.encode(id, name);
+  }
+
+  /** Returns {@code null} for a blank cursor, meaning "first page". */
+  public static KeysetCursor decode(String cursor) {
+    return CursorCodec.decode(cursor, (id, name) -> new KeysetCursor(name, id));
+  }
+}
@@ -0,0 +1,8 @@
+package com.hectorherranz.schoolapi.application.query;
+
+public record SearchAvailableSchoolsQuery(String query, int minSpots, String cursor, int size) {
+
+  public SearchAvailableSchoolsQuery {
+    CursorPageSize.require(size);
+  }
+}
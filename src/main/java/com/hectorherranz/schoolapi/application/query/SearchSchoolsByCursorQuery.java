@@ -0,0 +1,8 @@
+package com.hectorherranz.schoolapi.application.query;
+
+public record SearchSchoolsByCursorQuery(String query, String cursor, int size) {
+
+  public SearchSchoolsByCursorQuery {
+    CursorPageSize.require(size);
+  }
+}
@@ -0,0 +1,10 @@
+package com.hectorherranz.schoolapi.application.query;
+
+import java.util.UUID;
+
+public record SearchStudentsByCursorQuery(UUID schoolId, String query, String cursor, int size) {
+
+  public SearchStudentsByCursorQuery {
+    CursorPageSize.require(size);
+  }
+}
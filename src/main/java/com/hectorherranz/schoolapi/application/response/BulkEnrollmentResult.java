@@ -0,0 +1,21 @@
+package com.hectorherranz.schoolapi.application.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Outcome of a bulk enrollment, one item per requested name in request order. */
+public record BulkEnrollmentResult(UUID schoolId, List<Item> items) {
+
+  public enum Status {
+    ENROLLED,
+    INVALID,
+    CAPACITY_EXCEEDED
+  }
+
+  /** {@code studentId} is set only for enrolled items, {@code reason} only for the others. */
+  public record Item(int index, Status status, UUID studentId, String reason) {}
+
+  public long count(Status status) {
+    return items.stream().filter(item -> item.status() == status).count();
+  }
+}
@@ -0,0 +1,9 @@
+package com.hectorherranz.schoolapi.application.response;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated slice. Unlike {@link PagedResponse} it carries no totals, so producing it never
+ * costs a {@code COUNT(*)}; {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor, boolean hasNext) {}
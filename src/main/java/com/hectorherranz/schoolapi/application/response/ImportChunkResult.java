@@ -0,0 +1,10 @@
+package com.hectorherranz.schoolapi.application.response;
+
+import java.util.List;
+
+/** Outcome of one import chunk; every row not counted as created has a rejection. */
+public record ImportChunkResult(
+    int schoolsCreated, int studentsCreated, List<Rejection> rejections) {
+
+  public record Rejection(long line, String reason) {}
+}
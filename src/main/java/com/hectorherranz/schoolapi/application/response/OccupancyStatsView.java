@@ -0,0 +1,21 @@
+package com.hectorherranz.schoolapi.application.response;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Fleet-wide occupancy. {@code fillRates} counts schools per fill-rate decile, from 0-9% to
+ * 90-99%, then full schools (100%); {@code nearFull} counts schools at least 90% full, full ones
+ * included. {@code asOf} is when the figures last changed.
+ */
+public record OccupancyStatsView(
+    long schools,
+    long enrolled,
+    long capacity,
+    double fillRate,
+    List<FillRateBucket> fillRates,
+    long nearFull,
+    Instant asOf) {
+
+  public record FillRateBucket(int fromPercent, int toPercent, long schools) {}
+}
@@ -0,0 +1,17 @@
+package com.hectorherranz.schoolapi.application.response;
+
+import com.hectorherranz.schoolapi.domain.model.School;
+import java.util.UUID;
+
+/**
+ * Read model for the school detail page. Carries the enrolled count instead of the roster, so it
+ * can be loaded with a single aggregate query.
+ */
+public record SchoolDetailView(UUID id, String name, int capacity, int enrolledCount) {
+
+  /** Built from an aggregate a write just saved, so the caller need not read it back. */
+  public static SchoolDetailView of(School school) {
+    return new SchoolDetailView(
+        school.id(), school.name(), school.capacity().value(), school.enrolledCount());
+  }
+}
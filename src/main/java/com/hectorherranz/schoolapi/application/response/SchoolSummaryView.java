@@ -0,0 +1,11 @@
+package com.hectorherranz.schoolapi.application.response;
+
+import java.util.UUID;
+
+/** Read model for school search results; the enrolled count is computed by the search query. */
+public record SchoolSummaryView(UUID id, String name, int capacity, int enrolledCount) {
+
+  public int availableSpots() {
+    return capacity - enrolledCount;
+  }
+}
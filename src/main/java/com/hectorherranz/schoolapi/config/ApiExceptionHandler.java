@@ -1,5 +1,8 @@
 package com.hectorherranz.schoolapi.config;
 
+import com.hectorherranz.schoolapi.adapters.in.rest.exports.UnsupportedExportFormatException;
+import com.hectorherranz.schoolapi.application.exception.InvalidCursorException;
+import com.hectorherranz.schoolapi.application.exception.InvalidPageSizeException;
 import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
@@ -7,10 +10,12 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -50,6 +55,38 @@ public class ApiExceptionHandler {
         .body(pd);
   }
 
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidCursorException(InvalidCursorException ex) {
+    var pd = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    pd.setTitle("Bad Request");
+    pd.setProperty("timestamp", LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .body(pd);
+  }
+
+  @ExceptionHandler(InvalidPageSizeException.class)
+  public ResponseEntity<ProblemDetail> handleInvalidPageSizeException(
+      InvalidPageSizeException ex) {
+    var pd = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    pd.setTitle("Bad Request");
+    pd.setProperty("timestamp", LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .body(pd);
+  }
+
+  @ExceptionHandler(UnsupportedExportFormatException.class)
+  public ResponseEntity<ProblemDetail> handleUnsupportedExportFormatException(
+      UnsupportedExportFormatException ex) {
+    var pd = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    pd.setTitle("Bad Request");
+    pd.setProperty("timestamp", LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .body(pd);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ProblemDetail> handleValidationExceptions(
       MethodArgumentNotValidException ex) {
@@ -83,6 +120,21 @@ public class ApiExceptionHandler {
         .body(pd);
   }
 
+  // No connection within the pool or permit timeout: the database is saturated, not broken
+  @ExceptionHandler(CannotCreateTransactionException.class)
+  public ResponseEntity<ProblemDetail> handleCannotCreateTransaction(
+      CannotCreateTransactionException ex) {
+    var pd =
+        ProblemDetail.forStatusAndDetail(
+            HttpStatus.SERVICE_UNAVAILABLE, "The database is busy; retry shortly");
+    pd.setTitle("Service Unavailable");
+    pd.setProperty("timestamp", LocalDateTime.now());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .body(pd);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ProblemDetail> handleGenericException(Exception ex) {
     var pd =
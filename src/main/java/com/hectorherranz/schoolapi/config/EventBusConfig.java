@@ -0,0 +1,58 @@
+package com.hectorherranz.schoolapi.config;
+
+import com.hectorherranz.schoolapi.adapters.out.event.DomainEventConsumer;
+import com.hectorherranz.schoolapi.adapters.out.event.DomainEventMetricsConsumer;
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher;
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher.OnFull;
+import com.hectorherranz.schoolapi.adapters.out.event.TransactionalEventPublisher;
+import com.hectorherranz.schoolapi.adapters.out.event.WaitStrategy;
+import com.hectorherranz.schoolapi.adapters.out.outbox.OutboxEventPublisher;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Locale;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Domain event fan-out: the outbox for other systems and a ring buffer for in-process consumers,
+ * i.e. every {@link DomainEventConsumer} bean, each on its own thread.
+ */
+@Configuration(proxyBeanMethods = false)
+public class EventBusConfig {
+
+  @Bean
+  @Primary
+  public DomainEventPublisher domainEventPublisher(
+      OutboxEventPublisher outboxEventPublisher, RingBufferEventPublisher eventBus) {
+    return new TransactionalEventPublisher(outboxEventPublisher, eventBus);
+  }
+
+  /** Closed with the context, after its consumers have drained. */
+  @Bean
+  public RingBufferEventPublisher eventBus(
+      ObjectProvider<DomainEventConsumer> consumers,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${schoolapi.events.bus.capacity:8192}") int capacity,
+      @Value("${schoolapi.events.bus.wait-strategy:sleeping}") String waitStrategy,
+      @Value("${schoolapi.events.bus.on-full:drop}") String onFull) {
+    RingBufferEventPublisher bus =
+        new RingBufferEventPublisher(
+            capacity,
+            WaitStrategy.named(waitStrategy),
+            OnFull.valueOf(onFull.toUpperCase(Locale.ROOT)),
+            consumers.orderedStream().toList(),
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    bus.start();
+    return bus;
+  }
+
+  @Bean
+  public DomainEventMetricsConsumer domainEventMetricsConsumer(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new DomainEventMetricsConsumer(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+}
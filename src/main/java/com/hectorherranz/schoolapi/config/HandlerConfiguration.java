@@ -4,8 +4,12 @@ import com.hectorherranz.schoolapi.adapters.out.jpa.service.SchoolInfrastructure
 import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
 import com.hectorherranz.schoolapi.application.handler.UpdateSchoolHandlerOptimized;
 import com.hectorherranz.schoolapi.application.handler.UpdateStudentHandlerOptimized;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
 import com.hectorherranz.schoolapi.application.port.in.UpdateSchoolUseCase;
 import com.hectorherranz.schoolapi.application.port.in.UpdateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,8 +26,8 @@ public class HandlerConfiguration {
    */
   @Bean
   public UpdateStudentUseCase updateStudentUseCase(
-      StudentInfrastructureService infrastructureService) {
-    return new UpdateStudentHandlerOptimized(infrastructureService);
+      StudentInfrastructureService infrastructureService, StudentNameIndexPort studentNameIndex) {
+    return new UpdateStudentHandlerOptimized(infrastructureService, studentNameIndex);
   }
 
   /**
@@ -32,7 +36,11 @@ public class HandlerConfiguration {
    */
   @Bean
   public UpdateSchoolUseCase updateSchoolUseCase(
-      SchoolInfrastructureService infrastructureService) {
-    return new UpdateSchoolHandlerOptimized(infrastructureService);
+      SchoolInfrastructureService infrastructureService,
+      SchoolDetailCachePort schoolDetailCache,
+      SchoolNameFilterPort schoolNameFilter,
+      DomainEventPublisher eventPublisher) {
+    return new UpdateSchoolHandlerOptimized(
+        infrastructureService, schoolDetailCache, schoolNameFilter, eventPublisher);
   }
 }
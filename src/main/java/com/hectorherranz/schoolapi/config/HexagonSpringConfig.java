@@ -1,11 +1,32 @@
 package com.hectorherranz.schoolapi.config;
 
+import com.hectorherranz.schoolapi.adapters.out.cache.CachingSchoolRepository;
+import com.hectorherranz.schoolapi.adapters.out.cache.CaffeineSchoolDetailCache;
+import com.hectorherranz.schoolapi.adapters.out.cache.NoOpSchoolDetailCache;
 import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SchoolJpaRepository;
 import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
 import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataStudentRepository;
 import com.hectorherranz.schoolapi.adapters.out.jpa.repository.StudentJpaRepository;
+import com.hectorherranz.schoolapi.adapters.out.search.BloomSchoolNameFilter;
+import com.hectorherranz.schoolapi.adapters.out.search.InMemoryStudentNameIndex;
+import com.hectorherranz.schoolapi.adapters.out.search.IndexedStudentRepository;
+import com.hectorherranz.schoolapi.adapters.out.search.NoOpSchoolNameFilter;
+import com.hectorherranz.schoolapi.adapters.out.search.NoOpStudentNameIndex;
+import com.hectorherranz.schoolapi.adapters.out.stats.OccupancyAggregate;
+import com.hectorherranz.schoolapi.adapters.out.support.RandomUuidGenerator;
+import com.hectorherranz.schoolapi.adapters.out.support.UuidV7Generator;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
 import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -16,13 +37,84 @@ public class HexagonSpringConfig {
 
   @Bean
   public SchoolRepositoryPort schoolRepositoryPort(
-      SpringDataSchoolRepository springDataSchoolRepository) {
-    return new SchoolJpaRepository(springDataSchoolRepository);
+      SpringDataSchoolRepository springDataSchoolRepository,
+      SchoolDetailCachePort schoolDetailCache) {
+    return new CachingSchoolRepository(
+        new SchoolJpaRepository(springDataSchoolRepository), schoolDetailCache);
+  }
+
+  /** Primary keys: time-ordered UUIDv7 by default, random UUIDv4 with {@code uuid-version=4}. */
+  @Bean
+  public IdGeneratorPort idGenerator(@Value("${schoolapi.ids.uuid-version:7}") int uuidVersion) {
+    return switch (uuidVersion) {
+      case 4 -> new RandomUuidGenerator();
+      case 7 -> new UuidV7Generator();
+      default ->
+          throw new IllegalArgumentException(
+              "schoolapi.ids.uuid-version must be 4 or 7, was " + uuidVersion);
+    };
+  }
+
+  /** Read-through cache for school details; invalidated after commit by the write handlers. */
+  @Bean
+  public SchoolDetailCachePort schoolDetailCache(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${schoolapi.cache.school-detail.enabled:true}") boolean enabled,
+      @Value("${schoolapi.cache.school-detail.max-size:10000}") long maxSize,
+      @Value("${schoolapi.cache.school-detail.ttl:30s}") Duration ttl) {
+    if (!enabled) {
+      return new NoOpSchoolDetailCache();
+    }
+    return new CaffeineSchoolDetailCache(maxSize, ttl, meterRegistry.getIfAvailable());
   }
 
   @Bean
   public StudentRepositoryPort studentRepositoryPort(
-      SpringDataStudentRepository springDataStudentRepository) {
-    return new StudentJpaRepository(springDataStudentRepository);
+      SpringDataStudentRepository springDataStudentRepository,
+      EntityManager entityManager,
+      StudentNameIndexPort studentNameIndex) {
+    return new IndexedStudentRepository(
+        new StudentJpaRepository(springDataStudentRepository, entityManager), studentNameIndex);
+  }
+
+  /** In-process student name index; off by default since each instance only sees its writes. */
+  @Bean
+  public StudentNameIndexPort studentNameIndex(
+      SpringDataStudentRepository springDataStudentRepository,
+      @Value("${schoolapi.search.student-index.enabled:false}") boolean enabled,
+      @Value("${schoolapi.search.student-index.max-schools:10000}") int maxSchools,
+      @Value("${schoolapi.search.student-index.refresh-after:5m}") Duration refreshAfter) {
+    if (!enabled) {
+      return new NoOpStudentNameIndex();
+    }
+    return new InMemoryStudentNameIndex(springDataStudentRepository, maxSchools, refreshAfter);
+  }
+
+  /**
+   * Bloom filter in front of the duplicate school name lookup, loaded in the background at
+   * startup. The unique lower_name constraint stays the authority, so a stale filter is safe.
+   */
+  @Bean
+  public SchoolNameFilterPort schoolNameFilter(
+      SpringDataSchoolRepository springDataSchoolRepository,
+      @Value("${schoolapi.school-name-filter.enabled:true}") boolean enabled,
+      @Value("${schoolapi.school-name-filter.expected-names:1000000}") long expectedNames,
+      @Value("${schoolapi.school-name-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+    if (!enabled) {
+      return new NoOpSchoolNameFilter();
+    }
+    BloomSchoolNameFilter filter =
+        new BloomSchoolNameFilter(springDataSchoolRepository, expectedNames, falsePositiveRate);
+    filter.warm();
+    return filter;
+  }
+
+  /**
+   * Occupancy statistics in memory: moved by the event bus, loaded and checked by {@code
+   * OccupancyReconciler}.
+   */
+  @Bean
+  public OccupancyAggregate occupancyStats() {
+    return new OccupancyAggregate(Clock.systemUTC());
   }
 }
@@ -0,0 +1,70 @@
+package com.hectorherranz.schoolapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataOutboxRepository;
+import com.hectorherranz.schoolapi.adapters.out.outbox.FileOutboxSink;
+import com.hectorherranz.schoolapi.adapters.out.outbox.InProcessOutboxSink;
+import com.hectorherranz.schoolapi.adapters.out.outbox.OutboxEventPublisher;
+import com.hectorherranz.schoolapi.adapters.out.outbox.OutboxRelay;
+import com.hectorherranz.schoolapi.adapters.out.outbox.OutboxSink;
+import com.hectorherranz.schoolapi.application.port.out.IdGeneratorPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Transactional outbox: handlers publish domain events into {@code outbox_events} within their
+ * own transaction, and {@link OutboxRelay} delivers them to the sinks named in {@code
+ * schoolapi.outbox.sinks} ({@code in-process}, {@code file}) in the background.
+ */
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+
+  /** Wrapped by the application's publisher, see {@link EventBusConfig}. */
+  @Bean
+  public OutboxEventPublisher outboxEventPublisher(
+      EntityManager entityManager, ObjectMapper objectMapper, IdGeneratorPort idGenerator) {
+    return new OutboxEventPublisher(entityManager, objectMapper, idGenerator);
+  }
+
+  @Bean
+  public OutboxRelay outboxRelay(
+      SpringDataOutboxRepository outboxRepository,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher applicationEventPublisher,
+      ObjectMapper objectMapper,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${schoolapi.outbox.sinks:in-process}") String[] sinkNames,
+      @Value("${schoolapi.outbox.file-sink.path:outbox/events.ndjson}") String filePath,
+      @Value("${schoolapi.outbox.relay.enabled:true}") boolean enabled,
+      @Value("${schoolapi.outbox.relay.batch-size:100}") int batchSize) {
+    List<OutboxSink> sinks = new ArrayList<>();
+    for (String sinkName : sinkNames) {
+      switch (sinkName.trim()) {
+        case "in-process" -> sinks.add(new InProcessOutboxSink(applicationEventPublisher));
+        case "file" -> sinks.add(new FileOutboxSink(Path.of(filePath), objectMapper));
+        default ->
+            throw new IllegalArgumentException(
+                "schoolapi.outbox.sinks: unknown sink '" + sinkName + "' (in-process, file)");
+      }
+    }
+    return new OutboxRelay(
+        outboxRepository,
+        transactionTemplate,
+        sinks,
+        batchSize,
+        enabled,
+        Clock.systemUTC(),
+        meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+}
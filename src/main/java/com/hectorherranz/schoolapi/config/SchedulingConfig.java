@@ -0,0 +1,9 @@
+package com.hectorherranz.schoolapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Enables background jobs such as the enrolled_count drift verification. */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,62 @@
+package com.hectorherranz.schoolapi.config;
+
+import com.hectorherranz.schoolapi.adapters.out.support.EntityLoadCounter;
+import com.hectorherranz.schoolapi.adapters.out.support.RowCountingDataSource;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-request SQL reporting and statement budgets (see {@link SqlBudgetFilter}), outside {@code
+ * prod}. Statements are counted everywhere for the use case metrics; rows and entities only here,
+ * since counting rows puts proxies around every JDBC statement and result set.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!prod")
+public class SqlBudgetConfig {
+
+  @Bean
+  static BeanPostProcessor rowCountingDataSource() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof RowCountingDataSource)) {
+          return new RowCountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer entityLoadCounter() {
+    return properties -> properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCounter());
+  }
+
+  @Bean
+  SqlBudgetFilter sqlBudgetFilter(
+      Environment environment,
+      @Value("${schoolapi.sql-budget.on-exceeded:log}") String onExceeded) {
+    ResolvableType budgetsType =
+        ResolvableType.forClassWithGenerics(
+            Map.class,
+            ResolvableType.forClass(String.class),
+            ResolvableType.forClassWithGenerics(Map.class, String.class, Integer.class));
+    Bindable<Map<String, Map<String, Integer>>> bindable = Bindable.of(budgetsType);
+    Map<String, Map<String, Integer>> budgets =
+        Binder.get(environment).bind("schoolapi.sql-budget.endpoints", bindable).orElse(Map.of());
+    return new SqlBudgetFilter(
+        budgets, SqlBudgetFilter.OnExceeded.valueOf(onExceeded.toUpperCase(Locale.ROOT)));
+  }
+}
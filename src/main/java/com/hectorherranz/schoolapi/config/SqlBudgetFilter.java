@@ -0,0 +1,162 @@
+package com.hectorherranz.schoolapi.config;
+
+import com.hectorherranz.schoolapi.adapters.out.support.EntityLoadCounter;
+import com.hectorherranz.schoolapi.adapters.out.support.RowCountingDataSource;
+import com.hectorherranz.schoolapi.adapters.out.support.SqlStatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Reports the SQL work behind each request and checks it against a per-endpoint statement budget.
+ *
+ * <p>Statements, rows and entities loaded on the request thread before the response body starts go
+ * out as {@code X-Sql-Statements}, {@code X-Sql-Rows} and {@code X-Sql-Entities}. When the request
+ * completes, its statements are compared to the budget for its method and route pattern; an overrun
+ * is logged, or thrown with {@link OnExceeded#FAIL} so tests catch an N+1 where it is introduced.
+ * Work done on other threads, such as streamed exports, is not seen.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+  public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+  public static final String ROWS_HEADER = "X-Sql-Rows";
+  public static final String ENTITIES_HEADER = "X-Sql-Entities";
+
+  private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+  /** What to do when a request runs more statements than its endpoint's budget. */
+  public enum OnExceeded {
+    LOG,
+    FAIL
+  }
+
+  private final Map<String, Map<String, Integer>> budgets;
+  private final OnExceeded onExceeded;
+
+  /**
+   * @param budgets statement budgets by lower-case HTTP method, then route pattern (e.g. {@code
+   *     get -> /api/schools/{id} -> 2}); endpoints without one are not checked
+   */
+  public SqlBudgetFilter(Map<String, Map<String, Integer>> budgets, OnExceeded onExceeded) {
+    this.budgets = budgets;
+    this.onExceeded = onExceeded;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    Usage before = Usage.current();
+    Thread requestThread = Thread.currentThread();
+    UsageHeadersResponse wrapped =
+        new UsageHeadersResponse(
+            response,
+            () -> {
+              if (Thread.currentThread() == requestThread) {
+                Usage used = Usage.current().minus(before);
+                response.setHeader(STATEMENTS_HEADER, Long.toString(used.statements()));
+                response.setHeader(ROWS_HEADER, Long.toString(used.rows()));
+                response.setHeader(ENTITIES_HEADER, Long.toString(used.entities()));
+              }
+            });
+
+    chain.doFilter(request, wrapped);
+    wrapped.writeHeaders(); // no body was written
+    checkBudget(request, Usage.current().minus(before).statements());
+  }
+
+  private void checkBudget(HttpServletRequest request, long statements) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    if (pattern == null) {
+      return;
+    }
+    Integer budget =
+        budgets.getOrDefault(request.getMethod().toLowerCase(Locale.ROOT), Map.of()).get(pattern);
+    if (budget == null || statements <= budget) {
+      return;
+    }
+
+    String message =
+        "%s %s ran %d SQL statements, over its budget of %d"
+            .formatted(request.getMethod(), pattern, statements, budget);
+    if (onExceeded == OnExceeded.FAIL) {
+      throw new IllegalStateException(message);
+    }
+    log.warn(message);
+  }
+
+  private record Usage(long statements, long rows, long entities) {
+
+    static Usage current() {
+      return new Usage(
+          SqlStatementCounter.current(),
+          RowCountingDataSource.current(),
+          EntityLoadCounter.current());
+    }
+
+    Usage minus(Usage earlier) {
+      return new Usage(
+          statements - earlier.statements, rows - earlier.rows, entities - earlier.entities);
+    }
+  }
+
+  /** Writes the usage headers once, just before anything can commit the response. */
+  private static final class UsageHeadersResponse extends HttpServletResponseWrapper {
+
+    private final Runnable headerWriter;
+    private boolean written;
+
+    UsageHeadersResponse(HttpServletResponse response, Runnable headerWriter) {
+      super(response);
+      this.headerWriter = headerWriter;
+    }
+
+    void writeHeaders() {
+      if (!written) {
+        written = true;
+        headerWriter.run();
+      }
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeHeaders();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeHeaders();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeHeaders();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int status) throws IOException {
+      writeHeaders();
+      super.sendError(status);
+    }
+
+    @Override
+    public void sendError(int status, String message) throws IOException {
+      writeHeaders();
+      super.sendError(status, message);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.hectorherranz.schoolapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Times and counts every use case call; see {@link UseCaseMetricsInterceptor}. */
+@Configuration(proxyBeanMethods = false)
+public class UseCaseMetricsConfig {
+
+  /** Static and lazy on the registry, so the registry is not created during post-processing. */
+  @Bean
+  static UseCaseMetricsPostProcessor useCaseMetricsPostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new UseCaseMetricsPostProcessor(meterRegistry);
+  }
+}
@@ -0,0 +1,90 @@
+package com.hectorherranz.schoolapi.config;
+
+import com.hectorherranz.schoolapi.adapters.out.support.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Records every use case call, tagged with the use case port, the port method and the handler
+ * class:
+ *
+ * <ul>
+ *   <li>{@code schoolapi.usecase}: latency as a percentile histogram, with outcome and exception;
+ *   <li>{@code schoolapi.usecase.errors}: failures by exception class, e.g. {@code
+ *       NotFoundException}, {@code CapacityExceededException}, {@code DuplicateNameException};
+ *   <li>{@code schoolapi.usecase.sql.statements}: statements the call prepared (see {@link
+ *       SqlStatementCounter}).
+ * </ul>
+ *
+ * <p>Applied outside the transaction advice, so timings include the commit.
+ */
+class UseCaseMetricsInterceptor implements MethodInterceptor {
+
+  static final String TIMER = "schoolapi.usecase";
+  static final String ERRORS = "schoolapi.usecase.errors";
+  static final String STATEMENTS = "schoolapi.usecase.sql.statements";
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  UseCaseMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    if (registry == null) {
+      return invocation.proceed();
+    }
+
+    Class<?> handlerClass = AopUtils.getTargetClass(invocation.getThis());
+    String useCase =
+        UseCaseMetricsPostProcessor.useCaseOf(handlerClass, invocation.getMethod())
+            .getSimpleName();
+    String method = invocation.getMethod().getName();
+    String handler = handlerClass.getSimpleName();
+
+    long statementsBefore = SqlStatementCounter.current();
+    Timer.Sample sample = Timer.start(registry);
+    String exception = "none";
+    try {
+      return invocation.proceed();
+    } catch (Throwable e) {
+      exception = e.getClass().getSimpleName();
+      registry
+          .counter(
+              ERRORS,
+              "usecase",
+              useCase,
+              "method",
+              method,
+              "handler",
+              handler,
+              "exception",
+              exception)
+          .increment();
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder(TIMER)
+              .description("Use case handler latency, including the commit")
+              .tags("usecase", useCase, "method", method, "handler", handler)
+              .tag("outcome", "none".equals(exception) ? "success" : "error")
+              .tag("exception", exception)
+              .publishPercentileHistogram()
+              .register(registry));
+      DistributionSummary.builder(STATEMENTS)
+          .description("SQL statements prepared per use case call")
+          .baseUnit("statements")
+          .tags("usecase", useCase, "method", method, "handler", handler)
+          .publishPercentileHistogram()
+          .register(registry)
+          .record(SqlStatementCounter.current() - statementsBefore);
+    }
+  }
+}
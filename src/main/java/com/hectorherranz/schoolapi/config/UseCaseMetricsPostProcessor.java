@@ -0,0 +1,61 @@
+package com.hectorherranz.schoolapi.config;
+
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Adds {@link UseCaseMetricsInterceptor} to every bean implementing an inbound port ({@code
+ * application.port.in}), around each method the port declares (usually just {@code handle}).
+ * Beans already proxied for {@code @Transactional} get the advice first in their chain, so it
+ * wraps the transaction.
+ */
+public class UseCaseMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+  private static final String PORT_IN_PACKAGE = CreateSchoolUseCase.class.getPackageName();
+
+  public UseCaseMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.advisor =
+        new DefaultPointcutAdvisor(
+            new UseCasePointcut(), new UseCaseMetricsInterceptor(meterRegistry));
+    this.beforeExistingAdvisors = true;
+    setProxyTargetClass(true);
+  }
+
+  /** The inbound port a handler implements, or {@code null} if it implements none. */
+  static Class<?> useCaseOf(Class<?> handlerClass) {
+    return useCaseOf(handlerClass, null);
+  }
+
+  /**
+   * The inbound port of the handler that declares {@code method} (any port if {@code null}), or
+   * {@code null} if there is none, e.g. for a helper method the handler adds itself.
+   */
+  static Class<?> useCaseOf(Class<?> handlerClass, Method method) {
+    for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(handlerClass)) {
+      if (type.getPackageName().equals(PORT_IN_PACKAGE)
+          && (method == null
+              || ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes()))) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  private static final class UseCasePointcut extends StaticMethodMatcherPointcut {
+
+    UseCasePointcut() {
+      setClassFilter(type -> useCaseOf(type) != null);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+      return useCaseOf(targetClass, method) != null;
+    }
+  }
+}
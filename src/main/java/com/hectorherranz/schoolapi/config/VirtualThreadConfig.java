@@ -0,0 +1,65 @@
+package com.hectorherranz.schoolapi.config;
+
+import com.hectorherranz.schoolapi.adapters.out.support.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreadType;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Additions for {@code spring.threads.virtual.enabled=true}, under which Tomcat requests (and so
+ * every {@code @Transactional} handler), {@code @Async} and {@code @Scheduled} work run on virtual
+ * threads. Request concurrency is then no longer capped by a thread pool, so database concurrency
+ * is capped on its own, and carrier pinning is reported.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreadType(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  /** Wraps the pool so callers beyond its size wait on a semaphore rather than inside it. */
+  @Bean
+  static BeanPostProcessor concurrencyLimitedDataSource(
+      @Value("${schoolapi.virtual-threads.max-db-concurrency:10}") int maxConcurrent,
+      @Value("${schoolapi.virtual-threads.db-acquire-timeout:30s}") Duration acquireTimeout) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof ConcurrencyLimitedDataSource)) {
+          return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeout);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  MeterBinder databasePermitMetrics(DataSource dataSource) {
+    return registry -> {
+      if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+        Gauge.builder(
+                "schoolapi.db.permits.waiting", limited, ConcurrencyLimitedDataSource::waiting)
+            .description("Callers waiting for a database permit")
+            .register(registry);
+        Gauge.builder(
+                "schoolapi.db.permits.available", limited, ConcurrencyLimitedDataSource::available)
+            .description("Database permits not held by an open connection")
+            .register(registry);
+      }
+    };
+  }
+
+  @Bean
+  VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${schoolapi.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+    return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+  }
+}
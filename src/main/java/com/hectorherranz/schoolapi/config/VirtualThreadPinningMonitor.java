@@ -0,0 +1,114 @@
+package com.hectorherranz.schoolapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event, raised when a virtual thread blocks while
+ * it cannot leave its carrier (for instance inside {@code synchronized}), and reports it by source:
+ * Hibernate, the JDBC driver or pool, or other code.
+ *
+ * <p>Each event increments {@code schoolapi.threads.virtual.pinned} tagged with the source; the
+ * first few per source are logged with their innermost frames.
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  static final String EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_PER_SOURCE = 5;
+  private static final int LOGGED_FRAMES = 12;
+
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+  private final Map<String, AtomicInteger> logged = new ConcurrentHashMap<>();
+
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+    this.meterRegistry = meterRegistry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recording = new RecordingStream();
+    recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(EVENT, this::pinned);
+    recording.startAsync();
+    stream = recording;
+    log.info("Reporting virtual thread pinning longer than {} ms", threshold.toMillis());
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  /**
+   * Attributes a pinned stack, innermost frame first, to the innermost Hibernate or JDBC frame on
+   * it; that is the library that was running when the thread blocked.
+   */
+  static String source(List<String> frameTypes) {
+    for (String type : frameTypes) {
+      if (type.startsWith("org.hibernate.")) {
+        return "hibernate";
+      }
+      if (type.startsWith("java.sql.")
+          || type.startsWith("com.zaxxer.hikari.")
+          || type.startsWith("org.postgresql.")
+          || type.startsWith("org.h2.")) {
+        return "jdbc";
+      }
+    }
+    return "other";
+  }
+
+  /* ---------- Internals ---------- */
+
+  private void pinned(RecordedEvent event) {
+    List<RecordedFrame> frames =
+        event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+    String source =
+        source(frames.stream().map(frame -> frame.getMethod().getType().getName()).toList());
+    meterRegistry.counter("schoolapi.threads.virtual.pinned", "source", source).increment();
+
+    if (logged.computeIfAbsent(source, s -> new AtomicInteger()).getAndIncrement()
+        < LOGGED_PER_SOURCE) {
+      log.warn(
+          "Virtual thread pinned for {} ms in {} code:\n\t{}",
+          event.getDuration().toMillis(),
+          source,
+          frames.stream()
+              .limit(LOGGED_FRAMES)
+              .map(
+                  frame ->
+                      frame.getMethod().getType().getName()
+                          + "."
+                          + frame.getMethod().getName()
+                          + ":"
+                          + frame.getLineNumber())
+              .collect(Collectors.joining("\n\t")));
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.hectorherranz.schoolapi.domain.event;
+
+public record SchoolCreatedEvent(java.util.UUID schoolId, String name, int capacity)
+    implements DomainEvent {}
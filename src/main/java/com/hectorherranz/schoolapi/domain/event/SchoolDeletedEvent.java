@@ -0,0 +1,4 @@
+package com.hectorherranz.schoolapi.domain.event;
+
+/** A school and its whole roster were deleted; no per-student removal events are raised. */
+public record SchoolDeletedEvent(java.util.UUID schoolId) implements DomainEvent {}
@@ -0,0 +1,5 @@
+package com.hectorherranz.schoolapi.domain.event;
+
+/** A school's name or capacity changed; carries the values after the change. */
+public record SchoolUpdatedEvent(java.util.UUID schoolId, String name, int capacity)
+    implements DomainEvent {}
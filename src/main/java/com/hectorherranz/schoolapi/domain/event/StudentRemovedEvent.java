@@ -0,0 +1,4 @@
+package com.hectorherranz.schoolapi.domain.event;
+
+public record StudentRemovedEvent(java.util.UUID studentId, java.util.UUID schoolId)
+    implements DomainEvent {}
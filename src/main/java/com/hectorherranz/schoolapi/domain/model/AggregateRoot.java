@@ -1,19 +0,0 @@
-package com.hectorherranz.schoolapi.domain.model;
-
-import com.hectorherranz.schoolapi.domain.event.DomainEvent;
-import java.util.ArrayList;
-import java.util.List;
-
-public abstract class AggregateRoot {
-  protected final List<DomainEvent> domainEvents = new ArrayList<>();
-
-  protected void registerEvent(DomainEvent event) {
-    domainEvents.add(event);
-  }
-
-  public List<DomainEvent> pullDomainEvents() {
-    List<DomainEvent> events = new ArrayList<>(domainEvents);
-    domainEvents.clear();
-    return events;
-  }
-}
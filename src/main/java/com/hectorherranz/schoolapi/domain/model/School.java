@@ -1,6 +1,5 @@
 package com.hectorherranz.schoolapi.domain.model;
 
-import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
 import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.draft.StudentDraft;
@@ -13,7 +12,7 @@ import java.util.Map;
 import java.util.UUID;
 
 /** Aggregate root : School */
-public class School extends AggregateRoot {
+public class School {
 
   private final UUID id;
   private String name;
@@ -45,14 +44,12 @@ public class School extends AggregateRoot {
 
   /* ---------- business operations ---------- */
 
-  public Student enrollStudent(StudentDraft draft) {
+  /** Enrolls a new student under {@code studentId}, minted by the caller's id generator. */
+  public Student enrollStudent(UUID studentId, StudentDraft draft) {
     if (!capacity.canEnroll(studentsById.size())) throw new CapacityExceededException(id);
 
-    UUID studentId = UUID.randomUUID();
     Student s = new Student(studentId, draft.name(), this.id);
     studentsById.put(studentId, s);
-
-    registerEvent(new StudentEnrolledEvent(studentId, this.id));
     return s;
   }
 
@@ -0,0 +1,13 @@
+package com.hectorherranz.schoolapi.domain.model.valueobject;
+
+/**
+ * Longest school or student name accepted. A domain rule, not a column width: the Liquibase
+ * columns are {@code varchar(255)} (TASK-001), and the JPA mappings declare this value as their
+ * {@code length}, so Hibernate-generated schemas (tests) agree with it.
+ */
+public final class NameLimits {
+
+  public static final int MAX_LENGTH = 100;
+
+  private NameLimits() {}
+}
@@ -11,18 +11,20 @@ import com.hectorherranz.schoolapi.adapters.in.rest.mapper.SchoolDtoMapper;
 import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
 import com.hectorherranz.schoolapi.application.port.in.*;
+import com.hectorherranz.schoolapi.application.query.SearchAvailableSchoolsQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
 import com.hectorherranz.schoolapi.application.response.PagedResponse;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
-import com.hectorherranz.schoolapi.domain.model.School;
-import com.hectorherranz.schoolapi.domain.model.Student;
-import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
@@ -41,6 +43,10 @@ class SchoolControllerTest {
 
   @Mock private SearchSchoolsUseCase searchSchoolsUseCase;
 
+  @Mock private SearchSchoolsByCursorUseCase searchSchoolsByCursorUseCase;
+
+  @Mock private SearchAvailableSchoolsUseCase searchAvailableSchoolsUseCase;
+
   @Mock private SchoolDtoMapper schoolDtoMapper;
 
   private SchoolController controller;
@@ -54,6 +60,8 @@ class SchoolControllerTest {
             updateSchoolUseCase,
             deleteSchoolUseCase,
             searchSchoolsUseCase,
+            searchSchoolsByCursorUseCase,
+            searchAvailableSchoolsUseCase,
             schoolDtoMapper);
   }
 
@@ -63,12 +71,11 @@ class SchoolControllerTest {
     UUID schoolId = UUID.randomUUID();
     SchoolRequest request = new SchoolRequest("Hogwarts School", 500);
     CreateSchoolCommand expectedCommand = new CreateSchoolCommand("Hogwarts School", 500);
-    School school = School.rehydrate(schoolId, "Hogwarts School", new Capacity(500), List.of());
+    SchoolDetailView school = new SchoolDetailView(schoolId, "Hogwarts School", 500, 0);
     SchoolDetail expectedResponse = new SchoolDetail(schoolId, "Hogwarts School", 500, 0);
 
     when(schoolDtoMapper.toCreateCommand(request)).thenReturn(expectedCommand);
-    when(createSchoolUseCase.handle(expectedCommand)).thenReturn(schoolId);
-    when(getSchoolByIdUseCase.handle(any())).thenReturn(school);
+    when(createSchoolUseCase.handle(expectedCommand)).thenReturn(school);
     when(schoolDtoMapper.toDetail(school)).thenReturn(expectedResponse);
 
     // Act
@@ -84,7 +91,7 @@ class SchoolControllerTest {
 
     verify(schoolDtoMapper).toCreateCommand(request);
     verify(createSchoolUseCase).handle(expectedCommand);
-    verify(getSchoolByIdUseCase).handle(any());
+    verifyNoInteractions(getSchoolByIdUseCase);
     verify(schoolDtoMapper).toDetail(school);
   }
 
@@ -92,7 +99,7 @@ class SchoolControllerTest {
   void givenValidId_whenGetSchoolById_thenReturns200() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
-    School school = School.rehydrate(schoolId, "Hogwarts School", new Capacity(500), List.of());
+    SchoolDetailView school = new SchoolDetailView(schoolId, "Hogwarts School", 500, 0);
     SchoolDetail expectedResponse = new SchoolDetail(schoolId, "Hogwarts School", 500, 0);
 
     when(getSchoolByIdUseCase.handle(any())).thenReturn(school);
@@ -120,12 +127,11 @@ class SchoolControllerTest {
     UpdateSchoolCommand expectedCommand =
         new UpdateSchoolCommand(
             schoolId, java.util.Optional.of("Updated School Name"), java.util.Optional.of(600));
-    School school = School.rehydrate(schoolId, "Updated School Name", new Capacity(600), List.of());
+    SchoolDetailView school = new SchoolDetailView(schoolId, "Updated School Name", 600, 0);
     SchoolDetail expectedResponse = new SchoolDetail(schoolId, "Updated School Name", 600, 0);
 
     when(schoolDtoMapper.toUpdateCommand(schoolId, request)).thenReturn(expectedCommand);
-    doNothing().when(updateSchoolUseCase).handle(expectedCommand);
-    when(getSchoolByIdUseCase.handle(any())).thenReturn(school);
+    when(updateSchoolUseCase.handle(expectedCommand)).thenReturn(school);
     when(schoolDtoMapper.toDetail(school)).thenReturn(expectedResponse);
 
     // Act
@@ -140,7 +146,7 @@ class SchoolControllerTest {
 
     verify(schoolDtoMapper).toUpdateCommand(schoolId, request);
     verify(updateSchoolUseCase).handle(expectedCommand);
-    verify(getSchoolByIdUseCase).handle(any());
+    verifyNoInteractions(getSchoolByIdUseCase);
     verify(schoolDtoMapper).toDetail(school);
   }
 
@@ -166,14 +172,13 @@ class SchoolControllerTest {
     UUID schoolId1 = UUID.randomUUID();
     UUID schoolId2 = UUID.randomUUID();
 
-    School school1 = School.rehydrate(schoolId1, "Hogwarts School", new Capacity(500), List.of());
-    School school2 =
-        School.rehydrate(schoolId2, "Beauxbatons Academy", new Capacity(300), List.of());
+    SchoolSummaryView school1 = new SchoolSummaryView(schoolId1, "Hogwarts School", 500, 0);
+    SchoolSummaryView school2 = new SchoolSummaryView(schoolId2, "Beauxbatons Academy", 300, 0);
 
-    SchoolSummary summary1 = new SchoolSummary(schoolId1, "Hogwarts School", 500, 0);
-    SchoolSummary summary2 = new SchoolSummary(schoolId2, "Beauxbatons Academy", 300, 0);
+    SchoolSummary summary1 = new SchoolSummary(schoolId1, "Hogwarts School", 500, 0, 500);
+    SchoolSummary summary2 = new SchoolSummary(schoolId2, "Beauxbatons Academy", 300, 0, 300);
 
-    PagedResponse<School> pagedResponse =
+    PagedResponse<SchoolSummaryView> pagedResponse =
         new PagedResponse<>(List.of(school1, school2), 0, 20, 2, 1, false, false);
 
     when(searchSchoolsUseCase.handle(any())).thenReturn(pagedResponse);
@@ -196,17 +201,17 @@ class SchoolControllerTest {
     assertFalse(response.getBody().hasPrevious());
 
     verify(searchSchoolsUseCase).handle(any());
-    verify(schoolDtoMapper, times(2)).toSummary(any());
+    verify(schoolDtoMapper, times(2)).toSummary(any(SchoolSummaryView.class));
   }
 
   @Test
   void givenEmptyQuery_whenSearchSchools_thenReturnsAllSchools() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
-    School school = School.rehydrate(schoolId, "Hogwarts School", new Capacity(500), List.of());
-    SchoolSummary summary = new SchoolSummary(schoolId, "Hogwarts School", 500, 0);
+    SchoolSummaryView school = new SchoolSummaryView(schoolId, "Hogwarts School", 500, 0);
+    SchoolSummary summary = new SchoolSummary(schoolId, "Hogwarts School", 500, 0, 500);
 
-    PagedResponse<School> pagedResponse =
+    PagedResponse<SchoolSummaryView> pagedResponse =
         new PagedResponse<>(List.of(school), 0, 20, 1, 1, false, false);
 
     when(searchSchoolsUseCase.handle(any())).thenReturn(pagedResponse);
@@ -230,15 +235,7 @@ class SchoolControllerTest {
   void givenSchoolWithStudents_whenGetSchoolById_thenReturnsCorrectEnrolledCount() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
-    UUID studentId1 = UUID.randomUUID();
-    UUID studentId2 = UUID.randomUUID();
-
-    List<Student> students =
-        List.of(
-            new Student(studentId1, "Harry Potter", schoolId),
-            new Student(studentId2, "Hermione Granger", schoolId));
-
-    School school = School.rehydrate(schoolId, "Hogwarts School", new Capacity(500), students);
+    SchoolDetailView school = new SchoolDetailView(schoolId, "Hogwarts School", 500, 2);
     SchoolDetail expectedResponse = new SchoolDetail(schoolId, "Hogwarts School", 500, 2);
 
     when(getSchoolByIdUseCase.handle(any())).thenReturn(school);
@@ -265,15 +262,14 @@ class SchoolControllerTest {
     UUID schoolId1 = UUID.randomUUID();
     UUID schoolId2 = UUID.randomUUID();
 
-    School school1 = School.rehydrate(schoolId1, "Hogwarts School", new Capacity(500), List.of());
-    School school2 =
-        School.rehydrate(schoolId2, "Beauxbatons Academy", new Capacity(300), List.of());
+    SchoolSummaryView school1 = new SchoolSummaryView(schoolId1, "Hogwarts School", 500, 0);
+    SchoolSummaryView school2 = new SchoolSummaryView(schoolId2, "Beauxbatons Academy", 300, 0);
 
-    SchoolSummary summary1 = new SchoolSummary(schoolId1, "Hogwarts School", 500, 0);
-    SchoolSummary summary2 = new SchoolSummary(schoolId2, "Beauxbatons Academy", 300, 0);
+    SchoolSummary summary1 = new SchoolSummary(schoolId1, "Hogwarts School", 500, 0, 500);
+    SchoolSummary summary2 = new SchoolSummary(schoolId2, "Beauxbatons Academy", 300, 0, 300);
 
     // Simulate page 0 of 2 pages (hasNext = true, hasPrevious = false)
-    PagedResponse<School> pagedResponse =
+    PagedResponse<SchoolSummaryView> pagedResponse =
         new PagedResponse<>(List.of(school1, school2), 0, 20, 40, 2, true, false);
 
     when(searchSchoolsUseCase.handle(any())).thenReturn(pagedResponse);
@@ -296,7 +292,59 @@ class SchoolControllerTest {
     assertFalse(response.getBody().hasPrevious());
 
     verify(searchSchoolsUseCase).handle(any());
-    verify(schoolDtoMapper, times(2)).toSummary(any());
+    verify(schoolDtoMapper, times(2)).toSummary(any(SchoolSummaryView.class));
+  }
+
+  @Test
+  void givenCursor_whenSearchSchoolsByCursor_thenReturnsCursorPageWithoutTotals() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    SchoolSummaryView school = new SchoolSummaryView(schoolId, "Hogwarts School", 500, 10);
+    SchoolSummary summary = new SchoolSummary(schoolId, "Hogwarts School", 500, 10, 490);
+
+    when(searchSchoolsByCursorUseCase.handle(any()))
+        .thenReturn(new CursorPage<>(List.of(school), 1, null, false));
+    when(schoolDtoMapper.toSummary(school)).thenReturn(summary);
+
+    // Act
+    ResponseEntity<CursorPage<SchoolSummary>> response =
+        controller.searchSchoolsByCursor("Hog", "", 1);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(List.of(summary), response.getBody().content());
+    assertNull(response.getBody().nextCursor());
+    assertFalse(response.getBody().hasNext());
+
+    verify(searchSchoolsByCursorUseCase).handle(any());
+    verify(searchSchoolsUseCase, never()).handle(any());
+  }
+
+  @Test
+  void givenMinSpots_whenSearchAvailableSchools_thenPassesFilterAndReturnsCursorPage() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    SchoolSummaryView school = new SchoolSummaryView(schoolId, "Hogwarts School", 500, 10);
+    SchoolSummary summary = new SchoolSummary(schoolId, "Hogwarts School", 500, 10, 490);
+    ArgumentCaptor<SearchAvailableSchoolsQuery> query =
+        ArgumentCaptor.forClass(SearchAvailableSchoolsQuery.class);
+
+    when(searchAvailableSchoolsUseCase.handle(query.capture()))
+        .thenReturn(new CursorPage<>(List.of(school), 1, "next", true));
+    when(schoolDtoMapper.toSummary(school)).thenReturn(summary);
+
+    // Act
+    ResponseEntity<CursorPage<SchoolSummary>> response =
+        controller.searchAvailableSchools("Hog", 25, "", 1);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(List.of(summary), response.getBody().content());
+    assertEquals("next", response.getBody().nextCursor());
+    assertEquals(new SearchAvailableSchoolsQuery("Hog", 25, "", 1), query.getValue());
+    verify(searchSchoolsByCursorUseCase, never()).handle(any());
   }
 
   // Negative path tests
@@ -315,7 +363,7 @@ class SchoolControllerTest {
         });
 
     verify(getSchoolByIdUseCase).handle(any());
-    verify(schoolDtoMapper, never()).toDetail(any());
+    verify(schoolDtoMapper, never()).toDetail(any(SchoolDetailView.class));
   }
 
   @Test
@@ -337,7 +385,7 @@ class SchoolControllerTest {
     verify(schoolDtoMapper).toCreateCommand(request);
     verify(createSchoolUseCase).handle(expectedCommand);
     verify(getSchoolByIdUseCase, never()).handle(any());
-    verify(schoolDtoMapper, never()).toDetail(any());
+    verify(schoolDtoMapper, never()).toDetail(any(SchoolDetailView.class));
   }
 
   @Test
@@ -360,7 +408,7 @@ class SchoolControllerTest {
     verify(schoolDtoMapper).toCreateCommand(request);
     verify(createSchoolUseCase).handle(expectedCommand);
     verify(getSchoolByIdUseCase, never()).handle(any());
-    verify(schoolDtoMapper, never()).toDetail(any());
+    verify(schoolDtoMapper, never()).toDetail(any(SchoolDetailView.class));
   }
 
   @Test
@@ -389,7 +437,7 @@ class SchoolControllerTest {
     verify(schoolDtoMapper).toUpdateCommand(nonExistentId, request);
     verify(updateSchoolUseCase).handle(expectedCommand);
     verify(getSchoolByIdUseCase, never()).handle(any());
-    verify(schoolDtoMapper, never()).toDetail(any());
+    verify(schoolDtoMapper, never()).toDetail(any(SchoolDetailView.class));
   }
 
   @Test
@@ -0,0 +1,152 @@
+package com.hectorherranz.schoolapi.adapters.in.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolDetail;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolRequest;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateStudentUseCase;
+import com.hectorherranz.schoolapi.config.SqlBudgetFilter;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Statement budgets of the main read and create endpoints. The budgets are also configured for the
+ * test profile with {@code on-exceeded=fail}, so any request through MockMvc that overruns them
+ * fails; these tests pin them down with data that would expose an N+1.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlBudgetControllerTest {
+
+  private static final int STUDENTS = 5;
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+
+  @Autowired private CreateStudentUseCase createStudentUseCase;
+
+  @Test
+  void schoolEndpointsStayWithinTheirStatementBudgets() throws Exception {
+    // Given
+    String name = "Budget School " + UUID.randomUUID();
+    SchoolRequest request = new SchoolRequest(name, 100);
+
+    // When
+    MockHttpServletResponse created =
+        mockMvc
+            .perform(
+                post("/api/schools")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse();
+    UUID schoolId =
+        objectMapper.readValue(created.getContentAsString(), SchoolDetail.class).id();
+    MockHttpServletResponse detail =
+        mockMvc
+            .perform(get("/api/schools/{id}", schoolId))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+    MockHttpServletResponse search =
+        mockMvc
+            .perform(get("/api/schools").param("query", name))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+    // Then
+    assertWithinBudget(created, 5);
+    assertWithinBudget(detail, 2);
+    assertWithinBudget(search, 3);
+    assertTrue(rows(search) >= 1);
+  }
+
+  @Test
+  void studentEndpointsStayWithinTheirStatementBudgets() throws Exception {
+    // Given
+    UUID schoolId =
+        createSchoolUseCase
+            .handle(new CreateSchoolCommand("Budget School " + UUID.randomUUID(), 100))
+            .id();
+    UUID studentId = null;
+    for (int i = 0; i < STUDENTS; i++) {
+      studentId =
+          createStudentUseCase.handle(new CreateStudentCommand("Student " + i, schoolId)).id();
+    }
+
+    // When
+    MockHttpServletResponse list =
+        mockMvc
+            .perform(get("/api/schools/{schoolId}/students", schoolId))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+    MockHttpServletResponse single =
+        mockMvc
+            .perform(get("/api/schools/{schoolId}/students/{studentId}", schoolId, studentId))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+    // Then
+    assertWithinBudget(list, 3);
+    assertWithinBudget(single, 2);
+    assertTrue(rows(list) >= STUDENTS);
+    assertTrue(Long.parseLong(list.getHeader(SqlBudgetFilter.ENTITIES_HEADER)) >= STUDENTS);
+  }
+
+  @Test
+  void schoolDeletionRunsInConstantStatements() throws Exception {
+    // Given
+    UUID schoolId =
+        createSchoolUseCase
+            .handle(new CreateSchoolCommand("Budget School " + UUID.randomUUID(), 100))
+            .id();
+    for (int i = 0; i < STUDENTS; i++) {
+      createStudentUseCase.handle(new CreateStudentCommand("Student " + i, schoolId));
+    }
+
+    // When
+    MockHttpServletResponse deleted =
+        mockMvc
+            .perform(delete("/api/schools/{id}", schoolId))
+            .andExpect(status().isNoContent())
+            .andReturn()
+            .getResponse();
+
+    // Then - version probe, roster DELETE, school DELETE and the outbox INSERT, whatever the
+    // roster size
+    assertWithinBudget(deleted, 4);
+  }
+
+  private static void assertWithinBudget(MockHttpServletResponse response, int budget) {
+    String statements = response.getHeader(SqlBudgetFilter.STATEMENTS_HEADER);
+    assertNotNull(statements);
+    assertTrue(
+        Long.parseLong(statements) <= budget,
+        () -> statements + " statements, budget " + budget);
+  }
+
+  private static long rows(MockHttpServletResponse response) {
+    return Long.parseLong(response.getHeader(SqlBudgetFilter.ROWS_HEADER));
+  }
+}
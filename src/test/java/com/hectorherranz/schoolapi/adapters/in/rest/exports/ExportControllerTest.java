@@ -0,0 +1,149 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.exports;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.application.port.in.ExportRosterUseCase;
+import com.hectorherranz.schoolapi.application.port.in.GetSchoolByIdUseCase;
+import com.hectorherranz.schoolapi.application.query.GetSchoolByIdQuery;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+  private static final UUID SCHOOL_ID = UUID.fromString("7d3c1f2a-5b6e-4c8d-9a0b-1c2d3e4f5a6b");
+  private static final UUID STUDENT_ID = UUID.fromString("1a2b3c4d-5e6f-4a8b-9c0d-1e2f3a4b5c6d");
+
+  @Mock private ExportRosterUseCase exportRosterUseCase;
+
+  @Mock private GetSchoolByIdUseCase getSchoolByIdUseCase;
+
+  private ExportController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller =
+        new ExportController(exportRosterUseCase, getSchoolByIdUseCase, new ObjectMapper());
+  }
+
+  private static String render(ResponseEntity<StreamingResponseBody> response) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exportSchool_ShouldStreamNdjsonLines() throws IOException {
+    // Given
+    when(getSchoolByIdUseCase.handle(any(GetSchoolByIdQuery.class)))
+        .thenReturn(new SchoolDetailView(SCHOOL_ID, "Hogwarts", 500, 2));
+    doAnswer(
+            inv -> {
+              Consumer<Student> sink = inv.getArgument(1);
+              sink.accept(new Student(STUDENT_ID, "Hermione Granger", SCHOOL_ID));
+              sink.accept(new Student(STUDENT_ID, "Ron Weasley", SCHOOL_ID));
+              return null;
+            })
+        .when(exportRosterUseCase)
+        .exportSchool(eq(SCHOOL_ID), any(Consumer.class));
+
+    // When
+    ResponseEntity<StreamingResponseBody> response = controller.exportSchool(SCHOOL_ID, "ndjson");
+    String body = render(response);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+    assertTrue(
+        response
+            .getHeaders()
+            .getFirst(HttpHeaders.CONTENT_DISPOSITION)
+            .contains("school-" + SCHOOL_ID + "-students.ndjson"));
+    assertEquals(
+        "{\"type\":\"student\",\"id\":\""
+            + STUDENT_ID
+            + "\",\"schoolId\":\""
+            + SCHOOL_ID
+            + "\",\"name\":\"Hermione Granger\"}\n"
+            + "{\"type\":\"student\",\"id\":\""
+            + STUDENT_ID
+            + "\",\"schoolId\":\""
+            + SCHOOL_ID
+            + "\",\"name\":\"Ron Weasley\"}\n",
+        body);
+  }
+
+  @Test
+  void exportSchool_UnknownSchool_FailsBeforeStreaming() {
+    // Given
+    when(getSchoolByIdUseCase.handle(any(GetSchoolByIdQuery.class)))
+        .thenThrow(new NotFoundException("School", SCHOOL_ID.toString()));
+
+    // When & Then
+    assertThrows(NotFoundException.class, () -> controller.exportSchool(SCHOOL_ID, "csv"));
+    verifyNoInteractions(exportRosterUseCase);
+  }
+
+  @Test
+  void exportSchool_UnsupportedFormat_IsRejected() {
+    // When & Then
+    assertThrows(
+        UnsupportedExportFormatException.class, () -> controller.exportSchool(SCHOOL_ID, "xml"));
+    verifyNoInteractions(getSchoolByIdUseCase, exportRosterUseCase);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void exportAll_ShouldStreamCsvWithSchoolsFirst() throws IOException {
+    // Given
+    doAnswer(
+            inv -> {
+              Consumer<SchoolSummaryView> schools = inv.getArgument(0);
+              Consumer<Student> students = inv.getArgument(1);
+              schools.accept(new SchoolSummaryView(SCHOOL_ID, "Hogwarts, Scotland", 500, 1));
+              students.accept(new Student(STUDENT_ID, "Luna \"Loony\" Lovegood", SCHOOL_ID));
+              return null;
+            })
+        .when(exportRosterUseCase)
+        .exportAll(any(Consumer.class), any(Consumer.class));
+
+    // When
+    ResponseEntity<StreamingResponseBody> response = controller.exportAll("CSV");
+    String body = render(response);
+
+    // Then
+    assertEquals("text/csv", response.getHeaders().getContentType().toString());
+    assertEquals(
+        "type,id,school_id,name,capacity\n"
+            + "school,"
+            + SCHOOL_ID
+            + ",,\"Hogwarts, Scotland\",500\n"
+            + "student,"
+            + STUDENT_ID
+            + ","
+            + SCHOOL_ID
+            + ",\"Luna \"\"Loony\"\" Lovegood\",\n",
+        body);
+  }
+}
@@ -0,0 +1,40 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.imports;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.ImportReport;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class ImportControllerTest {
+
+  @Mock private NdjsonImporter ndjsonImporter;
+
+  @InjectMocks private ImportController controller;
+
+  @Test
+  void importNdjson_ShouldReturnReport() throws IOException {
+    // Given
+    InputStream body = new ByteArrayInputStream(new byte[0]);
+    ImportReport report = new ImportReport(0, 0, 0, 0, List.of(), false);
+    when(ndjsonImporter.importFrom(body)).thenReturn(report);
+
+    // When
+    ResponseEntity<ImportReport> response = controller.importNdjson(body);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertSame(report, response.getBody());
+  }
+}
@@ -0,0 +1,176 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.imports;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.ImportReport;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.ImportReport.LineError;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand;
+import com.hectorherranz.schoolapi.application.port.in.ImportChunkUseCase;
+import com.hectorherranz.schoolapi.application.response.ImportChunkResult;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonImporterTest {
+
+  private static final UUID SCHOOL_ID = UUID.fromString("0b9f3c7e-2a41-4a5e-9c1d-6f7e8a9b0c1d");
+
+  @Mock private ImportChunkUseCase importChunkUseCase;
+
+  private NdjsonImporter importer(int chunkSize, int maxErrors) {
+    return new NdjsonImporter(
+        importChunkUseCase,
+        new ObjectMapper(),
+        Validation.buildDefaultValidatorFactory().getValidator(),
+        chunkSize,
+        maxErrors);
+  }
+
+  private static InputStream ndjson(String... lines) {
+    return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void acceptEverything() {
+    when(importChunkUseCase.handle(any(ImportChunkCommand.class)))
+        .thenAnswer(
+            inv -> {
+              ImportChunkCommand chunk = inv.getArgument(0);
+              return new ImportChunkResult(
+                  chunk.schools().size(), chunk.students().size(), List.of());
+            });
+  }
+
+  @Test
+  void shouldValidateLinesAndApplyFixedSizeChunks() throws IOException {
+    // Given
+    acceptEverything();
+    InputStream body =
+        ndjson(
+            "{\"type\":\"school\",\"name\":\"Hogwarts\",\"capacity\":500}",
+            "{\"type\":\"student\",\"schoolId\":\"" + SCHOOL_ID + "\",\"name\":\"Harry Potter\"}",
+            "{not json",
+            "",
+            "{\"type\":\"student\",\"name\":\"Ron Weasley\"}",
+            "{\"type\":\"school\",\"name\":\"Tiny\",\"capacity\":10}",
+            "{\"type\":\"teacher\",\"name\":\"Severus Snape\"}",
+            "{\"type\":\"student\",\"schoolId\":\"" + SCHOOL_ID + "\",\"name\":\"Luna\"}");
+
+    // When
+    ImportReport report = importer(2, 100).importFrom(body);
+
+    // Then
+    ArgumentCaptor<ImportChunkCommand> chunks = ArgumentCaptor.forClass(ImportChunkCommand.class);
+    verify(importChunkUseCase, times(2)).handle(chunks.capture());
+    assertEquals(1, chunks.getAllValues().get(0).schools().size());
+    assertEquals(1, chunks.getAllValues().get(0).students().size());
+    assertEquals(8, chunks.getAllValues().get(1).students().get(0).line());
+
+    assertEquals(8, report.lines());
+    assertEquals(1, report.schoolsCreated());
+    assertEquals(2, report.studentsCreated());
+    assertEquals(4, report.rejected());
+    assertEquals(
+        List.of(
+            new LineError(3, "Malformed JSON"),
+            new LineError(5, "Student schoolId is required"),
+            new LineError(6, "School capacity must be at least 50"),
+            new LineError(7, "Unknown line type: teacher")),
+        report.errors());
+    assertFalse(report.errorsTruncated());
+  }
+
+  @Test
+  void shouldReportRowsOfFailedChunkAndContinue() throws IOException {
+    // Given
+    when(importChunkUseCase.handle(any(ImportChunkCommand.class)))
+        .thenThrow(new IllegalStateException("connection reset"))
+        .thenReturn(new ImportChunkResult(0, 1, List.of()));
+    InputStream body =
+        ndjson(
+            "{\"type\":\"student\",\"schoolId\":\"" + SCHOOL_ID + "\",\"name\":\"A\"}",
+            "{\"type\":\"student\",\"schoolId\":\"" + SCHOOL_ID + "\",\"name\":\"B\"}");
+
+    // When
+    ImportReport report = importer(1, 100).importFrom(body);
+
+    // Then
+    assertEquals(1, report.studentsCreated());
+    assertEquals(List.of(new LineError(1, "Chunk failed; row not saved")), report.errors());
+  }
+
+  @Test
+  void shouldRejectOverlongLineWithoutBufferingIt() throws IOException {
+    // Given
+    String huge = "x".repeat(NdjsonImporter.MAX_LINE_LENGTH + 1);
+
+    // When
+    ImportReport report = importer(10, 100).importFrom(ndjson(huge));
+
+    // Then
+    assertEquals(1, report.rejected());
+    verifyNoInteractions(importChunkUseCase);
+  }
+
+  @Test
+  void shouldStreamLargeInputInChunksAndCapReportedErrors() throws IOException {
+    // Given - 100k lines generated on the fly; every tenth line is malformed
+    acceptEverything();
+    int total = 100_000;
+    InputStream body = new GeneratedLines(total);
+
+    // When
+    ImportReport report = importer(500, 50).importFrom(body);
+
+    // Then
+    assertEquals(total, report.lines());
+    assertEquals(total - total / 10, report.studentsCreated());
+    assertEquals(total / 10, report.rejected());
+    assertEquals(50, report.errors().size());
+    assertTrue(report.errorsTruncated());
+    verify(importChunkUseCase, times(180)).handle(any(ImportChunkCommand.class));
+  }
+
+  /** Produces NDJSON lazily so the test itself never holds the whole body. */
+  private static final class GeneratedLines extends InputStream {
+    private final int total;
+    private int next;
+    private byte[] current = new byte[0];
+    private int position;
+
+    GeneratedLines(int total) {
+      this.total = total;
+    }
+
+    @Override
+    public int read() {
+      if (position == current.length) {
+        if (next == total) {
+          return -1;
+        }
+        String line = "{broken";
+        if (next % 10 != 9) {
+          line =
+              String.format(
+                  "{\"type\":\"student\",\"schoolId\":\"%s\",\"name\":\"S%d\"}", SCHOOL_ID, next);
+        }
+        current = (line + "\n").getBytes(StandardCharsets.UTF_8);
+        position = 0;
+        next++;
+      }
+      return current[position++];
+    }
+  }
+}
@@ -7,6 +7,8 @@ import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolRequest;
 import com.hectorherranz.schoolapi.adapters.in.rest.dto.SchoolSummary;
 import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.Student;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
@@ -100,6 +102,22 @@ class SchoolDtoMapperTest {
     assertEquals(2, detail.enrolledStudents());
   }
 
+  @Test
+  void toDetail_DetailView_CopiesEnrolledCount() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    SchoolDetailView view = new SchoolDetailView(schoolId, "Hogwarts School", 500, 1234);
+
+    // Act
+    SchoolDetail detail = mapper.toDetail(view);
+
+    // Assert
+    assertEquals(schoolId, detail.id());
+    assertEquals("Hogwarts School", detail.name());
+    assertEquals(500, detail.capacity());
+    assertEquals(1234, detail.enrolledStudents());
+  }
+
   @Test
   void toSummary_ValidSchool_ReturnsCorrectSummary() {
     // Arrange
@@ -142,5 +160,23 @@ class SchoolDtoMapperTest {
     assertEquals(name, summary.name());
     assertEquals(capacity, summary.capacity());
     assertEquals(3, summary.enrolledStudents());
+    assertEquals(497, summary.availableSpots());
+  }
+
+  @Test
+  void toSummary_SummaryView_CopiesEnrolledCount() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    SchoolSummaryView view = new SchoolSummaryView(schoolId, "Hogwarts School", 500, 321);
+
+    // Act
+    SchoolSummary summary = mapper.toSummary(view);
+
+    // Assert
+    assertEquals(schoolId, summary.id());
+    assertEquals("Hogwarts School", summary.name());
+    assertEquals(500, summary.capacity());
+    assertEquals(321, summary.enrolledStudents());
+    assertEquals(179, summary.availableSpots());
   }
 }
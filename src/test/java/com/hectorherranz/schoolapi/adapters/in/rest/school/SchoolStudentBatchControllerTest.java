@@ -0,0 +1,77 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.school;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.BulkEnrollRequest;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.BulkEnrollResponse;
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.StudentRequest;
+import com.hectorherranz.schoolapi.adapters.in.rest.mapper.StudentDtoMapper;
+import com.hectorherranz.schoolapi.application.command.BulkEnrollStudentsCommand;
+import com.hectorherranz.schoolapi.application.port.in.BulkEnrollStudentsUseCase;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Item;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Status;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class SchoolStudentBatchControllerTest {
+
+  @Mock private BulkEnrollStudentsUseCase bulkEnrollStudentsUseCase;
+
+  private SchoolStudentBatchController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller =
+        new SchoolStudentBatchController(bulkEnrollStudentsUseCase, new StudentDtoMapper());
+  }
+
+  @Test
+  void enrollStudents_ShouldReturnPerItemResults() {
+    // Given
+    UUID schoolId = UUID.randomUUID();
+    UUID studentId = UUID.randomUUID();
+    BulkEnrollRequest request =
+        new BulkEnrollRequest(
+            List.of(new StudentRequest("Harry Potter"), new StudentRequest("Ron Weasley")));
+    BulkEnrollmentResult result =
+        new BulkEnrollmentResult(
+            schoolId,
+            List.of(
+                new Item(0, Status.ENROLLED, studentId, null),
+                new Item(1, Status.CAPACITY_EXCEEDED, null, "School is at maximum capacity")));
+    when(bulkEnrollStudentsUseCase.handle(any(BulkEnrollStudentsCommand.class)))
+        .thenReturn(result);
+
+    // When
+    ResponseEntity<BulkEnrollResponse> response = controller.enrollStudents(schoolId, request);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    BulkEnrollResponse body = response.getBody();
+    assertNotNull(body);
+    assertEquals(2, body.requested());
+    assertEquals(1, body.enrolled());
+    assertEquals(1, body.rejected());
+    assertEquals("ENROLLED", body.results().get(0).status());
+    assertEquals(studentId, body.results().get(0).studentId());
+    assertEquals("CAPACITY_EXCEEDED", body.results().get(1).status());
+
+    ArgumentCaptor<BulkEnrollStudentsCommand> command =
+        ArgumentCaptor.forClass(BulkEnrollStudentsCommand.class);
+    verify(bulkEnrollStudentsUseCase).handle(command.capture());
+    assertEquals(schoolId, command.getValue().schoolId());
+    assertEquals(List.of("Harry Potter", "Ron Weasley"), command.getValue().names());
+  }
+}
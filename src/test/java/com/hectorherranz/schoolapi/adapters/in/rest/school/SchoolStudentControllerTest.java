@@ -10,6 +10,7 @@ import com.hectorherranz.schoolapi.adapters.in.rest.mapper.StudentDtoMapper;
 import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
 import com.hectorherranz.schoolapi.application.command.UpdateStudentCommand;
 import com.hectorherranz.schoolapi.application.port.in.*;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
 import com.hectorherranz.schoolapi.application.response.PagedResponse;
 import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
@@ -37,6 +38,8 @@ class SchoolStudentControllerTest {
 
   @Mock private SearchStudentsUseCase searchStudentsUseCase;
 
+  @Mock private SearchStudentsByCursorUseCase searchStudentsByCursorUseCase;
+
   @Mock private StudentDtoMapper studentDtoMapper;
 
   private SchoolStudentController controller;
@@ -50,6 +53,7 @@ class SchoolStudentControllerTest {
             updateStudentUseCase,
             deleteStudentUseCase,
             searchStudentsUseCase,
+            searchStudentsByCursorUseCase,
             studentDtoMapper);
   }
 
@@ -64,8 +68,7 @@ class SchoolStudentControllerTest {
     StudentResponse expectedResponse = new StudentResponse(studentId, "Harry Potter", schoolId);
 
     when(studentDtoMapper.toCreateCommand(request, schoolId)).thenReturn(expectedCommand);
-    when(createStudentUseCase.handle(expectedCommand)).thenReturn(studentId);
-    when(getStudentByIdUseCase.handle(any())).thenReturn(student);
+    when(createStudentUseCase.handle(expectedCommand)).thenReturn(student);
     when(studentDtoMapper.toResponse(student)).thenReturn(expectedResponse);
 
     // Act
@@ -80,7 +83,7 @@ class SchoolStudentControllerTest {
 
     verify(studentDtoMapper).toCreateCommand(request, schoolId);
     verify(createStudentUseCase).handle(expectedCommand);
-    verify(getStudentByIdUseCase).handle(any());
+    verifyNoInteractions(getStudentByIdUseCase);
     verify(studentDtoMapper).toResponse(student);
   }
 
@@ -139,7 +142,7 @@ class SchoolStudentControllerTest {
 
     when(studentDtoMapper.toUpdateCommand(request, schoolId, studentId))
         .thenReturn(expectedCommand);
-    when(getStudentByIdUseCase.handle(any())).thenReturn(student);
+    when(updateStudentUseCase.handle(expectedCommand)).thenReturn(student);
     when(studentDtoMapper.toResponse(student)).thenReturn(expectedResponse);
 
     // Act
@@ -155,7 +158,7 @@ class SchoolStudentControllerTest {
 
     verify(studentDtoMapper).toUpdateCommand(request, schoolId, studentId);
     verify(updateStudentUseCase).handle(expectedCommand);
-    verify(getStudentByIdUseCase).handle(any());
+    verifyNoInteractions(getStudentByIdUseCase);
     verify(studentDtoMapper).toResponse(student);
   }
 
@@ -173,6 +176,39 @@ class SchoolStudentControllerTest {
     assertNull(response.getBody());
   }
 
+  @Test
+  void givenCursor_whenListStudentsByCursor_thenReturnsCursorPageWithoutTotals() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    List<Student> students =
+        List.of(
+            createTestStudent(UUID.randomUUID(), "Harry Potter", schoolId),
+            createTestStudent(UUID.randomUUID(), "Harry Styles", schoolId));
+
+    when(searchStudentsByCursorUseCase.handle(any()))
+        .thenReturn(new CursorPage<>(students, 2, "next-token", true));
+    when(studentDtoMapper.toResponse(any(Student.class)))
+        .thenAnswer(
+            invocation -> {
+              Student student = invocation.getArgument(0);
+              return createTestStudentResponse(student.id(), student.name(), student.schoolId());
+            });
+
+    // Act
+    ResponseEntity<CursorPage<StudentResponse>> response =
+        controller.listStudentsByCursor(schoolId, "Harry", "", 2);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(2, response.getBody().content().size());
+    assertEquals("next-token", response.getBody().nextCursor());
+    assertTrue(response.getBody().hasNext());
+
+    verify(searchStudentsByCursorUseCase).handle(any());
+    verify(searchStudentsUseCase, never()).handle(any());
+  }
+
   @Test
   void givenValidQuery_whenListStudents_thenReturnsPagedResponse() {
     // Arrange
@@ -0,0 +1,66 @@
+package com.hectorherranz.schoolapi.adapters.in.rest.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.in.rest.dto.OccupancyStats;
+import com.hectorherranz.schoolapi.adapters.in.rest.mapper.SchoolDtoMapper;
+import com.hectorherranz.schoolapi.application.port.in.GetOccupancyStatsUseCase;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView.FillRateBucket;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class StatsControllerTest {
+
+  @Mock private GetOccupancyStatsUseCase getOccupancyStatsUseCase;
+
+  private StatsController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller = new StatsController(getOccupancyStatsUseCase, new SchoolDtoMapper());
+  }
+
+  @Test
+  void occupancy_ShouldMapTheCurrentSnapshot() {
+    // Given
+    Instant asOf = Instant.parse("2026-01-15T10:00:00Z");
+    when(getOccupancyStatsUseCase.handle())
+        .thenReturn(
+            new OccupancyStatsView(
+                2,
+                140,
+                200,
+                0.7,
+                List.of(new FillRateBucket(40, 49, 1), new FillRateBucket(100, 100, 1)),
+                1,
+                asOf));
+
+    // When
+    ResponseEntity<OccupancyStats> response = controller.occupancy();
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(
+        new OccupancyStats(
+            2,
+            140,
+            200,
+            0.7,
+            List.of(
+                new OccupancyStats.FillRateBand(40, 49, 1),
+                new OccupancyStats.FillRateBand(100, 100, 1)),
+            1,
+            asOf),
+        response.getBody());
+  }
+}
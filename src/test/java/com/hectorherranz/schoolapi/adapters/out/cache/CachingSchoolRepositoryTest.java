@@ -0,0 +1,61 @@
+package com.hectorherranz.schoolapi.adapters.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingSchoolRepositoryTest {
+
+  @Mock private SchoolRepositoryPort delegate;
+
+  private CachingSchoolRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository =
+        new CachingSchoolRepository(
+            delegate, new CaffeineSchoolDetailCache(100, Duration.ofMinutes(1), null));
+  }
+
+  @Test
+  void shouldServeRepeatedDetailReadsFromCache() {
+    // Given
+    UUID schoolId = UUID.randomUUID();
+    SchoolDetailView detail = new SchoolDetailView(schoolId, "Hogwarts", 500, 42);
+    when(delegate.findDetailById(schoolId)).thenReturn(Optional.of(detail));
+
+    // When
+    Optional<SchoolDetailView> first = repository.findDetailById(schoolId);
+    Optional<SchoolDetailView> second = repository.findDetailById(schoolId);
+
+    // Then
+    assertEquals(Optional.of(detail), first);
+    assertEquals(Optional.of(detail), second);
+    verify(delegate, times(1)).findDetailById(schoolId);
+  }
+
+  @Test
+  void shouldPassOtherOperationsThrough() {
+    // Given
+    UUID schoolId = UUID.randomUUID();
+    when(delegate.tryReserveSeat(schoolId)).thenReturn(true);
+
+    // When
+    boolean reserved = repository.tryReserveSeat(schoolId);
+
+    // Then
+    assertTrue(reserved);
+    verify(delegate).tryReserveSeat(schoolId);
+  }
+}
@@ -0,0 +1,129 @@
+package com.hectorherranz.schoolapi.adapters.out.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CaffeineSchoolDetailCacheTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final UUID schoolId = UUID.randomUUID();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private CaffeineSchoolDetailCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CaffeineSchoolDetailCache(100, Duration.ofMinutes(1), registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldLoadOnceAndReportHitsAndMisses() {
+    // When
+    Optional<SchoolDetailView> first = cache.get(schoolId, loader("Hogwarts"));
+    Optional<SchoolDetailView> second = cache.get(schoolId, loader("Hogwarts"));
+
+    // Then
+    assertEquals("Hogwarts", first.orElseThrow().name());
+    assertEquals(first, second);
+    assertEquals(1, loads.get());
+    assertEquals(1.0, gets("hit"));
+    assertEquals(1.0, gets("miss"));
+  }
+
+  @Test
+  void shouldNotCacheMissingSchools() {
+    // When
+    cache.get(schoolId, id -> loadMissing());
+    Optional<SchoolDetailView> later = cache.get(schoolId, loader("Hogwarts"));
+
+    // Then
+    assertTrue(later.isPresent());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldEvictRightAwayWithoutTransaction() {
+    // Given
+    cache.get(schoolId, loader("Hogwarts"));
+
+    // When
+    cache.evict(schoolId);
+    Optional<SchoolDetailView> reloaded = cache.get(schoolId, loader("Durmstrang"));
+
+    // Then
+    assertEquals("Durmstrang", reloaded.orElseThrow().name());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldDeferEvictionUntilCommit() {
+    // Given
+    cache.get(schoolId, loader("Hogwarts"));
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When - evicted inside a transaction that has not committed yet
+    cache.evict(schoolId);
+    Optional<SchoolDetailView> beforeCommit = cache.get(schoolId, loader("Durmstrang"));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    Optional<SchoolDetailView> afterCommit = cache.get(schoolId, loader("Durmstrang"));
+
+    // Then
+    assertEquals("Hogwarts", beforeCommit.orElseThrow().name());
+    assertEquals("Durmstrang", afterCommit.orElseThrow().name());
+  }
+
+  @Test
+  void shouldStayWithinMaximumSize() {
+    // Given
+    cache = new CaffeineSchoolDetailCache(10, Duration.ofMinutes(1), null);
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      cache.get(UUID.randomUUID(), loader("School " + i));
+    }
+
+    // Then
+    assertTrue(cache.estimatedSize() <= 10);
+  }
+
+  private Function<UUID, Optional<SchoolDetailView>> loader(String name) {
+    return id -> {
+      loads.incrementAndGet();
+      return Optional.of(new SchoolDetailView(id, name, 500, 10));
+    };
+  }
+
+  private Optional<SchoolDetailView> loadMissing() {
+    loads.incrementAndGet();
+    return Optional.empty();
+  }
+
+  private double gets(String result) {
+    return registry
+        .get("cache.gets")
+        .tag("cache", CaffeineSchoolDetailCache.CACHE_NAME)
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
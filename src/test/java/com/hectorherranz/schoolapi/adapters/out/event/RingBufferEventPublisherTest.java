@@ -0,0 +1,249 @@
+package com.hectorherranz.schoolapi.adapters.out.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher.OnFull;
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RingBufferEventPublisherTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RingBufferEventPublisher bus;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (bus != null) {
+      bus.close();
+    }
+  }
+
+  @Test
+  void shouldDeliverEveryEventInOrderToEveryConsumerWithEachWaitStrategy() throws Exception {
+    for (String strategy : List.of("busy-spin", "yielding", "sleeping", "blocking")) {
+      // Given
+      Recorder first = new Recorder("first");
+      Recorder second = new Recorder("second");
+      bus = start(8, WaitStrategy.named(strategy), OnFull.BLOCK, first, second);
+      List<DomainEvent> events = events(0, 20);
+
+      // When
+      for (DomainEvent event : events) {
+        bus.publish(List.of(event));
+      }
+
+      // Then
+      awaitUntil(() -> first.received.size() == 20 && second.received.size() == 20);
+      assertEquals(events, first.received, strategy);
+      assertEquals(events, second.received, strategy);
+      bus.close();
+    }
+  }
+
+  @Test
+  void shouldDropWholePublishWhenFull() throws Exception {
+    // Given
+    CountDownLatch release = new CountDownLatch(1);
+    Recorder stalled = new Recorder("stalled", release);
+    bus = start(4, new WaitStrategy.Sleeping(), OnFull.DROP, stalled);
+    bus.publish(events(0, 1));
+    awaitUntil(() -> stalled.received.size() == 1);
+
+    // When
+    bus.publish(events(1, 3)); // fills the three slots left
+    bus.publish(events(4, 2)); // no room for either
+
+    // Then
+    assertEquals(2.0, meterRegistry.counter(RingBufferEventPublisher.DROPPED).count());
+    assertEquals(0, bus.remainingCapacity());
+    assertEquals(3, bus.publishedSequence()); // dropped events claim no sequence
+    release.countDown();
+    awaitUntil(() -> stalled.received.size() == 4);
+    assertEquals(events(0, 4), stalled.received);
+  }
+
+  @Test
+  void shouldMakePublisherWaitWhenFullAndBlocking() throws Exception {
+    // Given
+    CountDownLatch release = new CountDownLatch(1);
+    Recorder stalled = new Recorder("stalled", release);
+    bus = start(4, new WaitStrategy.Sleeping(), OnFull.BLOCK, stalled);
+    bus.publish(events(0, 4));
+    awaitUntil(() -> stalled.received.size() == 1);
+
+    // When
+    Thread publisher = Thread.ofPlatform().start(() -> bus.publish(events(4, 2)));
+
+    // Then
+    publisher.join(200);
+    assertTrue(publisher.isAlive());
+    release.countDown();
+    publisher.join(TimeUnit.SECONDS.toMillis(5));
+    assertFalse(publisher.isAlive());
+    awaitUntil(() -> stalled.received.size() == 6);
+    assertEquals(events(0, 6), stalled.received);
+    assertEquals(1.0, meterRegistry.counter(RingBufferEventPublisher.BACKPRESSURE).count());
+    assertEquals(0.0, meterRegistry.counter(RingBufferEventPublisher.DROPPED).count());
+  }
+
+  @Test
+  void shouldCountConsumerFailureAndKeepGoing() throws Exception {
+    // Given
+    List<DomainEvent> received = new CopyOnWriteArrayList<>();
+    DomainEventConsumer flaky =
+        new DomainEventConsumer() {
+          @Override
+          public String name() {
+            return "flaky";
+          }
+
+          @Override
+          public void onEvent(DomainEvent event, boolean endOfBatch) {
+            if (received.isEmpty()) {
+              received.add(event);
+              throw new IllegalStateException("boom");
+            }
+            received.add(event);
+          }
+        };
+    bus = start(8, new WaitStrategy.Sleeping(), OnFull.BLOCK, flaky);
+
+    // When
+    bus.publish(events(0, 3));
+
+    // Then
+    awaitUntil(() -> received.size() == 3);
+    assertEquals(events(0, 3), received);
+    awaitUntil(
+        () ->
+            meterRegistry.counter(RingBufferEventPublisher.CONSUMER_ERRORS, "consumer", "flaky")
+                    .count()
+                == 1.0);
+  }
+
+  @Test
+  void shouldKeepEachProducersOrderUnderConcurrentPublishing() throws Exception {
+    // Given
+    int producers = 4;
+    int perProducer = 10_000;
+    Recorder recorder = new Recorder("recorder");
+    bus = start(1024, new WaitStrategy.Yielding(), OnFull.BLOCK, recorder);
+    CountDownLatch go = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+
+    // When
+    for (int p = 0; p < producers; p++) {
+      long producer = p;
+      threads.add(
+          Thread.ofPlatform()
+              .start(
+                  () -> {
+                    awaitQuietly(go);
+                    for (int i = 0; i < perProducer; i++) {
+                      bus.publish(List.of(event(producer, i)));
+                    }
+                  }));
+    }
+    go.countDown();
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    // Then
+    awaitUntil(() -> recorder.received.size() == producers * perProducer);
+    long[] next = new long[producers];
+    for (DomainEvent received : recorder.received) {
+      UUID id = ((StudentEnrolledEvent) received).studentId();
+      int producer = (int) id.getMostSignificantBits();
+      assertEquals(next[producer]++, id.getLeastSignificantBits());
+    }
+    assertEquals(
+        producers * perProducer,
+        (long) meterRegistry.counter(RingBufferEventPublisher.PUBLISHED).count());
+  }
+
+  @Test
+  void shouldRejectCapacityThatIsNotAPowerOfTwo() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new RingBufferEventPublisher(
+                100, new WaitStrategy.Sleeping(), OnFull.DROP, List.of(), meterRegistry));
+  }
+
+  private RingBufferEventPublisher start(
+      int capacity, WaitStrategy waitStrategy, OnFull onFull, DomainEventConsumer... consumers) {
+    RingBufferEventPublisher started =
+        new RingBufferEventPublisher(
+            capacity, waitStrategy, onFull, List.of(consumers), meterRegistry);
+    started.start();
+    return started;
+  }
+
+  private static List<DomainEvent> events(int from, int count) {
+    List<DomainEvent> events = new ArrayList<>();
+    for (int i = from; i < from + count; i++) {
+      events.add(event(0, i));
+    }
+    return events;
+  }
+
+  private static DomainEvent event(long producer, long sequence) {
+    return new StudentEnrolledEvent(new UUID(producer, sequence), new UUID(0, 0));
+  }
+
+  private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out waiting for consumers");
+      Thread.sleep(1);
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class Recorder implements DomainEventConsumer {
+
+    private final String name;
+    private final CountDownLatch release;
+    final List<DomainEvent> received = Collections.synchronizedList(new ArrayList<>());
+
+    Recorder(String name) {
+      this(name, new CountDownLatch(0));
+    }
+
+    Recorder(String name, CountDownLatch release) {
+      this.name = name;
+      this.release = release;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, boolean endOfBatch) {
+      received.add(event);
+      awaitQuietly(release);
+    }
+  }
+}
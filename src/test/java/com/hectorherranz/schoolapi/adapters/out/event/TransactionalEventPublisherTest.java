@@ -0,0 +1,70 @@
+package com.hectorherranz.schoolapi.adapters.out.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.domain.event.DomainEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionalEventPublisherTest {
+
+  @Mock private DomainEventPublisher outbox;
+  @Mock private DomainEventPublisher bus;
+
+  private TransactionalEventPublisher publisher;
+
+  private final List<DomainEvent> events =
+      List.of(new StudentEnrolledEvent(UUID.randomUUID(), UUID.randomUUID()));
+
+  @BeforeEach
+  void setUp() {
+    publisher = new TransactionalEventPublisher(outbox, bus);
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+
+  @Test
+  void shouldWriteOutboxNowAndBusOnlyAfterCommit() {
+    // When
+    publisher.publish(events);
+
+    // Then
+    verify(outbox).publish(events);
+    verifyNoInteractions(bus);
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(bus).publish(events);
+  }
+
+  @Test
+  void shouldNeverReachBusWhenRolledBack() {
+    // When
+    publisher.publish(events);
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    synchronizations.forEach(
+        s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Then
+    verify(outbox).publish(events);
+    assertEquals(1, synchronizations.size());
+    verifyNoInteractions(bus);
+  }
+}
@@ -0,0 +1,103 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.AvailabilityCursor;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+/** The availability search: filter, order and seek on the maintained enrolled_count column. */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SchoolAvailabilitySearchTest {
+
+  @Autowired private SpringDataSchoolRepository springDataRepository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private SchoolRepositoryPort schoolRepository;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    schoolRepository = new SchoolJpaRepository(springDataRepository);
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    school("Placement Full", 100, 100);
+    school("Placement Tight", 100, 95);
+    school("Placement Roomy", 300, 100);
+    school("Placement Half", 100, 50);
+    school("Placement Twin A", 200, 150);
+    school("Placement Twin B", 200, 150);
+    school("Elsewhere Roomy", 2000, 0);
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  @Test
+  void shouldFilterByNameAndSpotsOrderedByMostSpotsFirst() {
+    // When
+    List<SchoolSummaryView> rows = schoolRepository.searchAvailableAfter("placement", 10, null, 10);
+
+    // Then - ties on free spots fall back to id order
+    assertEquals(
+        List.of(200, 50, 50, 50), rows.stream().map(SchoolSummaryView::availableSpots).toList());
+    assertEquals("Placement Roomy", rows.get(0).name());
+    assertTrue(rows.get(1).id().compareTo(rows.get(2).id()) < 0);
+    assertTrue(rows.get(2).id().compareTo(rows.get(3).id()) < 0);
+  }
+
+  @Test
+  void shouldNeverListFullSchools() {
+    // When
+    List<SchoolSummaryView> rows = schoolRepository.searchAvailableAfter("placement", 1, null, 10);
+
+    // Then
+    assertEquals(5, rows.size());
+    assertTrue(rows.stream().noneMatch(row -> row.name().equals("Placement Full")));
+    assertEquals("Placement Tight", rows.get(rows.size() - 1).name());
+  }
+
+  @Test
+  void shouldSeekPastTheCursorOneStatementPerPage() {
+    // Given
+    List<SchoolSummaryView> first = schoolRepository.searchAvailableAfter("placement", 1, null, 2);
+    SchoolSummaryView last = first.get(1);
+
+    // When
+    List<SchoolSummaryView> second =
+        schoolRepository.searchAvailableAfter(
+            "placement", 1, new AvailabilityCursor(last.availableSpots(), last.id()), 10);
+
+    // Then
+    assertEquals(2, first.size());
+    assertEquals(3, second.size());
+    assertTrue(second.stream().noneMatch(first::contains));
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+  }
+
+  private void school(String name, int capacity, int enrolled) {
+    SchoolEntity school = new SchoolEntity(name, new Capacity(capacity));
+    school.setId(UUID.randomUUID());
+    school.setEnrolledCount(enrolled);
+    springDataRepository.save(school);
+  }
+}
@@ -3,14 +3,22 @@ package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.draft.StudentDraft;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -56,6 +64,85 @@ class SchoolJpaRepositoryTest {
     assertFalse(found.isPresent());
   }
 
+  @Test
+  void shouldLoadDetailViewWithEnrolledCount() {
+    // Given
+    School school = new School(UUID.randomUUID(), "Counted School", new Capacity(100));
+    school.enrollStudent(UUID.randomUUID(), new StudentDraft("Harry Potter"));
+    school.enrollStudent(UUID.randomUUID(), new StudentDraft("Hermione Granger"));
+    school.enrollStudent(UUID.randomUUID(), new StudentDraft("Ron Weasley"));
+    School saved = schoolRepository.save(school);
+
+    // When
+    Optional<SchoolDetailView> view = schoolRepository.findDetailById(saved.id());
+
+    // Then
+    assertTrue(view.isPresent());
+    assertEquals(saved.id(), view.get().id());
+    assertEquals("Counted School", view.get().name());
+    assertEquals(100, view.get().capacity());
+    assertEquals(3, view.get().enrolledCount());
+  }
+
+  @Test
+  void shouldLoadDetailViewForEmptySchool() {
+    // Given
+    School saved =
+        schoolRepository.save(new School(UUID.randomUUID(), "Empty School", new Capacity(50)));
+
+    // When
+    Optional<SchoolDetailView> view = schoolRepository.findDetailById(saved.id());
+
+    // Then
+    assertTrue(view.isPresent());
+    assertEquals(0, view.get().enrolledCount());
+    assertFalse(schoolRepository.findDetailById(UUID.randomUUID()).isPresent());
+  }
+
+  @Test
+  void shouldGrantOnlyRemainingSeatsForBatch() {
+    // Given
+    School school = new School(UUID.randomUUID(), "Batch School", new Capacity(50));
+    school.enrollStudent(UUID.randomUUID(), new StudentDraft("Harry Potter"));
+    School saved = schoolRepository.save(school);
+
+    // When
+    int first = schoolRepository.reserveSeats(saved.id(), 30);
+    int second = schoolRepository.reserveSeats(saved.id(), 30);
+    int third = schoolRepository.reserveSeats(saved.id(), 5);
+
+    // Then
+    assertEquals(30, first);
+    assertEquals(19, second);
+    assertEquals(0, third);
+    assertEquals(50, schoolRepository.findDetailById(saved.id()).orElseThrow().enrolledCount());
+  }
+
+  @Test
+  void shouldRejectBatchReservationForUnknownSchool() {
+    // Given
+    UUID unknownId = UUID.randomUUID();
+
+    // When & Then
+    assertThrows(NotFoundException.class, () -> schoolRepository.reserveSeats(unknownId, 3));
+  }
+
+  @Test
+  void shouldStreamAllSchoolSummariesInNameOrder() {
+    // Given
+    schoolRepository.save(new School(UUID.randomUUID(), "Durmstrang", new Capacity(50)));
+    schoolRepository.save(new School(UUID.randomUUID(), "Beauxbatons", new Capacity(60)));
+
+    // When
+    List<SchoolSummaryView> seen = new ArrayList<>();
+    schoolRepository.forEachSummary(seen::add);
+
+    // Then
+    assertEquals(
+        List.of("Beauxbatons", "Durmstrang"), seen.stream().map(SchoolSummaryView::name).toList());
+    assertEquals(60, seen.get(0).capacity());
+  }
+
   @Test
   void shouldCheckIfSchoolExistsByNameIgnoreCase() {
     // Given
@@ -100,12 +187,54 @@ class SchoolJpaRepositoryTest {
     assertTrue(schoolRepository.findById(savedSchool.id()).isPresent());
 
     // When
-    schoolRepository.deleteById(savedSchool.id());
+    long version = schoolRepository.findVersionById(savedSchool.id()).orElseThrow();
+    schoolRepository.deleteById(savedSchool.id(), version);
 
     // Then
     assertFalse(schoolRepository.findById(savedSchool.id()).isPresent());
   }
 
+  @Test
+  void shouldDeleteSchoolWithItsRosterSetBased() {
+    // Given
+    School school = new School(UUID.randomUUID(), "Crowded School", new Capacity(100));
+    for (int i = 0; i < 10; i++) {
+      school.enrollStudent(UUID.randomUUID(), new StudentDraft("Student " + i));
+    }
+    School savedSchool = schoolRepository.save(school);
+    long version = schoolRepository.findVersionById(savedSchool.id()).orElseThrow();
+
+    // When
+    schoolRepository.deleteById(savedSchool.id(), version);
+
+    // Then
+    assertFalse(schoolRepository.existsById(savedSchool.id()));
+    assertEquals(0, schoolRepository.countStudentsBySchoolId(savedSchool.id()));
+  }
+
+  @Test
+  void shouldRefuseToDeleteSchoolChangedSinceTheVersionProbe() {
+    // Given
+    School savedSchool =
+        schoolRepository.save(new School(UUID.randomUUID(), "Moving School", new Capacity(100)));
+    long staleVersion = schoolRepository.findVersionById(savedSchool.id()).orElseThrow() - 1;
+
+    // When & Then
+    assertThrows(
+        OptimisticLockingFailureException.class,
+        () -> schoolRepository.deleteById(savedSchool.id(), staleVersion));
+    assertTrue(schoolRepository.existsById(savedSchool.id()));
+  }
+
+  @Test
+  void shouldFindNoVersionForUnknownSchool() {
+    // When
+    Optional<Long> version = schoolRepository.findVersionById(UUID.randomUUID());
+
+    // Then
+    assertTrue(version.isEmpty());
+  }
+
   @Test
   void shouldPreserveDomainGeneratedId() {
     // Given
@@ -139,4 +268,38 @@ class SchoolJpaRepositoryTest {
     assertEquals(10, secondPage.getContent().size());
     assertNotEquals(firstPage.getContent().get(0).id(), secondPage.getContent().get(0).id());
   }
+
+  @Test
+  void shouldWalkSearchResultsWithKeysetCursor() {
+    // Given
+    for (int i = 1; i <= 7; i++) {
+      schoolRepository.save(new School(UUID.randomUUID(), "Keyset School " + i, new Capacity(50)));
+    }
+    schoolRepository.save(new School(UUID.randomUUID(), "Unrelated Academy", new Capacity(50)));
+
+    // When
+    List<String> seen = new ArrayList<>();
+    KeysetCursor after = null;
+    List<SchoolSummaryView> window;
+    do {
+      window = schoolRepository.searchSummariesByNameAfter("keyset", after, 3);
+      window.forEach(view -> seen.add(view.name()));
+      if (!window.isEmpty()) {
+        SchoolSummaryView last = window.get(window.size() - 1);
+        after = new KeysetCursor(last.name(), last.id());
+      }
+    } while (window.size() == 3);
+
+    // Then
+    assertEquals(
+        List.of(
+            "Keyset School 1",
+            "Keyset School 2",
+            "Keyset School 3",
+            "Keyset School 4",
+            "Keyset School 5",
+            "Keyset School 6",
+            "Keyset School 7"),
+        seen);
+  }
 }
@@ -0,0 +1,55 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class SchoolNameConstraintTest {
+
+  @Test
+  void shouldRecognizeNamedConstraintViolation() {
+    // Given
+    DataIntegrityViolationException e =
+        new DataIntegrityViolationException(
+            "could not execute statement",
+            new ConstraintViolationException(
+                "duplicate key",
+                new SQLException("duplicate key value", "23505"),
+                SchoolNameConstraint.INDEX_NAME));
+
+    // When & Then
+    assertTrue(SchoolNameConstraint.isViolatedBy(e));
+  }
+
+  @Test
+  void shouldRecognizeIndexNameInDriverMessage() {
+    // Given
+    DataIntegrityViolationException e =
+        new DataIntegrityViolationException(
+            "could not execute statement",
+            new SQLException(
+                "ERROR: duplicate key value violates unique constraint \"UQ_SCHOOLS_LOWER_NAME\"",
+                "23505"));
+
+    // When & Then
+    assertTrue(SchoolNameConstraint.isViolatedBy(e));
+  }
+
+  @Test
+  void shouldIgnoreOtherConstraints() {
+    // Given
+    DataIntegrityViolationException e =
+        new DataIntegrityViolationException(
+            "could not execute statement",
+            new ConstraintViolationException(
+                "foreign key",
+                new SQLException("violates foreign key constraint", "23503"),
+                "fk_students_school"));
+
+    // When & Then
+    assertFalse(SchoolNameConstraint.isViolatedBy(e));
+  }
+}
@@ -0,0 +1,109 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.draft.StudentDraft;
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Guards the school search against N+1 regressions by counting JDBC statements per page. */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SchoolSearchStatementCountTest {
+
+  @Autowired private SpringDataSchoolRepository springDataRepository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private SchoolRepositoryPort schoolRepository;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    schoolRepository = new SchoolJpaRepository(springDataRepository);
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    for (int i = 1; i <= 6; i++) {
+      School school = new School(UUID.randomUUID(), "Counted School " + i, new Capacity(100));
+      for (int j = 0; j < i; j++) {
+        school.enrollStudent(UUID.randomUUID(), new StudentDraft("Student " + i + "-" + j));
+      }
+      schoolRepository.save(school);
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  @Test
+  void searchPageRunsOneSelectPlusOneCountRegardlessOfPageSize() {
+    // When
+    Page<SchoolSummaryView> small =
+        schoolRepository.searchSummariesByName("counted", PageRequest.of(0, 2));
+    long smallStatements = statistics.getPrepareStatementCount();
+    statistics.clear();
+    Page<SchoolSummaryView> large =
+        schoolRepository.searchSummariesByName("counted", PageRequest.of(0, 5));
+    long largeStatements = statistics.getPrepareStatementCount();
+
+    // Then
+    assertEquals(2, smallStatements);
+    assertEquals(2, largeStatements);
+    assertEquals(6, small.getTotalElements());
+    assertEquals(2, small.getContent().size());
+    assertEquals(5, large.getContent().size());
+  }
+
+  @Test
+  void searchPageNeverLoadsStudentEntitiesOrCollections() {
+    // When
+    Page<SchoolSummaryView> page =
+        schoolRepository.searchSummariesByName("counted", PageRequest.of(0, 10));
+
+    // Then
+    assertEquals(6, page.getContent().size());
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(0, statistics.getCollectionLoadCount());
+    assertEquals(1, statistics.getPrepareStatementCount()); // short first page skips the count
+  }
+
+  @Test
+  void searchPageReportsEnrolledCounts() {
+    // When
+    Page<SchoolSummaryView> page =
+        schoolRepository.searchSummariesByName("counted school", PageRequest.of(0, 10));
+
+    // Then
+    for (SchoolSummaryView view : page.getContent()) {
+      int expected = Integer.parseInt(view.name().substring("Counted School ".length()));
+      assertEquals(expected, view.enrolledCount());
+    }
+  }
+
+  @Test
+  void searchTreatsLikeWildcardsLiterally() {
+    // When
+    Page<SchoolSummaryView> page =
+        schoolRepository.searchSummariesByName("counted_school%", PageRequest.of(0, 10));
+
+    // Then
+    assertTrue(page.getContent().isEmpty());
+  }
+}
@@ -0,0 +1,189 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.mapper.SchoolEntityMapper;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.UpdateStudentCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.in.DeleteSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.UpdateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * SchoolEntity second-level cache through real transactions: repeated reads skip the database,
+ * {@code @Version} checks still reject stale writes, and seat-counter UPDATEs evict the row.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:l2cachedb",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@ActiveProfiles("test")
+class SchoolSecondLevelCacheTest {
+
+  @Autowired private SpringDataSchoolRepository schoolRepository;
+  @Autowired private SchoolRepositoryPort schoolRepositoryPort;
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+  @Autowired private CreateStudentUseCase createStudentUseCase;
+  @Autowired private UpdateStudentUseCase updateStudentUseCase;
+  @Autowired private DeleteSchoolUseCase deleteSchoolUseCase;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final List<UUID> createdSchools = new ArrayList<>();
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    createdSchools.forEach(id -> deleteSchoolUseCase.handle(new DeleteSchoolCommand(id)));
+  }
+
+  @Test
+  void shouldServeRepeatedFindsFromTheCache() {
+    // Given
+    UUID schoolId = createSchool("Cached School " + UUID.randomUUID());
+    schoolRepository.findById(schoolId).orElseThrow();
+    statistics.clear();
+
+    // When
+    SchoolEntity school = schoolRepository.findById(schoolId).orElseThrow();
+
+    // Then
+    assertEquals(schoolId, school.getId());
+    assertEquals(0, statistics.getPrepareStatementCount());
+    assertEquals(1, statistics.getSecondLevelCacheHitCount());
+  }
+
+  @Test
+  void shouldRejectWriteFromStaleCopyEvenWhenRowIsCached() {
+    // Given - two copies of the same version, both read through the cache
+    UUID schoolId = createSchool("Versioned School " + UUID.randomUUID());
+    SchoolEntity first = schoolRepository.findById(schoolId).orElseThrow();
+    SchoolEntity second = schoolRepository.findById(schoolId).orElseThrow();
+    Long version = first.getVersion();
+
+    // When
+    first.setName("First Writer " + UUID.randomUUID());
+    schoolRepository.save(first);
+    second.setName("Second Writer " + UUID.randomUUID());
+
+    // Then
+    assertThrows(OptimisticLockingFailureException.class, () -> schoolRepository.save(second));
+    SchoolEntity current = schoolRepository.findById(schoolId).orElseThrow();
+    assertEquals(first.getName(), current.getName());
+    assertEquals(version + 1, current.getVersion());
+  }
+
+  @Test
+  void shouldEvictCachedSchoolWhenSeatCounterMoves() {
+    // Given
+    UUID schoolId = createSchool("Counter School " + UUID.randomUUID());
+    assertEquals(0, schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount());
+
+    // When
+    assertTrue(schoolRepositoryPort.tryReserveSeat(schoolId));
+
+    // Then
+    assertEquals(1, schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount());
+  }
+
+  @Test
+  void shouldReadReservedSeatInDetailEvenIfLoadedBeforeCommit() {
+    // Given - the school is cached, and a second transaction will load it mid-reservation
+    UUID schoolId = createSchool("Detail School " + UUID.randomUUID());
+    schoolRepository.findById(schoolId).orElseThrow();
+    TransactionTemplate reservation = new TransactionTemplate(transactionManager);
+    TransactionTemplate concurrentRead = new TransactionTemplate(transactionManager);
+    concurrentRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    // When - the concurrent load still sees the committed count and puts it back in the cache
+    int seenBeforeCommit =
+        reservation.execute(
+            status -> {
+              assertTrue(schoolRepositoryPort.tryReserveSeat(schoolId));
+              return concurrentRead.execute(
+                  inner -> schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount());
+            });
+    SchoolDetailView detail =
+        SchoolEntityMapper.toDetailView(schoolRepository.findById(schoolId).orElseThrow());
+
+    // Then
+    assertEquals(0, seenBeforeCommit);
+    assertEquals(1, detail.enrolledCount());
+  }
+
+  @Test
+  void shouldCacheNameLookupsUntilSchoolsChange() {
+    // Given
+    String name = "Looked Up School " + UUID.randomUUID();
+    assertFalse(schoolRepository.existsByNameIgnoreCase(name));
+    statistics.clear();
+
+    // When
+    boolean cachedAnswer = schoolRepository.existsByNameIgnoreCase(name);
+    long statementsWhileCached = statistics.getPrepareStatementCount();
+    createSchool(name);
+    boolean afterInsert = schoolRepository.existsByNameIgnoreCase(name);
+
+    // Then
+    assertFalse(cachedAnswer);
+    assertEquals(0, statementsWhileCached);
+    assertTrue(statistics.getQueryCacheHitCount() >= 1);
+    assertTrue(afterInsert);
+  }
+
+  @Test
+  void shouldWriteStudentsWithoutSelectingTheSchool() {
+    // Given
+    UUID schoolId = createSchool("Student Writes School " + UUID.randomUUID());
+    statistics.clear();
+
+    // When
+    UUID studentId = createStudentUseCase.handle(new CreateStudentCommand("Luna", schoolId)).id();
+    long createStatements = statistics.getPrepareStatementCount();
+    statistics.clear();
+    updateStudentUseCase.handle(new UpdateStudentCommand(schoolId, studentId, "Luna Lovegood"));
+    long updateStatements = statistics.getPrepareStatementCount();
+
+    // Then - seat UPDATE + INSERT, then student SELECT + UPDATE
+    EntityStatistics schools = statistics.getEntityStatistics(SchoolEntity.class.getName());
+    assertEquals(2, createStatements);
+    assertEquals(2, updateStatements);
+    assertEquals(0, schools.getLoadCount());
+    assertEquals(0, schools.getFetchCount());
+  }
+
+  private UUID createSchool(String name) {
+    UUID schoolId = createSchoolUseCase.handle(new CreateSchoolCommand(name, 100)).id();
+    createdSchools.add(schoolId);
+    return schoolId;
+  }
+}
@@ -6,10 +6,17 @@ import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
 import com.hectorherranz.schoolapi.adapters.out.jpa.entity.StudentEntity;
 import com.hectorherranz.schoolapi.adapters.out.jpa.mapper.StudentEntityMapper;
 import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
 import com.hectorherranz.schoolapi.domain.model.Student;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,11 +33,13 @@ class StudentJpaRepositoryTest {
 
   @Autowired private SpringDataSchoolRepository schoolRepository;
 
+  @Autowired private EntityManager entityManager;
+
   private StudentRepositoryPort studentRepository;
 
   @BeforeEach
   void setUp() {
-    studentRepository = new StudentJpaRepository(springDataRepository);
+    studentRepository = new StudentJpaRepository(springDataRepository, entityManager);
   }
 
   @Test
@@ -146,9 +155,12 @@ class StudentJpaRepositoryTest {
     assertTrue(studentRepository.findById(student.id()).isPresent());
 
     // When
-    studentRepository.deleteById(student.id());
+    int deleted = studentRepository.deleteByIdAndSchoolId(student.id(), savedSchool.getId());
+    int deletedAgain = studentRepository.deleteByIdAndSchoolId(student.id(), savedSchool.getId());
 
     // Then
+    assertEquals(1, deleted);
+    assertEquals(0, deletedAgain);
     assertFalse(studentRepository.findById(student.id()).isPresent());
   }
 
@@ -221,4 +233,89 @@ class StudentJpaRepositoryTest {
     assertEquals(0, results.getTotalElements());
     assertTrue(results.getContent().isEmpty());
   }
+
+  @Test
+  void shouldWalkSearchResultsWithKeysetCursorAcrossDuplicateNames() {
+    // Given
+    SchoolEntity school = new SchoolEntity("Test School", new Capacity(100));
+    school.setId(UUID.randomUUID());
+    SchoolEntity savedSchool = schoolRepository.save(school);
+
+    // Same name five times: only the id tiebreaker keeps pages disjoint
+    for (int i = 0; i < 5; i++) {
+      springDataRepository.save(new StudentEntity(UUID.randomUUID(), "Same Name", savedSchool));
+    }
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "Other", savedSchool));
+
+    // When
+    Set<UUID> seen = new HashSet<>();
+    KeysetCursor after = null;
+    List<Student> window;
+    int pages = 0;
+    do {
+      window = studentRepository.searchAfter(savedSchool.getId(), "same", after, 2);
+      window.forEach(student -> assertTrue(seen.add(student.id()), "page overlap"));
+      if (!window.isEmpty()) {
+        Student last = window.get(window.size() - 1);
+        after = new KeysetCursor(last.name(), last.id());
+      }
+      pages++;
+    } while (window.size() == 2);
+
+    // Then
+    assertEquals(5, seen.size());
+    assertEquals(3, pages);
+  }
+
+  @Test
+  void shouldTreatLikeWildcardsLiterallyAndPageNativeSearch() {
+    // Given
+    SchoolEntity school = new SchoolEntity("Test School", new Capacity(100));
+    school.setId(UUID.randomUUID());
+    SchoolEntity savedSchool = schoolRepository.save(school);
+
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "Ann_Lee", savedSchool));
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "AnnXLee", savedSchool));
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "ann_lee jr", savedSchool));
+
+    // When
+    Page<Student> firstPage =
+        studentRepository.search(savedSchool.getId(), "N_L", PageRequest.of(0, 1));
+    Page<Student> secondPage =
+        studentRepository.search(savedSchool.getId(), "N_L", PageRequest.of(1, 1));
+
+    // Then
+    assertEquals(2, firstPage.getTotalElements());
+    assertEquals("Ann_Lee", firstPage.getContent().get(0).name());
+    assertEquals("ann_lee jr", secondPage.getContent().get(0).name());
+  }
+
+  @Test
+  void shouldStreamSchoolRosterInNameOrderWithoutKeepingEntities() {
+    // Given
+    SchoolEntity school = new SchoolEntity("Export School", new Capacity(100));
+    school.setId(UUID.randomUUID());
+    SchoolEntity savedSchool = schoolRepository.save(school);
+    SchoolEntity otherSchool = new SchoolEntity("Other School", new Capacity(100));
+    otherSchool.setId(UUID.randomUUID());
+    schoolRepository.save(otherSchool);
+
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "Neville", savedSchool));
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "Hermione", savedSchool));
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "Luna", savedSchool));
+    springDataRepository.save(new StudentEntity(UUID.randomUUID(), "Cedric", otherSchool));
+    entityManager.flush();
+    entityManager.clear();
+
+    // When
+    List<String> names = new ArrayList<>();
+    studentRepository.forEachInSchool(savedSchool.getId(), student -> names.add(student.name()));
+    List<Student> everyone = new ArrayList<>();
+    studentRepository.forEachStudent(everyone::add);
+
+    // Then
+    assertEquals(List.of("Hermione", "Luna", "Neville"), names);
+    assertEquals(4, everyone.size());
+    assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+  }
 }
@@ -0,0 +1,92 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.cache.NoOpSchoolDetailCache;
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.StudentEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataStudentRepository;
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class EnrolledCountReconcilerTest {
+
+  @Autowired private SpringDataSchoolRepository schoolRepository;
+
+  @Autowired private SpringDataStudentRepository studentRepository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private EnrolledCountReconciler reconciler;
+
+  @BeforeEach
+  void setUp() {
+    reconciler =
+        new EnrolledCountReconciler(
+            schoolRepository,
+            new TransactionTemplate(transactionManager),
+            new NoOpSchoolDetailCache());
+  }
+
+  @Test
+  void shouldDetectAndRepairDriftedCounters() {
+    // Given - one school in sync, one over-counted, one under-counted
+    UUID inSync = schoolWithStudents("In Sync", 2, 2);
+    UUID overCounted = schoolWithStudents("Over Counted", 1, 4);
+    UUID underCounted = schoolWithStudents("Under Counted", 3, 0);
+
+    // When
+    List<UUID> drifted = schoolRepository.findSchoolIdsWithEnrolledCountDrift();
+    int repaired = reconciler.reconcile();
+    entityManager.clear();
+
+    // Then
+    assertEquals(2, drifted.size());
+    assertTrue(drifted.containsAll(List.of(overCounted, underCounted)));
+    assertEquals(2, repaired);
+    assertEquals(2, enrolledCount(inSync));
+    assertEquals(1, enrolledCount(overCounted));
+    assertEquals(3, enrolledCount(underCounted));
+    assertTrue(schoolRepository.findSchoolIdsWithEnrolledCountDrift().isEmpty());
+  }
+
+  @Test
+  void shouldDoNothingWhenCountersMatch() {
+    // Given
+    schoolWithStudents("Matching", 3, 3);
+
+    // When & Then
+    assertEquals(0, reconciler.reconcile());
+  }
+
+  private UUID schoolWithStudents(String name, int students, int counter) {
+    SchoolEntity school = new SchoolEntity(name + " " + UUID.randomUUID(), new Capacity(100));
+    school.setId(UUID.randomUUID());
+    school.setEnrolledCount(counter);
+    SchoolEntity saved = schoolRepository.save(school);
+    for (int i = 0; i < students; i++) {
+      studentRepository.save(new StudentEntity(UUID.randomUUID(), "Student " + i, saved));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return saved.getId();
+  }
+
+  private int enrolledCount(UUID schoolId) {
+    return schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount();
+  }
+}
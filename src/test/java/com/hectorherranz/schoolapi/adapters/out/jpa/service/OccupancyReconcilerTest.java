@@ -0,0 +1,117 @@
+package com.hectorherranz.schoolapi.adapters.out.jpa.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher;
+import com.hectorherranz.schoolapi.adapters.out.event.RingBufferEventPublisher.OnFull;
+import com.hectorherranz.schoolapi.adapters.out.event.WaitStrategy;
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.SchoolEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.adapters.out.stats.OccupancyAggregate;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OccupancyReconcilerTest {
+
+  @Autowired private SpringDataSchoolRepository schoolRepository;
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private OccupancyAggregate aggregate;
+  private OccupancyReconciler reconciler;
+
+  @BeforeEach
+  void setUp() {
+    aggregate = new OccupancyAggregate(Clock.systemUTC());
+    RingBufferEventPublisher eventBus =
+        new RingBufferEventPublisher(
+            8, WaitStrategy.named("sleeping"), OnFull.DROP, List.of(), new SimpleMeterRegistry());
+    reconciler =
+        new OccupancyReconciler(
+            schoolRepository, new TransactionTemplate(transactionManager), aggregate, eventBus);
+  }
+
+  @Test
+  void shouldLoadOnceAndThenOnlyCheck() {
+    // Given
+    school("Half Full", 100, 50);
+    school("Full", 50, 50);
+
+    // When
+    boolean firstLoaded = reconciler.reconcile();
+    boolean secondLoaded = reconciler.reconcile();
+
+    // Then
+    assertTrue(firstLoaded);
+    assertFalse(secondLoaded);
+    OccupancyStatsView stats = aggregate.current();
+    assertEquals(schoolRepository.count(), stats.schools());
+    assertTrue(stats.enrolled() >= 100);
+    assertTrue(stats.nearFull() >= 1);
+  }
+
+  @Test
+  void shouldReloadWhenTheAggregateDriftedOnTwoChecksInARow() {
+    // Given - one enrollment that reached the aggregate twice
+    UUID schoolId = school("Drifting", 100, 10);
+    reconciler.reconcile();
+    long enrolledBefore = aggregate.current().enrolled();
+    schoolRepository.overwriteEnrolledCount(schoolId, 11);
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), schoolId), true);
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), schoolId), true);
+
+    // When
+    boolean firstCheckReloaded = reconciler.reconcile();
+    boolean secondCheckReloaded = reconciler.reconcile();
+
+    // Then
+    assertFalse(firstCheckReloaded);
+    assertTrue(secondCheckReloaded);
+    assertEquals(enrolledBefore + 1, aggregate.current().enrolled());
+    assertFalse(reconciler.reconcile());
+  }
+
+  @Test
+  void shouldNotReloadWhenTheDifferenceIsOnlyQueuedEvents() {
+    // Given - a committed enrollment whose event has not reached the aggregate yet
+    UUID schoolId = school("Catching Up", 100, 10);
+    reconciler.reconcile();
+    schoolRepository.overwriteEnrolledCount(schoolId, 11);
+
+    // When
+    boolean firstCheckReloaded = reconciler.reconcile();
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), schoolId), true);
+    boolean secondCheckReloaded = reconciler.reconcile();
+
+    // Then
+    assertFalse(firstCheckReloaded);
+    assertFalse(secondCheckReloaded);
+  }
+
+  private UUID school(String name, int capacity, int enrolled) {
+    SchoolEntity school = new SchoolEntity(name + " " + UUID.randomUUID(), new Capacity(capacity));
+    school.setId(UUID.randomUUID());
+    school.setEnrolledCount(enrolled);
+    SchoolEntity saved = schoolRepository.save(school);
+    entityManager.flush();
+    entityManager.clear();
+    return saved.getId();
+  }
+}
@@ -0,0 +1,46 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileOutboxSinkTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldAppendOneJsonLinePerMessage() throws Exception {
+    // Given
+    Path file = directory.resolve("outbox/events.ndjson");
+    FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+    UUID id = UUID.randomUUID();
+    Instant occurredAt = Instant.parse("2026-01-01T00:00:00Z");
+    OutboxMessage first =
+        new OutboxMessage(id, "StudentEnrolledEvent", "{\"studentId\":\"s1\"}", occurredAt);
+    OutboxMessage second =
+        new OutboxMessage(UUID.randomUUID(), "StudentEnrolledEvent", "{}", Instant.now());
+
+    // When
+    sink.deliver(List.of(first));
+    sink.deliver(List.of(second));
+
+    // Then
+    List<String> lines = Files.readAllLines(file);
+    assertEquals(2, lines.size());
+    JsonNode line = objectMapper.readTree(lines.get(0));
+    assertEquals(id.toString(), line.get("id").asText());
+    assertEquals("StudentEnrolledEvent", line.get("type").asText());
+    assertEquals("2026-01-01T00:00:00Z", line.get("occurredAt").asText());
+    assertEquals("s1", line.get("payload").get("studentId").asText());
+  }
+}
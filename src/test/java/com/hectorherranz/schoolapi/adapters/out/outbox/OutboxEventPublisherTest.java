@@ -0,0 +1,45 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.OutboxEventEntity;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventPublisherTest {
+
+  @Mock private EntityManager entityManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void shouldPersistOneRowPerEventWithItsTypeAndJson() throws Exception {
+    // Given
+    UUID rowId = UUID.randomUUID();
+    OutboxEventPublisher publisher =
+        new OutboxEventPublisher(entityManager, objectMapper, () -> rowId);
+    StudentEnrolledEvent event = new StudentEnrolledEvent(UUID.randomUUID(), UUID.randomUUID());
+
+    // When
+    publisher.publish(List.of(event));
+
+    // Then
+    ArgumentCaptor<OutboxEventEntity> row = ArgumentCaptor.forClass(OutboxEventEntity.class);
+    verify(entityManager).persist(row.capture());
+    assertEquals(rowId, row.getValue().getId());
+    assertEquals("StudentEnrolledEvent", row.getValue().getEventType());
+    assertEquals(
+        event, objectMapper.readValue(row.getValue().getPayload(), StudentEnrolledEvent.class));
+    assertNotNull(row.getValue().getOccurredAt());
+  }
+}
@@ -0,0 +1,133 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.OutboxEventEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataOutboxRepository;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateStudentUseCase;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * End to end through the real handlers: a school and an enrollment leave one event each in the
+ * outbox, a rejected enrollment none, and the relay (not scheduled in the test profile) hands them
+ * to both sinks in order.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+  @TempDir static Path directory;
+
+  @DynamicPropertySource
+  static void sinks(DynamicPropertyRegistry registry) {
+    registry.add("schoolapi.outbox.sinks", () -> "in-process,file");
+    registry.add("schoolapi.outbox.file-sink.path", () -> eventsFile().toString());
+  }
+
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+
+  @Autowired private CreateStudentUseCase createStudentUseCase;
+
+  @Autowired private SpringDataOutboxRepository outboxRepository;
+
+  @Autowired private OutboxRelay outboxRelay;
+
+  @Autowired private Listener listener;
+
+  @BeforeEach
+  void emptyOutbox() throws Exception {
+    outboxRepository.deleteAllInBatch();
+    Files.deleteIfExists(eventsFile());
+    listener.received.clear();
+  }
+
+  @Test
+  void shouldRelayEnrollmentsToEverySinkAfterCommit() throws Exception {
+    // Given
+    UUID schoolId =
+        createSchoolUseCase.handle(new CreateSchoolCommand("Outbox " + UUID.randomUUID(), 50)).id();
+    Student student = createStudentUseCase.handle(new CreateStudentCommand("Luna", schoolId));
+    UUID missingSchoolId = UUID.randomUUID();
+    assertThrows(
+        NotFoundException.class,
+        () -> createStudentUseCase.handle(new CreateStudentCommand("Ginny", missingSchoolId)));
+
+    // When
+    long pending = outboxRepository.count();
+    int relayed = outboxRelay.relay();
+
+    // Then
+    assertEquals(2, pending);
+    assertEquals(2, relayed);
+    assertEquals(0, outboxRepository.count());
+    assertEquals(
+        List.of("SchoolCreatedEvent", "StudentEnrolledEvent"),
+        listener.received.stream().map(OutboxMessage::type).toList());
+    assertTrue(listener.received.get(0).payload().contains(schoolId.toString()));
+    assertTrue(listener.received.get(1).payload().contains(student.id().toString()));
+    List<String> lines = Files.readAllLines(eventsFile());
+    assertEquals(2, lines.size());
+    assertTrue(lines.get(1).contains(student.id().toString()));
+  }
+
+  @Test
+  void shouldRelayInOccurredAtOrderWhenIdsAreRandom() {
+    // Given - the later event has the smaller id, as random UUIDv4 ids allow
+    Instant raisedAt = Instant.parse("2026-01-01T10:00:00Z");
+    outboxRepository.saveAll(
+        List.of(
+            new OutboxEventEntity(
+                UUID.fromString("ffffffff-ffff-4fff-bfff-ffffffffffff"),
+                "SchoolCreatedEvent",
+                "{}",
+                raisedAt),
+            new OutboxEventEntity(
+                UUID.fromString("00000000-0000-4000-8000-000000000000"),
+                "SchoolUpdatedEvent",
+                "{}",
+                raisedAt.plusSeconds(1))));
+
+    // When
+    outboxRelay.relay();
+
+    // Then
+    assertEquals(
+        List.of("SchoolCreatedEvent", "SchoolUpdatedEvent"),
+        listener.received.stream().map(OutboxMessage::type).toList());
+  }
+
+  private static Path eventsFile() {
+    return directory.resolve("events.ndjson");
+  }
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class Listener {
+
+    final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+
+    @EventListener
+    void on(OutboxMessage message) {
+      received.add(message);
+    }
+  }
+}
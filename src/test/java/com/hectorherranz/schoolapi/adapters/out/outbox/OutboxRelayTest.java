@@ -0,0 +1,123 @@
+package com.hectorherranz.schoolapi.adapters.out.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.entity.OutboxEventEntity;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+  private static final int BATCH_SIZE = 2;
+
+  @Mock private SpringDataOutboxRepository outboxRepository;
+  @Mock private OutboxSink first;
+  @Mock private OutboxSink second;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldDeliverToEverySinkThenDelete() {
+    // Given
+    List<OutboxEventEntity> rows = List.of(row(Duration.ofSeconds(3)));
+    when(outboxRepository.lockOldest(Limit.of(BATCH_SIZE))).thenReturn(rows);
+
+    // When
+    int relayed = relay(true, first, second).relay();
+
+    // Then
+    assertEquals(1, relayed);
+    List<OutboxMessage> messages = List.of(OutboxMessage.of(rows.get(0)));
+    InOrder order = inOrder(first, second, outboxRepository);
+    order.verify(first).deliver(messages);
+    order.verify(second).deliver(messages);
+    order.verify(outboxRepository).deleteAllInBatch(rows);
+    assertEquals(1, meterRegistry.get(OutboxRelay.DISPATCHED).counter().count());
+    assertEquals(3, meterRegistry.get(OutboxRelay.LAG).timer().max(TimeUnit.SECONDS));
+    assertEquals(0, meterRegistry.get(OutboxRelay.OLDEST_AGE).gauge().value());
+  }
+
+  @Test
+  void shouldDrainFullBatchesUntilAPartialOne() {
+    // Given
+    when(outboxRepository.lockOldest(Limit.of(BATCH_SIZE)))
+        .thenReturn(List.of(row(Duration.ZERO), row(Duration.ZERO)))
+        .thenReturn(List.of(row(Duration.ZERO)));
+
+    // When
+    int relayed = relay(true, first).relay();
+
+    // Then
+    assertEquals(3, relayed);
+    verify(first, times(2)).deliver(anyList());
+    verify(outboxRepository, times(2)).deleteAllInBatch(anyList());
+  }
+
+  @Test
+  void shouldKeepTheBatchWhenASinkFails() {
+    // Given
+    List<OutboxEventEntity> rows = List.of(row(Duration.ofMinutes(2)), row(Duration.ofMinutes(1)));
+    when(outboxRepository.lockOldest(Limit.of(BATCH_SIZE))).thenReturn(rows);
+    when(first.name()).thenReturn("file");
+    doThrow(new IllegalStateException("disk full")).when(first).deliver(anyList());
+
+    // When
+    int relayed = relay(true, first, second).relay();
+
+    // Then
+    assertEquals(0, relayed);
+    verifyNoInteractions(second);
+    verify(outboxRepository, never()).deleteAllInBatch(anyList());
+    assertEquals(
+        1,
+        meterRegistry
+            .get(OutboxRelay.FAILURES)
+            .tags("sink", "file", "exception", "IllegalStateException")
+            .counter()
+            .count());
+    assertEquals(120, meterRegistry.get(OutboxRelay.OLDEST_AGE).gauge().value());
+  }
+
+  @Test
+  void shouldNotPollWhenDisabled() {
+    // When
+    relay(false, first).relayOnSchedule();
+
+    // Then
+    verifyNoInteractions(outboxRepository, first);
+  }
+
+  private OutboxRelay relay(boolean enabled, OutboxSink... sinks) {
+    return new OutboxRelay(
+        outboxRepository,
+        TransactionOperations.withoutTransaction(),
+        new ArrayList<>(List.of(sinks)),
+        BATCH_SIZE,
+        enabled,
+        Clock.fixed(NOW, ZoneOffset.UTC),
+        meterRegistry);
+  }
+
+  private static OutboxEventEntity row(Duration age) {
+    return new OutboxEventEntity(UUID.randomUUID(), "StudentEnrolledEvent", "{}", NOW.minus(age));
+  }
+}
@@ -0,0 +1,138 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class BloomSchoolNameFilterTest {
+
+  @Mock private SpringDataSchoolRepository schoolRepository;
+
+  private final List<Runnable> pendingLoads = new ArrayList<>();
+
+  private BloomSchoolNameFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    filter = new BloomSchoolNameFilter(schoolRepository, pendingLoads::add, 1_000, 0.01);
+  }
+
+  @Test
+  void shouldTreatEveryNameAsPossibleUntilLoaded() {
+    // Given
+    when(schoolRepository.findLowerNamesAfter(eq(""), any())).thenReturn(List.of("hogwarts"));
+
+    // When
+    filter.warm();
+    boolean beforeLoad = filter.mightExist("Durmstrang");
+    runPendingLoads();
+
+    // Then
+    assertTrue(beforeLoad);
+    assertFalse(filter.mightExist("Durmstrang"));
+  }
+
+  @Test
+  void shouldFindLoadedNamesCaseInsensitively() {
+    // Given
+    when(schoolRepository.findLowerNamesAfter(eq(""), any()))
+        .thenReturn(List.of("beauxbatons academy", "hogwarts"));
+
+    // When
+    filter.warm();
+    runPendingLoads();
+
+    // Then
+    assertTrue(filter.mightExist("Hogwarts"));
+    assertTrue(filter.mightExist("BEAUXBATONS ACADEMY"));
+    assertFalse(filter.mightExist("Ilvermorny"));
+  }
+
+  @Test
+  void shouldLearnAddedNamesOutsideTransactions() {
+    // Given
+    when(schoolRepository.findLowerNamesAfter(eq(""), any())).thenReturn(List.of());
+    filter.warm();
+    runPendingLoads();
+
+    // When
+    filter.nameAdded("Castelobruxo");
+
+    // Then
+    assertTrue(filter.mightExist("castelobruxo"));
+  }
+
+  @Test
+  void shouldPageThroughNamesByKeyset() {
+    // Given
+    List<String> fullPage =
+        IntStream.range(0, BloomSchoolNameFilter.PAGE_SIZE)
+            .mapToObj(i -> String.format("school %05d", i))
+            .toList();
+    String last = fullPage.get(fullPage.size() - 1);
+    when(schoolRepository.findLowerNamesAfter(eq(""), any())).thenReturn(fullPage);
+    when(schoolRepository.findLowerNamesAfter(eq(last), any())).thenReturn(List.of("zzz school"));
+
+    // When
+    filter.warm();
+    runPendingLoads();
+
+    // Then
+    assertTrue(filter.mightExist("School 00042"));
+    assertTrue(filter.mightExist("ZZZ School"));
+    PageRequest page = PageRequest.of(0, BloomSchoolNameFilter.PAGE_SIZE);
+    verify(schoolRepository, times(2)).findLowerNamesAfter(anyString(), eq(page));
+  }
+
+  @Test
+  void shouldRebuildLargerOnceSaturated() {
+    // Given
+    filter = new BloomSchoolNameFilter(schoolRepository, pendingLoads::add, 2, 0.01);
+    when(schoolRepository.findLowerNamesAfter(eq(""), any()))
+        .thenReturn(List.of("a", "b"))
+        .thenReturn(List.of("a", "b", "c"));
+    filter.warm();
+    runPendingLoads();
+
+    // When
+    filter.nameAdded("c");
+    runPendingLoads();
+
+    // Then - the third name overflowed a filter sized for two, so it was reloaded
+    verify(schoolRepository, times(2)).findLowerNamesAfter(eq(""), any());
+    assertTrue(filter.mightExist("a"));
+    assertTrue(filter.mightExist("c"));
+  }
+
+  @Test
+  void shouldKeepTreatingNamesAsPossibleWhenLoadFails() {
+    // Given
+    when(schoolRepository.findLowerNamesAfter(eq(""), any()))
+        .thenThrow(new IllegalStateException("database down"));
+
+    // When
+    filter.warm();
+    runPendingLoads();
+
+    // Then
+    assertTrue(filter.mightExist("Hogwarts"));
+  }
+
+  private void runPendingLoads() {
+    List<Runnable> loads = new ArrayList<>(pendingLoads);
+    pendingLoads.clear();
+    loads.forEach(Runnable::run);
+  }
+}
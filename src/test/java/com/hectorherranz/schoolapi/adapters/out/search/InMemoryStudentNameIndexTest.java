@@ -0,0 +1,196 @@
+package com.hectorherranz.schoolapi.adapters.out.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.projection.StudentNameRow;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataStudentRepository;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryStudentNameIndexTest {
+
+  private record Row(UUID getId, String getName) implements StudentNameRow {}
+
+  @Mock private SpringDataStudentRepository studentRepository;
+
+  private final List<Runnable> pendingLoads = new ArrayList<>();
+  private final UUID schoolId = UUID.randomUUID();
+
+  private InMemoryStudentNameIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index =
+        new InMemoryStudentNameIndex(studentRepository, pendingLoads::add, 2, Duration.ofHours(1));
+  }
+
+  @Test
+  void shouldFallBackWhileColdAndAnswerFromMemoryOnceLoaded() {
+    // Given
+    when(studentRepository.findNamesBySchoolId(schoolId))
+        .thenReturn(
+            List.of(
+                row("Hermione Granger"), row("Harry Potter"), row("Ron Weasley"), row("Hannah")));
+
+    // When
+    Optional<Page<Student>> cold = index.search(schoolId, "ha", PageRequest.of(0, 10));
+    runPendingLoads();
+    Optional<Page<Student>> warm = index.search(schoolId, "ha", PageRequest.of(0, 10));
+
+    // Then
+    assertTrue(cold.isEmpty());
+    assertTrue(warm.isPresent());
+    assertEquals(List.of("Hannah", "Harry Potter"), names(warm.get()));
+    assertTrue(warm.get().getContent().stream().allMatch(s -> s.schoolId().equals(schoolId)));
+    verify(studentRepository, times(1)).findNamesBySchoolId(schoolId);
+  }
+
+  @Test
+  void shouldMatchSubstringsCaseInsensitivelyInNameOrderWithPaging() {
+    // Given
+    loadSchool(
+        row("Anna Smith"), row("ann nna"), row("Joanna"), row("Hannah"), row("Zoe"), row("anna"));
+
+    // When
+    Page<Student> first = index.search(schoolId, "ANNA", PageRequest.of(0, 2)).orElseThrow();
+    Page<Student> second = index.search(schoolId, "ANNA", PageRequest.of(1, 2)).orElseThrow();
+
+    // Then - "ann nna" shares every trigram with "anna" but does not contain it
+    assertEquals(4, first.getTotalElements());
+    assertEquals(List.of("Anna Smith", "Hannah"), names(first));
+    assertEquals(List.of("Joanna", "anna"), names(second));
+  }
+
+  @Test
+  void shouldHandleShortAndBlankQueries() {
+    // Given
+    loadSchool(row("Al"), row("Bo"), row("Alba"));
+
+    // When & Then
+    assertEquals(List.of("Al", "Alba"), names(search("al")));
+    assertEquals(List.of("Al", "Alba", "Bo"), names(search("")));
+    assertEquals(List.of("Al", "Alba", "Bo"), names(search(null)));
+    assertEquals(List.of(), names(search("xyz")));
+  }
+
+  @Test
+  void shouldApplyWritesToLoadedSchool() {
+    // Given
+    Row harry = row("Harry Potter");
+    loadSchool(harry);
+    UUID newId = UUID.randomUUID();
+
+    // When
+    index.studentSaved(new Student(newId, "Luna Lovegood", schoolId));
+    index.studentSaved(new Student(harry.getId(), "Harold Potter", schoolId));
+
+    // Then
+    assertEquals(List.of("Luna Lovegood"), names(search("luna")));
+    assertEquals(List.of("Harold Potter"), names(search("potter")));
+    assertEquals(List.of(), names(search("harry")));
+
+    // When
+    index.studentRemoved(schoolId, newId);
+    index.schoolRemoved(schoolId);
+
+    // Then - the school is cold again
+    assertTrue(index.search(schoolId, "potter", PageRequest.of(0, 10)).isEmpty());
+  }
+
+  @Test
+  void shouldDiscardLoadThatOverlapsCommittedWrite() {
+    // Given - a write to the school commits while the first roster query is running
+    when(studentRepository.findNamesBySchoolId(schoolId))
+        .thenAnswer(
+            invocation -> {
+              index.studentSaved(new Student(UUID.randomUUID(), "Luna Lovegood", schoolId));
+              return List.of(row("Harry Potter"));
+            })
+        .thenReturn(List.of(row("Harry Potter"), row("Luna Lovegood")));
+
+    // When
+    index.search(schoolId, "luna", PageRequest.of(0, 10));
+    runPendingLoads();
+
+    // Then - the possibly stale roster is not installed; the next search reloads it
+    assertTrue(index.search(schoolId, "luna", PageRequest.of(0, 10)).isEmpty());
+    runPendingLoads();
+    assertEquals(List.of("Luna Lovegood"), names(search("luna")));
+  }
+
+  @Test
+  void shouldNotIndexEmptyOrUnknownSchools() {
+    // Given - a school with no students and an id that matches no school
+    when(studentRepository.findNamesBySchoolId(any())).thenReturn(List.of());
+    UUID unknown = UUID.randomUUID();
+    UUID real = UUID.randomUUID();
+
+    // When
+    index.search(schoolId, "x", PageRequest.of(0, 10));
+    index.search(unknown, "x", PageRequest.of(0, 10));
+    runPendingLoads();
+    when(studentRepository.findNamesBySchoolId(real)).thenReturn(List.of(row("Harry Potter")));
+    index.search(real, "harry", PageRequest.of(0, 10));
+    runPendingLoads();
+
+    // Then - neither took a slot, so a real school still gets indexed
+    assertEquals(1, index.indexedSchools());
+    assertTrue(index.search(schoolId, "x", PageRequest.of(0, 10)).isEmpty());
+    assertTrue(index.search(real, "harry", PageRequest.of(0, 10)).isPresent());
+  }
+
+  @Test
+  void shouldStopLoadingSchoolsOnceFull() {
+    // Given
+    when(studentRepository.findNamesBySchoolId(any())).thenReturn(List.of(row("Harry Potter")));
+    UUID third = UUID.randomUUID();
+
+    // When
+    index.search(UUID.randomUUID(), "x", PageRequest.of(0, 10));
+    index.search(UUID.randomUUID(), "x", PageRequest.of(0, 10));
+    runPendingLoads();
+    index.search(third, "x", PageRequest.of(0, 10));
+
+    // Then
+    assertEquals(2, index.indexedSchools());
+    assertTrue(pendingLoads.isEmpty());
+    assertTrue(index.search(third, "x", PageRequest.of(0, 10)).isEmpty());
+  }
+
+  private Row row(String name) {
+    return new Row(UUID.randomUUID(), name);
+  }
+
+  private void loadSchool(Row... rows) {
+    when(studentRepository.findNamesBySchoolId(schoolId)).thenReturn(List.of(rows));
+    index.search(schoolId, "", PageRequest.of(0, 1));
+    runPendingLoads();
+  }
+
+  private Page<Student> search(String q) {
+    return index.search(schoolId, q, PageRequest.of(0, 10)).orElseThrow();
+  }
+
+  private void runPendingLoads() {
+    List<Runnable> loads = new ArrayList<>(pendingLoads);
+    pendingLoads.clear();
+    loads.forEach(Runnable::run);
+  }
+
+  private static List<String> names(Page<Student> page) {
+    return page.getContent().stream().map(Student::name).toList();
+  }
+}
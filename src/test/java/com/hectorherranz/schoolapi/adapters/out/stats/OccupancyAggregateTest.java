@@ -0,0 +1,176 @@
+package com.hectorherranz.schoolapi.adapters.out.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.stats.OccupancyAggregate.BucketRow;
+import com.hectorherranz.schoolapi.adapters.out.stats.OccupancyAggregate.SchoolRow;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView.FillRateBucket;
+import com.hectorherranz.schoolapi.domain.event.SchoolCreatedEvent;
+import com.hectorherranz.schoolapi.domain.event.SchoolDeletedEvent;
+import com.hectorherranz.schoolapi.domain.event.SchoolUpdatedEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentRemovedEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OccupancyAggregateTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+  private final UUID hogwarts = UUID.randomUUID();
+  private final UUID beauxbatons = UUID.randomUUID();
+
+  private OccupancyAggregate aggregate;
+
+  @BeforeEach
+  void setUp() {
+    aggregate = new OccupancyAggregate(Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void shouldFollowEventsIncrementally() {
+    // Given
+    aggregate.reload(Stream.of(new SchoolRow(hogwarts, 100, 89)));
+
+    // When
+    aggregate.onEvent(new SchoolCreatedEvent(beauxbatons, "Beauxbatons", 50), false);
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), beauxbatons), false);
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), hogwarts), true);
+    OccupancyStatsView stats = aggregate.current();
+
+    // Then - Hogwarts moves from the 80-89% band to 90-99%
+    assertEquals(2, stats.schools());
+    assertEquals(91, stats.enrolled());
+    assertEquals(150, stats.capacity());
+    assertEquals(91 / 150.0, stats.fillRate(), 1e-9);
+    assertEquals(1, band(stats, 0).schools());
+    assertEquals(0, band(stats, 80).schools());
+    assertEquals(1, band(stats, 90).schools());
+    assertEquals(1, stats.nearFull());
+    assertEquals(NOW, stats.asOf());
+  }
+
+  @Test
+  void shouldCountFullSchoolsInTheirOwnBand() {
+    // Given
+    aggregate.reload(Stream.of(new SchoolRow(hogwarts, 50, 49)));
+
+    // When
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), hogwarts), true);
+    OccupancyStatsView stats = aggregate.current();
+
+    // Then
+    FillRateBucket full = stats.fillRates().get(OccupancyAggregate.BUCKETS - 1);
+    assertEquals(new FillRateBucket(100, 100, 1), full);
+    assertEquals(0, band(stats, 90).schools());
+    assertEquals(1, stats.nearFull());
+  }
+
+  @Test
+  void shouldApplyRemovalsResizesAndDeletes() {
+    // Given
+    aggregate.reload(
+        Stream.of(new SchoolRow(hogwarts, 100, 50), new SchoolRow(beauxbatons, 200, 10)));
+
+    // When
+    aggregate.onEvent(new StudentRemovedEvent(UUID.randomUUID(), hogwarts), false);
+    aggregate.onEvent(new SchoolUpdatedEvent(hogwarts, "Hogwarts", 55), false);
+    aggregate.onEvent(new SchoolDeletedEvent(beauxbatons), true);
+    OccupancyStatsView stats = aggregate.current();
+
+    // Then - 49 of 55 is 89%
+    assertEquals(1, stats.schools());
+    assertEquals(49, stats.enrolled());
+    assertEquals(55, stats.capacity());
+    assertEquals(1, band(stats, 80).schools());
+    assertEquals(0, band(stats, 0).schools());
+  }
+
+  @Test
+  void shouldPublishOnlyAtTheEndOfABatch() {
+    // Given
+    aggregate.reload(Stream.of(new SchoolRow(hogwarts, 100, 0)));
+    OccupancyStatsView before = aggregate.current();
+
+    // When
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), hogwarts), false);
+
+    // Then
+    assertSame(before, aggregate.current());
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), hogwarts), true);
+    assertEquals(2, aggregate.current().enrolled());
+  }
+
+  @Test
+  void shouldSkipBusEventsTheReloadAlreadyIncludes() {
+    // Given - the load saw the enrollments published as sequences 0 to 4
+    aggregate.reload(Stream.of(new SchoolRow(hogwarts, 100, 5)), 4);
+
+    // When - those events arrive late, followed by a new one
+    for (long sequence = 0; sequence <= 4; sequence++) {
+      aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), hogwarts), sequence, false);
+    }
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), hogwarts), 5, true);
+
+    // Then
+    assertEquals(6, aggregate.current().enrolled());
+  }
+
+  @Test
+  void shouldIgnoreEventsForUnknownSchoolsAndDuplicateCreations() {
+    // Given
+    aggregate.reload(Stream.of(new SchoolRow(hogwarts, 100, 0)));
+
+    // When
+    aggregate.onEvent(new StudentEnrolledEvent(UUID.randomUUID(), beauxbatons), false);
+    aggregate.onEvent(new StudentRemovedEvent(UUID.randomUUID(), hogwarts), false);
+    aggregate.onEvent(new SchoolCreatedEvent(hogwarts, "Hogwarts", 500), true);
+
+    // Then
+    OccupancyStatsView stats = aggregate.current();
+    assertEquals(1, stats.schools());
+    assertEquals(0, stats.enrolled());
+    assertEquals(100, stats.capacity());
+  }
+
+  @Test
+  void shouldAgreeOnlyWithMatchingGroupedTotals() {
+    // Given
+    aggregate.reload(
+        Stream.of(new SchoolRow(hogwarts, 100, 95), new SchoolRow(beauxbatons, 200, 10)));
+
+    // When & Then
+    assertTrue(
+        aggregate.agreesWith(List.of(new BucketRow(0, 1, 10, 200), new BucketRow(9, 1, 95, 100))));
+    assertFalse(
+        aggregate.agreesWith(List.of(new BucketRow(0, 1, 10, 200), new BucketRow(8, 1, 85, 100))));
+    assertFalse(aggregate.agreesWith(List.of(new BucketRow(0, 1, 10, 200))));
+  }
+
+  @Test
+  void shouldStartEmptyAndUnloaded() {
+    // When
+    OccupancyStatsView stats = aggregate.current();
+
+    // Then
+    assertFalse(aggregate.isLoaded());
+    assertEquals(0, stats.schools());
+    assertEquals(0.0, stats.fillRate());
+    assertEquals(OccupancyAggregate.BUCKETS, stats.fillRates().size());
+    assertTrue(aggregate.agreesWith(List.of()));
+  }
+
+  private static FillRateBucket band(OccupancyStatsView stats, int fromPercent) {
+    return stats.fillRates().stream()
+        .filter(bucket -> bucket.fromPercent() == fromPercent)
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,115 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+  @Mock private DataSource target;
+  @Mock private Connection connection;
+
+  private ConcurrencyLimitedDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+  }
+
+  @Test
+  void shouldHoldAPermitUntilTheConnectionIsClosed() throws SQLException {
+    // Given
+    when(target.getConnection()).thenReturn(connection);
+
+    // When
+    Connection first = dataSource.getConnection();
+    Connection second = dataSource.getConnection();
+    int availableWhileOpen = dataSource.available();
+    first.close();
+    first.close(); // a second close must not hand out an extra permit
+
+    // Then
+    assertEquals(0, availableWhileOpen);
+    assertEquals(1, dataSource.available());
+    verify(connection, times(2)).close();
+    second.close();
+    assertEquals(2, dataSource.available());
+  }
+
+  @Test
+  void shouldTimeOutWhenEveryPermitIsHeld() throws SQLException {
+    // Given
+    when(target.getConnection()).thenReturn(connection);
+    dataSource.getConnection();
+    dataSource.getConnection();
+
+    // When & Then
+    SQLTransientConnectionException e =
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    assertTrue(e.getMessage().contains("No database permit within 50 ms"));
+    verify(target, times(2)).getConnection();
+  }
+
+  @Test
+  void shouldHandTheNextPermitToAWaitingCaller() throws Exception {
+    // Given
+    dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofSeconds(5));
+    when(target.getConnection()).thenReturn(connection);
+    Connection held = dataSource.getConnection();
+
+    // When
+    CompletableFuture<Connection> waiter =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return dataSource.getConnection();
+              } catch (SQLException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    while (dataSource.waiting() == 0) {
+      Thread.onSpinWait();
+    }
+    held.close();
+
+    // Then
+    assertNotNull(waiter.get(5, TimeUnit.SECONDS));
+    assertEquals(0, dataSource.available());
+  }
+
+  @Test
+  void shouldReleaseThePermitWhenThePoolFails() throws SQLException {
+    // Given
+    when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+    // When & Then
+    assertThrows(SQLException.class, dataSource::getConnection);
+    assertEquals(2, dataSource.available());
+  }
+
+  @Test
+  void shouldExposeTheTargetConnection() throws SQLException {
+    // Given
+    when(target.getConnection()).thenReturn(connection);
+
+    // When
+    Connection proxy = dataSource.getConnection();
+
+    // Then
+    assertSame(connection, ((ConnectionProxy) proxy).getTargetConnection());
+  }
+}
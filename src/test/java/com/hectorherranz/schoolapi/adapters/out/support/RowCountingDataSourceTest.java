@@ -0,0 +1,81 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RowCountingDataSourceTest {
+
+  private RowCountingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    JdbcDataSource h2 = new JdbcDataSource();
+    h2.setURL("jdbc:h2:mem:row-counting;DB_CLOSE_DELAY=-1");
+    dataSource = new RowCountingDataSource(h2);
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("create table if not exists t (id int)");
+      statement.execute("delete from t");
+      statement.execute("insert into t values (1), (2), (3)");
+    }
+  }
+
+  @Test
+  void shouldCountRowsReadFromPreparedStatements() throws Exception {
+    // Given
+    long before = RowCountingDataSource.current();
+
+    // When
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement("select id from t where id > ?")) {
+      statement.setInt(1, 1);
+      try (ResultSet rows = statement.executeQuery()) {
+        while (rows.next()) {
+          assertTrue(rows.getInt(1) > 1);
+        }
+      }
+    }
+
+    // Then
+    assertEquals(2, RowCountingDataSource.current() - before);
+  }
+
+  @Test
+  void shouldCountRowsReadThroughGetResultSet() throws Exception {
+    // Given
+    long before = RowCountingDataSource.current();
+
+    // When
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("select id from t");
+      ResultSet rows = statement.getResultSet();
+      rows.next();
+    }
+
+    // Then
+    assertEquals(1, RowCountingDataSource.current() - before);
+  }
+
+  @Test
+  void shouldKeepProxiesUsableAsKeys() throws Exception {
+    // Given
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+
+      // When & Then
+      assertEquals(statement, statement);
+      assertEquals(System.identityHashCode(statement), statement.hashCode());
+      assertTrue(connection.isWrapperFor(JdbcConnection.class));
+    }
+  }
+}
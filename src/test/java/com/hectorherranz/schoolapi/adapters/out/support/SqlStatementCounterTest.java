@@ -0,0 +1,46 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementCounterTest {
+
+  private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+  @Test
+  void shouldCountStatementsAndLeaveThemUnchanged() {
+    // Given
+    long before = SqlStatementCounter.current();
+
+    // When
+    String sql = inspector.inspect("select 1");
+    inspector.inspect("select 2");
+
+    // Then
+    assertEquals("select 1", sql);
+    assertEquals(2, SqlStatementCounter.current() - before);
+  }
+
+  @Test
+  void shouldCountPerThread() throws InterruptedException {
+    // Given
+    long before = SqlStatementCounter.current();
+    AtomicLong otherThread = new AtomicLong();
+
+    // When
+    Thread thread =
+        Thread.ofPlatform()
+            .start(
+                () -> {
+                  inspector.inspect("select 1");
+                  otherThread.set(SqlStatementCounter.current());
+                });
+    thread.join();
+
+    // Then
+    assertEquals(1, otherThread.get());
+    assertEquals(before, SqlStatementCounter.current());
+  }
+}
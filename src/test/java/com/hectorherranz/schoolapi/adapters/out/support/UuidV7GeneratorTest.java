@@ -0,0 +1,106 @@
+package com.hectorherranz.schoolapi.adapters.out.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+
+  @Test
+  void shouldEmbedVersionVariantAndTimestamp() {
+    // Given
+    UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+    // When
+    UUID id = generator.newId();
+
+    // Then
+    assertEquals(7, id.version());
+    assertEquals(2, id.variant());
+    assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  void shouldIncreaseWithinOneMillisecondPastTheCounterRange() {
+    // Given
+    UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+    // When
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(generator.newId());
+    }
+
+    // Then
+    assertIncreasing(ids);
+    assertTrue(ids.get(ids.size() - 1).getMostSignificantBits() >>> 16 > NOW);
+  }
+
+  @Test
+  void shouldKeepIncreasingWhenTheClockStepsBack() {
+    // Given
+    AtomicLong clock = new AtomicLong(NOW);
+    UuidV7Generator generator = new UuidV7Generator(clock::get);
+    UUID before = generator.newId();
+
+    // When
+    clock.set(NOW - 60_000);
+    UUID after = generator.newId();
+
+    // Then
+    assertIncreasing(List.of(before, after));
+  }
+
+  @Test
+  void shouldHandOutUniqueIncreasingIdsAcrossThreads() throws Exception {
+    // Given
+    UuidV7Generator generator = new UuidV7Generator();
+    int threads = 8;
+    int perThread = 20_000;
+
+    // When
+    List<Future<List<UUID>>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+      for (int t = 0; t < threads; t++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  List<UUID> ids = new ArrayList<>(perThread);
+                  for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.newId());
+                  }
+                  return ids;
+                }));
+      }
+    }
+
+    // Then
+    Set<UUID> all = new HashSet<>();
+    for (Future<List<UUID>> result : results) {
+      List<UUID> ids = result.get();
+      assertIncreasing(ids);
+      all.addAll(ids);
+    }
+    assertEquals(threads * perThread, all.size());
+  }
+
+  /** Compares the way the database does: byte by byte, which is the order of the hex strings. */
+  private static void assertIncreasing(List<UUID> ids) {
+    for (int i = 1; i < ids.size(); i++) {
+      String previous = ids.get(i - 1).toString();
+      String current = ids.get(i).toString();
+      assertTrue(previous.compareTo(current) < 0, previous + " is not before " + current);
+    }
+  }
+}
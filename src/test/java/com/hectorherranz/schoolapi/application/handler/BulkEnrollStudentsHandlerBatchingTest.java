@@ -0,0 +1,76 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.application.command.BulkEnrollStudentsCommand;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.in.BulkEnrollStudentsUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.DeleteSchoolUseCase;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Status;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Bulk enrollment through real transactions. Throughput is asserted as JDBC statements per batch
+ * rather than wall clock: one row per statement is what the single-enrollment path costs.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:bulkdb",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@ActiveProfiles("test")
+class BulkEnrollStudentsHandlerBatchingTest {
+
+  private static final int CAPACITY = 500;
+  private static final int REQUESTED = 520;
+
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+  @Autowired private BulkEnrollStudentsUseCase bulkEnrollStudentsUseCase;
+  @Autowired private DeleteSchoolUseCase deleteSchoolUseCase;
+  @Autowired private SpringDataSchoolRepository schoolRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void shouldInsertBatchWithFewStatementsAndStopAtCapacity() {
+    // Given
+    UUID schoolId =
+        createSchoolUseCase.handle(
+            new CreateSchoolCommand("Bulk School " + UUID.randomUUID(), CAPACITY))
+            .id();
+    List<String> names = new ArrayList<>(REQUESTED);
+    for (int i = 0; i < REQUESTED; i++) {
+      names.add("Student " + i);
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    try {
+      // When
+      BulkEnrollmentResult result =
+          bulkEnrollStudentsUseCase.handle(new BulkEnrollStudentsCommand(schoolId, names));
+      long statements = statistics.getPrepareStatementCount();
+
+      // Then - 500 inserts in batches of 50, plus the locked capacity check
+      assertEquals(CAPACITY, result.count(Status.ENROLLED));
+      assertEquals(REQUESTED - CAPACITY, result.count(Status.CAPACITY_EXCEEDED));
+      assertTrue(statements <= CAPACITY / 10, "prepared statements: " + statements);
+      assertEquals(CAPACITY, schoolRepository.countStudentsBySchoolId(schoolId));
+      assertEquals(CAPACITY, schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount());
+    } finally {
+      deleteSchoolUseCase.handle(new DeleteSchoolCommand(schoolId));
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
+import com.hectorherranz.schoolapi.application.command.BulkEnrollStudentsCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Item;
+import com.hectorherranz.schoolapi.application.response.BulkEnrollmentResult.Status;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BulkEnrollStudentsHandlerTest {
+
+  @Mock private SchoolRepositoryPort schoolRepository;
+  @Mock private StudentInfrastructureService studentInfrastructureService;
+  @Mock private StudentNameIndexPort studentNameIndex;
+  @Mock private SchoolDetailCachePort schoolDetailCache;
+  @Mock private DomainEventPublisher eventPublisher;
+
+  private BulkEnrollStudentsHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler =
+        new BulkEnrollStudentsHandler(
+            schoolRepository,
+            studentInfrastructureService,
+            studentNameIndex,
+            schoolDetailCache,
+            UUID::randomUUID,
+            eventPublisher);
+  }
+
+  @Test
+  void handle_MixedBatch_ReportsEachItem() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    List<String> names =
+        Arrays.asList("Harry Potter", " ", "x".repeat(101), "Hermione Granger", "Ron Weasley");
+    BulkEnrollStudentsCommand command = new BulkEnrollStudentsCommand(schoolId, names);
+
+    when(schoolRepository.reserveSeats(schoolId, 3)).thenReturn(2);
+    when(studentInfrastructureService.createStudents(eq(schoolId), anyList()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+
+    // Act
+    BulkEnrollmentResult result = handler.handle(command);
+
+    // Assert
+    List<Item> items = result.items();
+    assertEquals(5, items.size());
+    assertEquals(Status.ENROLLED, items.get(0).status());
+    assertNotNull(items.get(0).studentId());
+    assertEquals(Status.INVALID, items.get(1).status());
+    assertEquals("Student name is required", items.get(1).reason());
+    assertEquals(Status.INVALID, items.get(2).status());
+    assertEquals(Status.ENROLLED, items.get(3).status());
+    assertEquals(Status.CAPACITY_EXCEEDED, items.get(4).status());
+    assertNull(items.get(4).studentId());
+    for (int i = 0; i < items.size(); i++) {
+      assertEquals(i, items.get(i).index());
+    }
+    assertEquals(2, result.count(Status.ENROLLED));
+    verify(studentNameIndex, times(2)).studentSaved(any(Student.class));
+    verify(schoolDetailCache).evict(schoolId);
+    verify(eventPublisher)
+        .publish(
+            List.of(
+                new StudentEnrolledEvent(items.get(0).studentId(), schoolId),
+                new StudentEnrolledEvent(items.get(3).studentId(), schoolId)));
+  }
+
+  @Test
+  void handle_OnlyInvalidNames_StillChecksSchoolAndInsertsNothing() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    BulkEnrollStudentsCommand command =
+        new BulkEnrollStudentsCommand(schoolId, Arrays.asList("", null));
+
+    when(schoolRepository.reserveSeats(schoolId, 0)).thenReturn(0);
+    when(studentInfrastructureService.createStudents(schoolId, List.of())).thenReturn(List.of());
+
+    // Act
+    BulkEnrollmentResult result = handler.handle(command);
+
+    // Assert
+    assertEquals(2, result.count(Status.INVALID));
+    verifyNoInteractions(studentNameIndex, schoolDetailCache, eventPublisher);
+  }
+
+  @Test
+  void handle_SchoolNotFound_PropagatesNotFoundException() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    BulkEnrollStudentsCommand command =
+        new BulkEnrollStudentsCommand(schoolId, List.of("Harry Potter"));
+
+    when(schoolRepository.reserveSeats(schoolId, 1))
+        .thenThrow(new NotFoundException("School", schoolId.toString()));
+
+    // Act & Assert
+    assertThrows(NotFoundException.class, () -> handler.handle(command));
+    verifyNoInteractions(studentInfrastructureService, studentNameIndex, schoolDetailCache);
+  }
+}
@@ -0,0 +1,77 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.DeleteSchoolUseCase;
+import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Two creates race on the same name through real transactions. Neither has seen the name, so
+ * both skip the lookup and only the unique lower_name constraint can turn one away.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:namedb;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class CreateSchoolHandlerConcurrencyTest {
+
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+  @Autowired private DeleteSchoolUseCase deleteSchoolUseCase;
+
+  @Test
+  void shouldRejectOneOfTwoConcurrentCreatesWithTheSameName() throws Exception {
+    // Given
+    String name = "Race School " + UUID.randomUUID();
+    List<String> spellings = List.of(name, name.toUpperCase());
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(spellings.size());
+    List<UUID> created = new ArrayList<>();
+    int duplicates = 0;
+
+    try {
+      // When
+      List<Future<UUID>> creates = new ArrayList<>();
+      for (String spelling : spellings) {
+        Callable<UUID> create =
+            () -> {
+              start.await();
+              return createSchoolUseCase.handle(new CreateSchoolCommand(spelling, 100)).id();
+            };
+        creates.add(pool.submit(create));
+      }
+      start.countDown();
+      for (Future<UUID> create : creates) {
+        try {
+          created.add(create.get(60, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+          assertInstanceOf(DuplicateNameException.class, e.getCause());
+          duplicates++;
+        }
+      }
+
+      // Then
+      assertEquals(1, created.size());
+      assertEquals(1, duplicates);
+    } finally {
+      pool.shutdownNow();
+      for (UUID id : created) {
+        deleteSchoolUseCase.handle(new DeleteSchoolCommand(id));
+      }
+    }
+  }
+}
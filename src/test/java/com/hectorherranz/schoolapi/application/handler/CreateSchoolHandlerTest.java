@@ -5,10 +5,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.event.SchoolCreatedEvent;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,16 +25,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CreateSchoolHandlerTest {
 
   @Mock private SchoolRepositoryPort schoolRepository;
+  @Mock private SchoolNameFilterPort schoolNameFilter;
+  @Mock private DomainEventPublisher eventPublisher;
 
   private CreateSchoolHandler handler;
 
   @BeforeEach
   void setUp() {
-    handler = new CreateSchoolHandler(schoolRepository);
+    handler =
+        new CreateSchoolHandler(
+            schoolRepository, schoolNameFilter, UUID::randomUUID, eventPublisher);
   }
 
   @Test
-  void handle_ValidCommand_ReturnsSchoolId() {
+  void handle_ValidCommand_ReturnsCreatedSchool() {
     // Arrange
     String schoolName = "Hogwarts School";
     int capacity = 500;
@@ -38,16 +47,40 @@ class CreateSchoolHandlerTest {
     UUID expectedId = UUID.randomUUID();
     School savedSchool = new School(expectedId, schoolName, new Capacity(capacity));
 
+    when(schoolNameFilter.mightExist(schoolName)).thenReturn(true);
     when(schoolRepository.existsByNameIgnoreCase(schoolName)).thenReturn(false);
     when(schoolRepository.save(any(School.class))).thenReturn(savedSchool);
 
     // Act
-    UUID result = handler.handle(command);
+    SchoolDetailView result = handler.handle(command);
 
     // Assert
-    assertEquals(expectedId, result);
+    assertEquals(new SchoolDetailView(expectedId, schoolName, capacity, 0), result);
     verify(schoolRepository).existsByNameIgnoreCase(schoolName);
     verify(schoolRepository).save(any(School.class));
+    verify(schoolNameFilter).nameAdded(schoolName);
+    verify(eventPublisher)
+        .publish(List.of(new SchoolCreatedEvent(expectedId, schoolName, capacity)));
+  }
+
+  @Test
+  void handle_NameNotInFilter_SkipsDuplicateLookup() {
+    // Arrange
+    String schoolName = "Ilvermorny School";
+    CreateSchoolCommand command = new CreateSchoolCommand(schoolName, 250);
+    UUID expectedId = UUID.randomUUID();
+    School savedSchool = new School(expectedId, schoolName, new Capacity(250));
+
+    when(schoolNameFilter.mightExist(schoolName)).thenReturn(false);
+    when(schoolRepository.save(any(School.class))).thenReturn(savedSchool);
+
+    // Act
+    SchoolDetailView result = handler.handle(command);
+
+    // Assert
+    assertEquals(expectedId, result.id());
+    verify(schoolRepository, never()).existsByNameIgnoreCase(any());
+    verify(schoolNameFilter).nameAdded(schoolName);
   }
 
   @Test
@@ -57,6 +90,7 @@ class CreateSchoolHandlerTest {
     int capacity = 500;
     CreateSchoolCommand command = new CreateSchoolCommand(schoolName, capacity);
 
+    when(schoolNameFilter.mightExist(schoolName)).thenReturn(true);
     when(schoolRepository.existsByNameIgnoreCase(schoolName)).thenReturn(true);
 
     // Act & Assert
@@ -66,6 +100,7 @@ class CreateSchoolHandlerTest {
     assertEquals("A school with this name already exists", exception.getMessage());
     verify(schoolRepository).existsByNameIgnoreCase(schoolName);
     verify(schoolRepository, never()).save(any(School.class));
+    verify(schoolNameFilter, never()).nameAdded(any());
   }
 
   @Test
@@ -78,14 +113,15 @@ class CreateSchoolHandlerTest {
     UUID expectedId = UUID.randomUUID();
     School savedSchool = new School(expectedId, schoolName, new Capacity(capacity));
 
+    when(schoolNameFilter.mightExist(schoolName)).thenReturn(true);
     when(schoolRepository.existsByNameIgnoreCase(schoolName)).thenReturn(false);
     when(schoolRepository.save(any(School.class))).thenReturn(savedSchool);
 
     // Act
-    UUID result = handler.handle(command);
+    SchoolDetailView result = handler.handle(command);
 
     // Assert
-    assertEquals(expectedId, result);
+    assertEquals(expectedId, result.id());
     verify(schoolRepository)
         .save(
             argThat(
@@ -100,6 +136,7 @@ class CreateSchoolHandlerTest {
     int capacity = 400;
     CreateSchoolCommand command = new CreateSchoolCommand(schoolName, capacity);
 
+    when(schoolNameFilter.mightExist(schoolName)).thenReturn(true);
     when(schoolRepository.existsByNameIgnoreCase(schoolName)).thenReturn(false);
     when(schoolRepository.save(any(School.class)))
         .thenAnswer(
@@ -109,10 +146,10 @@ class CreateSchoolHandlerTest {
             });
 
     // Act
-    UUID result = handler.handle(command);
+    SchoolDetailView result = handler.handle(command);
 
     // Assert
-    assertNotNull(result);
+    assertNotNull(result.id());
     verify(schoolRepository)
         .save(
             argThat(
@@ -121,4 +158,22 @@ class CreateSchoolHandlerTest {
                         && school.name().equals(schoolName)
                         && school.capacity().value() == capacity));
   }
+
+  @Test
+  void handle_ValidCommand_UsesIdFromGenerator() {
+    // Arrange
+    UUID mintedId = UUID.randomUUID();
+    handler =
+        new CreateSchoolHandler(
+            schoolRepository, schoolNameFilter, () -> mintedId, eventPublisher);
+    when(schoolNameFilter.mightExist("Ilvermorny")).thenReturn(false);
+    when(schoolRepository.save(any(School.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    SchoolDetailView result = handler.handle(new CreateSchoolCommand("Ilvermorny", 300));
+
+    // Assert
+    assertEquals(mintedId, result.id());
+  }
 }
@@ -0,0 +1,92 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.in.DeleteSchoolUseCase;
+import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Stress test for seat reservation: many threads enroll into one school at once, through real
+ * transactions, and the school must end up exactly full.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:capacitydb;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class CreateStudentHandlerConcurrencyTest {
+
+  private static final int CAPACITY = 50;
+  private static final int THREADS = 16;
+  private static final int ATTEMPTS_PER_THREAD = 10;
+
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+  @Autowired private CreateStudentUseCase createStudentUseCase;
+  @Autowired private DeleteSchoolUseCase deleteSchoolUseCase;
+  @Autowired private SpringDataSchoolRepository schoolRepository;
+
+  @Test
+  void shouldNeverEnrollBeyondCapacityUnderConcurrentBurst() throws Exception {
+    // Given
+    UUID schoolId =
+        createSchoolUseCase.handle(
+            new CreateSchoolCommand("Stress School " + UUID.randomUUID(), CAPACITY))
+            .id();
+    AtomicInteger enrolled = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      // When - every thread starts at once and keeps enrolling past the point the school fills up
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int thread = t;
+        workers.add(
+            pool.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    try {
+                      createStudentUseCase.handle(
+                          new CreateStudentCommand("Student " + thread + "-" + i, schoolId));
+                      enrolled.incrementAndGet();
+                    } catch (CapacityExceededException e) {
+                      rejected.incrementAndGet();
+                    }
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> worker : workers) {
+        worker.get(60, TimeUnit.SECONDS); // any other failure surfaces here
+      }
+
+      // Then
+      assertEquals(CAPACITY, enrolled.get());
+      assertEquals(THREADS * ATTEMPTS_PER_THREAD - CAPACITY, rejected.get());
+      assertEquals(CAPACITY, schoolRepository.countStudentsBySchoolId(schoolId));
+      assertEquals(CAPACITY, schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount());
+    } finally {
+      pool.shutdownNow();
+      deleteSchoolUseCase.handle(new DeleteSchoolCommand(schoolId));
+    }
+  }
+}
@@ -6,13 +6,15 @@ import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
 import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
 import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
-import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.Student;
-import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,36 +27,47 @@ class CreateStudentHandlerTest {
 
   @Mock private SchoolRepositoryPort schoolRepository;
   @Mock private StudentInfrastructureService studentInfrastructureService;
+  @Mock private StudentNameIndexPort studentNameIndex;
+  @Mock private SchoolDetailCachePort schoolDetailCache;
+  @Mock private DomainEventPublisher eventPublisher;
 
   private CreateStudentHandler handler;
 
   @BeforeEach
   void setUp() {
-    handler = new CreateStudentHandler(schoolRepository, studentInfrastructureService);
+    handler =
+        new CreateStudentHandler(
+            schoolRepository,
+            studentInfrastructureService,
+            studentNameIndex,
+            schoolDetailCache,
+            UUID::randomUUID,
+            eventPublisher);
   }
 
   @Test
-  void handle_ValidCommand_ReturnsStudentId() {
+  void handle_ValidCommand_ReturnsSavedStudent() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
     String studentName = "Harry Potter";
     CreateStudentCommand command = new CreateStudentCommand(studentName, schoolId);
 
-    School school = new School(schoolId, "Hogwarts", new Capacity(500));
     Student student = new Student(UUID.randomUUID(), studentName, schoolId);
 
-    when(schoolRepository.findByIdBasic(schoolId)).thenReturn(Optional.of(school));
-    when(schoolRepository.countStudentsBySchoolId(schoolId)).thenReturn(100);
+    when(schoolRepository.tryReserveSeat(schoolId)).thenReturn(true);
     when(studentInfrastructureService.createStudent(any(Student.class))).thenReturn(student);
 
     // Act
-    UUID result = handler.handle(command);
+    Student result = handler.handle(command);
 
     // Assert
-    assertNotNull(result);
-    verify(schoolRepository).findByIdBasic(schoolId);
-    verify(schoolRepository).countStudentsBySchoolId(schoolId);
+    assertSame(student, result);
+    verify(schoolRepository).tryReserveSeat(schoolId);
+    verify(schoolRepository, never()).existsById(any());
     verify(studentInfrastructureService).createStudent(any(Student.class));
+    verify(studentNameIndex).studentSaved(student);
+    verify(schoolDetailCache).evict(schoolId);
+    verify(eventPublisher).publish(List.of(new StudentEnrolledEvent(student.id(), schoolId)));
   }
 
   @Test
@@ -64,16 +77,17 @@ class CreateStudentHandlerTest {
     String studentName = "Harry Potter";
     CreateStudentCommand command = new CreateStudentCommand(studentName, schoolId);
 
-    when(schoolRepository.findByIdBasic(schoolId)).thenReturn(Optional.empty());
+    when(schoolRepository.tryReserveSeat(schoolId)).thenReturn(false);
+    when(schoolRepository.existsById(schoolId)).thenReturn(false);
 
     // Act & Assert
     NotFoundException exception =
         assertThrows(NotFoundException.class, () -> handler.handle(command));
 
     assertEquals("School not found with identifier: " + schoolId, exception.getMessage());
-    verify(schoolRepository).findByIdBasic(schoolId);
-    verify(schoolRepository, never()).countStudentsBySchoolId(any());
+    verify(schoolRepository).tryReserveSeat(schoolId);
     verify(studentInfrastructureService, never()).createStudent(any());
+    verifyNoInteractions(studentNameIndex, schoolDetailCache);
   }
 
   @Test
@@ -83,18 +97,17 @@ class CreateStudentHandlerTest {
     String studentName = "Harry Potter";
     CreateStudentCommand command = new CreateStudentCommand(studentName, schoolId);
 
-    School school = new School(schoolId, "Hogwarts", new Capacity(100));
-
-    when(schoolRepository.findByIdBasic(schoolId)).thenReturn(Optional.of(school));
-    when(schoolRepository.countStudentsBySchoolId(schoolId)).thenReturn(100);
+    when(schoolRepository.tryReserveSeat(schoolId)).thenReturn(false);
+    when(schoolRepository.existsById(schoolId)).thenReturn(true);
 
     // Act & Assert
     CapacityExceededException exception =
         assertThrows(CapacityExceededException.class, () -> handler.handle(command));
 
     assertEquals("School " + schoolId + " is at maximum capacity", exception.getMessage());
-    verify(schoolRepository).findByIdBasic(schoolId);
-    verify(schoolRepository).countStudentsBySchoolId(schoolId);
+    verify(schoolRepository).tryReserveSeat(schoolId);
+    verify(schoolRepository).existsById(schoolId);
     verify(studentInfrastructureService, never()).createStudent(any());
+    verifyNoInteractions(studentNameIndex);
   }
 }
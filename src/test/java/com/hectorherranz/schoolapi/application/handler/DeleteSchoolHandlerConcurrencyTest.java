@@ -0,0 +1,103 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.in.DeleteSchoolUseCase;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * A school delete runs while an enrollment into that school is still uncommitted. Whichever way
+ * the two interleave, the delete either removes the school with its whole roster or fails with
+ * the usual version conflict; it never surfaces the students foreign key violation.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:deleteracedb;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class DeleteSchoolHandlerConcurrencyTest {
+
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+  @Autowired private CreateStudentUseCase createStudentUseCase;
+  @Autowired private DeleteSchoolUseCase deleteSchoolUseCase;
+  @Autowired private SpringDataSchoolRepository schoolRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Test
+  void shouldDeleteWholeRosterOrConflictWhenEnrollmentCommitsMidDelete() throws Exception {
+    // Given - an enrollment that has reserved its seat and inserted its student, not yet committed
+    UUID schoolId =
+        createSchoolUseCase.handle(new CreateSchoolCommand("Race School " + UUID.randomUUID(), 50))
+            .id();
+    CountDownLatch enrolled = new CountDownLatch(1);
+    CountDownLatch commit = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    try {
+      Future<?> enrollment =
+          pool.submit(
+              () ->
+                  new TransactionTemplate(transactionManager)
+                      .executeWithoutResult(
+                          status -> {
+                            createStudentUseCase.handle(new CreateStudentCommand("Luna", schoolId));
+                            enrolled.countDown();
+                            await(commit);
+                          }));
+      assertTrue(enrolled.await(30, TimeUnit.SECONDS));
+
+      // When - the delete starts, then the enrollment commits while the delete waits on the school
+      Future<?> delete =
+          pool.submit(() -> deleteSchoolUseCase.handle(new DeleteSchoolCommand(schoolId)));
+      Thread.sleep(500);
+      commit.countDown();
+      enrollment.get(30, TimeUnit.SECONDS);
+      boolean deleted;
+      try {
+        delete.get(30, TimeUnit.SECONDS);
+        deleted = true;
+      } catch (ExecutionException e) {
+        assertInstanceOf(OptimisticLockingFailureException.class, e.getCause());
+        deleted = false;
+      }
+
+      // Then - no orphaned students, and a surviving school keeps a consistent counter
+      if (deleted) {
+        assertTrue(schoolRepository.findById(schoolId).isEmpty());
+        assertEquals(0, schoolRepository.countStudentsBySchoolId(schoolId));
+      } else {
+        assertEquals(1, schoolRepository.countStudentsBySchoolId(schoolId));
+        assertEquals(1, schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount());
+        deleteSchoolUseCase.handle(new DeleteSchoolCommand(schoolId));
+      }
+    } finally {
+      commit.countDown();
+      pool.shutdownNow();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(30, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -1,13 +1,17 @@
 package com.hectorherranz.schoolapi.application.handler;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.domain.event.SchoolDeletedEvent;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
-import com.hectorherranz.schoolapi.domain.model.School;
-import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,38 +19,56 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 @ExtendWith(MockitoExtension.class)
 class DeleteSchoolHandlerTest {
 
   @Mock private SchoolRepositoryPort schoolRepository;
+  @Mock private StudentNameIndexPort studentNameIndex;
+  @Mock private SchoolDetailCachePort schoolDetailCache;
+  @Mock private DomainEventPublisher eventPublisher;
 
   private DeleteSchoolHandler handler;
 
   @BeforeEach
   void setUp() {
-    handler = new DeleteSchoolHandler(schoolRepository);
+    handler =
+        new DeleteSchoolHandler(
+            schoolRepository, studentNameIndex, schoolDetailCache, eventPublisher);
   }
 
   @Test
   void handle_SchoolExists_DeletesSchool() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
-    String schoolName = "Test School";
-    int capacity = 500;
-
-    School existingSchool = new School(schoolId, schoolName, new Capacity(capacity));
     DeleteSchoolCommand command = new DeleteSchoolCommand(schoolId);
 
-    when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(existingSchool));
-    doNothing().when(schoolRepository).deleteById(schoolId);
+    when(schoolRepository.findVersionById(schoolId)).thenReturn(Optional.of(3L));
 
     // Act
     handler.handle(command);
 
     // Assert
-    verify(schoolRepository).findById(schoolId);
-    verify(schoolRepository).deleteById(schoolId);
+    verify(schoolRepository).findVersionById(schoolId);
+    verify(schoolRepository).deleteById(schoolId, 3L);
+    verify(studentNameIndex).schoolRemoved(schoolId);
+    verify(schoolDetailCache).evict(schoolId);
+    verify(eventPublisher).publish(List.of(new SchoolDeletedEvent(schoolId)));
+  }
+
+  @Test
+  void handle_SchoolExists_NeverLoadsTheRoster() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    when(schoolRepository.findVersionById(schoolId)).thenReturn(Optional.of(0L));
+
+    // Act
+    handler.handle(new DeleteSchoolCommand(schoolId));
+
+    // Assert
+    verify(schoolRepository, never()).findById(any());
+    verify(schoolRepository, never()).findByIdForStudentUpdate(any());
   }
 
   @Test
@@ -55,32 +77,31 @@ class DeleteSchoolHandlerTest {
     UUID schoolId = UUID.randomUUID();
     DeleteSchoolCommand command = new DeleteSchoolCommand(schoolId);
 
-    when(schoolRepository.findById(schoolId)).thenReturn(Optional.empty());
+    when(schoolRepository.findVersionById(schoolId)).thenReturn(Optional.empty());
 
     // Act & Assert
     NotFoundException exception =
         assertThrows(NotFoundException.class, () -> handler.handle(command));
 
     assertEquals("School not found with identifier: " + schoolId, exception.getMessage());
-    verify(schoolRepository).findById(schoolId);
-    verify(schoolRepository, never()).deleteById(any());
+    verify(schoolRepository).findVersionById(schoolId);
+    verify(schoolRepository, never()).deleteById(any(), anyLong());
+    verifyNoInteractions(studentNameIndex, eventPublisher);
   }
 
   @Test
-  void handle_ValidSchoolId_DeletesCorrectSchool() {
+  void handle_SchoolChangedConcurrently_PropagatesConflictWithoutSideEffects() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
-    DeleteSchoolCommand command = new DeleteSchoolCommand(schoolId);
-
-    School existingSchool = new School(schoolId, "Test School", new Capacity(500));
-    when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(existingSchool));
-    doNothing().when(schoolRepository).deleteById(schoolId);
-
-    // Act
-    handler.handle(command);
+    when(schoolRepository.findVersionById(schoolId)).thenReturn(Optional.of(1L));
+    doThrow(new OptimisticLockingFailureException("Version conflict"))
+        .when(schoolRepository)
+        .deleteById(schoolId, 1L);
 
-    // Assert
-    verify(schoolRepository).findById(schoolId);
-    verify(schoolRepository).deleteById(schoolId);
+    // Act & Assert
+    assertThrows(
+        OptimisticLockingFailureException.class,
+        () -> handler.handle(new DeleteSchoolCommand(schoolId)));
+    verifyNoInteractions(studentNameIndex, schoolDetailCache, eventPublisher);
   }
 }
@@ -0,0 +1,101 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataOutboxRepository;
+import com.hectorherranz.schoolapi.adapters.out.jpa.repository.SpringDataSchoolRepository;
+import com.hectorherranz.schoolapi.application.command.CreateSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.CreateStudentCommand;
+import com.hectorherranz.schoolapi.application.command.DeleteSchoolCommand;
+import com.hectorherranz.schoolapi.application.command.DeleteStudentCommand;
+import com.hectorherranz.schoolapi.application.port.in.CreateSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.CreateStudentUseCase;
+import com.hectorherranz.schoolapi.application.port.in.DeleteSchoolUseCase;
+import com.hectorherranz.schoolapi.application.port.in.DeleteStudentUseCase;
+import com.hectorherranz.schoolapi.domain.event.StudentRemovedEvent;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Stress test for seat release: many threads delete the same student at once, through real
+ * transactions, and the seat must be given back exactly once.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:releasedb;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class DeleteStudentHandlerConcurrencyTest {
+
+  private static final int THREADS = 16;
+
+  @Autowired private CreateSchoolUseCase createSchoolUseCase;
+  @Autowired private CreateStudentUseCase createStudentUseCase;
+  @Autowired private DeleteStudentUseCase deleteStudentUseCase;
+  @Autowired private DeleteSchoolUseCase deleteSchoolUseCase;
+  @Autowired private SpringDataSchoolRepository schoolRepository;
+  @Autowired private SpringDataOutboxRepository outboxRepository;
+
+  @Test
+  void shouldReleaseTheSeatOnceUnderConcurrentDeletesOfOneStudent() throws Exception {
+    // Given - two students, so a double release would leave the counter below the roster
+    UUID schoolId =
+        createSchoolUseCase.handle(
+            new CreateSchoolCommand("Release School " + UUID.randomUUID(), 50))
+            .id();
+    UUID studentId =
+        createStudentUseCase.handle(new CreateStudentCommand("Neville", schoolId)).id();
+    createStudentUseCase.handle(new CreateStudentCommand("Hannah", schoolId));
+    AtomicInteger deleted = new AtomicInteger();
+    AtomicInteger notFound = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      // When - every thread deletes the same student at once
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        workers.add(
+            pool.submit(
+                () -> {
+                  start.await();
+                  try {
+                    deleteStudentUseCase.handle(new DeleteStudentCommand(schoolId, studentId));
+                    deleted.incrementAndGet();
+                  } catch (NotFoundException e) {
+                    notFound.incrementAndGet();
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> worker : workers) {
+        worker.get(60, TimeUnit.SECONDS); // any other failure surfaces here
+      }
+
+      // Then
+      assertEquals(1, deleted.get());
+      assertEquals(THREADS - 1, notFound.get());
+      assertEquals(1, schoolRepository.countStudentsBySchoolId(schoolId));
+      assertEquals(1, schoolRepository.findById(schoolId).orElseThrow().getEnrolledCount());
+      long removedEvents =
+          outboxRepository.findAll().stream()
+              .filter(e -> e.getEventType().equals(StudentRemovedEvent.class.getSimpleName()))
+              .filter(e -> e.getPayload().contains(studentId.toString()))
+              .count();
+      assertEquals(1, removedEvents);
+    } finally {
+      pool.shutdownNow();
+      deleteSchoolUseCase.handle(new DeleteSchoolCommand(schoolId));
+    }
+  }
+}
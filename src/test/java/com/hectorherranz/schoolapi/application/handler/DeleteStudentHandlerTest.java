@@ -5,8 +5,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.application.command.DeleteStudentCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
 import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.domain.event.StudentRemovedEvent;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +24,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class DeleteStudentHandlerTest {
 
   @Mock private StudentRepositoryPort studentRepository;
+  @Mock private SchoolRepositoryPort schoolRepository;
+  @Mock private StudentNameIndexPort studentNameIndex;
+  @Mock private SchoolDetailCachePort schoolDetailCache;
+  @Mock private DomainEventPublisher eventPublisher;
 
   private DeleteStudentHandler handler;
 
   @BeforeEach
   void setUp() {
-    handler = new DeleteStudentHandler(studentRepository);
+    handler =
+        new DeleteStudentHandler(
+            studentRepository,
+            schoolRepository,
+            studentNameIndex,
+            schoolDetailCache,
+            eventPublisher);
   }
 
   @Test
@@ -33,14 +49,17 @@ class DeleteStudentHandlerTest {
     UUID schoolId = UUID.randomUUID();
     DeleteStudentCommand command = new DeleteStudentCommand(schoolId, studentId);
 
-    when(studentRepository.existsByIdAndSchoolId(studentId, schoolId)).thenReturn(true);
+    when(studentRepository.deleteByIdAndSchoolId(studentId, schoolId)).thenReturn(1);
 
     // When
     handler.handle(command);
 
     // Then
-    verify(studentRepository).existsByIdAndSchoolId(studentId, schoolId);
-    verify(studentRepository).deleteById(studentId);
+    verify(studentRepository).deleteByIdAndSchoolId(studentId, schoolId);
+    verify(schoolRepository).releaseSeat(schoolId);
+    verify(studentNameIndex).studentRemoved(schoolId, studentId);
+    verify(schoolDetailCache).evict(schoolId);
+    verify(eventPublisher).publish(List.of(new StudentRemovedEvent(studentId, schoolId)));
   }
 
   @Test
@@ -50,7 +69,7 @@ class DeleteStudentHandlerTest {
     UUID schoolId = UUID.randomUUID();
     DeleteStudentCommand command = new DeleteStudentCommand(schoolId, studentId);
 
-    when(studentRepository.existsByIdAndSchoolId(studentId, schoolId)).thenReturn(false);
+    when(studentRepository.deleteByIdAndSchoolId(studentId, schoolId)).thenReturn(0);
 
     // When & Then
     NotFoundException exception =
@@ -62,7 +81,7 @@ class DeleteStudentHandlerTest {
             + " not found in school "
             + schoolId,
         exception.getMessage());
-    verify(studentRepository).existsByIdAndSchoolId(studentId, schoolId);
-    verify(studentRepository, never()).deleteById(any());
+    verify(schoolRepository, never()).releaseSeat(any());
+    verifyNoInteractions(studentNameIndex, schoolDetailCache, eventPublisher);
   }
 }
@@ -0,0 +1,70 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportRosterHandlerTest {
+
+  @Mock private SchoolRepositoryPort schoolRepository;
+  @Mock private StudentRepositoryPort studentRepository;
+  @Mock private Consumer<Student> studentSink;
+  @Mock private Consumer<SchoolSummaryView> schoolSink;
+
+  private ExportRosterHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new ExportRosterHandler(schoolRepository, studentRepository);
+  }
+
+  @Test
+  void exportSchool_ExistingSchool_StreamsItsStudents() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    when(schoolRepository.existsById(schoolId)).thenReturn(true);
+
+    // Act
+    handler.exportSchool(schoolId, studentSink);
+
+    // Assert
+    verify(studentRepository).forEachInSchool(schoolId, studentSink);
+  }
+
+  @Test
+  void exportSchool_UnknownSchool_ThrowsNotFoundException() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    when(schoolRepository.existsById(schoolId)).thenReturn(false);
+
+    // Act & Assert
+    assertThrows(NotFoundException.class, () -> handler.exportSchool(schoolId, studentSink));
+    verify(studentRepository, never()).forEachInSchool(any(UUID.class), any());
+  }
+
+  @Test
+  void exportAll_StreamsSchoolsBeforeStudents() {
+    // Act
+    handler.exportAll(schoolSink, studentSink);
+
+    // Assert
+    InOrder order = inOrder(schoolRepository, studentRepository);
+    order.verify(schoolRepository).forEachSummary(schoolSink);
+    order.verify(studentRepository).forEachStudent(studentSink);
+  }
+}
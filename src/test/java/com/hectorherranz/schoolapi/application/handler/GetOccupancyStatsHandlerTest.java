@@ -0,0 +1,41 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.application.port.out.OccupancyStatsPort;
+import com.hectorherranz.schoolapi.application.response.OccupancyStatsView;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetOccupancyStatsHandlerTest {
+
+  @Mock private OccupancyStatsPort occupancyStats;
+
+  private GetOccupancyStatsHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new GetOccupancyStatsHandler(occupancyStats);
+  }
+
+  @Test
+  void handle_ReturnsCurrentSnapshot() {
+    // Arrange
+    OccupancyStatsView snapshot =
+        new OccupancyStatsView(2, 150, 300, 0.5, List.of(), 0, Instant.now());
+    when(occupancyStats.current()).thenReturn(snapshot);
+
+    // Act
+    OccupancyStatsView result = handler.handle();
+
+    // Assert
+    assertSame(snapshot, result);
+  }
+}
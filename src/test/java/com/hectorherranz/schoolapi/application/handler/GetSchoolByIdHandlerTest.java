@@ -5,9 +5,8 @@ import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
 import com.hectorherranz.schoolapi.application.query.GetSchoolByIdQuery;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
-import com.hectorherranz.schoolapi.domain.model.School;
-import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,26 +28,27 @@ class GetSchoolByIdHandlerTest {
   }
 
   @Test
-  void handle_SchoolExists_ReturnsSchool() {
+  void handle_SchoolExists_ReturnsDetailView() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
     String schoolName = "Hogwarts School";
     int capacity = 500;
 
-    School expectedSchool = new School(schoolId, schoolName, new Capacity(capacity));
+    SchoolDetailView expectedView = new SchoolDetailView(schoolId, schoolName, capacity, 42);
     GetSchoolByIdQuery query = new GetSchoolByIdQuery(schoolId);
 
-    when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(expectedSchool));
+    when(schoolRepository.findDetailById(schoolId)).thenReturn(Optional.of(expectedView));
 
     // Act
-    School result = handler.handle(query);
+    SchoolDetailView result = handler.handle(query);
 
     // Assert
-    assertEquals(expectedSchool, result);
+    assertEquals(expectedView, result);
     assertEquals(schoolId, result.id());
     assertEquals(schoolName, result.name());
-    assertEquals(capacity, result.capacity().value());
-    verify(schoolRepository).findById(schoolId);
+    assertEquals(capacity, result.capacity());
+    assertEquals(42, result.enrolledCount());
+    verify(schoolRepository).findDetailById(schoolId);
   }
 
   @Test
@@ -57,14 +57,14 @@ class GetSchoolByIdHandlerTest {
     UUID schoolId = UUID.randomUUID();
     GetSchoolByIdQuery query = new GetSchoolByIdQuery(schoolId);
 
-    when(schoolRepository.findById(schoolId)).thenReturn(Optional.empty());
+    when(schoolRepository.findDetailById(schoolId)).thenReturn(Optional.empty());
 
     // Act & Assert
     NotFoundException exception =
         assertThrows(NotFoundException.class, () -> handler.handle(query));
 
     assertEquals("School not found with identifier: " + schoolId, exception.getMessage());
-    verify(schoolRepository).findById(schoolId);
+    verify(schoolRepository).findDetailById(schoolId);
   }
 
   @Test
@@ -74,34 +74,35 @@ class GetSchoolByIdHandlerTest {
     String schoolName = "Beauxbatons Academy";
     int capacity = 300;
 
-    School expectedSchool = new School(schoolId, schoolName, new Capacity(capacity));
+    SchoolDetailView expectedView = new SchoolDetailView(schoolId, schoolName, capacity, 0);
     GetSchoolByIdQuery query = new GetSchoolByIdQuery(schoolId);
 
-    when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(expectedSchool));
+    when(schoolRepository.findDetailById(schoolId)).thenReturn(Optional.of(expectedView));
 
     // Act
-    School result = handler.handle(query);
+    SchoolDetailView result = handler.handle(query);
 
     // Assert
     assertNotNull(result);
     assertEquals(schoolId, result.id());
     assertEquals(schoolName, result.name());
-    assertEquals(capacity, result.capacity().value());
+    assertEquals(capacity, result.capacity());
   }
 
   @Test
-  void handle_ValidQuery_CallsRepositoryWithCorrectId() {
+  void handle_ValidQuery_NeverLoadsTheAggregate() {
     // Arrange
     UUID schoolId = UUID.randomUUID();
     GetSchoolByIdQuery query = new GetSchoolByIdQuery(schoolId);
 
-    School expectedSchool = new School(schoolId, "Test School", new Capacity(500));
-    when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(expectedSchool));
+    SchoolDetailView expectedView = new SchoolDetailView(schoolId, "Test School", 500, 0);
+    when(schoolRepository.findDetailById(schoolId)).thenReturn(Optional.of(expectedView));
 
     // Act
     handler.handle(query);
 
     // Assert
-    verify(schoolRepository).findById(schoolId);
+    verify(schoolRepository).findDetailById(schoolId);
+    verify(schoolRepository, never()).findById(any());
   }
 }
@@ -0,0 +1,137 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand.SchoolRow;
+import com.hectorherranz.schoolapi.application.command.ImportChunkCommand.StudentRow;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
+import com.hectorherranz.schoolapi.application.response.ImportChunkResult;
+import com.hectorherranz.schoolapi.application.response.ImportChunkResult.Rejection;
+import com.hectorherranz.schoolapi.domain.event.SchoolCreatedEvent;
+import com.hectorherranz.schoolapi.domain.event.StudentEnrolledEvent;
+import com.hectorherranz.schoolapi.domain.model.School;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportChunkHandlerTest {
+
+  @Mock private SchoolRepositoryPort schoolRepository;
+  @Mock private StudentInfrastructureService studentInfrastructureService;
+  @Mock private StudentNameIndexPort studentNameIndex;
+  @Mock private SchoolDetailCachePort schoolDetailCache;
+  @Mock private SchoolNameFilterPort schoolNameFilter;
+  @Mock private DomainEventPublisher eventPublisher;
+
+  private ImportChunkHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler =
+        new ImportChunkHandler(
+            schoolRepository,
+            studentInfrastructureService,
+            studentNameIndex,
+            schoolDetailCache,
+            schoolNameFilter,
+            UUID::randomUUID,
+            eventPublisher);
+  }
+
+  @Test
+  void handle_Schools_CreatesNewAndRejectsDuplicates() {
+    // Arrange
+    UUID givenId = UUID.randomUUID();
+    ImportChunkCommand command =
+        new ImportChunkCommand(
+            List.of(
+                new SchoolRow(1, givenId, "Hogwarts", 500),
+                new SchoolRow(2, null, "Beauxbatons", 300),
+                new SchoolRow(3, null, "HOGWARTS", 200)),
+            List.of());
+
+    when(schoolRepository.existsById(givenId)).thenReturn(false);
+    when(schoolNameFilter.mightExist(anyString())).thenReturn(true);
+    when(schoolRepository.existsByNameIgnoreCase("Hogwarts")).thenReturn(false);
+    when(schoolRepository.existsByNameIgnoreCase("Beauxbatons")).thenReturn(true);
+    when(schoolRepository.save(any(School.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    // Act
+    ImportChunkResult result = handler.handle(command);
+
+    // Assert
+    assertEquals(1, result.schoolsCreated());
+    assertEquals(
+        List.of(
+            new Rejection(2, "School name already exists"),
+            new Rejection(3, "School name already exists")),
+        result.rejections());
+    ArgumentCaptor<School> saved = ArgumentCaptor.forClass(School.class);
+    verify(schoolRepository).save(saved.capture());
+    assertEquals(givenId, saved.getValue().id());
+    verify(schoolNameFilter).nameAdded("Hogwarts");
+    verify(eventPublisher).publish(List.of(new SchoolCreatedEvent(givenId, "Hogwarts", 500)));
+  }
+
+  @Test
+  void handle_Students_ReservesSeatsOncePerSchoolAndReportsOverflow() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    UUID missingId = UUID.randomUUID();
+    ImportChunkCommand command =
+        new ImportChunkCommand(
+            List.of(),
+            List.of(
+                new StudentRow(1, schoolId, "Harry Potter"),
+                new StudentRow(2, missingId, "Viktor Krum"),
+                new StudentRow(3, schoolId, "Ron Weasley"),
+                new StudentRow(4, schoolId, "x".repeat(101)),
+                new StudentRow(5, schoolId, "Neville Longbottom")));
+
+    when(schoolRepository.existsById(schoolId)).thenReturn(true);
+    when(schoolRepository.existsById(missingId)).thenReturn(false);
+    when(schoolRepository.reserveSeats(schoolId, 3)).thenReturn(2);
+    when(studentInfrastructureService.createStudents(eq(schoolId), anyList()))
+        .thenAnswer(inv -> inv.getArgument(1));
+
+    // Act
+    ImportChunkResult result = handler.handle(command);
+
+    // Assert
+    assertEquals(2, result.studentsCreated());
+    assertEquals(
+        List.of(
+            new Rejection(4, "Student name must be at most 100 characters"),
+            new Rejection(5, "School is at maximum capacity"),
+            new Rejection(2, "School not found")),
+        result.rejections());
+    verify(schoolRepository, never()).reserveSeats(eq(missingId), anyInt());
+    verify(studentNameIndex, times(2)).studentSaved(any(Student.class));
+    verify(schoolDetailCache).evict(schoolId);
+    verify(schoolDetailCache, never()).evict(missingId);
+    verify(eventPublisher)
+        .publish(
+            argThat(
+                events ->
+                    events.size() == 2
+                        && events.stream()
+                            .allMatch(
+                                event ->
+                                    ((StudentEnrolledEvent) event).schoolId().equals(schoolId))));
+  }
+}
@@ -0,0 +1,97 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.application.exception.InvalidPageSizeException;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.AvailabilityCursor;
+import com.hectorherranz.schoolapi.application.query.SearchAvailableSchoolsQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SearchAvailableSchoolsHandlerTest {
+
+  @Mock private SchoolRepositoryPort schoolRepository;
+
+  private SearchAvailableSchoolsHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new SearchAvailableSchoolsHandler(schoolRepository);
+  }
+
+  @Test
+  void handle_MoreRowsThanPageSize_ReturnsNextCursorFromLastRow() {
+    // Arrange
+    SchoolSummaryView a = new SchoolSummaryView(UUID.randomUUID(), "Academy A", 300, 10);
+    SchoolSummaryView b = new SchoolSummaryView(UUID.randomUUID(), "Academy B", 200, 10);
+    SchoolSummaryView c = new SchoolSummaryView(UUID.randomUUID(), "Academy C", 100, 10);
+    when(schoolRepository.searchAvailableAfter(eq("Academy"), eq(50), isNull(), eq(3)))
+        .thenReturn(List.of(a, b, c));
+
+    // Act
+    CursorPage<SchoolSummaryView> result =
+        handler.handle(new SearchAvailableSchoolsQuery("Academy", 50, "", 2));
+
+    // Assert
+    assertEquals(List.of(a, b), result.content());
+    assertTrue(result.hasNext());
+    assertEquals(
+        new AvailabilityCursor(190, b.id()), AvailabilityCursor.decode(result.nextCursor()));
+  }
+
+  @Test
+  void handle_LastPage_ReturnsNoCursor() {
+    // Arrange
+    SchoolSummaryView c = new SchoolSummaryView(UUID.randomUUID(), "Academy C", 100, 10);
+    AvailabilityCursor after = new AvailabilityCursor(190, UUID.randomUUID());
+    when(schoolRepository.searchAvailableAfter("Academy", 50, after, 3)).thenReturn(List.of(c));
+
+    // Act
+    CursorPage<SchoolSummaryView> result =
+        handler.handle(new SearchAvailableSchoolsQuery("Academy", 50, after.encode(), 2));
+
+    // Assert
+    assertEquals(List.of(c), result.content());
+    assertFalse(result.hasNext());
+    assertNull(result.nextCursor());
+  }
+
+  @Test
+  void handle_MinSpotsBelowOne_NeverListsFullSchools() {
+    // Arrange
+    when(schoolRepository.searchAvailableAfter(eq(""), eq(1), isNull(), eq(21)))
+        .thenReturn(List.of());
+
+    // Act
+    CursorPage<SchoolSummaryView> result =
+        handler.handle(new SearchAvailableSchoolsQuery("", 0, null, 20));
+
+    // Assert
+    assertTrue(result.content().isEmpty());
+    verify(schoolRepository).searchAvailableAfter(eq(""), eq(1), isNull(), eq(21));
+  }
+
+  @Test
+  void query_SizeOutsideBounds_IsRejectedBeforeAnyRead() {
+    // Act & Assert
+    assertThrows(
+        InvalidPageSizeException.class, () -> new SearchAvailableSchoolsQuery("", 1, "", 0));
+    assertThrows(
+        InvalidPageSizeException.class, () -> new SearchAvailableSchoolsQuery("", 1, "", -1));
+    assertThrows(
+        InvalidPageSizeException.class, () -> new SearchAvailableSchoolsQuery("", 1, "", 101));
+    verifyNoInteractions(schoolRepository);
+  }
+}
@@ -0,0 +1,87 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.application.exception.InvalidPageSizeException;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.query.SearchSchoolsByCursorQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SearchSchoolsByCursorHandlerTest {
+
+  @Mock private SchoolRepositoryPort schoolRepository;
+
+  private SearchSchoolsByCursorHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new SearchSchoolsByCursorHandler(schoolRepository);
+  }
+
+  @Test
+  void handle_MoreRowsThanPageSize_ReturnsNextCursorFromLastRow() {
+    // Arrange
+    SchoolSummaryView a = new SchoolSummaryView(UUID.randomUUID(), "Academy A", 100, 1);
+    SchoolSummaryView b = new SchoolSummaryView(UUID.randomUUID(), "Academy B", 100, 2);
+    SchoolSummaryView c = new SchoolSummaryView(UUID.randomUUID(), "Academy C", 100, 3);
+    when(schoolRepository.searchSummariesByNameAfter(eq("Academy"), isNull(), eq(3)))
+        .thenReturn(List.of(a, b, c));
+
+    // Act
+    CursorPage<SchoolSummaryView> result =
+        handler.handle(new SearchSchoolsByCursorQuery("Academy", "", 2));
+
+    // Assert
+    assertEquals(List.of(a, b), result.content());
+    assertTrue(result.hasNext());
+    assertEquals(new KeysetCursor("Academy B", b.id()), KeysetCursor.decode(result.nextCursor()));
+  }
+
+  @Test
+  void handle_LastPage_ReturnsNoCursor() {
+    // Arrange
+    SchoolSummaryView c = new SchoolSummaryView(UUID.randomUUID(), "Academy C", 100, 3);
+    KeysetCursor after = new KeysetCursor("Academy B", UUID.randomUUID());
+    when(schoolRepository.searchSummariesByNameAfter("Academy", after, 3)).thenReturn(List.of(c));
+
+    // Act
+    CursorPage<SchoolSummaryView> result =
+        handler.handle(new SearchSchoolsByCursorQuery("Academy", after.encode(), 2));
+
+    // Assert
+    assertEquals(List.of(c), result.content());
+    assertFalse(result.hasNext());
+    assertNull(result.nextCursor());
+    verify(schoolRepository).searchSummariesByNameAfter("Academy", after, 3);
+  }
+
+  @Test
+  void query_ZeroSize_IsRejectedBeforeAnyRead() {
+    // Act & Assert
+    assertThrows(
+        InvalidPageSizeException.class, () -> new SearchSchoolsByCursorQuery("Academy", "", 0));
+    verifyNoInteractions(schoolRepository);
+  }
+
+  @Test
+  void query_NegativeOrOversizedSize_IsRejected() {
+    // Act & Assert
+    assertThrows(
+        InvalidPageSizeException.class, () -> new SearchSchoolsByCursorQuery("Academy", "", -1));
+    assertThrows(
+        InvalidPageSizeException.class, () -> new SearchSchoolsByCursorQuery("Academy", "", 101));
+  }
+}
@@ -7,8 +7,7 @@ import static org.mockito.Mockito.*;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
 import com.hectorherranz.schoolapi.application.query.SearchSchoolsQuery;
 import com.hectorherranz.schoolapi.application.response.PagedResponse;
-import com.hectorherranz.schoolapi.domain.model.School;
-import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import com.hectorherranz.schoolapi.application.response.SchoolSummaryView;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,16 +39,16 @@ class SearchSchoolsHandlerTest {
     Pageable pageable = PageRequest.of(0, 10);
     SearchSchoolsQuery query = new SearchSchoolsQuery(searchQuery, pageable);
 
-    List<School> schools =
+    List<SchoolSummaryView> schools =
         List.of(
-            new School(UUID.randomUUID(), "Hogwarts School", new Capacity(500)),
-            new School(UUID.randomUUID(), "Hogwarts Academy", new Capacity(300)));
-    Page<School> page = new PageImpl<>(schools, pageable, 2);
+            new SchoolSummaryView(UUID.randomUUID(), "Hogwarts School", 500, 0),
+            new SchoolSummaryView(UUID.randomUUID(), "Hogwarts Academy", 300, 0));
+    Page<SchoolSummaryView> page = new PageImpl<>(schools, pageable, 2);
 
-    when(schoolRepository.searchByName(searchQuery, pageable)).thenReturn(page);
+    when(schoolRepository.searchSummariesByName(searchQuery, pageable)).thenReturn(page);
 
     // Act
-    PagedResponse<School> result = handler.handle(query);
+    PagedResponse<SchoolSummaryView> result = handler.handle(query);
 
     // Assert
     assertNotNull(result);
@@ -60,7 +59,7 @@ class SearchSchoolsHandlerTest {
     assertEquals(1, result.totalPages());
     assertFalse(result.hasNext());
     assertFalse(result.hasPrevious());
-    verify(schoolRepository).searchByName(searchQuery, pageable);
+    verify(schoolRepository).searchSummariesByName(searchQuery, pageable);
   }
 
   @Test
@@ -70,22 +69,22 @@ class SearchSchoolsHandlerTest {
     Pageable pageable = PageRequest.of(0, 5);
     SearchSchoolsQuery query = new SearchSchoolsQuery(searchQuery, pageable);
 
-    List<School> schools =
+    List<SchoolSummaryView> schools =
         List.of(
-            new School(UUID.randomUUID(), "School 1", new Capacity(100)),
-            new School(UUID.randomUUID(), "School 2", new Capacity(200)),
-            new School(UUID.randomUUID(), "School 3", new Capacity(300)));
-    Page<School> page = new PageImpl<>(schools, pageable, 3);
+            new SchoolSummaryView(UUID.randomUUID(), "School 1", 100, 0),
+            new SchoolSummaryView(UUID.randomUUID(), "School 2", 200, 0),
+            new SchoolSummaryView(UUID.randomUUID(), "School 3", 300, 0));
+    Page<SchoolSummaryView> page = new PageImpl<>(schools, pageable, 3);
 
-    when(schoolRepository.searchByName(searchQuery, pageable)).thenReturn(page);
+    when(schoolRepository.searchSummariesByName(searchQuery, pageable)).thenReturn(page);
 
     // Act
-    PagedResponse<School> result = handler.handle(query);
+    PagedResponse<SchoolSummaryView> result = handler.handle(query);
 
     // Assert
     assertEquals(3, result.content().size());
     assertEquals(3, result.totalElements());
-    verify(schoolRepository).searchByName(searchQuery, pageable);
+    verify(schoolRepository).searchSummariesByName(searchQuery, pageable);
   }
 
   @Test
@@ -95,16 +94,16 @@ class SearchSchoolsHandlerTest {
     Pageable pageable = PageRequest.of(1, 2); // Second page, 2 items per page
     SearchSchoolsQuery query = new SearchSchoolsQuery(searchQuery, pageable);
 
-    List<School> schools =
+    List<SchoolSummaryView> schools =
         List.of(
-            new School(UUID.randomUUID(), "School 3", new Capacity(300)),
-            new School(UUID.randomUUID(), "School 4", new Capacity(400)));
-    Page<School> page = new PageImpl<>(schools, pageable, 5); // Total 5 items
+            new SchoolSummaryView(UUID.randomUUID(), "School 3", 300, 0),
+            new SchoolSummaryView(UUID.randomUUID(), "School 4", 400, 0));
+    Page<SchoolSummaryView> page = new PageImpl<>(schools, pageable, 5); // Total 5 items
 
-    when(schoolRepository.searchByName(searchQuery, pageable)).thenReturn(page);
+    when(schoolRepository.searchSummariesByName(searchQuery, pageable)).thenReturn(page);
 
     // Act
-    PagedResponse<School> result = handler.handle(query);
+    PagedResponse<SchoolSummaryView> result = handler.handle(query);
 
     // Assert
     assertEquals(1, result.pageNumber());
@@ -122,12 +121,12 @@ class SearchSchoolsHandlerTest {
     Pageable pageable = PageRequest.of(0, 10);
     SearchSchoolsQuery query = new SearchSchoolsQuery(searchQuery, pageable);
 
-    Page<School> page = new PageImpl<>(List.of(), pageable, 0);
+    Page<SchoolSummaryView> page = new PageImpl<>(List.of(), pageable, 0);
 
-    when(schoolRepository.searchByName(searchQuery, pageable)).thenReturn(page);
+    when(schoolRepository.searchSummariesByName(searchQuery, pageable)).thenReturn(page);
 
     // Act
-    PagedResponse<School> result = handler.handle(query);
+    PagedResponse<SchoolSummaryView> result = handler.handle(query);
 
     // Assert
     assertTrue(result.content().isEmpty());
@@ -144,13 +143,13 @@ class SearchSchoolsHandlerTest {
     Pageable pageable = PageRequest.of(0, 20);
     SearchSchoolsQuery query = new SearchSchoolsQuery(searchQuery, pageable);
 
-    Page<School> page = new PageImpl<>(List.of(), pageable, 0);
-    when(schoolRepository.searchByName(searchQuery, pageable)).thenReturn(page);
+    Page<SchoolSummaryView> page = new PageImpl<>(List.of(), pageable, 0);
+    when(schoolRepository.searchSummariesByName(searchQuery, pageable)).thenReturn(page);
 
     // Act
     handler.handle(query);
 
     // Assert
-    verify(schoolRepository).searchByName(eq(searchQuery), eq(pageable));
+    verify(schoolRepository).searchSummariesByName(eq(searchQuery), eq(pageable));
   }
 }
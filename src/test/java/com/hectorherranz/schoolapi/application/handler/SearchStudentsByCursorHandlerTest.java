@@ -0,0 +1,110 @@
+package com.hectorherranz.schoolapi.application.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.application.exception.InvalidCursorException;
+import com.hectorherranz.schoolapi.application.exception.InvalidPageSizeException;
+import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.KeysetCursor;
+import com.hectorherranz.schoolapi.application.query.SearchStudentsByCursorQuery;
+import com.hectorherranz.schoolapi.application.response.CursorPage;
+import com.hectorherranz.schoolapi.domain.model.Student;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SearchStudentsByCursorHandlerTest {
+
+  @Mock private StudentRepositoryPort studentRepository;
+
+  private SearchStudentsByCursorHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    handler = new SearchStudentsByCursorHandler(studentRepository);
+  }
+
+  @Test
+  void handle_FirstPage_FetchesOneExtraRowAndEmitsCursor() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    Student harry = new Student(UUID.randomUUID(), "Harry Potter", schoolId);
+    Student hermione = new Student(UUID.randomUUID(), "Hermione Granger", schoolId);
+    when(studentRepository.searchAfter(eq(schoolId), eq("H"), isNull(), eq(2)))
+        .thenReturn(List.of(harry, hermione));
+
+    // Act
+    CursorPage<Student> result =
+        handler.handle(new SearchStudentsByCursorQuery(schoolId, "H", null, 1));
+
+    // Assert
+    assertEquals(List.of(harry), result.content());
+    assertTrue(result.hasNext());
+    assertEquals(
+        new KeysetCursor("Harry Potter", harry.id()), KeysetCursor.decode(result.nextCursor()));
+  }
+
+  @Test
+  void handle_ExactlyPageSizeRows_HasNoNextPage() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    Student harry = new Student(UUID.randomUUID(), "Harry Potter", schoolId);
+    when(studentRepository.searchAfter(eq(schoolId), eq(""), isNull(), eq(2)))
+        .thenReturn(List.of(harry));
+
+    // Act
+    CursorPage<Student> result =
+        handler.handle(new SearchStudentsByCursorQuery(schoolId, "", "", 1));
+
+    // Assert
+    assertEquals(1, result.content().size());
+    assertFalse(result.hasNext());
+    assertNull(result.nextCursor());
+  }
+
+  @Test
+  void handle_ForgedCursor_ThrowsInvalidCursorException() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+
+    // Act & Assert
+    assertThrows(
+        InvalidCursorException.class,
+        () -> handler.handle(new SearchStudentsByCursorQuery(schoolId, "", "%%%", 10)));
+    verify(studentRepository, never()).searchAfter(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void query_ZeroSize_IsRejectedBeforeAnyRead() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+
+    // Act & Assert
+    assertThrows(
+        InvalidPageSizeException.class, () -> new SearchStudentsByCursorQuery(schoolId, "", "", 0));
+    verifyNoInteractions(studentRepository);
+  }
+
+  @Test
+  void query_NegativeOrOversizedSize_IsRejected() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+
+    // Act & Assert
+    assertThrows(
+        InvalidPageSizeException.class,
+        () -> new SearchStudentsByCursorQuery(schoolId, "", "", -5));
+    assertThrows(
+        InvalidPageSizeException.class,
+        () -> new SearchStudentsByCursorQuery(schoolId, "", "", 101));
+  }
+}
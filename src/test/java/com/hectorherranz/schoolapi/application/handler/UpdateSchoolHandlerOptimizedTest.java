@@ -5,8 +5,14 @@ import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.service.SchoolInfrastructureService;
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.event.SchoolUpdatedEvent;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,12 +25,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UpdateSchoolHandlerOptimizedTest {
 
   @Mock private SchoolInfrastructureService infrastructureService;
+  @Mock private SchoolDetailCachePort schoolDetailCache;
+  @Mock private SchoolNameFilterPort schoolNameFilter;
+  @Mock private DomainEventPublisher eventPublisher;
 
   private UpdateSchoolHandlerOptimized handler;
 
   @BeforeEach
   void setUp() {
-    handler = new UpdateSchoolHandlerOptimized(infrastructureService);
+    handler =
+        new UpdateSchoolHandlerOptimized(
+            infrastructureService, schoolDetailCache, schoolNameFilter, eventPublisher);
   }
 
   @Test
@@ -34,13 +45,19 @@ class UpdateSchoolHandlerOptimizedTest {
     String newName = "Updated School Name";
     UpdateSchoolCommand command =
         new UpdateSchoolCommand(schoolId, Optional.of(newName), Optional.empty());
+    SchoolDetailView updated = new SchoolDetailView(schoolId, newName, 500, 12);
+    when(infrastructureService.updateSchoolOptimized(
+            schoolId, Optional.of(newName), Optional.empty()))
+        .thenReturn(updated);
 
     // When
-    handler.handle(command);
+    SchoolDetailView result = handler.handle(command);
 
     // Then
-    verify(infrastructureService)
-        .updateSchoolOptimized(schoolId, Optional.of(newName), Optional.empty());
+    assertSame(updated, result);
+    verify(schoolDetailCache).evict(schoolId);
+    verify(schoolNameFilter).nameAdded(newName);
+    verify(eventPublisher).publish(List.of(new SchoolUpdatedEvent(schoolId, newName, 500)));
   }
 
   @Test
@@ -50,6 +67,9 @@ class UpdateSchoolHandlerOptimizedTest {
     int newCapacity = 1000;
     UpdateSchoolCommand command =
         new UpdateSchoolCommand(schoolId, Optional.empty(), Optional.of(newCapacity));
+    when(infrastructureService.updateSchoolOptimized(
+            schoolId, Optional.empty(), Optional.of(newCapacity)))
+        .thenReturn(new SchoolDetailView(schoolId, "School", newCapacity, 0));
 
     // When
     handler.handle(command);
@@ -57,6 +77,9 @@ class UpdateSchoolHandlerOptimizedTest {
     // Then
     verify(infrastructureService)
         .updateSchoolOptimized(schoolId, Optional.empty(), Optional.of(newCapacity));
+    verifyNoInteractions(schoolNameFilter);
+    verify(eventPublisher)
+        .publish(List.of(new SchoolUpdatedEvent(schoolId, "School", newCapacity)));
   }
 
   @Test
@@ -67,6 +90,9 @@ class UpdateSchoolHandlerOptimizedTest {
     int newCapacity = 1000;
     UpdateSchoolCommand command =
         new UpdateSchoolCommand(schoolId, Optional.of(newName), Optional.of(newCapacity));
+    when(infrastructureService.updateSchoolOptimized(
+            schoolId, Optional.of(newName), Optional.of(newCapacity)))
+        .thenReturn(new SchoolDetailView(schoolId, newName, newCapacity, 0));
 
     // When
     handler.handle(command);
@@ -110,5 +136,7 @@ class UpdateSchoolHandlerOptimizedTest {
     assertThrows(DuplicateNameException.class, () -> handler.handle(command));
     verify(infrastructureService)
         .updateSchoolOptimized(schoolId, Optional.of(newName), Optional.empty());
+    verifyNoInteractions(schoolNameFilter);
+    verifyNoInteractions(eventPublisher);
   }
 }
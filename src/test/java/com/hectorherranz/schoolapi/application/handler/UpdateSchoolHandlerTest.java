@@ -5,11 +5,17 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.application.command.UpdateSchoolCommand;
+import com.hectorherranz.schoolapi.application.port.DomainEventPublisher;
+import com.hectorherranz.schoolapi.application.port.out.SchoolDetailCachePort;
+import com.hectorherranz.schoolapi.application.port.out.SchoolNameFilterPort;
 import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.event.SchoolUpdatedEvent;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
 import com.hectorherranz.schoolapi.domain.model.School;
 import com.hectorherranz.schoolapi.domain.model.valueobject.Capacity;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,12 +28,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UpdateSchoolHandlerTest {
 
   @Mock private SchoolRepositoryPort schoolRepository;
+  @Mock private SchoolDetailCachePort schoolDetailCache;
+  @Mock private SchoolNameFilterPort schoolNameFilter;
+  @Mock private DomainEventPublisher eventPublisher;
 
   private UpdateSchoolHandler handler;
 
   @BeforeEach
   void setUp() {
-    handler = new UpdateSchoolHandler(schoolRepository);
+    handler =
+        new UpdateSchoolHandler(
+            schoolRepository, schoolDetailCache, schoolNameFilter, eventPublisher);
   }
 
   @Test
@@ -43,16 +54,22 @@ class UpdateSchoolHandlerTest {
         new UpdateSchoolCommand(schoolId, Optional.of(newName), Optional.empty());
 
     when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(existingSchool));
+    when(schoolNameFilter.mightExist(newName)).thenReturn(true);
     when(schoolRepository.existsByNameIgnoreCase(newName)).thenReturn(false);
     when(schoolRepository.save(any(School.class))).thenReturn(existingSchool);
 
     // Act
-    handler.handle(command);
+    SchoolDetailView result = handler.handle(command);
 
     // Assert
+    assertEquals(new SchoolDetailView(schoolId, newName, capacity, 0), result);
     verify(schoolRepository).findById(schoolId);
     verify(schoolRepository).existsByNameIgnoreCase(newName);
     verify(schoolRepository).save(existingSchool);
+    verify(schoolDetailCache).evict(schoolId);
+    verify(schoolNameFilter).nameAdded(newName);
+    verify(eventPublisher)
+        .publish(List.of(new SchoolUpdatedEvent(schoolId, newName, capacity)));
   }
 
   @Test
@@ -92,6 +109,7 @@ class UpdateSchoolHandlerTest {
         new UpdateSchoolCommand(schoolId, Optional.of(newName), Optional.of(newCapacity));
 
     when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(existingSchool));
+    when(schoolNameFilter.mightExist(newName)).thenReturn(true);
     when(schoolRepository.existsByNameIgnoreCase(newName)).thenReturn(false);
     when(schoolRepository.save(any(School.class))).thenReturn(existingSchool);
 
@@ -135,6 +153,7 @@ class UpdateSchoolHandlerTest {
         new UpdateSchoolCommand(schoolId, Optional.of(newName), Optional.empty());
 
     when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(existingSchool));
+    when(schoolNameFilter.mightExist(newName)).thenReturn(true);
     when(schoolRepository.existsByNameIgnoreCase(newName)).thenReturn(true);
 
     // Act & Assert
@@ -145,6 +164,7 @@ class UpdateSchoolHandlerTest {
     verify(schoolRepository).findById(schoolId);
     verify(schoolRepository).existsByNameIgnoreCase(newName);
     verify(schoolRepository, never()).save(any(School.class));
+    verifyNoInteractions(eventPublisher);
   }
 
   @Test
@@ -170,6 +190,28 @@ class UpdateSchoolHandlerTest {
     verify(schoolRepository).save(existingSchool);
   }
 
+  @Test
+  void handle_NameNotInFilter_SkipsDuplicateLookup() {
+    // Arrange
+    UUID schoolId = UUID.randomUUID();
+    String newName = "Fresh School Name";
+    School existingSchool = new School(schoolId, "Old School Name", new Capacity(500));
+    UpdateSchoolCommand command =
+        new UpdateSchoolCommand(schoolId, Optional.of(newName), Optional.empty());
+
+    when(schoolRepository.findById(schoolId)).thenReturn(Optional.of(existingSchool));
+    when(schoolNameFilter.mightExist(newName)).thenReturn(false);
+    when(schoolRepository.save(any(School.class))).thenReturn(existingSchool);
+
+    // Act
+    handler.handle(command);
+
+    // Assert
+    verify(schoolRepository, never()).existsByNameIgnoreCase(any());
+    verify(schoolRepository).save(existingSchool);
+    verify(schoolNameFilter).nameAdded(newName);
+  }
+
   @Test
   void handle_NoUpdates_DoesNotModifySchool() {
     // Arrange
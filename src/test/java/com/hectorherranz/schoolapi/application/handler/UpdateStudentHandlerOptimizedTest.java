@@ -5,7 +5,9 @@ import static org.mockito.Mockito.*;
 
 import com.hectorherranz.schoolapi.adapters.out.jpa.service.StudentInfrastructureService;
 import com.hectorherranz.schoolapi.application.command.UpdateStudentCommand;
+import com.hectorherranz.schoolapi.application.port.out.StudentNameIndexPort;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import com.hectorherranz.schoolapi.domain.model.Student;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,12 +19,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UpdateStudentHandlerOptimizedTest {
 
   @Mock private StudentInfrastructureService infrastructureService;
+  @Mock private StudentNameIndexPort studentNameIndex;
 
   private UpdateStudentHandlerOptimized handler;
 
   @BeforeEach
   void setUp() {
-    handler = new UpdateStudentHandlerOptimized(infrastructureService);
+    handler = new UpdateStudentHandlerOptimized(infrastructureService, studentNameIndex);
   }
 
   @Test
@@ -34,10 +37,20 @@ class UpdateStudentHandlerOptimizedTest {
     UpdateStudentCommand command = new UpdateStudentCommand(schoolId, studentId, newName);
 
     // When
-    handler.handle(command);
+    Student result = handler.handle(command);
 
     // Then
+    assertEquals(studentId, result.id());
+    assertEquals(newName, result.name());
+    assertEquals(schoolId, result.schoolId());
     verify(infrastructureService).updateStudentOptimized(studentId, schoolId, newName);
+    verify(studentNameIndex)
+        .studentSaved(
+            argThat(
+                student ->
+                    student.id().equals(studentId)
+                        && student.schoolId().equals(schoolId)
+                        && student.name().equals(newName)));
   }
 
   @Test
@@ -0,0 +1,45 @@
+package com.hectorherranz.schoolapi.application.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.application.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AvailabilityCursorTest {
+
+  @Test
+  void shouldRoundTripThroughOpaqueToken() {
+    // Given
+    AvailabilityCursor cursor = new AvailabilityCursor(1950, UUID.randomUUID());
+
+    // When
+    AvailabilityCursor decoded = AvailabilityCursor.decode(cursor.encode());
+
+    // Then
+    assertEquals(cursor, decoded);
+    assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+  }
+
+  @Test
+  void shouldTreatBlankCursorAsFirstPage() {
+    assertNull(AvailabilityCursor.decode(null));
+    assertNull(AvailabilityCursor.decode(""));
+    assertNull(AvailabilityCursor.decode("   "));
+  }
+
+  @Test
+  void shouldRejectForgedCursor() {
+    String nameCursor = new KeysetCursor("Hogwarts", UUID.randomUUID()).encode();
+    String noSpots =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((UUID.randomUUID() + ":").getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(InvalidCursorException.class, () -> AvailabilityCursor.decode("not base64!"));
+    assertThrows(InvalidCursorException.class, () -> AvailabilityCursor.decode(nameCursor));
+    assertThrows(InvalidCursorException.class, () -> AvailabilityCursor.decode(noSpots));
+  }
+}
@@ -0,0 +1,47 @@
+package com.hectorherranz.schoolapi.application.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.application.exception.InvalidCursorException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+  @Test
+  void shouldRoundTripThroughOpaqueToken() {
+    // Given
+    KeysetCursor cursor = new KeysetCursor("Hogwarts: School of Witchcraft", UUID.randomUUID());
+
+    // When
+    KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+    // Then
+    assertEquals(cursor, decoded);
+  }
+
+  @Test
+  void shouldProduceUrlSafeToken() {
+    // Given
+    KeysetCursor cursor = new KeysetCursor("Ñandú ??? >>> ///", UUID.randomUUID());
+
+    // When
+    String token = cursor.encode();
+
+    // Then
+    assertTrue(token.matches("[A-Za-z0-9_-]+"));
+  }
+
+  @Test
+  void shouldTreatBlankCursorAsFirstPage() {
+    assertNull(KeysetCursor.decode(null));
+    assertNull(KeysetCursor.decode(""));
+    assertNull(KeysetCursor.decode("   "));
+  }
+
+  @Test
+  void shouldRejectForgedCursor() {
+    assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("not base64!"));
+    assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("c2hvcnQ"));
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.hectorherranz.schoolapi.application.exception.InvalidPageSizeException;
 import com.hectorherranz.schoolapi.domain.exception.CapacityExceededException;
 import com.hectorherranz.schoolapi.domain.exception.DuplicateNameException;
 import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
@@ -11,10 +12,12 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -64,6 +67,24 @@ class ApiExceptionHandlerProblemDetailTest {
     assertThat(body).isInstanceOf(ProblemDetail.class);
   }
 
+  @Test
+  void handleInvalidPageSizeException_shouldReturnProblemDetailWith400() {
+    // Arrange
+    InvalidPageSizeException ex = new InvalidPageSizeException(0, 100);
+
+    // Act
+    ResponseEntity<ProblemDetail> response = handler.handleInvalidPageSizeException(ex);
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+
+    ProblemDetail body = response.getBody();
+    assertThat(body).isNotNull();
+    assertThat(body.getDetail()).isEqualTo("Page size must be between 1 and 100: 0");
+  }
+
   @Test
   void handleDuplicateNameException_shouldReturnProblemDetailWith409() {
     // Arrange
@@ -167,4 +188,20 @@ class ApiExceptionHandlerProblemDetailTest {
     assertThat(handler.handleGenericException(genericEx).getBody())
         .isInstanceOf(ProblemDetail.class);
   }
+
+  @Test
+  void handleCannotCreateTransaction_shouldReturnProblemDetailWith503AndRetryAfter() {
+    // Arrange
+    CannotCreateTransactionException ex =
+        new CannotCreateTransactionException("Could not open JPA EntityManager for transaction");
+
+    // Act
+    ResponseEntity<ProblemDetail> response = handler.handleCannotCreateTransaction(ex);
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+  }
 }
@@ -0,0 +1,107 @@
+package com.hectorherranz.schoolapi.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.hectorherranz.schoolapi.adapters.out.support.SqlStatementCounter;
+import jakarta.servlet.FilterChain;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class SqlBudgetFilterTest {
+
+  private static final Map<String, Map<String, Integer>> BUDGETS =
+      Map.of("get", Map.of("/api/schools/{id}", 2));
+
+  @Test
+  void shouldReportStatementsRunBeforeTheBody() throws Exception {
+    // Given
+    SqlBudgetFilter filter = new SqlBudgetFilter(BUDGETS, SqlBudgetFilter.OnExceeded.FAIL);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(schoolRequest(), response, runningStatements(2));
+
+    // Then
+    assertEquals("2", response.getHeader(SqlBudgetFilter.STATEMENTS_HEADER));
+    assertEquals("0", response.getHeader(SqlBudgetFilter.ROWS_HEADER));
+    assertEquals("0", response.getHeader(SqlBudgetFilter.ENTITIES_HEADER));
+    assertEquals("{}", response.getContentAsString());
+  }
+
+  @Test
+  void shouldReportResponsesWithoutABody() throws Exception {
+    // Given
+    SqlBudgetFilter filter = new SqlBudgetFilter(BUDGETS, SqlBudgetFilter.OnExceeded.FAIL);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(
+        schoolRequest(), response, (req, res) -> new SqlStatementCounter().inspect("delete"));
+
+    // Then
+    assertEquals("1", response.getHeader(SqlBudgetFilter.STATEMENTS_HEADER));
+  }
+
+  @Test
+  void shouldFailWhenTheBudgetIsExceeded() {
+    // Given
+    SqlBudgetFilter filter = new SqlBudgetFilter(BUDGETS, SqlBudgetFilter.OnExceeded.FAIL);
+
+    // When
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                filter.doFilter(
+                    schoolRequest(), new MockHttpServletResponse(), runningStatements(3)));
+
+    // Then
+    assertEquals(
+        "GET /api/schools/{id} ran 3 SQL statements, over its budget of 2",
+        exception.getMessage());
+  }
+
+  @Test
+  void shouldOnlyLogWhenConfiguredTo() throws Exception {
+    // Given
+    SqlBudgetFilter filter = new SqlBudgetFilter(BUDGETS, SqlBudgetFilter.OnExceeded.LOG);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(schoolRequest(), response, runningStatements(3));
+
+    // Then
+    assertEquals("3", response.getHeader(SqlBudgetFilter.STATEMENTS_HEADER));
+  }
+
+  @Test
+  void shouldNotCheckEndpointsWithoutABudget() throws Exception {
+    // Given
+    SqlBudgetFilter filter = new SqlBudgetFilter(BUDGETS, SqlBudgetFilter.OnExceeded.FAIL);
+    MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/schools/1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/schools/{id}");
+
+    // When & Then
+    assertDoesNotThrow(
+        () -> filter.doFilter(request, new MockHttpServletResponse(), runningStatements(10)));
+  }
+
+  private static MockHttpServletRequest schoolRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schools/1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/schools/{id}");
+    return request;
+  }
+
+  private static FilterChain runningStatements(int statements) {
+    SqlStatementCounter inspector = new SqlStatementCounter();
+    return (request, response) -> {
+      for (int i = 0; i < statements; i++) {
+        inspector.inspect("select " + i);
+      }
+      response.getWriter().write("{}");
+    };
+  }
+}
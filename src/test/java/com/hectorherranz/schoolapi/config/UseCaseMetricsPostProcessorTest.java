@@ -0,0 +1,147 @@
+package com.hectorherranz.schoolapi.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.hectorherranz.schoolapi.adapters.out.support.SqlStatementCounter;
+import com.hectorherranz.schoolapi.application.handler.ExportRosterHandler;
+import com.hectorherranz.schoolapi.application.port.in.ExportRosterUseCase;
+import com.hectorherranz.schoolapi.application.port.in.GetSchoolByIdUseCase;
+import com.hectorherranz.schoolapi.application.port.out.SchoolRepositoryPort;
+import com.hectorherranz.schoolapi.application.port.out.StudentRepositoryPort;
+import com.hectorherranz.schoolapi.application.query.GetSchoolByIdQuery;
+import com.hectorherranz.schoolapi.application.response.SchoolDetailView;
+import com.hectorherranz.schoolapi.domain.exception.NotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class UseCaseMetricsPostProcessorTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+  private UseCaseMetricsPostProcessor postProcessor;
+
+  @BeforeEach
+  void setUp() {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("meterRegistry", registry);
+    postProcessor =
+        new UseCaseMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  void shouldTimeSuccessfulCallsAndCountTheirStatements() {
+    // Given
+    GetSchoolByIdUseCase useCase = proxy(new StubGetSchoolByIdHandler());
+    UUID schoolId = UUID.randomUUID();
+
+    // When
+    SchoolDetailView view = useCase.handle(new GetSchoolByIdQuery(schoolId));
+
+    // Then
+    assertEquals(schoolId, view.id());
+    Timer timer =
+        registry
+            .find(UseCaseMetricsInterceptor.TIMER)
+            .tags("usecase", "GetSchoolByIdUseCase", "handler", "StubGetSchoolByIdHandler")
+            .tags("outcome", "success", "exception", "none")
+            .timer();
+    assertNotNull(timer);
+    assertEquals(1, timer.count());
+    DistributionSummary statements =
+        registry.find(UseCaseMetricsInterceptor.STATEMENTS).summary();
+    assertNotNull(statements);
+    assertEquals(2, statements.totalAmount());
+  }
+
+  @Test
+  void shouldCountFailuresByException() {
+    // Given
+    GetSchoolByIdUseCase useCase = proxy(new StubGetSchoolByIdHandler());
+
+    // When
+    assertThrows(NotFoundException.class, () -> useCase.handle(new GetSchoolByIdQuery(null)));
+
+    // Then
+    assertEquals(
+        1,
+        registry
+            .get(UseCaseMetricsInterceptor.ERRORS)
+            .tags("usecase", "GetSchoolByIdUseCase", "exception", "NotFoundException")
+            .counter()
+            .count());
+    assertEquals(
+        1,
+        registry
+            .get(UseCaseMetricsInterceptor.TIMER)
+            .tags("outcome", "error", "exception", "NotFoundException")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void shouldTimeEveryMethodTheInboundPortDeclares() {
+    // Given
+    SchoolRepositoryPort schoolRepository = mock(SchoolRepositoryPort.class);
+    UUID schoolId = UUID.randomUUID();
+    when(schoolRepository.existsById(schoolId)).thenReturn(true);
+    ExportRosterUseCase useCase =
+        proxy(new ExportRosterHandler(schoolRepository, mock(StudentRepositoryPort.class)));
+
+    // When
+    useCase.exportSchool(schoolId, student -> {});
+    useCase.exportAll(school -> {}, student -> {});
+
+    // Then
+    for (String method : new String[] {"exportSchool", "exportAll"}) {
+      Timer timer =
+          registry
+              .find(UseCaseMetricsInterceptor.TIMER)
+              .tags("usecase", "ExportRosterUseCase", "method", method)
+              .tags("handler", "ExportRosterHandler", "outcome", "success")
+              .timer();
+      assertNotNull(timer, method);
+      assertEquals(1, timer.count());
+    }
+  }
+
+  @Test
+  void shouldLeaveBeansWithoutAnInboundPortAlone() {
+    // Given
+    Object bean = new Object();
+
+    // When
+    Object result = postProcessor.postProcessAfterInitialization(bean, "other");
+
+    // Then
+    assertSame(bean, result);
+    assertFalse(AopUtils.isAopProxy(result));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T proxy(T handler) {
+    Object proxied = postProcessor.postProcessAfterInitialization(handler, "handler");
+    assertTrue(AopUtils.isAopProxy(proxied));
+    return (T) proxied;
+  }
+
+  static class StubGetSchoolByIdHandler implements GetSchoolByIdUseCase {
+
+    @Override
+    public SchoolDetailView handle(GetSchoolByIdQuery query) {
+      SqlStatementCounter inspector = new SqlStatementCounter();
+      inspector.inspect("select * from schools where id = ?");
+      if (query.schoolId() == null) {
+        throw new NotFoundException("School", "null");
+      }
+      inspector.inspect("select count(*) from students where school_id = ?");
+      return new SchoolDetailView(query.schoolId(), "Hogwarts", 100, 0);
+    }
+  }
+}
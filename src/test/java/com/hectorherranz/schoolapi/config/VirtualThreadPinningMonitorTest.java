@@ -0,0 +1,52 @@
+package com.hectorherranz.schoolapi.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+  @Test
+  void shouldAttributePinningToTheInnermostLibraryFrame() {
+    // Given - innermost frame first, as JFR records them
+    List<String> inDriver =
+        List.of(
+            "sun.nio.ch.NioSocketImpl",
+            "org.postgresql.core.VisibleBufferedInputStream",
+            "org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl",
+            "com.hectorherranz.schoolapi.application.handler.GetSchoolByIdHandler");
+    List<String> inHibernate =
+        List.of(
+            "java.lang.Object",
+            "org.hibernate.internal.util.collections.BoundedConcurrentHashMap",
+            "com.hectorherranz.schoolapi.application.handler.GetSchoolByIdHandler");
+    List<String> inPool =
+        List.of("java.util.concurrent.SynchronousQueue", "com.zaxxer.hikari.pool.HikariPool");
+
+    // When & Then
+    assertEquals("jdbc", VirtualThreadPinningMonitor.source(inDriver));
+    assertEquals("hibernate", VirtualThreadPinningMonitor.source(inHibernate));
+    assertEquals("jdbc", VirtualThreadPinningMonitor.source(inPool));
+    assertEquals("other", VirtualThreadPinningMonitor.source(List.of("java.lang.Thread")));
+    assertEquals("other", VirtualThreadPinningMonitor.source(List.of()));
+  }
+
+  @Test
+  void shouldStartAndStopTheRecording() {
+    // Given
+    VirtualThreadPinningMonitor monitor =
+        new VirtualThreadPinningMonitor(new SimpleMeterRegistry(), Duration.ofMillis(20));
+
+    // When
+    monitor.start();
+    boolean runningAfterStart = monitor.isRunning();
+    monitor.stop();
+
+    // Then
+    assertTrue(runningAfterStart);
+    assertFalse(monitor.isRunning());
+  }
+}
@@ -38,12 +38,14 @@ class SchoolTest {
   void shouldEnrollStudentWhenCapacityAvailable() {
     // Given
     StudentDraft draft = new StudentDraft("John Doe");
+    UUID studentId = UUID.randomUUID();
 
     // When
-    Student student = school.enrollStudent(draft);
+    Student student = school.enrollStudent(studentId, draft);
 
     // Then
     assertNotNull(student);
+    assertEquals(studentId, student.id());
     assertEquals("John Doe", student.name());
     assertEquals(schoolId, student.schoolId());
     assertEquals(1, school.enrolledCount());
@@ -59,14 +61,16 @@ class SchoolTest {
 
     // Enroll 50 students (at capacity)
     for (int i = 1; i <= 50; i++) {
-      smallSchool.enrollStudent(new StudentDraft("Student " + i));
+      smallSchool.enrollStudent(UUID.randomUUID(), new StudentDraft("Student " + i));
     }
 
     // Try to enroll one more student
     StudentDraft extraStudent = new StudentDraft("Extra Student");
 
     // When & Then
-    assertThrows(CapacityExceededException.class, () -> smallSchool.enrollStudent(extraStudent));
+    assertThrows(
+        CapacityExceededException.class,
+        () -> smallSchool.enrollStudent(UUID.randomUUID(), extraStudent));
   }
 
   @Test
@@ -110,7 +114,7 @@ class SchoolTest {
     // Given
     // Enroll 51 students (more than minimum capacity of 50)
     for (int i = 1; i <= 51; i++) {
-      school.enrollStudent(new StudentDraft("Student " + i));
+      school.enrollStudent(UUID.randomUUID(), new StudentDraft("Student " + i));
     }
     Capacity insufficientCapacity =
         new Capacity(50); // Valid capacity but insufficient for 51 students
@@ -122,7 +126,7 @@ class SchoolTest {
   @Test
   void shouldReturnUnmodifiableStudentsList() {
     // Given
-    school.enrollStudent(new StudentDraft("Student 1"));
+    school.enrollStudent(UUID.randomUUID(), new StudentDraft("Student 1"));
 
     // When & Then
     assertThrows(UnsupportedOperationException.class, () -> school.students().add(null));